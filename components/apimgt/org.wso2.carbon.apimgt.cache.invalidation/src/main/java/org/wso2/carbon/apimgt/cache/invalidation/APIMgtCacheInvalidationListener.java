@@ -19,6 +19,7 @@
 package org.wso2.carbon.apimgt.cache.invalidation;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -50,6 +51,7 @@ import static org.wso2.carbon.caching.impl.CachingConstants.CLEAR_ALL_PREFIX;
 public class APIMgtCacheInvalidationListener implements MessageListener {
 
     private static final Log log = LogFactory.getLog(APIMgtCacheInvalidationListener.class);
+    private static final Gson gson = new Gson();
     private final CacheInvalidationConfiguration cacheInvalidationConfiguration;
 
     public APIMgtCacheInvalidationListener(CacheInvalidationConfiguration cacheInvalidationConfiguration) {
@@ -107,13 +109,12 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
                 carbonContext.setTenantDomain(tenantDomain);
                 CacheManager cacheManager = Caching.getCacheManagerFactory().getCacheManager(cacheManagerName);
                 Cache<Object, Object> cache = cacheManager.getCache(cacheName);
-                Object cacheKeyObject = constructCacheKeyObject(cacheKey);
                 if (cache instanceof CacheImpl) {
-
-                    if (CLEAR_ALL_PREFIX.equals(cacheKeyObject)) {
-                        ((CacheImpl) cache).removeAllLocal();
+                    JsonElement parsedValue = new JsonParser().parse(cacheKey);
+                    if (parsedValue instanceof JsonArray) {
+                        removeBatch((CacheImpl) cache, (JsonArray) parsedValue);
                     } else {
-                        ((CacheImpl) cache).removeLocal(cacheKeyObject);
+                        remove((CacheImpl) cache, constructCacheKeyObject(parsedValue));
                     }
                 }
             } catch (ClassNotFoundException e) {
@@ -124,14 +125,37 @@ public class APIMgtCacheInvalidationListener implements MessageListener {
         }
     }
 
-    private Object constructCacheKeyObject(String cacheKey) throws ClassNotFoundException {
+    /**
+     * Removes the keys of a batch published by {@link CacheInvalidationBatcher}, decoding the keys of each type with
+     * a single class lookup.
+     */
+    private void removeBatch(CacheImpl cache, JsonArray batch) throws ClassNotFoundException {
+
+        for (JsonElement keysOfType : batch) {
+            JsonObject jsonObject = keysOfType.getAsJsonObject();
+            Class<?> type = Class.forName(jsonObject.get(CachingConstants.TYPE).getAsString());
+            for (JsonElement value : jsonObject.getAsJsonArray(CachingConstants.VALUES)) {
+                remove(cache, gson.fromJson(value, type));
+            }
+        }
+    }
+
+    private void remove(CacheImpl cache, Object cacheKeyObject) {
+
+        if (CLEAR_ALL_PREFIX.equals(cacheKeyObject)) {
+            cache.removeAllLocal();
+        } else {
+            cache.removeLocal(cacheKeyObject);
+        }
+    }
+
+    private Object constructCacheKeyObject(JsonElement parsedValue) throws ClassNotFoundException {
 
-        JsonElement parsedValue = new JsonParser().parse(cacheKey);
         if (parsedValue instanceof JsonObject) {
             JsonObject jsonObject = (JsonObject) parsedValue;
             String type = jsonObject.get(CachingConstants.TYPE).getAsString();
             JsonElement value = jsonObject.get(CachingConstants.VALUE);
-            return new Gson().fromJson(value, Class.forName(type));
+            return gson.fromJson(value, Class.forName(type));
         }
         return null;
     }
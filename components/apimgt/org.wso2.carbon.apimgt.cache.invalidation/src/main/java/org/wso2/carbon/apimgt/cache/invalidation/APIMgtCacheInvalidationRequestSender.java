@@ -18,8 +18,8 @@
 package org.wso2.carbon.apimgt.cache.invalidation;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.wso2.carbon.apimgt.cache.invalidation.internal.DataHolder;
 import org.wso2.carbon.apimgt.eventing.EventPublisherEvent;
 import org.wso2.carbon.apimgt.eventing.EventPublisherType;
@@ -41,12 +41,18 @@ import javax.cache.event.CacheEntryUpdatedListener;
 public class APIMgtCacheInvalidationRequestSender implements CacheEntryRemovedListener, CacheEntryUpdatedListener,
         CacheEntryCreatedListener, CacheInvalidationRequestSender {
 
+    private static final Gson gson = new Gson();
+
     CacheInvalidationConfiguration cacheInvalidationConfiguration;
+    private CacheInvalidationBatcher batcher;
 
     public APIMgtCacheInvalidationRequestSender(CacheInvalidationConfiguration cacheInvalidationConfiguration) {
 
         this.cacheInvalidationConfiguration = cacheInvalidationConfiguration;
-
+        if (cacheInvalidationConfiguration.getBatchWindow() > 0) {
+            batcher = new CacheInvalidationBatcher(cacheInvalidationConfiguration.getBatchWindow(),
+                    cacheInvalidationConfiguration.getMaxBatchSize(), this::publish);
+        }
     }
 
     public void send(CacheEntryInfo cacheInfo) {
@@ -60,19 +66,44 @@ public class APIMgtCacheInvalidationRequestSender implements CacheEntryRemovedLi
                 }
             }
             if (!excludedCachePresent) {
-                Object[] objects = new Object[]{cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(),
-                        constructCacheKeyString(cacheInfo.getCacheKey()), cacheInfo.getTenantDomain(),
-                        cacheInfo.getTenantId(),
-                        cacheInvalidationConfiguration.getDomain(), DataHolder.getNodeId()};
-                EventPublisherEvent globalCacheInvalidationEvent =
-                        new EventPublisherEvent(cacheInvalidationConfiguration.getStream(), System.currentTimeMillis(),
-                                                objects);
-                APIUtil.publishEvent(EventPublisherType.GLOBAL_CACHE_INVALIDATION, globalCacheInvalidationEvent,
-                        globalCacheInvalidationEvent.toString());
+                Object cacheKey = cacheInfo.getCacheKey();
+                JsonElement encodedKey = gson.toJsonTree(cacheKey);
+                if (batcher != null) {
+                    batcher.add(cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(),
+                            cacheInfo.getTenantDomain(), cacheInfo.getTenantId(), cacheKey, encodedKey);
+                } else {
+                    JsonObject jsonObject = new JsonObject();
+                    jsonObject.addProperty(CachingConstants.TYPE, cacheKey.getClass().getName());
+                    jsonObject.add(CachingConstants.VALUE, encodedKey);
+                    publish(cacheInfo.getCacheManagerName(), cacheInfo.getCacheName(), cacheInfo.getTenantDomain(),
+                            cacheInfo.getTenantId(), jsonObject.toString());
+                }
             }
         }
     }
 
+    /**
+     * Publishes the invalidation batches which are yet to be published, and stops batching further invalidations.
+     */
+    public void shutdown() {
+
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    private void publish(String cacheManagerName, String cacheName, String tenantDomain, int tenantId,
+                         String cacheKey) {
+
+        Object[] objects = new Object[]{cacheManagerName, cacheName, cacheKey, tenantDomain, tenantId,
+                cacheInvalidationConfiguration.getDomain(), DataHolder.getNodeId()};
+        EventPublisherEvent globalCacheInvalidationEvent =
+                new EventPublisherEvent(cacheInvalidationConfiguration.getStream(), System.currentTimeMillis(),
+                                        objects);
+        APIUtil.publishEvent(EventPublisherType.GLOBAL_CACHE_INVALIDATION, globalCacheInvalidationEvent,
+                globalCacheInvalidationEvent.toString());
+    }
+
     public void entryCreated(CacheEntryEvent cacheEntryEvent) throws CacheEntryListenerException {
 
     }
@@ -86,13 +117,4 @@ public class APIMgtCacheInvalidationRequestSender implements CacheEntryRemovedLi
 
         send(Util.createCacheInfo(cacheEntryEvent));
     }
-
-    private String constructCacheKeyString(Object cacheKey) {
-
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.addProperty(CachingConstants.TYPE, cacheKey.getClass().getName());
-        String jsonString = new Gson().toJson(cacheKey);
-        jsonObject.add(CachingConstants.VALUE, new JsonParser().parse(jsonString));
-        return jsonObject.toString();
-    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.cache.invalidation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.caching.impl.CachingConstants.CLEAR_ALL_PREFIX;
+
+/**
+ * Collects the keys invalidated in each cache for a short window and publishes them as one event per cache. A key
+ * invalidated more than once within the window is published once, and clearing a cache replaces all the keys
+ * collected for it. The keys of a cache are encoded as a JSON array with an entry per key type,
+ * {@code [{"type": "<class>", "values": [<key>, ...]}]}, which {@link APIMgtCacheInvalidationListener} applies in
+ * the same order.
+ */
+public class CacheInvalidationBatcher {
+
+    private static final Log log = LogFactory.getLog(CacheInvalidationBatcher.class);
+
+    private final int maxBatchSize;
+    private final Publisher publisher;
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public CacheInvalidationBatcher(long batchWindow, int maxBatchSize, Publisher publisher) {
+
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.publisher = publisher;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "CacheInvalidationBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, batchWindow, batchWindow, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an invalidated key to the batch of its cache. The batch is published right away once it reaches the
+     * maximum batch size.
+     */
+    public void add(String cacheManagerName, String cacheName, String tenantDomain, int tenantId, Object cacheKey,
+                    JsonElement encodedKey) {
+
+        String batchKey = tenantId + ":" + cacheManagerName + ":" + cacheName;
+        Batch fullBatch = null;
+        synchronized (batches) {
+            Batch batch = batches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch(cacheManagerName, cacheName, tenantDomain, tenantId);
+                batches.put(batchKey, batch);
+            }
+            batch.add(cacheKey.getClass().getName(), encodedKey, CLEAR_ALL_PREFIX.equals(cacheKey));
+            if (batch.size >= maxBatchSize) {
+                fullBatch = batches.remove(batchKey);
+            }
+        }
+        if (fullBatch != null) {
+            publish(fullBatch);
+        }
+    }
+
+    /**
+     * Publishes all the collected batches.
+     */
+    public void flush() {
+
+        List<Batch> pendingBatches;
+        synchronized (batches) {
+            pendingBatches = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        for (Batch batch : pendingBatches) {
+            publish(batch);
+        }
+    }
+
+    /**
+     * Stops the scheduled publishing after publishing the batches collected so far.
+     */
+    public void shutdown() {
+
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void publish(Batch batch) {
+
+        try {
+            publisher.publish(batch.cacheManagerName, batch.cacheName, batch.tenantDomain, batch.tenantId,
+                    batch.encode().toString());
+        } catch (RuntimeException e) {
+            log.error("Error while publishing the invalidated keys of cache " + batch.cacheName, e);
+        }
+    }
+
+    /**
+     * Publishes the encoded keys of a cache.
+     */
+    public interface Publisher {
+
+        void publish(String cacheManagerName, String cacheName, String tenantDomain, int tenantId,
+                     String encodedKeys);
+    }
+
+    private static class Batch {
+
+        private final String cacheManagerName;
+        private final String cacheName;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final Map<String, Set<JsonElement>> keysByType = new LinkedHashMap<>();
+        private boolean cleared;
+        private int size;
+
+        private Batch(String cacheManagerName, String cacheName, String tenantDomain, int tenantId) {
+
+            this.cacheManagerName = cacheManagerName;
+            this.cacheName = cacheName;
+            this.tenantDomain = tenantDomain;
+            this.tenantId = tenantId;
+        }
+
+        private void add(String type, JsonElement encodedKey, boolean clearAll) {
+
+            if (cleared) {
+                return;
+            }
+            if (clearAll) {
+                cleared = true;
+                keysByType.clear();
+                size = 0;
+            }
+            if (keysByType.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(encodedKey)) {
+                size++;
+            }
+        }
+
+        private JsonArray encode() {
+
+            JsonArray encodedKeys = new JsonArray();
+            for (Map.Entry<String, Set<JsonElement>> entry : keysByType.entrySet()) {
+                JsonObject keysOfType = new JsonObject();
+                keysOfType.addProperty(CachingConstants.TYPE, entry.getKey());
+                JsonArray values = new JsonArray();
+                for (JsonElement value : entry.getValue()) {
+                    values.add(value);
+                }
+                keysOfType.add(CachingConstants.VALUES, values);
+                encodedKeys.add(keysOfType);
+            }
+            return encodedKeys;
+        }
+    }
+}
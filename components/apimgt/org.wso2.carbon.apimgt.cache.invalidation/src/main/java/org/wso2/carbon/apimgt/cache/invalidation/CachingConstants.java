@@ -25,6 +25,7 @@ public class CachingConstants {
 
     public static final String TYPE = "type";
     public static final String VALUE = "value";
+    public static final String VALUES = "values";
     public static final String TOPIC_NAME = "globalCacheInvalidation";
 
     private CachingConstants() {
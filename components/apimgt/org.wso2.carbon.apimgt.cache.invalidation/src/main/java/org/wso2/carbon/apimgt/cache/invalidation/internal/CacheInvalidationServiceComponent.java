@@ -48,6 +48,7 @@ import javax.cache.event.CacheEntryListener;
 public class CacheInvalidationServiceComponent {
 
     ServiceRegistration cacheInvalidationRequestSenderServiceRegistration;
+    private APIMgtCacheInvalidationRequestSender apiMgtCacheInvalidationRequestSender;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -59,7 +60,7 @@ public class CacheInvalidationServiceComponent {
                     DataHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration()
                             .getCacheInvalidationConfiguration();
             if (cacheInvalidationConfiguration.isEnabled()) {
-                APIMgtCacheInvalidationRequestSender apiMgtCacheInvalidationRequestSender =
+                apiMgtCacheInvalidationRequestSender =
                         new APIMgtCacheInvalidationRequestSender(cacheInvalidationConfiguration);
                 cacheInvalidationRequestSenderServiceRegistration = bundleContext
                         .registerService(CacheInvalidationRequestSender.class, apiMgtCacheInvalidationRequestSender,
@@ -101,6 +102,9 @@ public class CacheInvalidationServiceComponent {
         if (cacheInvalidationRequestSenderServiceRegistration != null) {
             cacheInvalidationRequestSenderServiceRegistration.unregister();
         }
+        if (apiMgtCacheInvalidationRequestSender != null) {
+            apiMgtCacheInvalidationRequestSender.shutdown();
+        }
     }
 
 }
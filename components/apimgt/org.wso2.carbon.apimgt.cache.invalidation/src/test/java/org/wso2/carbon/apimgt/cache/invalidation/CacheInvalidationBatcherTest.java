@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.cache.invalidation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.wso2.carbon.caching.impl.CachingConstants.CLEAR_ALL_PREFIX;
+
+public class CacheInvalidationBatcherTest {
+
+    private static final String CACHE_MANAGER = "API_MANAGER_CACHE_MANAGER";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    private final List<String[]> published = new ArrayList<>();
+    private CacheInvalidationBatcher batcher;
+
+    @Before
+    public void setUp() {
+
+        batcher = new CacheInvalidationBatcher(60000, 3,
+                (cacheManagerName, cacheName, tenantDomain, tenantId, encodedKeys) ->
+                        published.add(new String[]{cacheManagerName, cacheName, encodedKeys}));
+    }
+
+    @After
+    public void tearDown() {
+
+        batcher.shutdown();
+    }
+
+    @Test
+    public void testDuplicateKeysArePublishedOnce() {
+
+        add("gatewayKeyCache", "token1");
+        add("gatewayKeyCache", "token2");
+        add("gatewayKeyCache", "token1");
+        add("resourceCache", "/pizzashack/1.0.0");
+        Assert.assertTrue(published.isEmpty());
+
+        batcher.flush();
+        Assert.assertEquals(2, published.size());
+        Assert.assertEquals(CACHE_MANAGER, published.get(0)[0]);
+        Assert.assertEquals("gatewayKeyCache", published.get(0)[1]);
+        JsonArray batch = new JsonParser().parse(published.get(0)[2]).getAsJsonArray();
+        Assert.assertEquals(1, batch.size());
+        JsonObject keysOfType = batch.get(0).getAsJsonObject();
+        Assert.assertEquals(String.class.getName(), keysOfType.get(CachingConstants.TYPE).getAsString());
+        JsonArray values = keysOfType.getAsJsonArray(CachingConstants.VALUES);
+        Assert.assertEquals(2, values.size());
+        Assert.assertEquals("token1", values.get(0).getAsString());
+        Assert.assertEquals("token2", values.get(1).getAsString());
+        Assert.assertEquals("resourceCache", published.get(1)[1]);
+
+        batcher.flush();
+        Assert.assertEquals(2, published.size());
+    }
+
+    @Test
+    public void testClearAllReplacesCollectedKeys() {
+
+        add("gatewayKeyCache", "token1");
+        add("gatewayKeyCache", CLEAR_ALL_PREFIX);
+        add("gatewayKeyCache", "token2");
+        batcher.flush();
+
+        Assert.assertEquals(1, published.size());
+        JsonArray values = new JsonParser().parse(published.get(0)[2]).getAsJsonArray().get(0).getAsJsonObject()
+                .getAsJsonArray(CachingConstants.VALUES);
+        Assert.assertEquals(1, values.size());
+        Assert.assertEquals(CLEAR_ALL_PREFIX, values.get(0).getAsString());
+    }
+
+    @Test
+    public void testFullBatchIsPublishedRightAway() {
+
+        add("gatewayKeyCache", "token1");
+        add("gatewayKeyCache", "token2");
+        Assert.assertTrue(published.isEmpty());
+        add("gatewayKeyCache", "token3");
+        Assert.assertEquals(1, published.size());
+        add("gatewayKeyCache", "token4");
+        batcher.flush();
+        Assert.assertEquals(2, published.size());
+    }
+
+    private void add(String cacheName, String cacheKey) {
+
+        batcher.add(CACHE_MANAGER, cacheName, TENANT_DOMAIN, TENANT_ID, cacheKey, new JsonPrimitive(cacheKey));
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.collectors.impl;
+
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.DataNotFoundException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Copy of the request data of another provider, taken when the request completes, so that the analytics event can
+ * be collected and published later on another thread without holding on to the request.
+ * <p>
+ * The source provider is still read on the calling thread, so the API, application, operation and other data objects
+ * it builds from the message context are built there, as the message context is not kept once the response is sent.
+ * Only building the event, masking it and publishing it are left to the thread that collects it. The copy itself is
+ * a single object holding the values read, so that capturing a request adds little to the mediation thread.
+ * <p>
+ * Only the data the collectors of the event category use is copied. An error the source provider raises while it
+ * is copied is kept and raised again when the data is read, so a request is reported the same way it would have
+ * been had the source provider been read directly.
+ */
+public class CapturedAnalyticsDataProvider implements AnalyticsDataProvider {
+
+    private final EventCategory eventCategory;
+    private boolean anonymous;
+    private boolean authenticated;
+    private FaultCategory faultType;
+    private Error error;
+    private API api;
+    private Application application;
+    private Operation operation;
+    private Target target;
+    private Latencies latencies;
+    private MetaInfo metaInfo;
+    private int proxyResponseCode;
+    private int targetResponseCode;
+    private long requestTime;
+    private String userAgentHeader;
+    private String userName;
+    private String endUserIP;
+    private Map<String, Object> properties;
+    private Map<String, String> maskProperties;
+    // Errors raised by the source provider while the data was copied, created only once one is raised
+    private Map<Field, Exception> errors;
+
+    public CapturedAnalyticsDataProvider(AnalyticsDataProvider provider) {
+        this.eventCategory = provider.getEventCategory();
+        for (Field field : Field.VALUES) {
+            if (!field.isCapturedFor(eventCategory)) {
+                continue;
+            }
+            try {
+                capture(provider, field);
+            } catch (DataNotFoundException | RuntimeException e) {
+                if (errors == null) {
+                    errors = new EnumMap<>(Field.class);
+                }
+                errors.put(field, e);
+            }
+        }
+    }
+
+    private void capture(AnalyticsDataProvider provider, Field field) throws DataNotFoundException {
+        switch (field) {
+            case REQUEST_TIME:
+                requestTime = provider.getRequestTime();
+                break;
+            case PROPERTIES:
+                properties = provider.getProperties();
+                break;
+            case MASK_PROPERTIES:
+                maskProperties = provider.getMaskProperties();
+                break;
+            case API:
+                api = provider.getApi();
+                break;
+            case META_INFO:
+                metaInfo = provider.getMetaInfo();
+                break;
+            case PROXY_RESPONSE_CODE:
+                proxyResponseCode = provider.getProxyResponseCode();
+                break;
+            case USER_AGENT_HEADER:
+                userAgentHeader = provider.getUserAgentHeader();
+                break;
+            case USER_NAME:
+                userName = provider.getUserName();
+                break;
+            case END_USER_IP:
+                endUserIP = provider.getEndUserIP();
+                break;
+            case AUTHENTICATED:
+                authenticated = provider.isAuthenticated();
+                break;
+            case ANONYMOUS:
+                anonymous = provider.isAnonymous();
+                break;
+            case APPLICATION:
+                application = provider.getApplication();
+                break;
+            case OPERATION:
+                operation = provider.getOperation();
+                break;
+            case TARGET:
+                target = provider.getTarget();
+                break;
+            case LATENCIES:
+                latencies = provider.getLatencies();
+                break;
+            case TARGET_RESPONSE_CODE:
+                targetResponseCode = provider.getTargetResponseCode();
+                break;
+            case FAULT_TYPE:
+                faultType = provider.getFaultType();
+                break;
+            case ERROR:
+                // the error is looked up by the fault type, so it is only read once the fault type is known
+                if (faultType != null) {
+                    error = provider.getError(faultType);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public EventCategory getEventCategory() {
+        return eventCategory;
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        check(Field.ANONYMOUS);
+        return anonymous;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        check(Field.AUTHENTICATED);
+        return authenticated;
+    }
+
+    @Override
+    public FaultCategory getFaultType() {
+        check(Field.FAULT_TYPE);
+        return faultType;
+    }
+
+    @Override
+    public API getApi() throws DataNotFoundException {
+        checkData(Field.API);
+        return api;
+    }
+
+    @Override
+    public Application getApplication() throws DataNotFoundException {
+        checkData(Field.APPLICATION);
+        return application;
+    }
+
+    @Override
+    public Operation getOperation() throws DataNotFoundException {
+        checkData(Field.OPERATION);
+        return operation;
+    }
+
+    @Override
+    public Target getTarget() {
+        check(Field.TARGET);
+        return target;
+    }
+
+    @Override
+    public Latencies getLatencies() {
+        check(Field.LATENCIES);
+        return latencies;
+    }
+
+    @Override
+    public MetaInfo getMetaInfo() {
+        check(Field.META_INFO);
+        return metaInfo;
+    }
+
+    @Override
+    public int getProxyResponseCode() {
+        check(Field.PROXY_RESPONSE_CODE);
+        return proxyResponseCode;
+    }
+
+    @Override
+    public int getTargetResponseCode() {
+        check(Field.TARGET_RESPONSE_CODE);
+        return targetResponseCode;
+    }
+
+    @Override
+    public long getRequestTime() {
+        check(Field.REQUEST_TIME);
+        return requestTime;
+    }
+
+    @Override
+    public Error getError(FaultCategory faultCategory) {
+        if (!Field.ERROR.isCapturedFor(eventCategory) || faultCategory != faultType) {
+            throw new IllegalStateException("Error of the request was captured for the fault type " + faultType
+                    + " but not for " + faultCategory);
+        }
+        check(Field.ERROR);
+        return error;
+    }
+
+    @Override
+    public String getUserAgentHeader() {
+        check(Field.USER_AGENT_HEADER);
+        return userAgentHeader;
+    }
+
+    @Override
+    public String getUserName() {
+        check(Field.USER_NAME);
+        return userName;
+    }
+
+    @Override
+    public String getEndUserIP() {
+        check(Field.END_USER_IP);
+        return endUserIP;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        check(Field.PROPERTIES);
+        return properties;
+    }
+
+    @Override
+    public Map<String, String> getMaskProperties() {
+        check(Field.MASK_PROPERTIES);
+        return maskProperties;
+    }
+
+    /**
+     * Raises the data not found error the source provider raised for a value, if any, or else behaves as
+     * {@link #check(Field)}.
+     */
+    private void checkData(Field field) throws DataNotFoundException {
+        if (errors != null && errors.get(field) instanceof DataNotFoundException) {
+            throw (DataNotFoundException) errors.get(field);
+        }
+        check(field);
+    }
+
+    /**
+     * Raises the runtime error the source provider raised for a value, if any, or an {@link IllegalStateException}
+     * if the value is not copied for the event category of the request.
+     */
+    private void check(Field field) {
+        if (!field.isCapturedFor(eventCategory)) {
+            throw new IllegalStateException("Data of the request was not captured for its event category");
+        }
+        if (errors != null && errors.get(field) instanceof RuntimeException) {
+            throw (RuntimeException) errors.get(field);
+        }
+    }
+
+    /**
+     * Values of the source provider, along with the event categories they are copied for. They are copied in the
+     * declared order.
+     */
+    private enum Field {
+
+        REQUEST_TIME(true, true),
+        PROPERTIES(true, true),
+        MASK_PROPERTIES(true, true),
+        API(true, true),
+        META_INFO(true, true),
+        PROXY_RESPONSE_CODE(true, true),
+        USER_AGENT_HEADER(true, true),
+        USER_NAME(true, true),
+        END_USER_IP(true, true),
+        AUTHENTICATED(true, true),
+        ANONYMOUS(true, true),
+        APPLICATION(true, true),
+        OPERATION(true, false),
+        TARGET(true, false),
+        LATENCIES(true, false),
+        TARGET_RESPONSE_CODE(true, false),
+        FAULT_TYPE(false, true),
+        ERROR(false, true);
+
+        private static final Field[] VALUES = values();
+
+        private final boolean success;
+        private final boolean fault;
+
+        Field(boolean success, boolean fault) {
+            this.success = success;
+            this.fault = fault;
+        }
+
+        private boolean isCapturedFor(EventCategory eventCategory) {
+            return eventCategory == EventCategory.SUCCESS ? success : eventCategory == EventCategory.FAULT && fault;
+        }
+    }
+}
@@ -43,7 +43,6 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
     @Override
     public void publish(Event analyticsEvent) {
 
-        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
         List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
         if (multipleCounterMetrics == null) {
             log.error("All the counterMetrics are invalid. Event will be dropped.");
@@ -58,15 +57,12 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
                         replaceAll("[\r\n]", "").split(" ")[1];
                 boolean caughtException = false;
                 MetricEventBuilder builder = counterMetric.getEventBuilder();
-                for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
-                    try {
-                        builder.addAttribute(entry.getKey(), entry.getValue());
-                    } catch (MetricReportingException e) {
-                        caughtException = true;
-                        log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
-                                , e);
-                        break;
-                    }
+                try {
+                    EventAttributeWriter.write(analyticsEvent, builder);
+                } catch (MetricReportingException e) {
+                    caughtException = true;
+                    log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
+                            , e);
                 }
                 if (!caughtException) {
                     try {
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the attributes of an analytics {@link Event} to a {@link MetricEventBuilder} without converting the event
+ * to an intermediate map. The attributes are the same as the ones of
+ * {@code ObjectMapper.convertValue(event, Map.class)}: the nested objects of the event are unwrapped into top level
+ * attributes, null values are kept, the URI templates and policies of the API are written as lists of maps and the
+ * error message is written as the name of the fault sub category.
+ * <p>
+ * Subclasses of the event objects other than {@link ExtendedAPI}, and property values which are not strings,
+ * numbers or booleans, can carry attributes unknown to this class, so those are still converted with the object
+ * mapper.
+ */
+public final class EventAttributeWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    private EventAttributeWriter() {
+
+    }
+
+    /**
+     * Adds the attributes of the event to the builder.
+     *
+     * @param event   analytics event
+     * @param builder builder of the metric event
+     * @throws MetricReportingException if the builder rejects an attribute
+     */
+    public static void write(Event event, MetricEventBuilder builder) throws MetricReportingException {
+
+        if (event.getClass() != Event.class) {
+            writeConverted(event, builder);
+            return;
+        }
+        writeAPI(event.getApi(), builder);
+        writeOperation(event.getOperation(), builder);
+        writeTarget(event.getTarget(), builder);
+        writeApplication(event.getApplication(), builder);
+        writeLatencies(event.getLatencies(), builder);
+        writeMetaInfo(event.getMetaInfo(), builder);
+        writeError(event.getError(), builder);
+        builder.addAttribute("proxyResponseCode", event.getProxyResponseCode());
+        builder.addAttribute("requestTimestamp", event.getRequestTimestamp());
+        builder.addAttribute("userAgentHeader", event.getUserAgentHeader());
+        builder.addAttribute("userName", event.getUserName());
+        builder.addAttribute("userIp", event.getUserIp());
+        builder.addAttribute("errorType", event.getErrorType());
+        builder.addAttribute("properties", toAttributeValue(event.getProperties()));
+    }
+
+    private static void writeAPI(API api, MetricEventBuilder builder) throws MetricReportingException {
+
+        if (api == null) {
+            return;
+        }
+        if (api.getClass() != API.class && api.getClass() != ExtendedAPI.class) {
+            writeConverted(api, builder);
+            return;
+        }
+        builder.addAttribute("apiId", api.getApiId());
+        builder.addAttribute("apiType", api.getApiType());
+        builder.addAttribute("apiName", api.getApiName());
+        builder.addAttribute("apiVersion", api.getApiVersion());
+        builder.addAttribute("apiCreator", api.getApiCreator());
+        builder.addAttribute("apiCreatorTenantDomain", api.getApiCreatorTenantDomain());
+        List<Map<String, Object>> uriTemplates = new ArrayList<>();
+        for (URITemplate uriTemplate : api.getUriTemplates()) {
+            uriTemplates.add(toMap(uriTemplate));
+        }
+        builder.addAttribute("uriTemplates", uriTemplates);
+        builder.addAttribute("apiPolicies", toMaps(api.getApiPolicies()));
+        if (api instanceof ExtendedAPI) {
+            ExtendedAPI extendedAPI = (ExtendedAPI) api;
+            builder.addAttribute("organizationId", extendedAPI.getOrganizationId());
+            builder.addAttribute("apiContext", extendedAPI.getApiContext());
+        }
+    }
+
+    private static void writeOperation(Operation operation, MetricEventBuilder builder)
+            throws MetricReportingException {
+
+        if (operation == null) {
+            return;
+        }
+        if (operation.getClass() != Operation.class) {
+            writeConverted(operation, builder);
+            return;
+        }
+        builder.addAttribute("apiMethod", operation.getApiMethod());
+        builder.addAttribute("apiResourceTemplate", operation.getApiResourceTemplate());
+    }
+
+    private static void writeTarget(Target target, MetricEventBuilder builder) throws MetricReportingException {
+
+        if (target == null) {
+            return;
+        }
+        if (target.getClass() != Target.class) {
+            writeConverted(target, builder);
+            return;
+        }
+        builder.addAttribute("targetResponseCode", target.getTargetResponseCode());
+        builder.addAttribute("responseCacheHit", target.isResponseCacheHit());
+        builder.addAttribute("destination", target.getDestination());
+    }
+
+    private static void writeApplication(Application application, MetricEventBuilder builder)
+            throws MetricReportingException {
+
+        if (application == null) {
+            return;
+        }
+        if (application.getClass() != Application.class) {
+            writeConverted(application, builder);
+            return;
+        }
+        builder.addAttribute("keyType", application.getKeyType());
+        builder.addAttribute("applicationId", application.getApplicationId());
+        builder.addAttribute("applicationName", application.getApplicationName());
+        builder.addAttribute("applicationOwner", application.getApplicationOwner());
+    }
+
+    private static void writeLatencies(Latencies latencies, MetricEventBuilder builder)
+            throws MetricReportingException {
+
+        if (latencies == null) {
+            return;
+        }
+        if (latencies.getClass() != Latencies.class) {
+            writeConverted(latencies, builder);
+            return;
+        }
+        builder.addAttribute("responseLatency", latencies.getResponseLatency());
+        builder.addAttribute("backendLatency", latencies.getBackendLatency());
+        builder.addAttribute("requestMediationLatency", latencies.getRequestMediationLatency());
+        builder.addAttribute("responseMediationLatency", latencies.getResponseMediationLatency());
+    }
+
+    private static void writeMetaInfo(MetaInfo metaInfo, MetricEventBuilder builder)
+            throws MetricReportingException {
+
+        if (metaInfo == null) {
+            return;
+        }
+        if (metaInfo.getClass() != MetaInfo.class) {
+            writeConverted(metaInfo, builder);
+            return;
+        }
+        builder.addAttribute("correlationId", metaInfo.getCorrelationId());
+        builder.addAttribute("regionId", metaInfo.getRegionId());
+        builder.addAttribute("gatewayType", metaInfo.getGatewayType());
+    }
+
+    private static void writeError(Error error, MetricEventBuilder builder) throws MetricReportingException {
+
+        if (error == null) {
+            return;
+        }
+        if (error.getClass() != Error.class || !(error.getErrorMessage() == null
+                || error.getErrorMessage() instanceof Enum)) {
+            writeConverted(error, builder);
+            return;
+        }
+        builder.addAttribute("errorCode", error.getErrorCode());
+        builder.addAttribute("errorMessage",
+                error.getErrorMessage() == null ? null : ((Enum<?>) error.getErrorMessage()).name());
+    }
+
+    private static void writeConverted(Object value, MetricEventBuilder builder) throws MetricReportingException {
+
+        Map<String, Object> attributes = OBJECT_MAPPER.convertValue(value, MAP_TYPE_REFERENCE);
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            builder.addAttribute(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> toMap(URITemplate uriTemplate) {
+
+        if (uriTemplate == null || uriTemplate.getClass() != URITemplate.class) {
+            return OBJECT_MAPPER.convertValue(uriTemplate, MAP_TYPE_REFERENCE);
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("uriTemplate", uriTemplate.getUriTemplate());
+        map.put("resourceURI", uriTemplate.getResourceURI());
+        map.put("resourceSandboxURI", uriTemplate.getResourceSandboxURI());
+        map.put("httpVerb", uriTemplate.getHttpVerb());
+        map.put("authScheme", uriTemplate.getAuthScheme());
+        map.put("operationPolicies", toMaps(uriTemplate.getOperationPolicies()));
+        return map;
+    }
+
+    private static List<Map<String, Object>> toMaps(List<OperationPolicy> policies) {
+
+        List<Map<String, Object>> maps = new ArrayList<>(policies.size());
+        for (OperationPolicy policy : policies) {
+            if (policy == null || policy.getClass() != OperationPolicy.class) {
+                maps.add(OBJECT_MAPPER.convertValue(policy, MAP_TYPE_REFERENCE));
+                continue;
+            }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("policyId", policy.getPolicyId());
+            map.put("policyName", policy.getPolicyName());
+            map.put("policyVersion", policy.getPolicyVersion());
+            map.put("direction", policy.getDirection());
+            map.put("order", policy.getOrder());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private static Object toAttributeValue(Object value) {
+
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double) {
+            return value;
+        }
+        if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    return OBJECT_MAPPER.convertValue(value, Object.class);
+                }
+                map.put((String) entry.getKey(), toAttributeValue(entry.getValue()));
+            }
+            return map;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                list.add(toAttributeValue(element));
+            }
+            return list;
+        }
+        return OBJECT_MAPPER.convertValue(value, Object.class);
+    }
+}
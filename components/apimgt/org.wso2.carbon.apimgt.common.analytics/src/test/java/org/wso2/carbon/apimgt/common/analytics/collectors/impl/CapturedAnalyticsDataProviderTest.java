@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.collectors.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.DataNotFoundException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CapturedAnalyticsDataProviderTest {
+
+    @Test
+    public void testSuccessRequestDataIsCaptured() throws DataNotFoundException {
+
+        TestDataProvider source = new TestDataProvider(EventCategory.SUCCESS);
+        CapturedAnalyticsDataProvider captured = new CapturedAnalyticsDataProvider(source);
+        source.userName = "changed";
+        source.proxyResponseCode = 500;
+
+        Assert.assertEquals(EventCategory.SUCCESS, captured.getEventCategory());
+        Assert.assertSame(source.api, captured.getApi());
+        Assert.assertSame(source.operation, captured.getOperation());
+        Assert.assertSame(source.target, captured.getTarget());
+        Assert.assertSame(source.latencies, captured.getLatencies());
+        Assert.assertSame(source.metaInfo, captured.getMetaInfo());
+        Assert.assertEquals("admin", captured.getUserName());
+        Assert.assertEquals(200, captured.getProxyResponseCode());
+        Assert.assertEquals(1700000000000L, captured.getRequestTime());
+        Assert.assertEquals("curl/8.0", captured.getUserAgentHeader());
+        Assert.assertEquals(Collections.singletonMap("key", "value"), captured.getProperties());
+        Assert.assertTrue(captured.isAuthenticated());
+        Assert.assertFalse(captured.isAnonymous());
+        try {
+            captured.getApplication();
+            Assert.fail("Application not found error of the source provider is not raised");
+        } catch (DataNotFoundException e) {
+            Assert.assertSame(source.applicationNotFound, e);
+        }
+        try {
+            captured.getFaultType();
+            Assert.fail("Fault type of a success request is captured");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertEquals(0, source.errorCalls);
+    }
+
+    @Test
+    public void testFaultRequestDataIsCaptured() throws DataNotFoundException {
+
+        TestDataProvider source = new TestDataProvider(EventCategory.FAULT);
+        CapturedAnalyticsDataProvider captured = new CapturedAnalyticsDataProvider(source);
+
+        Assert.assertEquals(EventCategory.FAULT, captured.getEventCategory());
+        Assert.assertEquals(FaultCategory.THROTTLED, captured.getFaultType());
+        Assert.assertSame(source.error, captured.getError(FaultCategory.THROTTLED));
+        Assert.assertEquals(1, source.errorCalls);
+        Assert.assertSame(source.api, captured.getApi());
+        Assert.assertEquals("10.100.1.1", captured.getEndUserIP());
+        try {
+            captured.getLatencies();
+            Assert.fail("Latencies of a fault request are captured");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testInvalidRequestDataIsNotCaptured() {
+
+        TestDataProvider source = new TestDataProvider(EventCategory.INVALID);
+        CapturedAnalyticsDataProvider captured = new CapturedAnalyticsDataProvider(source);
+
+        Assert.assertEquals(EventCategory.INVALID, captured.getEventCategory());
+        Assert.assertEquals(0, source.apiCalls);
+    }
+
+    private static class TestDataProvider implements AnalyticsDataProvider {
+
+        private final EventCategory eventCategory;
+        private final API api = new API();
+        private final Operation operation = new Operation();
+        private final Target target = new Target();
+        private final Latencies latencies = new Latencies();
+        private final MetaInfo metaInfo = new MetaInfo();
+        private final Error error = new Error();
+        private final DataNotFoundException applicationNotFound = new DataNotFoundException("No application");
+        private String userName = "admin";
+        private int proxyResponseCode = 200;
+        private int apiCalls;
+        private int errorCalls;
+
+        private TestDataProvider(EventCategory eventCategory) {
+            this.eventCategory = eventCategory;
+        }
+
+        @Override
+        public EventCategory getEventCategory() {
+            return eventCategory;
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return false;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return true;
+        }
+
+        @Override
+        public FaultCategory getFaultType() {
+            return FaultCategory.THROTTLED;
+        }
+
+        @Override
+        public API getApi() {
+            apiCalls++;
+            return api;
+        }
+
+        @Override
+        public Application getApplication() throws DataNotFoundException {
+            throw applicationNotFound;
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public Target getTarget() {
+            return target;
+        }
+
+        @Override
+        public Latencies getLatencies() {
+            return latencies;
+        }
+
+        @Override
+        public MetaInfo getMetaInfo() {
+            return metaInfo;
+        }
+
+        @Override
+        public int getProxyResponseCode() {
+            return proxyResponseCode;
+        }
+
+        @Override
+        public int getTargetResponseCode() {
+            return 200;
+        }
+
+        @Override
+        public long getRequestTime() {
+            return 1700000000000L;
+        }
+
+        @Override
+        public Error getError(FaultCategory faultCategory) {
+            errorCalls++;
+            return error;
+        }
+
+        @Override
+        public String getUserAgentHeader() {
+            return "curl/8.0";
+        }
+
+        @Override
+        public String getUserName() {
+            return userName;
+        }
+
+        @Override
+        public String getEndUserIP() {
+            return "10.100.1.1";
+        }
+
+        @Override
+        public Map<String, Object> getProperties() {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("key", "value");
+            return properties;
+        }
+
+        @Override
+        public Map<String, String> getMaskProperties() {
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting an analytics event to a map before adding its attributes to the metric event builder with
+ * writing the attributes with {@link EventAttributeWriter}. Run with the test classpath of this module, for example
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.apimgt.common.analytics.publishers.impl.EventAttributeWriterBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventAttributeWriterBenchmark {
+
+    private final Event event = EventAttributeWriterTest.createEvent();
+
+    @Benchmark
+    public Map<String, Object> convertValue() throws MetricReportingException {
+
+        EventAttributeWriterTest.AttributeCollector builder = new EventAttributeWriterTest.AttributeCollector();
+        for (Map.Entry<String, Object> entry : AbstractRequestDataPublisher.OBJECT_MAPPER
+                .convertValue(event, AbstractRequestDataPublisher.MAP_TYPE_REFERENCE).entrySet()) {
+            builder.addAttribute(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<String, Object> attributeWriter() throws MetricReportingException {
+
+        EventAttributeWriterTest.AttributeCollector builder = new EventAttributeWriterTest.AttributeCollector();
+        EventAttributeWriter.write(event, builder);
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(EventAttributeWriterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
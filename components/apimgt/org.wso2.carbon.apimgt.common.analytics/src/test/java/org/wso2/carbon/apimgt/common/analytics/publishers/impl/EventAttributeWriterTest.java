@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EventAttributeWriterTest {
+
+    @Test
+    public void testAttributesMatchConvertedEvent() throws MetricReportingException {
+
+        Event event = createEvent();
+        Assert.assertEquals(convert(event), write(event));
+    }
+
+    @Test
+    public void testFaultyEventAttributesMatchConvertedEvent() throws MetricReportingException {
+
+        Event event = createEvent();
+        API api = new API();
+        api.setApiId("6a1b2c3d");
+        event.setApi(api);
+        event.setTarget(null);
+        event.setLatencies(null);
+        Error error = new Error();
+        error.setErrorCode(900800);
+        error.setErrorMessage(FaultSubCategories.Throttling.API_LEVEL_LIMIT_EXCEEDED);
+        event.setError(error);
+        event.setErrorType("THROTTLED");
+        event.setProperties(null);
+        Assert.assertEquals(convert(event), write(event));
+    }
+
+    static Event createEvent() {
+
+        OperationPolicy policy = new OperationPolicy();
+        policy.setPolicyId("f1e2d3c4");
+        policy.setPolicyName("addHeader");
+        policy.setPolicyVersion("v1");
+        policy.setDirection("request");
+        policy.setOrder(1);
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setUriTemplate("/menu");
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setAuthScheme("Any");
+        uriTemplate.setResourceURI("https://localhost:9443/am/sample/pizzashack/v1/api/menu");
+        uriTemplate.setOperationPolicies(Collections.singletonList(policy));
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId("6a1b2c3d");
+        api.setApiType("HTTP");
+        api.setApiName("PizzaShackAPI");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        api.setUriTemplates(Arrays.asList(uriTemplate, new URITemplate()));
+        api.setOrganizationId("carbon.super");
+        api.setApiContext("/pizzashack/1.0.0");
+
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/menu");
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setResponseCacheHit(false);
+        target.setDestination("https://localhost:9443/am/sample/pizzashack/v1/api/");
+        Application application = new Application();
+        application.setKeyType("PRODUCTION");
+        application.setApplicationId("9f8e7d6c");
+        application.setApplicationName("DefaultApplication");
+        application.setApplicationOwner("admin");
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(42L);
+        latencies.setBackendLatency(30L);
+        latencies.setRequestMediationLatency(5L);
+        latencies.setResponseMediationLatency(7L);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("0f1e2d3c-4b5a-6978-8695-a4b3c2d1e0f9");
+        metaInfo.setRegionId("default");
+        metaInfo.setGatewayType("SYNAPSE");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("Accept", "application/json");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("apiContext", "/pizzashack/1.0.0");
+        properties.put("requestHeaders", headers);
+        properties.put("retries", 2);
+        properties.put("scopes", Arrays.asList("read", "write"));
+
+        Event event = new Event();
+        event.setApi(api);
+        event.setOperation(operation);
+        event.setTarget(target);
+        event.setApplication(application);
+        event.setLatencies(latencies);
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-10-18T10:15:30.000Z");
+        event.setUserAgentHeader("curl/8.5.0");
+        event.setUserName("admin@carbon.super");
+        event.setUserIp("192.168.1.10");
+        event.setProperties(properties);
+        return event;
+    }
+
+    private static Map<String, Object> convert(Event event) throws MetricReportingException {
+
+        AttributeCollector builder = new AttributeCollector();
+        for (Map.Entry<String, Object> entry : AbstractRequestDataPublisher.OBJECT_MAPPER
+                .convertValue(event, AbstractRequestDataPublisher.MAP_TYPE_REFERENCE).entrySet()) {
+            builder.addAttribute(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> write(Event event) throws MetricReportingException {
+
+        AttributeCollector builder = new AttributeCollector();
+        EventAttributeWriter.write(event, builder);
+        return builder.build();
+    }
+
+    /**
+     * Collects the attributes added to it.
+     */
+    static class AttributeCollector implements MetricEventBuilder {
+
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        @Override
+        public Map<String, Object> build() {
+
+            return attributes;
+        }
+
+        @Override
+        public boolean validate() {
+
+            return true;
+        }
+
+        @Override
+        public MetricEventBuilder addAttribute(String key, Object value) {
+
+            attributes.put(key, value);
+            return this;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.security.PrivateKey;
+import java.security.Signature;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.Date;
@@ -50,6 +51,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     public static final String NONE = "NONE";
     public static final String SHA256_WITH_RSA = "SHA256withRSA";
     public static final String API_GATEWAY_ID = "wso2.org/products/am";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     protected JWTConfigurationDto jwtConfigurationDto;
 
     private static volatile long ttl = -1L;
@@ -59,7 +61,14 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
     private boolean useSHA256Hash = false;
 
+    private final ThreadLocal<KeyedSignature> signatures = new ThreadLocal<>();
+
+    private final boolean headerCacheable;
+
+    private volatile EncodedHeader encodedHeader;
+
     public AbstractAPIMgtGatewayJWTGenerator() {
+        headerCacheable = !isBuildHeaderOverridden();
     }
 
     public void setJWTConfigurationDto(JWTConfigurationDto jwtConfigurationDto) {
@@ -74,17 +83,13 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
             signatureAlgorithm = SHA256_WITH_RSA;
         }
         useSHA256Hash = jwtConfigurationDto.useSHA256Hash();
-
+        encodedHeader = null;
     }
 
     public String generateToken(JWTInfoDto jwtInfoDto) throws JWTGeneratorException {
 
-        String jwtHeader = buildHeader();
+        String base64UrlEncodedHeader = getEncodedHeader();
         String jwtBody = buildBody(jwtInfoDto);
-        String base64UrlEncodedHeader = "";
-        if (jwtHeader != null) {
-            base64UrlEncodedHeader = encode(jwtHeader.getBytes(Charset.defaultCharset()));
-        }
         String base64UrlEncodedBody = "";
         try {
             base64UrlEncodedBody = encode(jwtBody.getBytes("UTF-8"));
@@ -130,16 +135,75 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         return jwtHeader;
     }
 
+    /**
+     * Returns the encoded header of the tokens. The header only changes with the signing certificate, so it is
+     * built and encoded once per certificate, unless the header is built by an overridden {@link #buildHeader()}.
+     */
+    private String getEncodedHeader() throws JWTGeneratorException {
+
+        if (!headerCacheable) {
+            return encodeHeader(buildHeader());
+        }
+        JWTConfigurationDto configuration = jwtConfigurationDto;
+        Certificate publicCert = configuration.getPublicCert();
+        EncodedHeader header = encodedHeader;
+        if (header == null || header.configuration != configuration || header.publicCert != publicCert) {
+            header = new EncodedHeader(configuration, publicCert, encodeHeader(buildHeader()));
+            encodedHeader = header;
+        }
+        return header.value;
+    }
+
+    private String encodeHeader(String jwtHeader) throws JWTGeneratorException {
+
+        if (jwtHeader == null) {
+            return "";
+        }
+        return encode(jwtHeader.getBytes(Charset.defaultCharset()));
+    }
+
+    private boolean isBuildHeaderOverridden() {
+
+        for (Class<?> generatorClass = getClass(); generatorClass != AbstractAPIMgtGatewayJWTGenerator.class;
+             generatorClass = generatorClass.getSuperclass()) {
+            try {
+                generatorClass.getDeclaredMethod("buildHeader");
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden by this class, check its superclass
+            }
+        }
+        return false;
+    }
+
     public byte[] signJWT(String assertion) throws JWTGeneratorException {
 
         try {
             PrivateKey privateKey = jwtConfigurationDto.getPrivateKey();
-            return JWTUtil.signJwt(assertion, privateKey, signatureAlgorithm);
+            return JWTUtil.signJwt(assertion, getSignature(privateKey));
         } catch (Exception e) {
+            // the signature may be left half updated, initialize a new one for the next assertion
+            signatures.remove();
             throw new JWTGeneratorException(e);
         }
     }
 
+    /**
+     * Returns the signature object of the current thread, initialized for signing with the given private key. The
+     * signature object is reused for the assertions the thread signs, instead of looking up the signature provider
+     * and initializing it with the key for every assertion.
+     */
+    private Signature getSignature(PrivateKey privateKey) throws JWTGeneratorException {
+
+        KeyedSignature keyedSignature = signatures.get();
+        if (keyedSignature == null || keyedSignature.privateKey != privateKey
+                || !keyedSignature.signature.getAlgorithm().equals(signatureAlgorithm)) {
+            keyedSignature = new KeyedSignature(privateKey, JWTUtil.initSignature(privateKey, signatureAlgorithm));
+            signatures.set(keyedSignature);
+        }
+        return keyedSignature.signature;
+    }
+
     /**
      * Helper method to add public certificate to JWT_HEADER to signature verification.
      *
@@ -171,13 +235,12 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                 }
             }
         }
-        ObjectMapper mapper = new ObjectMapper();
         for (Map.Entry<String, Object> claimEntry : claims.entrySet()) {
             Object claimVal = claimEntry.getValue();
             if (claimVal instanceof String && claimVal.toString().startsWith("{") &&
                     claimVal.toString().endsWith("}")) {
                 try {
-                    Map<String, String> map = mapper.readValue(claimVal.toString(), Map.class);
+                    Map<String, String> map = OBJECT_MAPPER.readValue(claimVal.toString(), Map.class);
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), map);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
@@ -188,7 +251,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                     && claimVal.toString().contains("\"]")) {
 
                 try {
-                    List<String> arrayList = mapper.readValue(claimVal.toString(), List.class);
+                    List<String> arrayList = OBJECT_MAPPER.readValue(claimVal.toString(), List.class);
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), arrayList);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
@@ -232,5 +295,30 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     public abstract Map<String, Object> populateStandardClaims(JWTInfoDto jwtInfoDto);
 
     public abstract Map<String, Object> populateCustomClaims(JWTInfoDto jwtInfoDto);
-}
 
+    private static class EncodedHeader {
+
+        private final JWTConfigurationDto configuration;
+        private final Certificate publicCert;
+        private final String value;
+
+        private EncodedHeader(JWTConfigurationDto configuration, Certificate publicCert, String value) {
+
+            this.configuration = configuration;
+            this.publicCert = publicCert;
+            this.value = value;
+        }
+    }
+
+    private static class KeyedSignature {
+
+        private final PrivateKey privateKey;
+        private final Signature signature;
+
+        private KeyedSignature(PrivateKey privateKey, Signature signature) {
+
+            this.privateKey = privateKey;
+            this.signature = signature;
+        }
+    }
+}
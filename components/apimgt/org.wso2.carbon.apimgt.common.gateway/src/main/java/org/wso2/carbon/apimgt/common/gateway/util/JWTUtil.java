@@ -186,23 +186,52 @@ public final class JWTUtil {
     public static byte[] signJwt(String assertion, PrivateKey privateKey, String signatureAlgorithm) throws
             JWTGeneratorException {
 
+        return signJwt(assertion, initSignature(privateKey, signatureAlgorithm));
+    }
+
+    /**
+     * Utility method to create a signature object initialized for signing with a private key. The signature object
+     * can sign any number of JWT assertions, one at a time, with {@link #signJwt(String, Signature)}.
+     *
+     * @param privateKey         private key which use to sign the JWT assertions
+     * @param signatureAlgorithm signature algorithm which use to sign the JWT assertions
+     * @return signature object initialized for signing
+     * @throws JWTGeneratorException
+     */
+    public static Signature initSignature(PrivateKey privateKey, String signatureAlgorithm)
+            throws JWTGeneratorException {
+
         try {
             //initialize signature with private key and algorithm
             Signature signature = Signature.getInstance(signatureAlgorithm);
             signature.initSign(privateKey);
+            return signature;
+        } catch (NoSuchAlgorithmException e) {
+            //do not log
+            throw new JWTGeneratorException("Signature algorithm not found", e);
+        } catch (InvalidKeyException e) {
+            //do not log
+            throw new JWTGeneratorException("Invalid private key provided for signing", e);
+        }
+    }
+
+    /**
+     * Utility method to sign a JWT assertion with a signature object initialized for signing.
+     *
+     * @param assertion valid JWT assertion
+     * @param signature signature object initialized for signing, see {@link #initSignature(PrivateKey, String)}
+     * @return byte array of the JWT signature
+     * @throws JWTGeneratorException
+     */
+    public static byte[] signJwt(String assertion, Signature signature) throws JWTGeneratorException {
 
+        try {
             //update signature with data to be signed
             byte[] dataInBytes = assertion.getBytes(Charset.defaultCharset());
             signature.update(dataInBytes);
 
             //sign the assertion and return the signature
             return signature.sign();
-        } catch (NoSuchAlgorithmException e) {
-            //do not log
-            throw new JWTGeneratorException("Signature algorithm not found", e);
-        } catch (InvalidKeyException e) {
-            //do not log
-            throw new JWTGeneratorException("Invalid private key provided for signing", e);
         } catch (SignatureException e) {
             //do not log
             throw new JWTGeneratorException("Error while signing JWT", e);
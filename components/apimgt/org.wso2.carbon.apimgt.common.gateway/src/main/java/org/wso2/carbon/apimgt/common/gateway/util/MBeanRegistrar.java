@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registers the statistics MBeans of the gateway and key manager components with the platform MBean server.
+ */
+public final class MBeanRegistrar {
+
+    private static final Log log = LogFactory.getLog(MBeanRegistrar.class);
+
+    private MBeanRegistrar() {
+
+    }
+
+    /**
+     * Registers the given MBean under the given object name, replacing any MBean already registered under that name
+     * so that a re-initialized component exposes its current instance. Failures are logged and do not propagate, as
+     * the statistics are not required for the component to function.
+     *
+     * @param mBean      MBean to register
+     * @param objectName object name of the MBean, e.g. {@code org.wso2.carbon.apimgt:type=Name}
+     * @return true if the MBean was registered
+     */
+    public static boolean registerMBean(Object mBean, String objectName) {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(mBean, name);
+            return true;
+        } catch (JMException e) {
+            log.warn("Unable to register the JMX MBean " + objectName, e);
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.management.ObjectName;
+
+/**
+ * A bounded set of reentrant locks, selected by the hash of a key. This replaces synchronizing on interned strings:
+ * the number of monitors stays fixed regardless of how many distinct keys are seen, and the monitors are private to
+ * the owner of the lock instead of being shared with any code that interns the same string. Two keys may map to the
+ * same stripe, so a thread must not hold a stripe while acquiring the stripe of a different key.
+ * <p>
+ * Named instances are obtained through {@link #getInstance(String, int)} and are registered with the platform MBean
+ * server as {@code org.wso2.carbon.apimgt:type=StripedLock,name=<name>} to expose their contention statistics.
+ */
+public final class StripedLock implements StripedLockMXBean {
+
+    public static final int DEFAULT_STRIPE_COUNT = 256;
+    private static final String OBJECT_NAME_PREFIX = "org.wso2.carbon.apimgt:type=StripedLock,name=";
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final Map<String, StripedLock> instances = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLongArray stripeWaitNanos;
+
+    StripedLock(String name, int stripeCount) {
+
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.name = name;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.stripeWaitNanos = new AtomicLongArray(size);
+    }
+
+    /**
+     * Returns the shared lock with the given name, creating and registering it with JMX on first use.
+     *
+     * @param name        name of the lock
+     * @param stripeCount number of stripes, rounded up to a power of two. Only used when the lock is created
+     * @return shared striped lock
+     */
+    public static StripedLock getInstance(String name, int stripeCount) {
+
+        return instances.computeIfAbsent(name, lockName -> {
+            StripedLock stripedLock = new StripedLock(lockName, stripeCount);
+            MBeanRegistrar.registerMBean(stripedLock, OBJECT_NAME_PREFIX + ObjectName.quote(lockName));
+            return stripedLock;
+        });
+    }
+
+    /**
+     * Acquires the stripe of the given key, waiting if necessary. The returned lock must be released by the caller
+     * in a finally block.
+     *
+     * @param key key to lock on
+     * @return the acquired lock
+     */
+    public Lock acquire(Object key) {
+
+        int stripe = stripeOf(key);
+        ReentrantLock lock = locks[stripe];
+        if (!lock.tryLock()) {
+            long waitStart = System.nanoTime();
+            lock.lock();
+            long waitNanos = System.nanoTime() - waitStart;
+            contendedAcquisitions.increment();
+            totalWaitNanos.add(waitNanos);
+            stripeWaitNanos.addAndGet(stripe, waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+        acquisitions.increment();
+        return lock;
+    }
+
+    int stripeOf(Object key) {
+
+        int hash = key.hashCode();
+        // Spread the higher bits, as in HashMap, since only the lower bits select the stripe.
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @Override
+    public String getName() {
+
+        return name;
+    }
+
+    @Override
+    public int getStripeCount() {
+
+        return locks.length;
+    }
+
+    @Override
+    public long getAcquisitionCount() {
+
+        return acquisitions.sum();
+    }
+
+    @Override
+    public long getContendedAcquisitionCount() {
+
+        return contendedAcquisitions.sum();
+    }
+
+    @Override
+    public double getTotalWaitTimeMillis() {
+
+        return totalWaitNanos.sum() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxWaitTimeMillis() {
+
+        return maxWaitNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public int getHottestStripe() {
+
+        int hottestStripe = -1;
+        long hottestWaitNanos = 0;
+        for (int i = 0; i < stripeWaitNanos.length(); i++) {
+            long waitNanos = stripeWaitNanos.get(i);
+            if (waitNanos > hottestWaitNanos) {
+                hottestWaitNanos = waitNanos;
+                hottestStripe = i;
+            }
+        }
+        return hottestStripe;
+    }
+
+    @Override
+    public double getHottestStripeWaitTimeMillis() {
+
+        int hottestStripe = getHottestStripe();
+        return hottestStripe < 0 ? 0 : stripeWaitNanos.get(hottestStripe) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        acquisitions.reset();
+        contendedAcquisitions.reset();
+        totalWaitNanos.reset();
+        maxWaitNanos.set(0);
+        for (int i = 0; i < stripeWaitNanos.length(); i++) {
+            stripeWaitNanos.set(i, 0);
+        }
+    }
+}
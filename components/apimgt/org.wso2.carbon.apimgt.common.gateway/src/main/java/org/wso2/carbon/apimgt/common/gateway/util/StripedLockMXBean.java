@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.util;
+
+/**
+ * JMX view of the contention statistics of a {@link StripedLock}.
+ */
+public interface StripedLockMXBean {
+
+    /**
+     * @return name of the lock
+     */
+    String getName();
+
+    /**
+     * @return number of stripes of the lock
+     */
+    int getStripeCount();
+
+    /**
+     * @return total number of lock acquisitions
+     */
+    long getAcquisitionCount();
+
+    /**
+     * @return number of lock acquisitions which had to wait for another thread
+     */
+    long getContendedAcquisitionCount();
+
+    /**
+     * @return total time spent waiting for the lock, in milliseconds
+     */
+    double getTotalWaitTimeMillis();
+
+    /**
+     * @return longest single wait for the lock, in milliseconds
+     */
+    double getMaxWaitTimeMillis();
+
+    /**
+     * @return index of the stripe with the highest accumulated wait time, or -1 if there was no contention
+     */
+    int getHottestStripe();
+
+    /**
+     * @return accumulated wait time of the hottest stripe, in milliseconds
+     */
+    double getHottestStripeWaitTimeMillis();
+
+    /**
+     * Resets all the collected statistics.
+     */
+    void resetStatistics();
+}
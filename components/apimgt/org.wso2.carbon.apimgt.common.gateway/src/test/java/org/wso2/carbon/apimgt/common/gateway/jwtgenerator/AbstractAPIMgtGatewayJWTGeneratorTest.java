@@ -22,8 +22,22 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTInfoDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
 import org.wso2.carbon.apimgt.common.gateway.exception.JWTGeneratorException;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.HashMap;
+import java.util.Map;
+
 public class AbstractAPIMgtGatewayJWTGeneratorTest {
     protected JWTConfigurationDto jwtConfigurationDto;
 
@@ -47,4 +61,102 @@ public class AbstractAPIMgtGatewayJWTGeneratorTest {
             Assert.fail("JWTGeneratorException thrown");
         }
     }
+
+    @Test
+    public void testSignJWTWithReusedSignature() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        jwtConfigurationDto.setPrivateKey(keyPair.getPrivate());
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = new APIMgtGatewayJWTGeneratorImpl();
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+
+        for (String assertion : new String[]{"header.body", "header.otherBody", "header.body"}) {
+            Assert.assertTrue(verify(assertion, apiMgtGatewayJWTGenerator.signJWT(assertion), keyPair.getPublic()));
+        }
+
+        // a new signing key is picked up by the signature of the thread
+        KeyPair otherKeyPair = keyPairGenerator.generateKeyPair();
+        jwtConfigurationDto.setPrivateKey(otherKeyPair.getPrivate());
+        byte[] signature = apiMgtGatewayJWTGenerator.signJWT("header.body");
+        Assert.assertTrue(verify("header.body", signature, otherKeyPair.getPublic()));
+        Assert.assertFalse(verify("header.body", signature, keyPair.getPublic()));
+    }
+
+    @Test
+    public void testHeaderIsBuiltOncePerCertificate() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        jwtConfigurationDto.setPrivateKey(keyPairGenerator.generateKeyPair().getPrivate());
+        jwtConfigurationDto.setPublicCert(loadCertificate());
+        int[] headersBuilt = new int[1];
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = new APIMgtGatewayJWTGeneratorImpl() {
+            @Override
+            protected String addCertToHeader() throws JWTGeneratorException {
+                headersBuilt[0]++;
+                return super.addCertToHeader();
+            }
+        };
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+
+        String header = apiMgtGatewayJWTGenerator.encode(
+                apiMgtGatewayJWTGenerator.buildHeader().getBytes(Charset.defaultCharset()));
+        JWTInfoDto jwtInfoDto = createJWTInfoDto();
+        String token = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        String otherToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(header, token.split("\\.")[0]);
+        Assert.assertEquals(header, otherToken.split("\\.")[0]);
+        Assert.assertEquals(2, headersBuilt[0]);
+
+        // the header is built again when the configuration of the generator is replaced
+        JWTConfigurationDto otherJWTConfigurationDto = new JWTConfigurationDto(jwtConfigurationDto);
+        otherJWTConfigurationDto.setPublicCert(jwtConfigurationDto.getPublicCert());
+        otherJWTConfigurationDto.setPrivateKey(jwtConfigurationDto.getPrivateKey());
+        apiMgtGatewayJWTGenerator.jwtConfigurationDto = otherJWTConfigurationDto;
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(3, headersBuilt[0]);
+    }
+
+    static JWTInfoDto createJWTInfoDto() {
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("email", "admin@wso2.com");
+        claims.put("groups", "[\"admin\",\"publisher\"]");
+        JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
+        jwtValidationInfo.setClaims(claims);
+        JWTInfoDto jwtInfoDto = new JWTInfoDto();
+        jwtInfoDto.setJwtValidationInfo(jwtValidationInfo);
+        jwtInfoDto.setApiName("PizzaShackAPI");
+        jwtInfoDto.setApiContext("/pizzashack/1.0.0");
+        jwtInfoDto.setVersion("1.0.0");
+        jwtInfoDto.setApplicationName("DefaultApplication");
+        jwtInfoDto.setApplicationId("1");
+        jwtInfoDto.setApplicationUUId("a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d");
+        jwtInfoDto.setApplicationTier("Unlimited");
+        jwtInfoDto.setSubscriber("admin");
+        jwtInfoDto.setSubscriptionTier("Gold");
+        jwtInfoDto.setKeyType("PRODUCTION");
+        jwtInfoDto.setEndUser("admin@carbon.super");
+        jwtInfoDto.setEndUserTenantId(-1234);
+        return jwtInfoDto;
+    }
+
+    static Certificate loadCertificate() throws Exception {
+
+        try (InputStream certificate = AbstractAPIMgtGatewayJWTGeneratorTest.class.getClassLoader()
+                .getResourceAsStream("cnf/certificate.pem")) {
+            return CertificateFactory.getInstance("X.509").generateCertificate(certificate);
+        }
+    }
+
+    private static boolean verify(String assertion, byte[] signatureBytes, PublicKey publicKey)
+            throws GeneralSecurityException {
+
+        Signature signature = Signature.getInstance(AbstractAPIMgtGatewayJWTGenerator.SHA256_WITH_RSA);
+        signature.initVerify(publicKey);
+        signature.update(assertion.getBytes(Charset.defaultCharset()));
+        return signature.verify(signatureBytes);
+    }
 }
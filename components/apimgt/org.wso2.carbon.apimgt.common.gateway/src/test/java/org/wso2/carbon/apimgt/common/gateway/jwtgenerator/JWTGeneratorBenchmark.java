@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.jwtgenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTInfoDto;
+import org.wso2.carbon.apimgt.common.gateway.exception.JWTGeneratorException;
+
+import java.security.KeyPairGenerator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the backend tokens generated per second by {@link APIMgtGatewayJWTGeneratorImpl}, with the header
+ * encoded once per signing certificate and with the header built for every token, as a generator that overrides
+ * {@link AbstractAPIMgtGatewayJWTGenerator#buildHeader()} does. Run with the test classpath of this module, for
+ * example {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.apimgt.common.gateway.jwtgenerator.JWTGeneratorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTGeneratorBenchmark {
+
+    private final JWTInfoDto jwtInfoDto = AbstractAPIMgtGatewayJWTGeneratorTest.createJWTInfoDto();
+    private final AbstractAPIMgtGatewayJWTGenerator generator = new APIMgtGatewayJWTGeneratorImpl();
+    private final AbstractAPIMgtGatewayJWTGenerator headerBuildingGenerator = new APIMgtGatewayJWTGeneratorImpl() {
+        @Override
+        public String buildHeader() throws JWTGeneratorException {
+            return super.buildHeader();
+        }
+    };
+
+    @Setup
+    public void setup() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        JWTConfigurationDto jwtConfigurationDto = new JWTConfigurationDto();
+        jwtConfigurationDto.setPrivateKey(keyPairGenerator.generateKeyPair().getPrivate());
+        jwtConfigurationDto.setPublicCert(AbstractAPIMgtGatewayJWTGeneratorTest.loadCertificate());
+        jwtConfigurationDto.setTtl(900);
+        generator.setJWTConfigurationDto(jwtConfigurationDto);
+        headerBuildingGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+    }
+
+    @Benchmark
+    public String generateToken() throws JWTGeneratorException {
+
+        return generator.generateToken(jwtInfoDto);
+    }
+
+    @Benchmark
+    public String generateTokenBuildingHeader() throws JWTGeneratorException {
+
+        return headerBuildingGenerator.generateToken(jwtInfoDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(JWTGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
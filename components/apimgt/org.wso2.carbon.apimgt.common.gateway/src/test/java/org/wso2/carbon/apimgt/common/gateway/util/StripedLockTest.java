@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Test cases for {@link StripedLock}
+ */
+public class StripedLockTest {
+
+    @Test
+    public void testStripeCountIsRoundedToPowerOfTwo() {
+
+        Assert.assertEquals(1, new StripedLock("test", 1).getStripeCount());
+        Assert.assertEquals(16, new StripedLock("test", 16).getStripeCount());
+        Assert.assertEquals(32, new StripedLock("test", 17).getStripeCount());
+    }
+
+    @Test
+    public void testEqualKeysShareStripe() {
+
+        StripedLock stripedLock = new StripedLock("test", 64);
+        String key = "carbon.super:/pizzashack/1.0.0";
+        Assert.assertEquals(stripedLock.stripeOf(key), stripedLock.stripeOf(new String(key)));
+        Lock lock = stripedLock.acquire(key);
+        lock.unlock();
+        Lock other = stripedLock.acquire(new String(key));
+        other.unlock();
+        Assert.assertSame(lock, other);
+    }
+
+    @Test
+    public void testLockIsReentrant() {
+
+        StripedLock stripedLock = new StripedLock("test", 8);
+        Lock outer = stripedLock.acquire("key");
+        try {
+            Lock inner = stripedLock.acquire("key");
+            inner.unlock();
+        } finally {
+            outer.unlock();
+        }
+        Assert.assertEquals(2, stripedLock.getAcquisitionCount());
+        Assert.assertEquals(0, stripedLock.getContendedAcquisitionCount());
+    }
+
+    @Test
+    public void testContendedAcquisitionIsRecorded() throws InterruptedException {
+
+        StripedLock stripedLock = new StripedLock("test", 8);
+        CountDownLatch waiting = new CountDownLatch(1);
+        Lock lock = stripedLock.acquire("key");
+        Thread contender = new Thread(() -> {
+            waiting.countDown();
+            stripedLock.acquire("key").unlock();
+        });
+        try {
+            contender.start();
+            Assert.assertTrue(waiting.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+        } finally {
+            lock.unlock();
+        }
+        contender.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertEquals(2, stripedLock.getAcquisitionCount());
+        Assert.assertEquals(1, stripedLock.getContendedAcquisitionCount());
+        Assert.assertEquals(stripedLock.stripeOf("key"), stripedLock.getHottestStripe());
+        Assert.assertTrue(stripedLock.getMaxWaitTimeMillis() > 0);
+
+        stripedLock.resetStatistics();
+        Assert.assertEquals(0, stripedLock.getContendedAcquisitionCount());
+        Assert.assertEquals(-1, stripedLock.getHottestStripe());
+    }
+}
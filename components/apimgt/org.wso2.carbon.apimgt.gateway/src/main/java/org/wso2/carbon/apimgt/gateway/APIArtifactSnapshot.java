@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.CarbonBaseUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps a copy of the runtime artifacts retrieved from the storage on the local disk, so that a restarting gateway
+ * can deploy its APIs before they have been retrieved again.
+ * <p>
+ * There is a snapshot per tenant. It starts with a header holding the gateway labels of the artifacts, followed by
+ * one record per artifact with a CRC32 checksum, and ends with a trailer holding the number of records. Records are
+ * appended to a temporary file while the artifacts are retrieved, and the file replaces the previous snapshot only
+ * once complete, so an interrupted retrieval never leaves a partial snapshot behind. Snapshots are read through a
+ * memory mapped buffer, and are ignored when they do not match the labels or any record fails its checksum.
+ * <p>
+ * Artifacts carrying endpoint credentials or client certificates are not written to the snapshot, so that no secret
+ * is kept on the disk. Those APIs are deployed once the snapshot has been reconciled with the storage. Snapshot
+ * files are only readable and writable by their owner, on file systems that support POSIX permissions.
+ */
+public class APIArtifactSnapshot {
+
+    private static final Log log = LogFactory.getLog(APIArtifactSnapshot.class);
+    private static final int MAGIC = 0x41504953;
+    private static final int FORMAT_VERSION = 1;
+    private static final int END_OF_RECORDS = -1;
+    private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final Pattern SECRETS_PATTERN =
+            Pattern.compile("\"(?:credentialsToBeAdd|clientCertificatesToBeAdd)\"\\s*:\\s*\\[\\s*[^\\]\\s]");
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY_PERMISSIONS =
+            PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE_PERMISSIONS =
+            PosixFilePermissions.fromString("rw-------");
+
+    private final Path snapshotDirectory;
+
+    public APIArtifactSnapshot() {
+
+        this(Paths.get(CarbonBaseUtils.getCarbonHome(), "repository", "data", "apim-gateway-snapshots"));
+    }
+
+    APIArtifactSnapshot(Path snapshotDirectory) {
+
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Starts writing a new snapshot of the artifacts of a tenant.
+     *
+     * @param tenantDomain tenant domain of the artifacts
+     * @param labels       gateway labels the artifacts are retrieved for
+     * @return writer of the snapshot
+     * @throws IOException if the snapshot cannot be created
+     */
+    public Writer createWriter(String tenantDomain, String labels) throws IOException {
+
+        boolean posix = snapshotDirectory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (posix && !Files.isDirectory(snapshotDirectory)) {
+            Files.createDirectories(snapshotDirectory,
+                    PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY_PERMISSIONS));
+        } else {
+            Files.createDirectories(snapshotDirectory);
+        }
+        Path snapshotFile = getSnapshotFile(tenantDomain);
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMP_FILE_EXTENSION);
+        Files.deleteIfExists(tempFile);
+        if (posix) {
+            Files.createFile(tempFile, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE_PERMISSIONS));
+        }
+        return new Writer(snapshotFile, tempFile, labels);
+    }
+
+    /**
+     * Checks whether a runtime artifact carries endpoint credentials or client certificates.
+     *
+     * @param artifact runtime artifact
+     * @return whether the artifact carries secrets
+     */
+    static boolean containsSecrets(String artifact) {
+
+        return SECRETS_PATTERN.matcher(artifact).find();
+    }
+
+    /**
+     * Reads the snapshot of the artifacts of a tenant.
+     *
+     * @param tenantDomain tenant domain of the artifacts
+     * @param labels       gateway labels the artifacts should have been retrieved for
+     * @return artifacts in the snapshot, or null if there is no usable snapshot
+     */
+    public List<String> load(String tenantDomain, String labels) {
+
+        Path snapshotFile = getSnapshotFile(tenantDomain);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.warn("Ignoring API artifact snapshot " + snapshotFile + " as it is too large to be read");
+                return null;
+            }
+            // The file is read into the heap rather than mapped, as a mapping keeps the file from being replaced by
+            // the next snapshot on some platforms until the mapping is garbage collected.
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring API artifact snapshot " + snapshotFile + " with an unknown format");
+                return null;
+            }
+            if (!labels.equals(readString(buffer, buffer.getInt()))) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Ignoring API artifact snapshot " + snapshotFile + " of different gateway labels");
+                }
+                return null;
+            }
+            List<String> artifacts = new ArrayList<>();
+            CRC32 crc = new CRC32();
+            int length;
+            while ((length = buffer.getInt()) != END_OF_RECORDS) {
+                if (length < 0 || length > buffer.remaining()) {
+                    log.warn("Ignoring corrupted API artifact snapshot " + snapshotFile);
+                    return null;
+                }
+                byte[] artifact = new byte[length];
+                buffer.get(artifact);
+                crc.reset();
+                crc.update(artifact, 0, length);
+                if (crc.getValue() != buffer.getLong()) {
+                    log.warn("Ignoring API artifact snapshot " + snapshotFile + " as its checksum does not match");
+                    return null;
+                }
+                artifacts.add(new String(artifact, StandardCharsets.UTF_8));
+            }
+            if (buffer.getInt() != artifacts.size()) {
+                log.warn("Ignoring incomplete API artifact snapshot " + snapshotFile);
+                return null;
+            }
+            return artifacts;
+        } catch (BufferUnderflowException e) {
+            log.warn("Ignoring incomplete API artifact snapshot " + snapshotFile);
+        } catch (IOException e) {
+            log.warn("Error while reading API artifact snapshot " + snapshotFile, e);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the snapshot of the artifacts of a tenant.
+     *
+     * @param tenantDomain tenant domain of the artifacts
+     */
+    public void delete(String tenantDomain) {
+
+        try {
+            Files.deleteIfExists(getSnapshotFile(tenantDomain));
+        } catch (IOException e) {
+            log.warn("Error while deleting API artifact snapshot of tenant " + tenantDomain, e);
+        }
+    }
+
+    private Path getSnapshotFile(String tenantDomain) {
+
+        return snapshotDirectory.resolve(tenantDomain.replaceAll("[^A-Za-z0-9._-]", "_") + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends artifacts to a new snapshot. A writer that fails stops writing, so that retrieving the artifacts is not
+     * affected, and the previous snapshot is kept.
+     */
+    public static class Writer implements Closeable {
+
+        private final Path snapshotFile;
+        private final Path tempFile;
+        private final DataOutputStream outputStream;
+        private final CRC32 crc = new CRC32();
+        private int count;
+        private boolean failed;
+        private boolean closed;
+
+        private Writer(Path snapshotFile, Path tempFile, String labels) throws IOException {
+
+            this.snapshotFile = snapshotFile;
+            this.tempFile = tempFile;
+            this.outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)));
+            try {
+                byte[] labelBytes = labels.getBytes(StandardCharsets.UTF_8);
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(FORMAT_VERSION);
+                outputStream.writeInt(labelBytes.length);
+                outputStream.write(labelBytes);
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Appends an artifact to the snapshot, unless it carries secrets.
+         *
+         * @param artifact runtime artifact
+         */
+        public synchronized void append(String artifact) {
+
+            if (failed || closed || containsSecrets(artifact)) {
+                return;
+            }
+            try {
+                byte[] artifactBytes = artifact.getBytes(StandardCharsets.UTF_8);
+                crc.reset();
+                crc.update(artifactBytes, 0, artifactBytes.length);
+                outputStream.writeInt(artifactBytes.length);
+                outputStream.write(artifactBytes);
+                outputStream.writeLong(crc.getValue());
+                count++;
+            } catch (IOException e) {
+                log.warn("Error while writing API artifact snapshot " + tempFile, e);
+                failed = true;
+            }
+        }
+
+        /**
+         * Completes the snapshot and replaces the previous one with it.
+         *
+         * @return whether the snapshot was written
+         */
+        public synchronized boolean commit() {
+
+            if (failed || closed) {
+                return false;
+            }
+            try {
+                outputStream.writeInt(END_OF_RECORDS);
+                outputStream.writeInt(count);
+                outputStream.close();
+                closed = true;
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (IOException e) {
+                log.warn("Error while writing API artifact snapshot " + snapshotFile, e);
+                failed = true;
+                close();
+                return false;
+            }
+        }
+
+        /**
+         * Discards the snapshot, unless it has been committed.
+         */
+        @Override
+        public synchronized void close() {
+
+            try {
+                if (!closed) {
+                    closed = true;
+                    outputStream.close();
+                }
+            } catch (IOException e) {
+                log.warn("Error while closing API artifact snapshot " + tempFile, e);
+            }
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("Error while deleting API artifact snapshot " + tempFile, e);
+            }
+        }
+    }
+}
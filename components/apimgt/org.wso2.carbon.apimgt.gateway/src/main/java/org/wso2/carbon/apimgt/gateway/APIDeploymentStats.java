@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the deployment of the APIs retrieved from the storage, which is what keeps a starting gateway from
+ * serving traffic. The time spent in each phase is kept separately, so that a slow startup can be attributed to
+ * fetching, parsing, synapse deployment or certificate association. Parse and deploy times are summed over all
+ * the deployment threads, so with parallel deployment they can exceed the elapsed time.
+ * <p>
+ * When APIs are first deployed from the local snapshot, the time taken to deploy the snapshot is kept apart from
+ * the time taken to reconcile it with the storage, so that both can be compared with a full synchronization.
+ * <p>
+ * The counters are registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=APIDeploymentStats}.
+ */
+public final class APIDeploymentStats implements APIDeploymentStatsMXBean {
+
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=APIDeploymentStats";
+    private static final APIDeploymentStats instance = new APIDeploymentStats(true);
+
+    private final LongAdder retrievedArtifactCount = new LongAdder();
+    private final LongAdder deployedAPICount = new LongAdder();
+    private final LongAdder failedAPICount = new LongAdder();
+    private final LongAdder fetchTime = new LongAdder();
+    private final LongAdder parseTime = new LongAdder();
+    private final LongAdder synapseDeployTime = new LongAdder();
+    private final LongAdder certificateAssociationTime = new LongAdder();
+    private final LongAdder snapshotArtifactCount = new LongAdder();
+    private final LongAdder snapshotLoadTime = new LongAdder();
+    private final LongAdder reconciledAPICount = new LongAdder();
+    private final LongAdder reconciliationTime = new LongAdder();
+    private final LongAdder reconciliationRetryCount = new LongAdder();
+    private final LongAdder failedReconciliationCount = new LongAdder();
+    private final AtomicLong startTime = new AtomicLong();
+    private final AtomicLong endTime = new AtomicLong();
+
+    APIDeploymentStats(boolean registerMBean) {
+
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    public static APIDeploymentStats getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Marks the start of deploying the APIs of a tenant.
+     */
+    public void deploymentStarted() {
+
+        startTime.compareAndSet(0, System.nanoTime());
+    }
+
+    /**
+     * Marks the end of deploying the APIs of a tenant.
+     */
+    public void deploymentCompleted() {
+
+        endTime.set(System.nanoTime());
+    }
+
+    public void artifactRetrieved() {
+
+        retrievedArtifactCount.increment();
+    }
+
+    public void apiDeployed() {
+
+        deployedAPICount.increment();
+    }
+
+    public void apiFailed() {
+
+        failedAPICount.increment();
+    }
+
+    public void addFetchTime(long nanos) {
+
+        fetchTime.add(nanos);
+    }
+
+    public void addParseTime(long nanos) {
+
+        parseTime.add(nanos);
+    }
+
+    public void addSynapseDeployTime(long nanos) {
+
+        synapseDeployTime.add(nanos);
+    }
+
+    public void addCertificateAssociationTime(long nanos) {
+
+        certificateAssociationTime.add(nanos);
+    }
+
+    public void addSnapshotLoad(int artifactCount, long nanos) {
+
+        snapshotArtifactCount.add(artifactCount);
+        snapshotLoadTime.add(nanos);
+    }
+
+    public void addReconciliation(int apiCount, long nanos) {
+
+        reconciledAPICount.add(apiCount);
+        reconciliationTime.add(nanos);
+    }
+
+    public void reconciliationRetried() {
+
+        reconciliationRetryCount.increment();
+    }
+
+    public void reconciliationFailed() {
+
+        failedReconciliationCount.increment();
+    }
+
+    @Override
+    public boolean isAllAPIsDeployed() {
+
+        return DataHolder.getInstance().isAllApisDeployed();
+    }
+
+    @Override
+    public long getRetrievedArtifactCount() {
+
+        return retrievedArtifactCount.sum();
+    }
+
+    @Override
+    public long getDeployedAPICount() {
+
+        return deployedAPICount.sum();
+    }
+
+    @Override
+    public long getFailedAPICount() {
+
+        return failedAPICount.sum();
+    }
+
+    @Override
+    public long getElapsedTime() {
+
+        long start = startTime.get();
+        if (start == 0) {
+            return 0;
+        }
+        long end = endTime.get();
+        return TimeUnit.NANOSECONDS.toMillis((end - start > 0 ? end : System.nanoTime()) - start);
+    }
+
+    @Override
+    public long getFetchTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(fetchTime.sum());
+    }
+
+    @Override
+    public long getParseTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(parseTime.sum());
+    }
+
+    @Override
+    public long getSynapseDeployTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(synapseDeployTime.sum());
+    }
+
+    @Override
+    public long getCertificateAssociationTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(certificateAssociationTime.sum());
+    }
+
+    @Override
+    public long getSnapshotArtifactCount() {
+
+        return snapshotArtifactCount.sum();
+    }
+
+    @Override
+    public long getSnapshotLoadTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(snapshotLoadTime.sum());
+    }
+
+    @Override
+    public long getReconciledAPICount() {
+
+        return reconciledAPICount.sum();
+    }
+
+    @Override
+    public long getReconciliationTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(reconciliationTime.sum());
+    }
+
+    @Override
+    public long getReconciliationRetryCount() {
+
+        return reconciliationRetryCount.sum();
+    }
+
+    @Override
+    public long getFailedReconciliationCount() {
+
+        return failedReconciliationCount.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        retrievedArtifactCount.reset();
+        deployedAPICount.reset();
+        failedAPICount.reset();
+        fetchTime.reset();
+        parseTime.reset();
+        synapseDeployTime.reset();
+        certificateAssociationTime.reset();
+        snapshotArtifactCount.reset();
+        snapshotLoadTime.reset();
+        reconciledAPICount.reset();
+        reconciliationTime.reset();
+        reconciliationRetryCount.reset();
+        failedReconciliationCount.reset();
+        startTime.set(0);
+        endTime.set(0);
+    }
+
+    @Override
+    public String toString() {
+
+        return "retrieved: " + getRetrievedArtifactCount() + ", deployed: " + getDeployedAPICount() + ", failed: "
+                + getFailedAPICount() + ", elapsed(ms): " + getElapsedTime() + ", fetch(ms): " + getFetchTime()
+                + ", parse(ms): " + getParseTime() + ", synapse deploy(ms): " + getSynapseDeployTime()
+                + ", certificate association(ms): " + getCertificateAssociationTime() + ", snapshot artifacts: "
+                + getSnapshotArtifactCount() + ", snapshot load(ms): " + getSnapshotLoadTime() + ", reconciled: "
+                + getReconciledAPICount() + ", reconciliation(ms): " + getReconciliationTime()
+                + ", reconciliation retries: " + getReconciliationRetryCount() + ", failed reconciliations: "
+                + getFailedReconciliationCount();
+    }
+}
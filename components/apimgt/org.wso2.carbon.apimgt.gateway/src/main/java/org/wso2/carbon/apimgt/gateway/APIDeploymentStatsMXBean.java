@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+/**
+ * JMX view of the progress of deploying the APIs retrieved from the storage, see {@link APIDeploymentStats}.
+ */
+public interface APIDeploymentStatsMXBean {
+
+    /**
+     * @return whether the APIs of all the tenants loaded at startup have been deployed
+     */
+    boolean isAllAPIsDeployed();
+
+    /**
+     * @return number of API artifacts retrieved from the storage
+     */
+    long getRetrievedArtifactCount();
+
+    /**
+     * @return number of APIs deployed from the retrieved artifacts
+     */
+    long getDeployedAPICount();
+
+    /**
+     * @return number of retrieved artifacts which could not be deployed
+     */
+    long getFailedAPICount();
+
+    /**
+     * @return time from the start of the first deployment to the end of the last one, in milliseconds
+     */
+    long getElapsedTime();
+
+    /**
+     * @return time spent retrieving artifacts from the storage, in milliseconds
+     */
+    long getFetchTime();
+
+    /**
+     * @return total time spent parsing artifacts, in milliseconds
+     */
+    long getParseTime();
+
+    /**
+     * @return total time spent deploying the synapse artifacts of APIs, in milliseconds
+     */
+    long getSynapseDeployTime();
+
+    /**
+     * @return total time spent associating the client certificates of APIs, in milliseconds
+     */
+    long getCertificateAssociationTime();
+
+    /**
+     * @return number of API artifacts deployed from the local snapshot
+     */
+    long getSnapshotArtifactCount();
+
+    /**
+     * @return time spent reading and deploying the local snapshot, in milliseconds
+     */
+    long getSnapshotLoadTime();
+
+    /**
+     * @return number of APIs deployed or undeployed while reconciling the local snapshot with the storage
+     */
+    long getReconciledAPICount();
+
+    /**
+     * @return time spent reconciling the local snapshot with the storage, in milliseconds
+     */
+    long getReconciliationTime();
+
+    /**
+     * @return number of times reconciling a local snapshot with the storage failed and was retried
+     */
+    long getReconciliationRetryCount();
+
+    /**
+     * @return number of local snapshots which could not be reconciled with the storage after all the retries
+     */
+    long getFailedReconciliationCount();
+
+    /**
+     * Resets all the counters.
+     */
+    void resetStatistics();
+}
@@ -78,6 +78,8 @@ public class APIMgtGatewayConstants {
     public static final String TRANSPORT_HEADERS = "TRANSPORT_HEADERS";
     public static final String REGEX_THREAT_PROTECTOR_ENABLED_TENANTS = "regexThreatProtectorEnabledTenants";
     public static final String PAYLOAD_SIZE_LIMIT_FOR_REGEX_TREAT_PROTECTOR = "payloadSizeLimitForRegexThreatProtector";
+    public static final String GRAPHQL_QUERY_CACHE_ENTRY = "GRAPHQL_QUERY_CACHE_ENTRY";
+    public static final String GRAPHQL_PERSISTED_QUERY_HASH = "GRAPHQL_PERSISTED_QUERY_HASH";
 
     /**
      * Constants for handling threat protection exceptions.
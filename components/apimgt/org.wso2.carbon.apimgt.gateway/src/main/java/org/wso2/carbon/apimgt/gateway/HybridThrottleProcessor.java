@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.commons.throttle.core.*;
 import org.apache.synapse.commons.throttle.core.internal.DistributedThrottleProcessor;
 import org.apache.synapse.commons.throttle.core.internal.ThrottleServiceDataHolder;
+import org.wso2.carbon.apimgt.common.gateway.util.StripedLock;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.throttling.util.ThrottleUtils;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
@@ -37,6 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
  * This class is responsible for processing throttle conditions in order to throttle based on subscription burst
@@ -54,6 +56,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
     private ThrottleDataHolder dataHolder;
     private String gatewayId;
     private static final String SYNC_MODE_MSG_PART_DELIMITER = "___";
+    private static final StripedLock callerContextLocks = StripedLock.getInstance("HybridThrottleProcessor",
+            StripedLock.DEFAULT_STRIPE_COUNT);
 
     public HybridThrottleProcessor() {
         redisPool = ServiceReferenceHolder.getInstance().getRedisPool();
@@ -139,7 +143,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                 log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
                                         + " message:" + syncModeInitMsg);
                             }
-                            synchronized (callerContext.getId().intern()) {
+                            Lock lock = callerContextLocks.acquire(callerContext.getId());
+                            try {
                                 if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                                     long syncingStartTime = System.currentTimeMillis();
                                     syncThrottleWindowParams(callerContext, false);
@@ -161,6 +166,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                                 + " message:" + syncModeInitMsg);
                                     }
                                 }
+                            } finally {
+                                lock.unlock();
                             }
                         } else {
                             if (log.isTraceEnabled()) {
@@ -283,7 +290,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("DataHolder is not null so running syncing tasks");
                 }
-                synchronized (callerContext.getId().intern()) {
+                Lock lock = callerContextLocks.acquire(callerContext.getId());
+                try {
                     if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                         long syncingStartTime = System.currentTimeMillis();
                         syncThrottleWindowParams(callerContext, true);
@@ -303,6 +311,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                     + callerContext.getId());
                         }
                     }
+                } finally {
+                    lock.unlock();
                 }
             }
             if (log.isDebugEnabled()) {
@@ -344,7 +354,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("Going to run throttle param syncing in sync mode");
                 }
-                synchronized (callerContext.getId().intern()) {
+                Lock lock = callerContextLocks.acquire(callerContext.getId());
+                try {
                     if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                         long syncingStartTime = System.currentTimeMillis();
                         syncThrottleWindowParams(callerContext, true);
@@ -367,6 +378,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                             // where incrementing should have happened (https://github.com/wso2/api-manager/issues/1982#issuecomment-1624920455)
                         }
                     }
+                } finally {
+                    lock.unlock();
                 }
             } else { //async mode
                 if (log.isTraceEnabled()) {
@@ -559,7 +572,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
             if (log.isTraceEnabled()) {
                 log.trace("Going to run throttle param syncing");
             }
-            synchronized (callerContext.getId().intern()) {
+            Lock lock = callerContextLocks.acquire(callerContext.getId());
+            try {
                 if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                     long syncingStartTime = System.currentTimeMillis();
                     syncThrottleWindowParams(callerContext, true);
@@ -584,6 +598,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                     // (https://github.com/wso2/api-manager/issues/1982#issuecomment-1624920455)
                     callerContext.incrementLocalCounter();
                 }
+            } finally {
+                lock.unlock();
             }
         } else {
             if (log.isTraceEnabled()) {
@@ -746,7 +762,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
         if (log.isTraceEnabled()) {
             log.trace("When running syncing throttle counter params: isInvocationFlow = " + isInvocationFlow);
         }
-        synchronized (callerContext.getId().intern()) {
+        Lock lock = callerContextLocks.acquire(callerContext.getId());
+        try {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle counter params: next time window = "
@@ -798,6 +815,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 log.debug("Latency for running syncing throttle counter params: " + (System.currentTimeMillis()
                         - syncingStartTime) + " ms for callerContext " + callerContext.getId());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -806,7 +825,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
      */
     @Override
     public void syncThrottleWindowParams(CallerContext callerContext, boolean isInvocationFlow) {
-        synchronized (callerContext.getId().intern()) {
+        Lock lock = callerContextLocks.acquire(callerContext.getId());
+        try {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle window params: isInvocationFlow = " + isInvocationFlow);
@@ -912,6 +932,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 log.debug("Latency for running syncing throttle window params: " + (System.currentTimeMillis()
                         - syncingStartTime) + " ms for callerContext " + callerContext.getId());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -26,6 +26,7 @@ import graphql.schema.idl.UnExecutableSchemaGenerator;
 import org.apache.axis2.AxisFault;
 import org.apache.axis2.context.MessageContext;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +41,8 @@ import org.wso2.carbon.apimgt.api.model.API;
 import org.wso2.carbon.apimgt.api.model.APIIdentifier;
 import org.wso2.carbon.apimgt.api.model.APIProductIdentifier;
 import org.wso2.carbon.apimgt.common.gateway.constants.JWTConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.graphQL.GraphQLPersistedQueryStore;
+import org.wso2.carbon.apimgt.gateway.handlers.security.OpenAPIValidatorRegistry;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.service.APIGatewayAdmin;
@@ -59,11 +62,24 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -71,6 +87,9 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final Gson gson = new Gson();
+    private static final int SNAPSHOT_RECONCILIATION_ATTEMPTS = 5;
+    private static final long SNAPSHOT_RECONCILIATION_RETRY_INTERVAL = TimeUnit.SECONDS.toMillis(10);
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
 
@@ -105,6 +124,7 @@ public class InMemoryAPIDeployer {
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().addAPIMetaData(gatewayEvent);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+                OpenAPIValidatorRegistry.getInstance().evict(apiId);
                 if (log.isDebugEnabled()) {
                     log.debug("API with " + apiId + " is deployed in gateway with the labels " + String.join(",",
                             gatewayLabels));
@@ -141,6 +161,7 @@ public class InMemoryAPIDeployer {
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+                OpenAPIValidatorRegistry.getInstance().evict(apiId);
                 if (log.isDebugEnabled()) {
                     log.debug("API with " + apiId + " is deployed in gateway with the labels " + String.join(",",
                             gatewayLabels));
@@ -189,9 +210,203 @@ public class InMemoryAPIDeployer {
 
     public boolean deployAllAPIsAtGatewayStartup(Set<String> assignedGatewayLabels, String tenantDomain)
             throws ArtifactSynchronizerException {
+
+        if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()
+                && gatewayArtifactSynchronizerProperties.isSnapshotEnabled() && artifactRetriever != null
+                && deployAllAPIsFromSnapshot(assignedGatewayLabels, tenantDomain)) {
+            return true;
+        }
         return deployAllAPIs(assignedGatewayLabels, tenantDomain, false);
     }
 
+    /**
+     * Deploys the APIs of a tenant from the local snapshot, and reconciles them with the storage in the background.
+     *
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @return false if there is no usable snapshot, or none of its APIs could be deployed
+     */
+    private boolean deployAllAPIsFromSnapshot(Set<String> assignedGatewayLabels, String tenantDomain) {
+
+        long loadStartTime = System.nanoTime();
+        List<String> snapshotArtifacts = new APIArtifactSnapshot().load(tenantDomain,
+                getSnapshotLabels(assignedGatewayLabels));
+        if (snapshotArtifacts == null) {
+            return false;
+        }
+        try {
+            deployJWKSSynapseAPI(tenantDomain);
+        } catch (APIManagementException e) {
+            log.error("Error while deploying JWKS API for tenant domain :" + tenantDomain, e);
+        }
+        // Reconciliation skips the artifacts which are identical to the ones deployed from the snapshot
+        Map<String, GatewayAPIDTO> snapshotAPIs = new HashMap<>();
+        int errorCount = 0;
+        try {
+            MessageContext.setCurrentMessageContext(
+                    org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
+            for (String runtimeArtifact : snapshotArtifacts) {
+                GatewayAPIDTO gatewayAPIDTO = gson.fromJson(runtimeArtifact, GatewayAPIDTO.class);
+                try {
+                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                } catch (AxisFault e) {
+                    log.error("Error in deploying " + gatewayAPIDTO.getName() + " from the snapshot", e);
+                    errorCount++;
+                    continue;
+                }
+                GatewayAPIDTO deployedAPI = new GatewayAPIDTO();
+                deployedAPI.setApiId(gatewayAPIDTO.getApiId());
+                deployedAPI.setName(gatewayAPIDTO.getName());
+                deployedAPI.setVersion(gatewayAPIDTO.getVersion());
+                deployedAPI.setProvider(gatewayAPIDTO.getProvider());
+                deployedAPI.setApiContext(gatewayAPIDTO.getApiContext());
+                snapshotAPIs.put(DigestUtils.sha256Hex(runtimeArtifact), deployedAPI);
+            }
+        } catch (AxisFault | RuntimeException e) {
+            log.error("Error while deploying APIs from the snapshot of tenant " + tenantDomain, e);
+            return false;
+        } finally {
+            MessageContext.destroyCurrentMessageContext();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        if (!snapshotArtifacts.isEmpty() && errorCount == snapshotArtifacts.size()) {
+            return false;
+        }
+        DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+        APIDeploymentStats.getInstance().addSnapshotLoad(snapshotArtifacts.size(), System.nanoTime() - loadStartTime);
+        log.info("Deployed " + (snapshotArtifacts.size() - errorCount) + " API artifacts of tenant " + tenantDomain
+                + " from the snapshot in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartTime)
+                + " ms. Reconciling them with the storage in the background");
+        Thread reconciliationThread = new Thread(() -> reconcileSnapshot(assignedGatewayLabels, tenantDomain,
+                snapshotAPIs), "APISnapshotReconciliation-" + tenantDomain);
+        reconciliationThread.setDaemon(true);
+        reconciliationThread.start();
+        return true;
+    }
+
+    /**
+     * Reconciles the APIs deployed from the snapshot with the storage, retrying with an increasing interval while
+     * the storage cannot be reached. The APIs deployed from the snapshot are kept if every attempt fails.
+     *
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @param snapshotAPIs          APIs deployed from the snapshot, by the digest of their artifacts
+     */
+    private void reconcileSnapshot(Set<String> assignedGatewayLabels, String tenantDomain,
+                                   Map<String, GatewayAPIDTO> snapshotAPIs) {
+
+        long retryInterval = SNAPSHOT_RECONCILIATION_RETRY_INTERVAL;
+        for (int attempt = 1; !tryReconcileSnapshot(assignedGatewayLabels, tenantDomain, new HashMap<>(snapshotAPIs));
+             attempt++) {
+            if (attempt == SNAPSHOT_RECONCILIATION_ATTEMPTS) {
+                APIDeploymentStats.getInstance().reconciliationFailed();
+                log.error("Unable to reconcile the API snapshot of tenant " + tenantDomain + " with the storage after "
+                        + attempt + " attempts. The APIs deployed from the snapshot are kept");
+                return;
+            }
+            APIDeploymentStats.getInstance().reconciliationRetried();
+            log.warn("Retrying to reconcile the API snapshot of tenant " + tenantDomain + " in " + retryInterval
+                    + " ms");
+            try {
+                Thread.sleep(retryInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryInterval *= 2;
+        }
+    }
+
+    /**
+     * Deploys the APIs which have changed in the storage since the snapshot was taken, and undeploys the ones which
+     * are no longer in the storage. The retrieved artifacts replace the snapshot.
+     *
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @param snapshotAPIs          APIs deployed from the snapshot, by the digest of their artifacts
+     * @return whether the snapshot was reconciled
+     */
+    private boolean tryReconcileSnapshot(Set<String> assignedGatewayLabels, String tenantDomain,
+                                         Map<String, GatewayAPIDTO> snapshotAPIs) {
+
+        long reconciliationStartTime = System.nanoTime();
+        Set<String> retrievedApiIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger changedAPICount = new AtomicInteger();
+        Predicate<String> changedArtifactFilter = runtimeArtifact -> {
+            GatewayAPIDTO snapshotAPI = snapshotAPIs.remove(DigestUtils.sha256Hex(runtimeArtifact));
+            if (snapshotAPI != null) {
+                retrievedApiIds.add(snapshotAPI.getApiId());
+                return false;
+            }
+            retrievedApiIds.add(gson.fromJson(runtimeArtifact, GatewayAPIDTO.class).getApiId());
+            changedAPICount.incrementAndGet();
+            return true;
+        };
+        try {
+            if (!deployAllAPIs(assignedGatewayLabels, tenantDomain, false, changedArtifactFilter)) {
+                log.error("Unable to reconcile the API snapshot of tenant " + tenantDomain + " with the storage");
+                return false;
+            }
+            for (GatewayAPIDTO snapshotAPI : snapshotAPIs.values()) {
+                if (!retrievedApiIds.contains(snapshotAPI.getApiId())) {
+                    unDeployRemovedAPI(snapshotAPI, assignedGatewayLabels, tenantDomain);
+                    changedAPICount.incrementAndGet();
+                }
+            }
+            APIDeploymentStats.getInstance().addReconciliation(changedAPICount.get(),
+                    System.nanoTime() - reconciliationStartTime);
+            log.info("Reconciled the API snapshot of tenant " + tenantDomain + " with the storage. "
+                    + changedAPICount.get() + " API(s) were changed");
+            return true;
+        } catch (ArtifactSynchronizerException | RuntimeException e) {
+            log.error("Error while reconciling the API snapshot of tenant " + tenantDomain, e);
+            return false;
+        }
+    }
+
+    /**
+     * Undeploys an API deployed from the snapshot, which is no longer deployed in the gateway labels.
+     */
+    private void unDeployRemovedAPI(GatewayAPIDTO snapshotAPI, Set<String> assignedGatewayLabels,
+                                    String tenantDomain) throws ArtifactSynchronizerException {
+
+        // The type of the API is only known if the API still exists, otherwise it is undeployed as a REST API
+        String apiType = null;
+        int apiId = 0;
+        Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap =
+                DataHolder.getInstance().getTenantAPIMap().get(tenantDomain);
+        org.wso2.carbon.apimgt.keymgt.model.entity.API api =
+                apiMap != null ? apiMap.get(snapshotAPI.getApiContext()) : null;
+        if (api != null) {
+            apiType = api.getApiType();
+            apiId = api.getApiId();
+        }
+        log.info("Undeploying API " + snapshotAPI.getName() + ":" + snapshotAPI.getVersion()
+                + " deployed from the snapshot, as it is no longer in the storage");
+        DeployAPIInGatewayEvent deployAPIInGatewayEvent =
+                new DeployAPIInGatewayEvent(UUID.randomUUID().toString(), System.currentTimeMillis(),
+                        APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(), tenantDomain, apiId,
+                        snapshotAPI.getApiId(), assignedGatewayLabels, snapshotAPI.getName(),
+                        snapshotAPI.getVersion(), snapshotAPI.getProvider(), apiType, snapshotAPI.getApiContext(),
+                        new HashSet<>());
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            unDeployAPI(deployAPIInGatewayEvent);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        DataHolder.getInstance().removeAPIFromAllTenantMap(snapshotAPI.getApiContext(), tenantDomain);
+    }
+
+    private static String getSnapshotLabels(Set<String> assignedGatewayLabels) {
+
+        return String.join("|", new TreeSet<>(assignedGatewayLabels));
+    }
+
     /**
      * Deploy an API in the gateway using the deployAPI method in gateway admin.
      *
@@ -203,6 +418,17 @@ public class InMemoryAPIDeployer {
     public boolean deployAllAPIs(Set<String> assignedGatewayLabels, String tenantDomain,
                                                  boolean redeployChangedAPIs) throws ArtifactSynchronizerException {
 
+        return deployAllAPIs(assignedGatewayLabels, tenantDomain, redeployChangedAPIs, runtimeArtifact -> true);
+    }
+
+    /**
+     * Deploys the APIs retrieved from the storage which are accepted by the filter. When the snapshot is enabled,
+     * all the retrieved artifacts, including the ones rejected by the filter, are written to the snapshot.
+     */
+    private boolean deployAllAPIs(Set<String> assignedGatewayLabels, String tenantDomain,
+                                  boolean redeployChangedAPIs, Predicate<String> artifactFilter)
+            throws ArtifactSynchronizerException {
+
         boolean result = false;
         Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap = null;
 
@@ -215,8 +441,11 @@ public class InMemoryAPIDeployer {
         }
         if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
             if (artifactRetriever != null) {
+                APIDeploymentStats deploymentStats = APIDeploymentStats.getInstance();
+                ExecutorService deploymentExecutor = null;
+                APIArtifactSnapshot.Writer snapshotWriter = null;
                 try {
-                    int errorCount = 0;
+                    AtomicInteger errorCount = new AtomicInteger();
                     String labelString = String.join("|", assignedGatewayLabels);
                     String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
 
@@ -226,59 +455,93 @@ public class InMemoryAPIDeployer {
                     PrivilegedCarbonContext.startTenantFlow();
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .setTenantDomain(tenantDomain, true);
-                    List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
-                            .retrieveAllArtifacts(encodedString, tenantDomain);
-                    if (gatewayRuntimeArtifacts.isEmpty()) {
-                        return true;
-                    }
                     if (redeployChangedAPIs) {
                         DataHolder dataHolder = DataHolder.getInstance();
                         apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
-                        try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
-                                if (redeployChangedAPIs && apiMap != null) {
-                                    org.wso2.carbon.apimgt.keymgt.model.entity.API api =
-                                            apiMap.get(gatewayAPIDTO.getApiContext());
-                                    // Here, we redeploy APIs only if there is a new revision deployed in the
-                                    // Control Plane and not synced with the gateway due to connection issues.
-                                    if (api != null && api.getRevisionId() != null &&
-                                            (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
-                                        DeployAPIInGatewayEvent deployAPIInGatewayEvent =
-                                                new DeployAPIInGatewayEvent(UUID.randomUUID().toString(),
-                                                        System.currentTimeMillis(),
-                                                        APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(),
-                                                        tenantDomain, api.getApiId(), api.getUuid(),
-                                                        assignedGatewayLabels, api.getName(), api.getVersion(),
-                                                        api.getApiProvider(), api.getApiType(), api.getContext());
-                                        unDeployAPI(deployAPIInGatewayEvent);
-                                        deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                    } else {
-                                        if (log.isDebugEnabled()) {
-                                            log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
-                                        }
-                                    }
-                                } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                    // Redeploying changed APIs undeploys them and updates the API metadata, so it is kept sequential
+                    int threadCount = redeployChangedAPIs ? 1
+                            : gatewayArtifactSynchronizerProperties.getDeploymentThreadCount();
+                    Consumer<String> artifactConsumer;
+                    if (threadCount > 1) {
+                        deploymentExecutor = Executors.newFixedThreadPool(threadCount, new DeploymentThreadFactory());
+                        // Limit the artifacts waiting to be deployed, so that retrieval does not run far ahead
+                        Semaphore pendingDeployments = new Semaphore(threadCount * 2);
+                        ExecutorService executor = deploymentExecutor;
+                        artifactConsumer = runtimeArtifact -> {
+                            pendingDeployments.acquireUninterruptibly();
+                            executor.execute(() -> {
+                                try {
+                                    deployRuntimeArtifactInTenantFlow(runtimeArtifact, tenantDomain, errorCount);
+                                } finally {
+                                    pendingDeployments.release();
                                 }
+                            });
+                        };
+                    } else {
+                        Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> tenantAPIMap = apiMap;
+                        artifactConsumer = runtimeArtifact -> {
+                            if (!deployRuntimeArtifact(runtimeArtifact, tenantAPIMap, assignedGatewayLabels,
+                                    tenantDomain, apiGatewayAdmin)) {
+                                errorCount.incrementAndGet();
                             }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
+                        };
+                    }
+
+                    if (!redeployChangedAPIs && gatewayArtifactSynchronizerProperties.isSnapshotEnabled()) {
+                        try {
+                            snapshotWriter = new APIArtifactSnapshot().createWriter(tenantDomain,
+                                    getSnapshotLabels(assignedGatewayLabels));
+                        } catch (IOException e) {
+                            log.warn("Unable to create the API artifact snapshot of tenant " + tenantDomain, e);
+                        }
+                    }
+                    APIArtifactSnapshot.Writer artifactSnapshotWriter = snapshotWriter;
+
+                    deploymentStats.deploymentStarted();
+                    LongAdder consumerTime = new LongAdder();
+                    Consumer<String> timedArtifactConsumer = runtimeArtifact -> {
+                        long consumerStartTime = System.nanoTime();
+                        deploymentStats.artifactRetrieved();
+                        if (artifactSnapshotWriter != null) {
+                            artifactSnapshotWriter.append(runtimeArtifact);
                         }
+                        if (artifactFilter.test(runtimeArtifact)) {
+                            artifactConsumer.accept(runtimeArtifact);
+                        }
+                        consumerTime.add(System.nanoTime() - consumerStartTime);
+                    };
+                    long fetchStartTime = System.nanoTime();
+                    // Only APIs with a new revision are redeployed, so pages without revision changes can be skipped
+                    int artifactCount = redeployChangedAPIs
+                            ? artifactRetriever.retrieveChangedArtifacts(encodedString, tenantDomain,
+                            timedArtifactConsumer)
+                            : artifactRetriever.retrieveAllArtifacts(encodedString, tenantDomain,
+                            timedArtifactConsumer);
+                    deploymentStats.addFetchTime(System.nanoTime() - fetchStartTime - consumerTime.sum());
+                    if (deploymentExecutor != null) {
+                        awaitDeployments(deploymentExecutor);
+                        deploymentExecutor = null;
+                    }
+                    deploymentStats.deploymentCompleted();
+                    if (artifactSnapshotWriter != null) {
+                        // Artifacts which failed to deploy are kept, since they are deployed again from the snapshot
+                        artifactSnapshotWriter.commit();
+                    }
+                    if (artifactCount == 0) {
+                        return true;
                     }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
                     DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+                    log.info("Deployed " + artifactCount + " API artifacts for tenant " + tenantDomain
+                            + " with " + threadCount + " thread(s). Deployment statistics " + deploymentStats);
                     if (log.isDebugEnabled()) {
                         log.debug("APIs deployed in gateway with the labels of " + labelString);
                     }
                     result = true;
                     //Setting the result to false only if all the API deployments are failed
-                    if (gatewayRuntimeArtifacts.size() == errorCount) {
+                    if (artifactCount == errorCount.get()) {
                         return false;
                     }
                 } catch (AxisFault e) {
@@ -286,6 +549,13 @@ public class InMemoryAPIDeployer {
                     log.error(msg, e);
                     return false;
                 } finally {
+                    if (deploymentExecutor != null) {
+                        // Do not let deployments of a failed attempt overlap with a retry
+                        awaitDeployments(deploymentExecutor);
+                    }
+                    if (snapshotWriter != null) {
+                        snapshotWriter.close();
+                    }
                     MessageContext.destroyCurrentMessageContext();
                     PrivilegedCarbonContext.endTenantFlow();
                 }
@@ -298,17 +568,131 @@ public class InMemoryAPIDeployer {
         return result;
     }
 
+    /**
+     * Deploys a runtime artifact retrieved from the storage.
+     *
+     * @param runtimeArtifact       runtime artifact of the API
+     * @param apiMap                APIs of the tenant, when only APIs with a new revision should be redeployed
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the API
+     * @param apiGatewayAdmin       gateway admin used to deploy the API
+     * @return false if the API could not be deployed
+     */
+    private boolean deployRuntimeArtifact(String runtimeArtifact,
+                                          Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                          Set<String> assignedGatewayLabels, String tenantDomain,
+                                          APIGatewayAdmin apiGatewayAdmin) {
+
+        if (StringUtils.isEmpty(runtimeArtifact)) {
+            return true;
+        }
+        APIDeploymentStats deploymentStats = APIDeploymentStats.getInstance();
+        GatewayAPIDTO gatewayAPIDTO = null;
+        try {
+            long parseStartTime = System.nanoTime();
+            gatewayAPIDTO = gson.fromJson(runtimeArtifact, GatewayAPIDTO.class);
+            deploymentStats.addParseTime(System.nanoTime() - parseStartTime);
+            if (apiMap != null) {
+                org.wso2.carbon.apimgt.keymgt.model.entity.API api = apiMap.get(gatewayAPIDTO.getApiContext());
+                // Here, we redeploy APIs only if there is a new revision deployed in the
+                // Control Plane and not synced with the gateway due to connection issues.
+                if (api != null && api.getRevisionId() != null &&
+                        (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
+                    DeployAPIInGatewayEvent deployAPIInGatewayEvent =
+                            new DeployAPIInGatewayEvent(UUID.randomUUID().toString(), System.currentTimeMillis(),
+                                    APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(), tenantDomain,
+                                    api.getApiId(), api.getUuid(), assignedGatewayLabels, api.getName(),
+                                    api.getVersion(), api.getApiProvider(), api.getApiType(), api.getContext());
+                    unDeployAPI(deployAPIInGatewayEvent);
+                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
+                    }
+                }
+            } else {
+                deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+            }
+            deploymentStats.apiDeployed();
+            return true;
+        } catch (AxisFault | ArtifactSynchronizerException e) {
+            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", e);
+            deploymentStats.apiFailed();
+            return false;
+        }
+    }
+
+    /**
+     * Deploys a runtime artifact on a deployment thread, which needs its own tenant flow and message context.
+     *
+     * @param runtimeArtifact runtime artifact of the API
+     * @param tenantDomain    tenant domain of the API
+     * @param errorCount      number of artifacts which could not be deployed
+     */
+    private void deployRuntimeArtifactInTenantFlow(String runtimeArtifact, String tenantDomain,
+                                                   AtomicInteger errorCount) {
+
+        try {
+            MessageContext.setCurrentMessageContext(
+                    org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            if (!deployRuntimeArtifact(runtimeArtifact, null, null, tenantDomain, new APIGatewayAdmin())) {
+                errorCount.incrementAndGet();
+            }
+        } catch (AxisFault | RuntimeException e) {
+            log.error("Error in deploying an API artifact to the Gateway ", e);
+            APIDeploymentStats.getInstance().apiFailed();
+            errorCount.incrementAndGet();
+        } finally {
+            MessageContext.destroyCurrentMessageContext();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void awaitDeployments(ExecutorService deploymentExecutor) {
+
+        deploymentExecutor.shutdown();
+        try {
+            if (!deploymentExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                log.warn("API deployment threads did not terminate");
+            }
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting for API deployments to complete", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
         log.info("Deploying synapse artifacts of API ID: " + gatewayAPIDTO.getApiId() +
                 " and Context: " + gatewayAPIDTO.getApiContext());
+        APIDeploymentStats deploymentStats = APIDeploymentStats.getInstance();
+        long deployStartTime = System.nanoTime();
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
+        long certificateAssociationStartTime = System.nanoTime();
+        deploymentStats.addSynapseDeployTime(certificateAssociationStartTime - deployStartTime);
         addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
+        deploymentStats.addCertificateAssociationTime(System.nanoTime() - certificateAssociationStartTime);
         addDeployedGraphqlQLToAPI(gatewayAPIDTO);
         DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
                 gatewayAPIDTO.getKeyManagers());
         DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+        OpenAPIValidatorRegistry.getInstance().evict(gatewayAPIDTO.getApiId());
     }
 
+    /**
+     * Names the threads deploying APIs retrieved from the storage.
+     */
+    private static class DeploymentThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            return new Thread(runnable, "APIDeploymentThread-" + threadNumber.getAndIncrement());
+        }
+    }
 
     private void unDeployAPI(APIGatewayAdmin apiGatewayAdmin, DeployAPIInGatewayEvent gatewayEvent)
             throws AxisFault {
@@ -360,6 +744,8 @@ public class InMemoryAPIDeployer {
                 apiGatewayAdmin.unDeployAPI(gatewayAPIDTO);
                 DataHolder.getInstance().getApiToCertificatesMap().remove(gatewayEvent.getUuid());
                 DataHolder.getInstance().removeKeyManagerToAPIMapping(gatewayAPIDTO.getApiId());
+                OpenAPIValidatorRegistry.getInstance().evict(gatewayEvent.getUuid());
+                GraphQLPersistedQueryStore.getInstance().evict(gatewayEvent.getUuid());
             }
     }
 
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded queue of the analytics events of completed requests, collected and published by a fixed number of worker
+ * threads instead of the threads that mediate the requests. The workers take the events from the queue in batches.
+ * <p>
+ * When the queue is full, the {@link DropPolicy} decides whether the new event is discarded, the oldest queued event
+ * is discarded to make room for it, or the new event is collected on the thread that adds it. The number of events
+ * queued, collected, dropped and failed is registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=AnalyticsEventQueue}.
+ */
+public class AnalyticsEventQueue implements AnalyticsEventQueueMXBean {
+
+    private static final Log log = LogFactory.getLog(AnalyticsEventQueue.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=AnalyticsEventQueue";
+    private static final int BATCH_SIZE = 100;
+    private static final long POLL_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * What to do with an event added while the queue is full.
+     */
+    public enum DropPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST,
+        CALLER_RUNS
+    }
+
+    /**
+     * Collects and publishes the analytics event of a request.
+     */
+    interface Collector {
+
+        void collect(AnalyticsDataProvider provider) throws AnalyticsException;
+    }
+
+    private final BlockingQueue<AnalyticsDataProvider> queue;
+    private final int capacity;
+    private final DropPolicy dropPolicy;
+    private final Collector collector;
+    private final Thread[] workers;
+    private volatile boolean running = true;
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder collectedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public AnalyticsEventQueue(int capacity, int workerCount, DropPolicy dropPolicy) {
+
+        this(capacity, workerCount, dropPolicy,
+                provider -> new GenericRequestDataCollector(provider).collectData(), true);
+    }
+
+    AnalyticsEventQueue(int capacity, int workerCount, DropPolicy dropPolicy, Collector collector,
+                        boolean registerMBean) {
+
+        this.capacity = Math.max(1, capacity);
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+        this.dropPolicy = dropPolicy;
+        this.collector = collector;
+        this.workers = new Thread[Math.max(1, workerCount)];
+        for (int i = 0; i < workers.length; i++) {
+            String threadName = workers.length == 1 ? "AnalyticsEventWorker" : "AnalyticsEventWorker-" + i;
+            workers[i] = new Thread(this::processEvents, threadName);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    /**
+     * Queues the analytics event of a request to be collected by the workers. The provider must not depend on the
+     * message context of the request, which is reused once the request completes.
+     *
+     * @param provider data of the request
+     */
+    public void add(AnalyticsDataProvider provider) {
+
+        if (!running) {
+            collect(provider);
+            return;
+        }
+        if (queue.offer(provider)) {
+            queuedCount.increment();
+            return;
+        }
+        switch (dropPolicy) {
+        case DROP_OLDEST:
+            while (!queue.offer(provider)) {
+                if (queue.poll() != null) {
+                    droppedCount.increment();
+                }
+            }
+            queuedCount.increment();
+            break;
+        case CALLER_RUNS:
+            callerRunsCount.increment();
+            collect(provider);
+            break;
+        default:
+            droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Analytics event queue is full, dropping the analytics event of the request");
+            }
+        }
+    }
+
+    /**
+     * Stops the workers once the events already queued are collected. Events added afterwards are collected on the
+     * thread that adds them.
+     */
+    public void shutdown() {
+
+        running = false;
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread worker : workers) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining > 0) {
+                worker.join(remaining);
+            }
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void processEvents() {
+
+        List<AnalyticsDataProvider> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (running || !queue.isEmpty()) {
+                AnalyticsDataProvider provider = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (provider == null) {
+                    continue;
+                }
+                batch.add(provider);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (AnalyticsDataProvider queuedProvider : batch) {
+                    collect(queuedProvider);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(AnalyticsDataProvider provider) {
+
+        try {
+            collector.collect(provider);
+            collectedCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            log.error("Error Occurred when collecting data", e);
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+
+        return capacity;
+    }
+
+    @Override
+    public int getSize() {
+
+        return queue.size();
+    }
+
+    @Override
+    public String getDropPolicy() {
+
+        return dropPolicy.name();
+    }
+
+    @Override
+    public long getQueuedCount() {
+
+        return queuedCount.sum();
+    }
+
+    @Override
+    public long getCollectedCount() {
+
+        return collectedCount.sum();
+    }
+
+    @Override
+    public long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    @Override
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        queuedCount.reset();
+        collectedCount.reset();
+        droppedCount.reset();
+        callerRunsCount.reset();
+        failedCount.reset();
+    }
+}
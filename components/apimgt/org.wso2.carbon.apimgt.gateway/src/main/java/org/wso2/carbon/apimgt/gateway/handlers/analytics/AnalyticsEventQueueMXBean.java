@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+/**
+ * JMX view of the queue of analytics events waiting to be collected, see {@link AnalyticsEventQueue}.
+ */
+public interface AnalyticsEventQueueMXBean {
+
+    /**
+     * @return maximum number of events the queue holds
+     */
+    int getCapacity();
+
+    /**
+     * @return number of events waiting in the queue
+     */
+    int getSize();
+
+    /**
+     * @return policy applied to the events added while the queue is full
+     */
+    String getDropPolicy();
+
+    /**
+     * @return number of events added to the queue
+     */
+    long getQueuedCount();
+
+    /**
+     * @return number of events collected, on the workers or on the threads that added them
+     */
+    long getCollectedCount();
+
+    /**
+     * @return number of events discarded because the queue was full
+     */
+    long getDroppedCount();
+
+    /**
+     * @return number of events collected on the thread that added them because the queue was full
+     */
+    long getCallerRunsCount();
+
+    /**
+     * @return number of events that failed to be collected
+     */
+    long getFailedCount();
+
+    /**
+     * Resets the event counts.
+     */
+    void resetStatistics();
+}
@@ -17,6 +17,7 @@
 
 package org.wso2.carbon.apimgt.gateway.handlers.analytics;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.AbstractExtendedSynapseHandler;
@@ -24,6 +25,7 @@ import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.CapturedAnalyticsDataProvider;
 import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
 import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
 import org.wso2.carbon.apimgt.gateway.handlers.DataPublisherUtil;
@@ -33,6 +35,7 @@ import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.inbound.endpoint.protocol.websocket.InboundWebsocketConstants;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -40,6 +43,24 @@ import java.util.Map;
  */
 public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
     private static final Log log = LogFactory.getLog(AnalyticsMetricsHandler.class);
+    private static final int DEFAULT_ANALYTICS_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_ANALYTICS_WORKER_COUNT = 1;
+
+    private final AnalyticsEventQueue eventQueue;
+
+    public AnalyticsMetricsHandler() {
+        if (Boolean.parseBoolean(
+                GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.API_ANALYTICS_ASYNC_COLLECTION_ENABLED))) {
+            eventQueue = new AnalyticsEventQueue(
+                    GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.API_ANALYTICS_QUEUE_SIZE,
+                            DEFAULT_ANALYTICS_QUEUE_SIZE),
+                    GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.API_ANALYTICS_WORKER_COUNT,
+                            DEFAULT_ANALYTICS_WORKER_COUNT),
+                    getDropPolicy());
+        } else {
+            eventQueue = null;
+        }
+    }
 
     @Override
     public boolean handleError(MessageContext messageContext) {
@@ -90,9 +111,13 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
             provider = new SynapseAnalyticsDataProvider(messageContext,
                     ServiceReferenceHolder.getInstance().getAnalyticsCustomDataProvider());
         }
-        GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
         try {
-            dataCollector.collectData();
+            if (eventQueue != null) {
+                // only the data is copied on the mediation thread, the event is built and published by the workers
+                eventQueue.add(new CapturedAnalyticsDataProvider(provider));
+            } else {
+                new GenericRequestDataCollector(provider).collectData();
+            }
         } catch (Exception e) {
             log.error("Error Occurred when collecting data", e);
         }
@@ -107,7 +132,9 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
 
     @Override
     public boolean handleServerShutDown() {
-        // Nothing to implement
+        if (eventQueue != null) {
+            eventQueue.shutdown();
+        }
         return true;
     }
 
@@ -123,6 +150,20 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
         return true;
     }
 
+    private static AnalyticsEventQueue.DropPolicy getDropPolicy() {
+        String dropPolicy =
+                GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.API_ANALYTICS_QUEUE_DROP_POLICY);
+        if (StringUtils.isBlank(dropPolicy)) {
+            return AnalyticsEventQueue.DropPolicy.DROP_NEWEST;
+        }
+        try {
+            return AnalyticsEventQueue.DropPolicy.valueOf(dropPolicy.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid analytics event queue drop policy " + dropPolicy + ", dropping the newest events");
+            return AnalyticsEventQueue.DropPolicy.DROP_NEWEST;
+        }
+    }
+
     private String getUserAgent(MessageContext messageContext) {
         Map<?, ?> headers = (Map<?, ?>) ((Axis2MessageContext) messageContext).getAxis2MessageContext()
                 .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
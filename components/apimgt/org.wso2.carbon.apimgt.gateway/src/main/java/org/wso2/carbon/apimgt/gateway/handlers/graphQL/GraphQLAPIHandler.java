@@ -17,7 +17,6 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
-import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.language.OperationDefinition;
 import graphql.parser.InvalidSyntaxException;
@@ -27,30 +26,40 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
 import graphql.validation.Validator;
 import org.apache.axiom.om.OMElement;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpStatus;
 import org.apache.synapse.Mediator;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.commons.json.JsonUtil;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.AbstractHandler;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
-import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLProcessorUtil;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.axis2.Constants.Configuration.HTTP_METHOD;
@@ -59,6 +68,11 @@ public class GraphQLAPIHandler extends AbstractHandler {
 
     private static final String QUERY_PATH_STRING = "/?query=";
     private static final String QUERY_PAYLOAD_STRING = "query";
+    private static final String EXTENSIONS_PATH_STRING = "extensions=";
+    private static final String EXTENSIONS_PAYLOAD_STRING = "extensions";
+    private static final String PERSISTED_QUERY_PAYLOAD_STRING = "persistedQuery";
+    private static final String SHA256_HASH_PAYLOAD_STRING = "sha256Hash";
+    private static final String PERSISTED_QUERY_NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
     private static final String REST_SUB_REQUEST_PATH = "REST_SUB_REQUEST_PATH";
     private static final String GRAPHQL_API = "GRAPHQL";
     private static final String HTTP_VERB = "HTTP_VERB";
@@ -92,28 +106,43 @@ public class GraphQLAPIHandler extends AbstractHandler {
                 return true;
             }
             String payload;
-            Parser parser = new Parser();
+            String persistedQueryHash;
             org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
                     getAxis2MessageContext();
             String requestPath = messageContext.getProperty(REST_SUB_REQUEST_PATH).toString();
             if (requestPath != null && !requestPath.isEmpty()) {
-                String[] queryParams = ((Axis2MessageContext) messageContext).getProperties().
-                        get(REST_SUB_REQUEST_PATH).toString().split(QUERY_PATH_STRING);
-                if (queryParams.length > 1) {
-                    payload = URLDecoder.decode(queryParams[1], UNICODE_TRANSFORMATION_FORMAT);
+                boolean isPayloadInBody = false;
+                if (requestPath.contains(EXTENSIONS_PATH_STRING)) {
+                    // Persisted query requests sent over GET carry the query hash in the extensions parameter
+                    Map<String, String> queryParams = getQueryParameters(requestPath);
+                    payload = queryParams.get(QUERY_PAYLOAD_STRING);
+                    persistedQueryHash = getPersistedQueryHash(queryParams.get(EXTENSIONS_PAYLOAD_STRING));
                 } else {
-                    RelayUtils.buildMessage(axis2MC);
-                    OMElement body = axis2MC.getEnvelope().getBody().getFirstElement();
-                    if (body != null && body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)) != null){
-                        payload = body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)).getText();
+                    String[] queryParams = requestPath.split(QUERY_PATH_STRING);
+                    if (queryParams.length > 1) {
+                        payload = URLDecoder.decode(queryParams[1], UNICODE_TRANSFORMATION_FORMAT);
+                        persistedQueryHash = null;
                     } else {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Invalid query parameter " + queryParams[0]);
-                        }
-                        handleFailure(messageContext, "Invalid query parameter");
+                        RelayUtils.buildMessage(axis2MC);
+                        isPayloadInBody = true;
+                        OMElement body = axis2MC.getEnvelope().getBody().getFirstElement();
+                        payload = getChildText(body, QUERY_PAYLOAD_STRING);
+                        persistedQueryHash = getPersistedQueryHash(body);
+                    }
+                }
+                if (persistedQueryHash != null) {
+                    payload = resolvePersistedQuery(messageContext, persistedQueryHash, payload, isPayloadInBody);
+                    if (payload == null) {
                         return false;
                     }
                 }
+                if (payload == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Invalid query parameter " + requestPath);
+                    }
+                    handleFailure(messageContext, "Invalid query parameter");
+                    return false;
+                }
                 messageContext.setProperty(APIConstants.GRAPHQL_PAYLOAD, payload);
             } else {
                 handleFailure(messageContext, "Request path cannot be empty");
@@ -121,44 +150,155 @@ public class GraphQLAPIHandler extends AbstractHandler {
             }
 
             // Validate payload with graphQLSchema
-            Document document = parser.parseDocument(payload);
+            GraphQLQueryCache.Entry queryCacheEntry = getQueryCacheEntry(payload);
+            messageContext.setProperty(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY, queryCacheEntry);
 
-            if (validatePayloadWithSchema(messageContext, document)) {
+            if (validatePayloadWithSchema(messageContext, queryCacheEntry)) {
                 supportForBasicAndAuthentication(messageContext);
 
                 // Extract the operation type and operations from the payload
-                for (Definition definition : document.getDefinitions()) {
-                    if (definition instanceof OperationDefinition) {
-                        OperationDefinition operation = (OperationDefinition) definition;
-                        if (operation.getOperation() != null) {
-                            String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
-                                    getProperty(HTTP_METHOD).toString();
-                            messageContext.setProperty(HTTP_VERB, httpVerb);
-                            ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
-                                    operation.getOperation().toString());
-                            String operationList = GraphQLProcessorUtil.getOperationListAsString(operation,
-                                    graphQLSchemaDTO.getTypeDefinitionRegistry());
-                            messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, operationList);
-                            if (log.isDebugEnabled()) {
-                                log.debug("Operation list has been successfully added to elected property");
-                            }
-                            return true;
-                        }
-                    } else {
-                        handleFailure(messageContext, "Operation definition cannot be empty");
-                        return false;
+                OperationDefinition operation = queryCacheEntry.getOperation();
+                if (operation != null) {
+                    String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
+                            getProperty(HTTP_METHOD).toString();
+                    messageContext.setProperty(HTTP_VERB, httpVerb);
+                    ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
+                            operation.getOperation().toString());
+                    messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE,
+                            queryCacheEntry.getOperationList());
+                    if (log.isDebugEnabled()) {
+                        log.debug("Operation list has been successfully added to elected property");
                     }
+                    return true;
+                } else if (queryCacheEntry.isOperationDefinitionMissing()) {
+                    handleFailure(messageContext, "Operation definition cannot be empty");
+                    return false;
                 }
             } else {
                 return false;
             }
-        } catch (IOException | XMLStreamException | InvalidSyntaxException e) {
+        } catch (IOException | XMLStreamException | InvalidSyntaxException | JSONException e) {
             log.error(e.getMessage());
             handleFailure(messageContext, e.getMessage());
         }
         return false;
     }
 
+    /**
+     * This method resolves the query of an automatic persisted query request. A request carrying only the hash of
+     * a query is resolved from the persisted query store, and the query is added to the request forwarded to the
+     * backend. For a request carrying both the query and its hash, the hash is kept in the message context, and
+     * the query is registered by {@link GraphQLQueryAnalysisHandler} once the request has been authenticated and
+     * the query has passed validation and analysis.
+     *
+     * @param messageContext  message context of the request
+     * @param hash            sha256 hash of the query
+     * @param payload         query sent with the request, or null if only the hash was sent
+     * @param isPayloadInBody whether the request carries the query in its body
+     * @return query of the request, or null if it could not be resolved
+     * @throws IOException if the query cannot be added to the request
+     */
+    private String resolvePersistedQuery(MessageContext messageContext, String hash, String payload,
+                                         boolean isPayloadInBody) throws IOException {
+
+        if (payload != null) {
+            if (!hash.equals(GraphQLPersistedQueryStore.getHash(payload))) {
+                handleFailure(messageContext, "Provided sha256Hash does not match query");
+                return null;
+            }
+            messageContext.setProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH, hash);
+            return payload;
+        }
+        String query = GraphQLPersistedQueryStore.getInstance().getQuery(apiUUID, hash);
+        if (query == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted query not found for hash " + hash);
+            }
+            handlePersistedQueryNotFound(messageContext);
+            return null;
+        }
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                getAxis2MessageContext();
+        if (isPayloadInBody) {
+            JSONObject jsonPayload = new JSONObject(JsonUtil.jsonPayloadToString(axis2MC));
+            jsonPayload.put(QUERY_PAYLOAD_STRING, query);
+            JsonUtil.getNewJsonPayload(axis2MC, jsonPayload.toString(), true, true);
+        } else {
+            String restUrlPostfix = (String) axis2MC.getProperty(NhttpConstants.REST_URL_POSTFIX);
+            restUrlPostfix = (restUrlPostfix == null ? QUERY_PATH_STRING.substring(1) : restUrlPostfix + "&"
+                    + QUERY_PAYLOAD_STRING + "=") + URLEncoder.encode(query, UNICODE_TRANSFORMATION_FORMAT);
+            axis2MC.setProperty(NhttpConstants.REST_URL_POSTFIX, restUrlPostfix);
+        }
+        return query;
+    }
+
+    /**
+     * This method returns the persisted query hash of the extensions parameter of a request.
+     *
+     * @param extensions JSON string of the extensions parameter
+     * @return sha256 hash of the query, or null if the request is not a persisted query request
+     */
+    private String getPersistedQueryHash(String extensions) {
+
+        if (extensions == null) {
+            return null;
+        }
+        JSONObject persistedQuery = new JSONObject(extensions).optJSONObject(PERSISTED_QUERY_PAYLOAD_STRING);
+        return persistedQuery != null ? persistedQuery.optString(SHA256_HASH_PAYLOAD_STRING, null) : null;
+    }
+
+    /**
+     * This method returns the persisted query hash of the extensions element of a request body.
+     *
+     * @param body request body
+     * @return sha256 hash of the query, or null if the request is not a persisted query request
+     */
+    private String getPersistedQueryHash(OMElement body) {
+
+        if (body == null) {
+            return null;
+        }
+        OMElement extensions = body.getFirstChildWithName(QName.valueOf(EXTENSIONS_PAYLOAD_STRING));
+        if (extensions == null) {
+            return null;
+        }
+        return getChildText(extensions.getFirstChildWithName(QName.valueOf(PERSISTED_QUERY_PAYLOAD_STRING)),
+                SHA256_HASH_PAYLOAD_STRING);
+    }
+
+    private String getChildText(OMElement element, String childName) {
+
+        if (element == null) {
+            return null;
+        }
+        OMElement child = element.getFirstChildWithName(QName.valueOf(childName));
+        return child != null ? child.getText() : null;
+    }
+
+    /**
+     * This method returns the decoded query parameters of a request path.
+     *
+     * @param requestPath request path
+     * @return query parameters
+     * @throws UnsupportedEncodingException if a query parameter cannot be decoded
+     */
+    private Map<String, String> getQueryParameters(String requestPath) throws UnsupportedEncodingException {
+
+        Map<String, String> queryParams = new HashMap<>();
+        int queryStart = requestPath.indexOf('?');
+        if (queryStart < 0) {
+            return queryParams;
+        }
+        for (String param : requestPath.substring(queryStart + 1).split("&")) {
+            int separator = param.indexOf('=');
+            if (separator > 0) {
+                queryParams.put(URLDecoder.decode(param.substring(0, separator), UNICODE_TRANSFORMATION_FORMAT),
+                        URLDecoder.decode(param.substring(separator + 1), UNICODE_TRANSFORMATION_FORMAT));
+            }
+        }
+        return queryParams;
+    }
+
     /**
      * Support GraphQL APIs for basic,JWT  authentication, this method extract the scopes and operations from
      * local Entry and set them to properties. If the operations have scopes, scopes operation mapping and scope
@@ -257,18 +397,39 @@ public class GraphQLAPIHandler extends AbstractHandler {
     }
 
     /**
-     * This method validate the payload
+     * This method returns the parsed and validated form of the payload, parsing and validating it against the
+     * graphQL schema of the API only if the same payload has not been processed before.
      *
-     * @param messageContext message context of the request
-     * @param document       graphQL schema of the request
-     * @return true or false
+     * @param payload graphQL payload of the request
+     * @return processed payload
      */
-    private boolean validatePayloadWithSchema(MessageContext messageContext, Document document) {
+    private GraphQLQueryCache.Entry getQueryCacheEntry(String payload) {
 
-        String validationErrorMessage;
         // Get GraphQL schema data from gateway internal data holder
         graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
-        validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(), document);
+        GraphQLQueryCache queryCache = GraphQLQueryCache.getInstance();
+        GraphQLQueryCache.Entry queryCacheEntry = queryCache.get(apiUUID, graphQLSchemaDTO, payload);
+        if (queryCacheEntry == null) {
+            Document document = new Parser().parseDocument(payload);
+            String validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(),
+                    document);
+            queryCacheEntry = new GraphQLQueryCache.Entry(document, validationErrorMessage, graphQLSchemaDTO);
+            queryCache.put(apiUUID, graphQLSchemaDTO, payload, queryCacheEntry);
+        }
+        return queryCacheEntry;
+    }
+
+    /**
+     * This method validate the payload
+     *
+     * @param messageContext  message context of the request
+     * @param queryCacheEntry processed graphQL payload of the request
+     * @return true or false
+     */
+    private boolean validatePayloadWithSchema(MessageContext messageContext,
+                                              GraphQLQueryCache.Entry queryCacheEntry) {
+
+        String validationErrorMessage = queryCacheEntry.getValidationError();
         if (validationErrorMessage != null) {
             handleFailure(messageContext, validationErrorMessage);
             return false;
@@ -293,6 +454,35 @@ public class GraphQLAPIHandler extends AbstractHandler {
         Utils.sendFault(messageContext, HttpStatus.SC_UNPROCESSABLE_ENTITY);
     }
 
+    /**
+     * This method responds to a persisted query request whose hash is not known to the gateway. The response
+     * follows the automatic persisted queries protocol, so that the client retries sending the full query.
+     *
+     * @param messageContext message context of the request
+     */
+    private void handlePersistedQueryNotFound(MessageContext messageContext) {
+
+        messageContext.setProperty(SynapseConstants.ERROR_CODE, GraphQLConstants.GRAPHQL_PERSISTED_QUERY_NOT_FOUND);
+        messageContext.setProperty(SynapseConstants.ERROR_MESSAGE,
+                GraphQLConstants.GRAPHQL_PERSISTED_QUERY_NOT_FOUND_MESSAGE);
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                getAxis2MessageContext();
+        JSONObject error = new JSONObject();
+        error.put("message", GraphQLConstants.GRAPHQL_PERSISTED_QUERY_NOT_FOUND_MESSAGE);
+        error.put("extensions", new JSONObject().put("code", PERSISTED_QUERY_NOT_FOUND_CODE));
+        JSONObject payload = new JSONObject().put("errors", new JSONArray().put(error));
+        try {
+            JsonUtil.removeJsonPayload(axis2MC);
+            JsonUtil.getNewJsonPayload(axis2MC, payload.toString(), true, true);
+        } catch (AxisFault e) {
+            log.error("Error while generating persisted query not found payload " + axis2MC.getLogIDString(), e);
+        }
+        axis2MC.setProperty(Constants.Configuration.MESSAGE_TYPE, APIConstants.APPLICATION_JSON_MEDIA_TYPE);
+        axis2MC.removeProperty(APIConstants.NO_ENTITY_BODY);
+        // Clients only fall back to sending the full query on a successful response
+        Utils.send(messageContext, HttpStatus.SC_OK);
+    }
+
     @Override
     public boolean handleResponse(MessageContext messageContext) {
         return true;
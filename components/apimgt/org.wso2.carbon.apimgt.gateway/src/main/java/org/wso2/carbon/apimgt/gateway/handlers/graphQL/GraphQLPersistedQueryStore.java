@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.gateway.utils.redis.RedisCacheUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the queries registered through the automatic persisted queries (APQ) protocol, so that clients can send
+ * the sha256 hash of a query instead of the full query text once it has been registered. Queries are kept in memory
+ * in a separate store for each API, so that the clients of one API cannot evict the queries of another. Each store
+ * is bounded by the {@code GraphQLConfigurations.PersistedQueryCacheSize} setting of api-manager.xml. When Redis is
+ * enabled for the gateway, registered queries are also shared with the other gateway nodes through the configured
+ * Redis pool, and expire there after {@link #REDIS_EXPIRY_SECONDS} seconds.
+ * <p>
+ * A resolved query goes through the same {@link GraphQLQueryCache}, so hash only requests reuse the parsed,
+ * validated and analysed form of the query. Queries longer than the ones that cache keeps are not registered, as
+ * they would have to be parsed and validated again on every request anyway.
+ */
+public final class GraphQLPersistedQueryStore {
+
+    private static final Log log = LogFactory.getLog(GraphQLPersistedQueryStore.class);
+    static final int DEFAULT_CACHE_SIZE = 1000;
+    static final int MAX_QUERY_LENGTH = GraphQLQueryCache.MAX_QUERY_LENGTH;
+    static final int REDIS_EXPIRY_SECONDS = 86400;
+    private static final String REDIS_KEY_PREFIX = "graphql:apq:";
+    private static final Pattern SHA256_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Map<String, Map<String, String>> queriesByApi = new ConcurrentHashMap<>();
+    private final int cacheSize;
+    private final RedisCacheUtils redisCacheUtils;
+
+    GraphQLPersistedQueryStore(int cacheSize, RedisCacheUtils redisCacheUtils) {
+
+        this.cacheSize = Math.max(cacheSize, 1);
+        this.redisCacheUtils = redisCacheUtils;
+    }
+
+    public static GraphQLPersistedQueryStore getInstance() {
+
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the query registered for a hash.
+     *
+     * @param apiUUID UUID of the API
+     * @param hash    sha256 hash of the query
+     * @return registered query, or null if the hash is invalid or no query has been registered for it
+     */
+    public String getQuery(String apiUUID, String hash) {
+
+        if (!isValidHash(hash)) {
+            return null;
+        }
+        Map<String, String> queries = queriesByApi.get(String.valueOf(apiUUID));
+        String query = queries != null ? queries.get(hash) : null;
+        if (query == null && redisCacheUtils != null) {
+            try {
+                query = redisCacheUtils.getValue(REDIS_KEY_PREFIX + getKey(apiUUID, hash));
+            } catch (JedisException e) {
+                log.warn("Error while retrieving persisted GraphQL query from Redis", e);
+            }
+            if (query != null) {
+                getQueries(apiUUID).put(hash, query);
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Registers a query against its hash. Callers are expected to have verified that the hash matches the query,
+     * and to register only queries that passed schema validation in requests that were authenticated.
+     *
+     * @param apiUUID UUID of the API
+     * @param hash    sha256 hash of the query
+     * @param query   query text
+     */
+    public void putQuery(String apiUUID, String hash, String query) {
+
+        if (!isValidHash(hash) || query.length() > MAX_QUERY_LENGTH) {
+            return;
+        }
+        if (query.equals(getQueries(apiUUID).put(hash, query)) || redisCacheUtils == null) {
+            return;
+        }
+        try {
+            redisCacheUtils.setValue(REDIS_KEY_PREFIX + getKey(apiUUID, hash), query, REDIS_EXPIRY_SECONDS);
+        } catch (JedisException e) {
+            log.warn("Error while storing persisted GraphQL query in Redis", e);
+        }
+    }
+
+    /**
+     * Drops the queries registered in memory for an API. Queries shared through Redis expire on their own.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public void evict(String apiUUID) {
+
+        if (apiUUID != null) {
+            queriesByApi.remove(apiUUID);
+        }
+    }
+
+    /**
+     * Computes the hash with which the APQ protocol identifies a query.
+     *
+     * @param query query text
+     * @return lower case hex encoded sha256 hash of the query
+     */
+    public static String getHash(String query) {
+
+        return DigestUtils.sha256Hex(query);
+    }
+
+    static boolean isValidHash(String hash) {
+
+        return hash != null && SHA256_HASH_PATTERN.matcher(hash).matches();
+    }
+
+    private Map<String, String> getQueries(String apiUUID) {
+
+        return queriesByApi.computeIfAbsent(String.valueOf(apiUUID), key -> new LRUCache<>(cacheSize));
+    }
+
+    private static String getKey(String apiUUID, String hash) {
+
+        return apiUUID + ":" + hash;
+    }
+
+    private static GraphQLPersistedQueryStore createInstance() {
+
+        RedisCacheUtils redisCacheUtils = null;
+        ServiceReferenceHolder serviceReferenceHolder = ServiceReferenceHolder.getInstance();
+        if (serviceReferenceHolder.isRedisEnabled() && serviceReferenceHolder.getRedisPool() != null) {
+            redisCacheUtils = new RedisCacheUtils(serviceReferenceHolder.getRedisPool());
+        }
+        return new GraphQLPersistedQueryStore(
+                GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.GRAPHQL_PERSISTED_QUERY_CACHE_SIZE,
+                        DEFAULT_CACHE_SIZE),
+                redisCacheUtils);
+    }
+
+    private static class InstanceHolder {
+
+        private static final GraphQLPersistedQueryStore INSTANCE = createInstance();
+    }
+}
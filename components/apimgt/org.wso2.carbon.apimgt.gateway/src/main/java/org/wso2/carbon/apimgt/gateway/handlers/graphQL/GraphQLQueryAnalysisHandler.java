@@ -29,6 +29,7 @@ import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -58,9 +59,26 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
+        registerPersistedQuery(messageContext, payload);
         return true;
     }
 
+    /**
+     * Registers the query of an automatic persisted query request that carried both the query and its hash. This
+     * handler runs after the request has been authenticated, and the GraphQL API handler has already validated the
+     * query against the schema, so only valid queries of authenticated clients reach the persisted query store.
+     *
+     * @param messageContext message context of the request
+     * @param payload        query of the request
+     */
+    private void registerPersistedQuery(MessageContext messageContext, String payload) {
+        String hash = (String) messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH);
+        String apiUUID = (String) messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY);
+        if (hash != null && apiUUID != null) {
+            GraphQLPersistedQueryStore.getInstance().putQuery(apiUUID, hash, payload);
+        }
+    }
+
     /**
      * This method analyses the query.
      *
@@ -84,7 +102,15 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        GraphQLQueryCache.Entry queryCacheEntry = getQueryCacheEntry(messageContext);
+        QueryAnalyzerResponseDTO responseDTO = queryCacheEntry != null ? queryCacheEntry.getDepthResult(maxQueryDepth)
+                : null;
+        if (responseDTO == null) {
+            responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+            if (queryCacheEntry != null) {
+                queryCacheEntry.addDepthResult(maxQueryDepth, responseDTO);
+            }
+        }
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -101,9 +127,17 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         }
         String complexityInfoJson = (String) messageContext
                 .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
-        QueryAnalyzerResponseDTO responseDTO = null;
+        GraphQLQueryCache.Entry queryCacheEntry = getQueryCacheEntry(messageContext);
+        QueryAnalyzerResponseDTO responseDTO = queryCacheEntry != null ? queryCacheEntry
+                .getComplexityResult(queryComplexity) : null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
+            if (responseDTO == null) {
+                responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
+                        complexityInfoJson);
+                if (queryCacheEntry != null) {
+                    queryCacheEntry.addComplexityResult(queryComplexity, responseDTO);
+                }
+            }
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
@@ -117,6 +151,18 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
+    /**
+     * Returns the cached form of the query set by the GraphQL API handler. The analysis results of a query only
+     * depend on the schema, the access control policy of the schema and the limits, so they are kept in the entry
+     * against the limit they were computed for.
+     *
+     * @param messageContext message context of the request
+     * @return cached form of the query, or null if the query is not cached
+     */
+    private GraphQLQueryCache.Entry getQueryCacheEntry(MessageContext messageContext) {
+        return (GraphQLQueryCache.Entry) messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY);
+    }
+
     /**
      * This method handle the failure.
      *
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLProcessorUtil;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the outcome of processing a GraphQL query so that clients repeating the same query shapes skip parsing,
+ * schema validation, operation extraction and depth and complexity analysis. An entry is keyed by the API UUID, the
+ * deployed schema of the API and the query text, so redeploying an API with a new schema never reuses entries
+ * built against the old one.
+ * <p>
+ * The number of entries is bounded by the {@code GraphQLConfigurations.QueryCacheSize} setting of api-manager.xml,
+ * and the least recently added entries are replaced once it is full. A size of zero disables the cache. Queries
+ * longer than {@link #MAX_QUERY_LENGTH} characters are not cached.
+ */
+public final class GraphQLQueryCache {
+
+    static final int DEFAULT_CACHE_SIZE = 1000;
+    static final int MAX_QUERY_LENGTH = 8192;
+    private static final GraphQLQueryCache instance = new GraphQLQueryCache(GatewayUtils
+            .getAPIManagerConfigurationProperty(APIConstants.GRAPHQL_QUERY_CACHE_SIZE, DEFAULT_CACHE_SIZE));
+
+    private final Map<QueryKey, Entry> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    GraphQLQueryCache(int cacheSize) {
+
+        entries = cacheSize > 0 ? new LRUCache<>(cacheSize) : null;
+    }
+
+    public static GraphQLQueryCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the processed form of a query.
+     *
+     * @param apiUUID   UUID of the API
+     * @param schemaDTO deployed schema of the API
+     * @param query     query text of the request
+     * @return cached entry, or null if the query has not been processed for this schema yet
+     */
+    public Entry get(String apiUUID, GraphQLSchemaDTO schemaDTO, String query) {
+
+        if (entries == null || query.length() > MAX_QUERY_LENGTH) {
+            return null;
+        }
+        Entry entry = entries.get(new QueryKey(apiUUID, schemaDTO, query));
+        if (entry != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Keeps the processed form of a query.
+     *
+     * @param apiUUID   UUID of the API
+     * @param schemaDTO deployed schema of the API
+     * @param query     query text of the request
+     * @param entry     processed form of the query
+     */
+    public void put(String apiUUID, GraphQLSchemaDTO schemaDTO, String query, Entry entry) {
+
+        if (entries != null && query.length() <= MAX_QUERY_LENGTH) {
+            entries.put(new QueryKey(apiUUID, schemaDTO, query), entry);
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    /**
+     * Processed form of a GraphQL query. Query documents are immutable, so an entry is shared by all the requests
+     * carrying the same query.
+     */
+    public static final class Entry {
+
+        private final Document document;
+        private final String validationError;
+        private final OperationDefinition operation;
+        private final String operationList;
+        private final boolean operationDefinitionMissing;
+        private final Map<Integer, QueryAnalyzerResponseDTO> depthResults = new ConcurrentHashMap<>();
+        private final Map<Integer, QueryAnalyzerResponseDTO> complexityResults = new ConcurrentHashMap<>();
+
+        /**
+         * @param document        parsed query
+         * @param validationError error of validating the query against the schema, or null if it is valid
+         * @param schemaDTO       deployed schema of the API
+         */
+        public Entry(Document document, String validationError, GraphQLSchemaDTO schemaDTO) {
+
+            this.document = document;
+            this.validationError = validationError;
+            OperationDefinition selectedOperation = null;
+            boolean definitionMissing = false;
+            if (validationError == null) {
+                for (Definition definition : document.getDefinitions()) {
+                    if (!(definition instanceof OperationDefinition)) {
+                        definitionMissing = true;
+                        break;
+                    }
+                    if (((OperationDefinition) definition).getOperation() != null) {
+                        selectedOperation = (OperationDefinition) definition;
+                        break;
+                    }
+                }
+            }
+            this.operation = selectedOperation;
+            this.operationDefinitionMissing = definitionMissing;
+            this.operationList = selectedOperation != null ? GraphQLProcessorUtil.getOperationListAsString(
+                    selectedOperation, schemaDTO.getTypeDefinitionRegistry()) : null;
+        }
+
+        public Document getDocument() {
+
+            return document;
+        }
+
+        public String getValidationError() {
+
+            return validationError;
+        }
+
+        /**
+         * @return first operation of the query, or null if the query has no operation to route
+         */
+        public OperationDefinition getOperation() {
+
+            return operation;
+        }
+
+        /**
+         * @return comma separated list of the operations selected by the query
+         */
+        public String getOperationList() {
+
+            return operationList;
+        }
+
+        /**
+         * @return true if a definition other than an operation was found before any operation of the query
+         */
+        public boolean isOperationDefinitionMissing() {
+
+            return operationDefinitionMissing;
+        }
+
+        public QueryAnalyzerResponseDTO getDepthResult(int maxQueryDepth) {
+
+            return depthResults.get(maxQueryDepth);
+        }
+
+        public void addDepthResult(int maxQueryDepth, QueryAnalyzerResponseDTO responseDTO) {
+
+            depthResults.put(maxQueryDepth, responseDTO);
+        }
+
+        public QueryAnalyzerResponseDTO getComplexityResult(int maxQueryComplexity) {
+
+            return complexityResults.get(maxQueryComplexity);
+        }
+
+        public void addComplexityResult(int maxQueryComplexity, QueryAnalyzerResponseDTO responseDTO) {
+
+            complexityResults.put(maxQueryComplexity, responseDTO);
+        }
+    }
+
+    private static final class QueryKey {
+
+        private final String apiUUID;
+        private final GraphQLSchemaDTO schemaDTO;
+        private final String query;
+        private final int hash;
+
+        private QueryKey(String apiUUID, GraphQLSchemaDTO schemaDTO, String query) {
+
+            this.apiUUID = apiUUID;
+            this.schemaDTO = schemaDTO;
+            this.query = query;
+            int result = apiUUID != null ? apiUUID.hashCode() : 0;
+            result = 31 * result + System.identityHashCode(schemaDTO);
+            this.hash = 31 * result + query.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey that = (QueryKey) o;
+            return hash == that.hash && schemaDTO == that.schemaDTO && query.equals(that.query)
+                    && (apiUUID != null ? apiUUID.equals(that.apiUUID) : that.apiUUID == null);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+    }
+}
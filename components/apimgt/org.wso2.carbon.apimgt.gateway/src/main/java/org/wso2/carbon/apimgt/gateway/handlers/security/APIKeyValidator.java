@@ -57,11 +57,13 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import javax.cache.Cache;
 
@@ -85,6 +87,14 @@ public class APIKeyValidator {
 
     private ArrayList<URITemplate> uriTemplates = null;
 
+    // Verb indexes of the API infos loaded by this validator. The API infos are weakly referenced, so that an index is
+    // dropped along with its API info once that is evicted from the resource cache.
+    private final Map<APIInfoDTO, ResourceVerbIndex> resourceVerbIndexes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Index used by the last request, looked up without locking as consecutive requests mostly use the same API info.
+    private volatile ResourceVerbIndex lastResourceVerbIndex = null;
+
     public APIKeyValidator() {
 
         this.dataStore = new WSAPIKeyDataStore();
@@ -481,28 +491,26 @@ public class APIKeyValidator {
             }
         }
         if (apiInfoDTO.getResources() != null) {
-            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
-                for (VerbInfoDTO verb : verbDTOList) {
-                    if (verb.getHttpVerb().equals(httpMethod)) {
-                        for (String resourceString : resourceArray) {
-                            if (isResourcePathMatching(resourceString, resourceInfoDTO)) {
-                                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion,
-                                        resourceString, httpMethod);
-                                verb.setRequestKey(resourceCacheKey);
-                                verbInfoList.add(verb);
-                                if (isGatewayAPIResourceValidationEnabled) {
-                                    //Store verb in cache
-                                    //Set cache key in the message c\ontext so that it can be used by the subsequent handlers.
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Putting resource object in cache with key: " + resourceCacheKey);
-                                    }
-                                    getResourceCache().put(resourceCacheKey, verb);
-                                    synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
-                                }
-                            }
-                        }
+            ResourceVerbIndex verbIndex = getResourceVerbIndex(apiInfoDTO);
+            for (String resourceString : resourceArray) {
+                List<VerbInfoDTO> matchingVerbs = verbIndex.getVerbs(httpMethod, resourceString);
+                if (matchingVerbs.isEmpty()) {
+                    continue;
+                }
+                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion, resourceString,
+                        httpMethod);
+                for (VerbInfoDTO verb : matchingVerbs) {
+                    verb.setRequestKey(resourceCacheKey);
+                    verbInfoList.add(verb);
+                }
+                if (isGatewayAPIResourceValidationEnabled) {
+                    //Store verb in cache. All the matching verbs share the cache key, so only the last one is kept.
+                    //Set cache key in the message context so that it can be used by the subsequent handlers.
+                    if (log.isDebugEnabled()) {
+                        log.debug("Putting resource object in cache with key: " + resourceCacheKey);
                     }
+                    getResourceCache().put(resourceCacheKey, matchingVerbs.get(matchingVerbs.size() - 1));
+                    synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
                 }
             }
         }
@@ -526,22 +534,18 @@ public class APIKeyValidator {
         return requestPath;
     }
 
-    private boolean isResourcePathMatching(String resourceString, ResourceInfoDTO resourceInfoDTO) {
-        String resource = resourceString.trim();
-        String urlPattern = resourceInfoDTO.getUrlPattern().trim();
-
-        if (resource.equalsIgnoreCase(urlPattern)) {
-            return true;
-        }
+    /**
+     * Returns the verb index of the given API info, building it the first time the API info is seen. The API info
+     * stays the same instance while it is cached, so the index is built once per load of each API info.
+     */
+    private ResourceVerbIndex getResourceVerbIndex(APIInfoDTO apiInfoDTO) {
 
-        // If the urlPattern is only one character longer than the resource and the urlPattern ends with a '/'
-        if (resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")) {
-            // Check if resource is equal to urlPattern if the trailing '/' of the urlPattern is ignored
-            String urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
-            return resource.equalsIgnoreCase(urlPatternWithoutSlash);
+        ResourceVerbIndex verbIndex = lastResourceVerbIndex;
+        if (verbIndex == null || !verbIndex.isBuiltFrom(apiInfoDTO)) {
+            verbIndex = resourceVerbIndexes.computeIfAbsent(apiInfoDTO, ResourceVerbIndex::build);
+            lastResourceVerbIndex = verbIndex;
         }
-
-        return false;
+        return verbIndex;
     }
 
     @MethodStats
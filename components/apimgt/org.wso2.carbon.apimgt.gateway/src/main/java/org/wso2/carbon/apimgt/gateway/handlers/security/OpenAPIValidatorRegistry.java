@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.report.LevelResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the {@link OpenApiInteractionValidator} of each deployed API so that the schema validator handler does not
+ * rebuild the validator, its level resolver and schema indexes for every message. Validators are thread safe and
+ * shared by all the requests of an API.
+ * <p>
+ * A validator is keyed by the API UUID and remembers the OpenAPI model it was built from. Deploying a new revision
+ * gives the API a new OpenAPI model, so a stale validator is never used even if it was not evicted in time. The
+ * gateway deployer evicts the validator of an API whenever the API is deployed or undeployed.
+ * <p>
+ * The counters are registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=OpenAPIValidatorRegistry}.
+ */
+public final class OpenAPIValidatorRegistry implements OpenAPIValidatorRegistryMXBean {
+
+    private static final Log log = LogFactory.getLog(OpenAPIValidatorRegistry.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=OpenAPIValidatorRegistry";
+    private static final OpenAPIValidatorRegistry instance = new OpenAPIValidatorRegistry(true);
+
+    private final Map<String, ValidatorEntry> validators = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalBuildTime = new LongAdder();
+    private final AtomicLong maxBuildTime = new AtomicLong();
+
+    OpenAPIValidatorRegistry(boolean registerMBean) {
+
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    public static OpenAPIValidatorRegistry getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the validator of the given API, building it if the API has no validator for this OpenAPI model yet.
+     *
+     * @param apiUUID UUID of the API, validators of APIs without a UUID are not kept
+     * @param openAPI fully resolved OpenAPI model of the API
+     * @return validator for the OpenAPI model
+     */
+    public OpenApiInteractionValidator getValidator(String apiUUID, OpenAPI openAPI) {
+
+        if (apiUUID == null) {
+            missCount.increment();
+            return buildValidator(openAPI);
+        }
+        ValidatorEntry entry = validators.get(apiUUID);
+        if (entry != null && entry.openAPI == openAPI) {
+            hitCount.increment();
+            return entry.validator;
+        }
+        missCount.increment();
+        OpenApiInteractionValidator validator = buildValidator(openAPI);
+        validators.put(apiUUID, new ValidatorEntry(openAPI, validator));
+        return validator;
+    }
+
+    /**
+     * Drops the validator of the given API.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public void evict(String apiUUID) {
+
+        if (apiUUID != null && validators.remove(apiUUID) != null) {
+            evictionCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Evicted the OpenAPI validator of API " + apiUUID);
+            }
+        }
+    }
+
+    private OpenApiInteractionValidator buildValidator(OpenAPI openAPI) {
+
+        long startTime = System.nanoTime();
+        OpenApiInteractionValidator validator = OpenApiInteractionValidator
+                .createFor(openAPI)
+                .withLevelResolver(
+                        LevelResolver.create()
+                                .withLevel("validation.schema.required", ValidationReport.Level.INFO)
+                                .withLevel("validation.response.body.missing", ValidationReport.Level.INFO)
+                                .withLevel("validation.schema.additionalProperties", ValidationReport.Level.IGNORE)
+                                .build())
+                .build();
+        long buildTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        totalBuildTime.add(buildTime);
+        maxBuildTime.accumulateAndGet(buildTime, Math::max);
+        if (log.isDebugEnabled()) {
+            log.debug("Time to build the OpenAPI validator(ms) : " + buildTime);
+        }
+        return validator;
+    }
+
+    @Override
+    public int getValidatorCount() {
+
+        return validators.size();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    @Override
+    public long getTotalBuildTime() {
+
+        return totalBuildTime.sum();
+    }
+
+    @Override
+    public long getMaxBuildTime() {
+
+        return maxBuildTime.get();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        totalBuildTime.reset();
+        maxBuildTime.set(0);
+    }
+
+    private static final class ValidatorEntry {
+
+        private final OpenAPI openAPI;
+        private final OpenApiInteractionValidator validator;
+
+        private ValidatorEntry(OpenAPI openAPI, OpenApiInteractionValidator validator) {
+
+            this.openAPI = openAPI;
+            this.validator = validator;
+        }
+    }
+}
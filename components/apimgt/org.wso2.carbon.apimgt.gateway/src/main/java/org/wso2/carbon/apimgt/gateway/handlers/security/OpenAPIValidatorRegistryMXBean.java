@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+/**
+ * JMX view of the counters of the {@link OpenAPIValidatorRegistry}.
+ */
+public interface OpenAPIValidatorRegistryMXBean {
+
+    /**
+     * @return number of APIs which currently have a validator in the registry
+     */
+    int getValidatorCount();
+
+    /**
+     * @return number of messages validated with a validator that was already built
+     */
+    long getHitCount();
+
+    /**
+     * @return number of messages for which a validator had to be built
+     */
+    long getMissCount();
+
+    /**
+     * @return number of validators dropped because their API was deployed again or undeployed
+     */
+    long getEvictionCount();
+
+    /**
+     * @return total time spent building validators, in milliseconds
+     */
+    long getTotalBuildTime();
+
+    /**
+     * @return longest time taken to build a single validator, in milliseconds
+     */
+    long getMaxBuildTime();
+
+    /**
+     * Resets all the counters.
+     */
+    void resetStatistics();
+}
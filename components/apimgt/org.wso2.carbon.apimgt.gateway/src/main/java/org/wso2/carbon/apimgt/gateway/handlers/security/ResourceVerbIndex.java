@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of the verbs of an API, keyed by HTTP method and URL pattern. It is built once from the resources of an
+ * {@link APIInfoDTO} and replaces the scan over every resource and verb of the API that was needed to find the verbs
+ * matching an elected resource. A resource matches a URL pattern when both are equal ignoring case and surrounding
+ * whitespace, or when the pattern only differs by a trailing '/'.
+ */
+final class ResourceVerbIndex {
+
+    // Weakly referenced, so that the index does not keep its API info reachable while it is cached for it.
+    private final WeakReference<APIInfoDTO> source;
+    private final Map<String, Map<String, List<VerbInfoDTO>>> verbsByMethod = new HashMap<>();
+
+    private ResourceVerbIndex(APIInfoDTO source) {
+
+        this.source = new WeakReference<>(source);
+    }
+
+    static ResourceVerbIndex build(APIInfoDTO apiInfoDTO) {
+
+        ResourceVerbIndex resourceVerbIndex = new ResourceVerbIndex(apiInfoDTO);
+        if (apiInfoDTO.getResources() == null) {
+            return resourceVerbIndex;
+        }
+        for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+            String urlPattern = normalize(resourceInfoDTO.getUrlPattern());
+            String urlPatternWithoutSlash = null;
+            if (urlPattern.endsWith("/")) {
+                urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
+            }
+            for (VerbInfoDTO verbInfoDTO : resourceInfoDTO.getHttpVerbs()) {
+                Map<String, List<VerbInfoDTO>> verbsByResource =
+                        resourceVerbIndex.verbsByMethod.computeIfAbsent(verbInfoDTO.getHttpVerb(),
+                                method -> new HashMap<>());
+                verbsByResource.computeIfAbsent(urlPattern, resource -> new ArrayList<>()).add(verbInfoDTO);
+                if (urlPatternWithoutSlash != null) {
+                    verbsByResource.computeIfAbsent(urlPatternWithoutSlash, resource -> new ArrayList<>())
+                            .add(verbInfoDTO);
+                }
+            }
+        }
+        return resourceVerbIndex;
+    }
+
+    /**
+     * Returns whether this index was built from the given API info.
+     */
+    boolean isBuiltFrom(APIInfoDTO apiInfoDTO) {
+
+        return source.get() == apiInfoDTO;
+    }
+
+    /**
+     * Returns the verbs of the given HTTP method whose URL pattern matches the given resource, in the order of the
+     * resources and verbs of the API.
+     */
+    List<VerbInfoDTO> getVerbs(String httpMethod, String resourceString) {
+
+        if (httpMethod == null || resourceString == null) {
+            return Collections.emptyList();
+        }
+        Map<String, List<VerbInfoDTO>> verbsByResource = verbsByMethod.get(httpMethod);
+        if (verbsByResource == null) {
+            return Collections.emptyList();
+        }
+        List<VerbInfoDTO> verbs = verbsByResource.get(normalize(resourceString));
+        return verbs != null ? verbs : Collections.emptyList();
+    }
+
+    private static String normalize(String resource) {
+
+        // Both calls return the same instance when there is nothing to change, which is the common case.
+        return resource.trim().toLowerCase(Locale.ENGLISH);
+    }
+}
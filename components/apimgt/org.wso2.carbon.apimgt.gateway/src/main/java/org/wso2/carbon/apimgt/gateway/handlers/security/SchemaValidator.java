@@ -17,7 +17,6 @@
 package org.wso2.carbon.apimgt.gateway.handlers.security;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
-import com.atlassian.oai.validator.report.LevelResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.swagger.util.Json;
@@ -41,36 +40,44 @@ public class SchemaValidator extends AbstractHandler {
     private static final String HTTP_SC_CODE = "400";
     public static final String REG_TIME_MODULE = "register.timeModule";
 
+    private static volatile boolean timeModuleRegistered = false;
+
     /**
-     * Method to generate OpenApiInteractionValidator when the openAPI is provided.
+     * Method to get the OpenApiInteractionValidator of the API the message belongs to.
      *
-     * @param openAPI openAPI
+     * @param messageContext message context
+     * @param openAPI        openAPI
      * @return OpenApiInteractionValidator object for the provided swagger.
      */
-    private static OpenApiInteractionValidator getOpenAPIValidator(OpenAPI openAPI) {
+    private static OpenApiInteractionValidator getOpenAPIValidator(MessageContext messageContext, OpenAPI openAPI) {
+
+        String apiUUID = (String) messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY);
+        return OpenAPIValidatorRegistry.getInstance().getValidator(apiUUID, openAPI);
+    }
+
+    /**
+     * Registers the Java time module on the swagger object mapper once, when it is enabled.
+     */
+    private static void registerTimeModule() {
 
-        return OpenApiInteractionValidator
-                .createFor(openAPI)
-                .withLevelResolver(
-                        LevelResolver.create()
-                                .withLevel("validation.schema.required", ValidationReport.Level.INFO)
-                                .withLevel("validation.response.body.missing", ValidationReport.Level.INFO)
-                                .withLevel("validation.schema.additionalProperties", ValidationReport.Level.IGNORE)
-                                .build())
-                .build();
+        if (!timeModuleRegistered && Boolean.parseBoolean(System.getProperty(REG_TIME_MODULE, "false"))) {
+            synchronized (SchemaValidator.class) {
+                if (!timeModuleRegistered) {
+                    Json.mapper().registerModule(new JavaTimeModule());
+                    timeModuleRegistered = true;
+                }
+            }
+        }
     }
 
     @Override
     public boolean handleRequest(MessageContext messageContext) {
 
-        boolean timeModuleRegisterEnabled = Boolean.parseBoolean(System.getProperty(REG_TIME_MODULE, "false"));
-        if (timeModuleRegisterEnabled) {
-            Json.mapper().registerModule(new JavaTimeModule());
-        }
+        registerTimeModule();
         logger.debug("Validating the API request Body content..");
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIRequest request = new OpenAPIRequest(messageContext);
 
             ValidationReport validationReport = validator.validateRequest(request);
@@ -93,7 +100,7 @@ public class SchemaValidator extends AbstractHandler {
 
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIResponse response = new OpenAPIResponse(messageContext);
 
             ValidationReport validationReport = validator.validateResponse(response.getPath(), response.getMethod(),
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+import java.io.Serializable;
+
+/**
+ * Backend JWT kept in the gateway JWT token cache along with its expiry time, so that the validity of a cached
+ * token is checked without decoding it again.
+ */
+public class BackendJWTCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String token;
+    private final long expiryTime;
+
+    public BackendJWTCacheEntry(String token, long expiryTime) {
+
+        this.token = token;
+        this.expiryTime = expiryTime;
+    }
+
+    public String getToken() {
+
+        return token;
+    }
+
+    /**
+     * @return expiry time of the token in milliseconds
+     */
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+}
@@ -71,6 +71,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 
 /**
@@ -87,6 +93,7 @@ public class JWTValidator {
     ExtendedJWTConfigurationDto jwtConfigurationDto;
     JWTValidationService jwtValidationService;
     private static volatile long ttl = -1L;
+    private static final Set<String> refreshingBackendJWTs = ConcurrentHashMap.newKeySet();
 
     public JWTValidator(APIKeyValidator apiKeyValidator, String tenantDomain) throws APIManagementException {
         int tenantId = APIUtil.getTenantIdFromTenantDomain(tenantDomain);
@@ -398,16 +405,25 @@ public class JWTValidator {
                 .concat(tokenSignature);
         if (isGatewayTokenCacheEnabled) {
             Object token = getGatewayJWTTokenCache().get(jwtTokenCacheKey);
-            if (token != null) {
+            if (token instanceof BackendJWTCacheEntry) {
+                BackendJWTCacheEntry cacheEntry = (BackendJWTCacheEntry) token;
+                endUserToken = cacheEntry.getToken();
+                long timestampSkew = getTimeStampSkewInSeconds() * 1000;
+                valid = JWTUtil.isJWTValid(cacheEntry.getExpiryTime(), timestampSkew);
+                long refreshAheadTime =
+                        TimeUnit.SECONDS.toMillis(jwtConfigurationDto.getBackendJWTRefreshAheadTime());
+                if (valid && refreshAheadTime > 0) {
+                    refreshBeforeExpiry(jwtTokenCacheKey, cacheEntry.getExpiryTime() - timestampSkew,
+                            refreshAheadTime, jwtInfoDto);
+                }
+            } else if (token != null) {
                 endUserToken = (String) token;
                 long timestampSkew = getTimeStampSkewInSeconds() * 1000;
                 valid = JWTUtil.isJWTValid(endUserToken, jwtConfigurationDto.getJwtDecoding(), timestampSkew);
             }
             if (StringUtils.isEmpty(endUserToken) || !valid) {
                 try {
-                    includeUserStoreClaimsIntoClaims(jwtInfoDto);
-                    endUserToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
-                    getGatewayJWTTokenCache().put(jwtTokenCacheKey, endUserToken);
+                    endUserToken = generateAndCacheJWTToken(jwtTokenCacheKey, jwtInfoDto);
                 } catch (JWTGeneratorException e) {
                     log.error("Error while Generating Backend JWT", e);
                     throw new APISecurityException(APISecurityConstants.API_AUTH_GENERAL_ERROR,
@@ -427,6 +443,55 @@ public class JWTValidator {
         return endUserToken;
     }
 
+    private String generateAndCacheJWTToken(String jwtTokenCacheKey, JWTInfoDto jwtInfoDto)
+            throws JWTGeneratorException {
+
+        includeUserStoreClaimsIntoClaims(jwtInfoDto);
+        String endUserToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        long expiryTime = JWTUtil.getJWTExpiryTime(endUserToken, jwtConfigurationDto.getJwtDecoding());
+        getGatewayJWTTokenCache().put(jwtTokenCacheKey, new BackendJWTCacheEntry(endUserToken, expiryTime));
+        return endUserToken;
+    }
+
+    /**
+     * Regenerates a cached backend JWT in the background when it is about to expire, so that the requests of a token
+     * in use keep finding a valid backend JWT in the cache. Only one refresh of a backend JWT runs at a time.
+     *
+     * @param jwtTokenCacheKey key of the backend JWT in the gateway JWT token cache
+     * @param validUntil       time the cached backend JWT stops being accepted, in milliseconds
+     * @param refreshAheadTime how long before it stops being accepted the backend JWT is refreshed, in milliseconds
+     * @param jwtInfoDto       information the backend JWT is generated from
+     */
+    private void refreshBeforeExpiry(String jwtTokenCacheKey, long validUntil, long refreshAheadTime,
+                                     JWTInfoDto jwtInfoDto) {
+
+        if (validUntil - System.currentTimeMillis() > refreshAheadTime
+                || !refreshingBackendJWTs.add(jwtTokenCacheKey)) {
+            return;
+        }
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        JWTInfoDto refreshJWTInfoDto = new JWTInfoDto(jwtInfoDto);
+        try {
+            BackendJWTRefresher.EXECUTOR.execute(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                    generateAndCacheJWTToken(jwtTokenCacheKey, refreshJWTInfoDto);
+                } catch (JWTGeneratorException | RuntimeException e) {
+                    log.error("Error while refreshing Backend JWT", e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                    refreshingBackendJWTs.remove(jwtTokenCacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingBackendJWTs.remove(jwtTokenCacheKey);
+            if (log.isDebugEnabled()) {
+                log.debug("Backend JWT refresh queue is full, the backend JWT will be generated on expiry");
+            }
+        }
+    }
+
     private void includeUserStoreClaimsIntoClaims(JWTInfoDto jwtInfoDto) {
 
         JWTInfoDto localJWTInfoDto = new JWTInfoDto(jwtInfoDto);
@@ -900,4 +965,15 @@ public class JWTValidator {
     private boolean isCNFValidationDisabled(Boolean disableCNFValidation, boolean defaultVal) {
         return JavaUtils.isTrueExplicitly(disableCNFValidation, defaultVal);
     }
+
+    private static final class BackendJWTRefresher {
+
+        private static final int QUEUE_SIZE = 1000;
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "BackendJWTRefresher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
 }
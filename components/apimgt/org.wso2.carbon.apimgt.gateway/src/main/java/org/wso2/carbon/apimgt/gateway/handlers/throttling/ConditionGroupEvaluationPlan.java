@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.axis2.context.MessageContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.throttling.util.IPAddressParser;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable, pre-compiled form of the condition groups attached to a resource. Regular expressions of header, query
+ * parameter and JWT claim conditions are compiled and the bounds of IP range conditions are parsed only once, when
+ * the plan is built. The conditions of a group are ordered so that the cheap IP checks run before the header, query
+ * parameter and JWT claim checks, and the request attributes each of them needs are resolved at most once per
+ * evaluation.
+ */
+final class ConditionGroupEvaluationPlan {
+
+    private static final Log log = LogFactory.getLog(ConditionGroupEvaluationPlan.class);
+
+    private static final int IP_SPECIFIC = 0;
+    private static final int IP_RANGE = 1;
+    private static final int HEADER = 2;
+    private static final int QUERY_PARAMETER = 3;
+    private static final int JWT_CLAIM = 4;
+    private static final int UNSUPPORTED = 5;
+
+    private final String policyName;
+    private final ConditionGroupDTO[] source;
+    private final ConditionGroupDTO defaultGroup;
+    private final ConditionGroupDTO[] conditionGroups;
+    private final CompiledCondition[][] conditions;
+
+    /**
+     * @param policyName           name of the throttling policy the condition groups belong to, or null
+     * @param inputConditionGroups condition groups attached to the resource
+     */
+    ConditionGroupEvaluationPlan(String policyName, ConditionGroupDTO[] inputConditionGroups) {
+
+        ConditionGroupDTO defaultConditionGroup = null;
+        List<ConditionGroupDTO> groups = new ArrayList<>(inputConditionGroups.length);
+        List<CompiledCondition[]> compiledGroups = new ArrayList<>(inputConditionGroups.length);
+        for (ConditionGroupDTO conditionGroup : inputConditionGroups) {
+            if (APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
+                defaultConditionGroup = conditionGroup;
+                continue;
+            }
+            ConditionDTO[] groupConditions = conditionGroup.getConditions();
+            if (groupConditions == null || groupConditions.length == 0) {
+                // A group without conditions is never applicable.
+                continue;
+            }
+            CompiledCondition[] compiledConditions = new CompiledCondition[groupConditions.length];
+            for (int i = 0; i < groupConditions.length; i++) {
+                compiledConditions[i] = new CompiledCondition(groupConditions[i]);
+            }
+            Arrays.sort(compiledConditions, Comparator.comparingInt(compiledCondition -> compiledCondition.type));
+            groups.add(conditionGroup);
+            compiledGroups.add(compiledConditions);
+        }
+        this.policyName = policyName;
+        this.source = inputConditionGroups;
+        this.defaultGroup = defaultConditionGroup;
+        this.conditionGroups = groups.toArray(new ConditionGroupDTO[0]);
+        this.conditions = compiledGroups.toArray(new CompiledCondition[0][]);
+    }
+
+    /**
+     * @param policyName           name of the throttling policy the condition groups belong to
+     * @param inputConditionGroups condition groups attached to the resource
+     * @return whether this plan was built from the given condition groups of the given throttling policy
+     */
+    boolean isBuiltFor(String policyName, ConditionGroupDTO[] inputConditionGroups) {
+
+        // The condition groups of a resource are held by its cached resource info, so an identity check is enough
+        // to tell whether they were reloaded since this plan was built.
+        return source == inputConditionGroups && this.policyName != null && this.policyName.equals(policyName);
+    }
+
+    /**
+     * Provides the condition groups applicable for the given request, or the default group if none of them applies.
+     *
+     * @param messageContext        Axis2 message context of the incoming request
+     * @param authenticationContext AuthenticationContext populated by {@code APIAuthenticationHandler}
+     * @return list of applicable condition groups
+     */
+    List<ConditionGroupDTO> getApplicableConditions(MessageContext messageContext,
+                                                    AuthenticationContext authenticationContext) {
+
+        List<ConditionGroupDTO> matchingConditions = new ArrayList<>(conditionGroups.length + 1);
+        if (conditionGroups.length > 0) {
+            RequestAttributes requestAttributes = new RequestAttributes(messageContext, authenticationContext);
+            for (int i = 0; i < conditionGroups.length; i++) {
+                if (isApplicable(conditions[i], requestAttributes)) {
+                    matchingConditions.add(conditionGroups[i]);
+                }
+            }
+        }
+        // If no matching ConditionGroups are present, apply the default group.
+        if (matchingConditions.isEmpty()) {
+            matchingConditions.add(defaultGroup);
+        }
+        return matchingConditions;
+    }
+
+    private static boolean isApplicable(CompiledCondition[] groupConditions, RequestAttributes requestAttributes) {
+
+        // When multiple conditions have been specified, all the conditions should occur.
+        for (CompiledCondition condition : groupConditions) {
+            if (condition.isApplicable(requestAttributes) == condition.inverted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Single condition of a group with its regular expression or IP bounds resolved.
+     */
+    private static final class CompiledCondition {
+
+        private final int type;
+        private final String name;
+        private final String value;
+        private final Pattern pattern;
+        private final boolean inverted;
+        private final long startHigh;
+        private final long startLow;
+        private final long endHigh;
+        private final long endLow;
+
+        private CompiledCondition(ConditionDTO condition) {
+
+            this.name = condition.getConditionName();
+            this.value = condition.getConditionValue();
+            this.inverted = condition.isInverted();
+            int conditionType = resolveType(condition.getConditionType());
+            Pattern compiledPattern = null;
+            long[] address = new long[2];
+            if (conditionType == IP_RANGE) {
+                // For an IP Range Condition, starting IP is set as the name, ending IP as the value.
+                IPAddressParser.toUnsigned128(APIUtil.ipToBigInteger(name), address);
+                this.startHigh = address[0];
+                this.startLow = address[1];
+                IPAddressParser.toUnsigned128(APIUtil.ipToBigInteger(value), address);
+                this.endHigh = address[0];
+                this.endLow = address[1];
+            } else {
+                this.startHigh = 0;
+                this.startLow = 0;
+                this.endHigh = 0;
+                this.endLow = 0;
+            }
+            if (conditionType == HEADER || conditionType == QUERY_PARAMETER || conditionType == JWT_CLAIM) {
+                try {
+                    compiledPattern = Pattern.compile(value);
+                } catch (PatternSyntaxException e) {
+                    log.error("Invalid regular expression " + value + " in " + condition.getConditionType()
+                            + " throttling condition " + name + ". The expression is treated as not matching, hence "
+                            + "the condition " + (inverted ? "applies to every request." : "does not apply to any "
+                            + "request."), e);
+                    conditionType = UNSUPPORTED;
+                }
+            }
+            this.type = conditionType;
+            this.pattern = compiledPattern;
+        }
+
+        private static int resolveType(String conditionType) {
+
+            if (conditionType == null) {
+                return UNSUPPORTED;
+            }
+            switch (conditionType) {
+                case PolicyConstants.IP_SPECIFIC_TYPE:
+                    return IP_SPECIFIC;
+                case PolicyConstants.IP_RANGE_TYPE:
+                    return IP_RANGE;
+                case PolicyConstants.HEADER_TYPE:
+                    return HEADER;
+                case PolicyConstants.QUERY_PARAMETER_TYPE:
+                    return QUERY_PARAMETER;
+                case PolicyConstants.JWT_CLAIMS_TYPE:
+                    return JWT_CLAIM;
+                default:
+                    return UNSUPPORTED;
+            }
+        }
+
+        private boolean isApplicable(RequestAttributes requestAttributes) {
+
+            switch (type) {
+                case IP_SPECIFIC: {
+                    String ip = requestAttributes.getIp();
+                    return ip != null && ip.equals(value);
+                }
+                case IP_RANGE: {
+                    long[] address = requestAttributes.getAddress();
+                    return address != null
+                            && IPAddressParser.compare(startHigh, startLow, address[0], address[1]) <= 0
+                            && IPAddressParser.compare(endHigh, endLow, address[0], address[1]) >= 0;
+                }
+                case HEADER:
+                    return matches(requestAttributes.getTransportHeaders());
+                case QUERY_PARAMETER:
+                    return matches(requestAttributes.getQueryParams());
+                case JWT_CLAIM:
+                    return matches(requestAttributes.getJWTClaims());
+                default:
+                    return false;
+            }
+        }
+
+        private boolean matches(Map<String, String> attributes) {
+
+            if (attributes == null) {
+                return false;
+            }
+            String attribute = attributes.get(name);
+            return attribute != null && pattern.matcher(attribute).find();
+        }
+    }
+
+    /**
+     * Lazily resolved attributes of the request being evaluated, so that each of them is extracted from the
+     * message context at most once regardless of how many conditions refer to it.
+     */
+    private static final class RequestAttributes {
+
+        private final MessageContext messageContext;
+        private final AuthenticationContext authenticationContext;
+        private String ip;
+        private boolean ipResolved;
+        private long[] address;
+        private boolean addressResolved;
+        private Map<String, String> queryParams;
+        private boolean queryParamsResolved;
+        private Map<String, String> jwtClaims;
+        private boolean jwtClaimsResolved;
+
+        private RequestAttributes(MessageContext messageContext, AuthenticationContext authenticationContext) {
+
+            this.messageContext = messageContext;
+            this.authenticationContext = authenticationContext;
+        }
+
+        private String getIp() {
+
+            if (!ipResolved) {
+                ip = GatewayUtils.getIp(messageContext);
+                ipResolved = true;
+            }
+            return ip;
+        }
+
+        private long[] getAddress() {
+
+            if (!addressResolved) {
+                String currentIp = getIp();
+                if (currentIp != null && !currentIp.isEmpty()) {
+                    address = new long[2];
+                    IPAddressParser.toUnsigned128(currentIp, address);
+                }
+                addressResolved = true;
+            }
+            return address;
+        }
+
+        private Map<String, String> getTransportHeaders() {
+
+            return (Map<String, String>) messageContext.getProperty(MessageContext.TRANSPORT_HEADERS);
+        }
+
+        private Map<String, String> getQueryParams() {
+
+            if (!queryParamsResolved) {
+                queryParams = GatewayUtils.getQueryParams(messageContext);
+                queryParamsResolved = true;
+            }
+            return queryParams;
+        }
+
+        private Map<String, String> getJWTClaims() {
+
+            if (!jwtClaimsResolved) {
+                jwtClaims = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+                jwtClaimsResolved = true;
+            }
+            return jwtClaims;
+        }
+    }
+}
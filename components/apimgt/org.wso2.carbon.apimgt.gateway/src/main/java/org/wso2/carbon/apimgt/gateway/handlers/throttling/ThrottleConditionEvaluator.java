@@ -23,20 +23,17 @@ package org.wso2.carbon.apimgt.gateway.handlers.throttling;
 import org.apache.axis2.context.MessageContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
-import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
 import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
-import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
 import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
-import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -54,6 +51,13 @@ import java.util.regex.Pattern;
  */
 public class ThrottleConditionEvaluator {
 
+    private static final int MAX_CACHED_ENTRIES = 10000;
+
+    // Compiled plans keyed by the request key of the resource, which stays the same when the API is redeployed.
+    private final LRUCache<String, ConditionGroupEvaluationPlan> evaluationPlans =
+            new LRUCache<>(MAX_CACHED_ENTRIES);
+    private final LRUCache<String, Pattern> compiledPatterns = new LRUCache<>(MAX_CACHED_ENTRIES);
+
     private ThrottleConditionEvaluator() {
 
     }
@@ -69,7 +73,8 @@ public class ThrottleConditionEvaluator {
     }
 
     /**
-     * When called, provides a list of Applicable Condition Groups for the current request.
+     * When called, provides a list of Applicable Condition Groups for the current request. The condition groups are
+     * compiled for this call only.
      *
      * @param synapseContext        Message Context of the incoming request.
      * @param authenticationContext AuthenticationContext populated by {@code APIAuthenticationHandler}
@@ -80,101 +85,67 @@ public class ThrottleConditionEvaluator {
                                                            AuthenticationContext authenticationContext,
                                                            ConditionGroupDTO[] inputConditionGroups) {
 
-        ArrayList<ConditionGroupDTO> matchingConditions = new ArrayList<>(inputConditionGroups.length);
-        ConditionGroupDTO defaultGroup = null;
-
-        for (ConditionGroupDTO conditionGroup : inputConditionGroups) {
-            if (APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
-                defaultGroup = conditionGroup;
-            } else if (isConditionGroupApplicable(synapseContext, authenticationContext, conditionGroup)) {
-                matchingConditions.add(conditionGroup);
-            }
-        }
-
-        // If no matching ConditionGroups are present, apply the default group.
-        if (matchingConditions.isEmpty()) {
-            matchingConditions.add(defaultGroup);
-        }
-
-        return matchingConditions;
+        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synapseContext)
+                .getAxis2MessageContext();
+        return new ConditionGroupEvaluationPlan(null, inputConditionGroups).getApplicableConditions(
+                axis2MessageContext, authenticationContext);
     }
 
-    private boolean isConditionGroupApplicable(org.apache.synapse.MessageContext synapseContext,
-                                               AuthenticationContext authenticationContext,
-                                               ConditionGroupDTO conditionGroup) {
-
-        ConditionDTO[] conditions = conditionGroup.getConditions();
-
-        boolean evaluationState = true;
+    /**
+     * When called, provides a list of Applicable Condition Groups for the current request. The condition groups are
+     * compiled once per resource and policy, and the compiled form is reused until the policy or the condition groups
+     * of the resource change, or {@link #invalidateEvaluationPlans()} is called.
+     *
+     * @param synapseContext        Message Context of the incoming request.
+     * @param authenticationContext AuthenticationContext populated by {@code APIAuthenticationHandler}
+     * @param resourceKey           Request key of the resource being invoked.
+     * @param policyName            Name of the throttling policy the condition groups belong to.
+     * @param inputConditionGroups  All Condition Groups Attached with the resource/API being invoked.
+     * @return List of ConditionGroups applicable for the current request.
+     */
+    public List<ConditionGroupDTO> getApplicableConditions(org.apache.synapse.MessageContext synapseContext,
+                                                           AuthenticationContext authenticationContext,
+                                                           String resourceKey, String policyName,
+                                                           ConditionGroupDTO[] inputConditionGroups) {
 
-        if (conditions.length == 0) {
-            evaluationState = false;
-        }
+        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synapseContext)
+                .getAxis2MessageContext();
+        return getEvaluationPlan(resourceKey, policyName, inputConditionGroups).getApplicableConditions(
+                axis2MessageContext, authenticationContext);
+    }
 
-        // When multiple conditions have been specified, all the conditions should occur.
-        for (ConditionDTO condition : conditions) {
-            evaluationState = evaluationState & isConditionApplicable(synapseContext, authenticationContext, condition);
+    /**
+     * Discards all the compiled condition group evaluation plans. This should be called whenever an API level
+     * throttling policy is added, updated or removed, so that the next request compiles the plan again from the
+     * condition groups it carries.
+     */
+    public void invalidateEvaluationPlans() {
 
-            // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
-            if (!evaluationState) {
-                return false;
-            }
-        }
-        return evaluationState;
+        evaluationPlans.clear();
     }
 
-    private boolean isConditionApplicable(org.apache.synapse.MessageContext synapseContext,
-                                          AuthenticationContext authenticationContext,
-                                          ConditionDTO condition) {
-
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synapseContext)
-                .getAxis2MessageContext();
+    private ConditionGroupEvaluationPlan getEvaluationPlan(String resourceKey, String policyName,
+                                                           ConditionGroupDTO[] inputConditionGroups) {
 
-        boolean state = false;
-        switch (condition.getConditionType()) {
-            case PolicyConstants.IP_RANGE_TYPE: {
-                state = isWithinIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.IP_SPECIFIC_TYPE: {
-                state = isMatchingIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.QUERY_PARAMETER_TYPE: {
-                state = isQueryParamPresent(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.JWT_CLAIMS_TYPE: {
-                state = isJWTClaimPresent(authenticationContext, condition);
-                break;
-            }
-            case PolicyConstants.HEADER_TYPE: {
-                state = isHeaderPresent(axis2MessageContext, condition);
-                break;
-            }
+        if (resourceKey == null || policyName == null) {
+            return new ConditionGroupEvaluationPlan(null, inputConditionGroups);
         }
-
-        if (condition.isInverted()) {
-            state = !state;
+        ConditionGroupEvaluationPlan evaluationPlan = evaluationPlans.get(resourceKey);
+        if (evaluationPlan == null || !evaluationPlan.isBuiltFor(policyName, inputConditionGroups)) {
+            evaluationPlan = new ConditionGroupEvaluationPlan(policyName, inputConditionGroups);
+            evaluationPlans.put(resourceKey, evaluationPlan);
         }
-
-        return state;
+        return evaluationPlan;
     }
 
-    private boolean isHeaderPresent(MessageContext messageContext, ConditionDTO condition) {
+    private Pattern getPattern(String regex) {
 
-        Map<String, String> transportHeaderMap = (Map<String, String>) messageContext
-                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        if (transportHeaderMap != null) {
-            String value = transportHeaderMap.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
+        Pattern pattern = compiledPatterns.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            compiledPatterns.put(regex, pattern);
         }
-        return false;
+        return pattern;
     }
 
     private boolean isHeaderPresent(MessageContext messageContext, ConditionDto.HeaderConditions condition) {
@@ -189,8 +160,7 @@ public class ThrottleConditionEvaluator {
                     status = false;
                     break;
                 } else {
-                    Pattern pattern = Pattern.compile(headerEntry.getValue());
-                    Matcher matcher = pattern.matcher(value);
+                    Matcher matcher = getPattern(headerEntry.getValue()).matcher(value);
                     status = status && matcher.find();
                 }
             }
@@ -203,22 +173,6 @@ public class ThrottleConditionEvaluator {
         }
     }
 
-    private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDTO condition) {
-
-        Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-        if (assertions != null) {
-            String value = assertions.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            } else {
-                Pattern pattern = Pattern.compile(condition.getConditionValue());
-                Matcher matcher = pattern.matcher(value);
-                return matcher.find();
-            }
-        }
-        return false;
-    }
-
     private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDto.JWTClaimConditions
             condition) {
                 
@@ -235,8 +189,7 @@ public class ThrottleConditionEvaluator {
                 status = false;
                 break;
             } else {
-                Pattern pattern = Pattern.compile(jwtClaim.getValue());
-                Matcher matcher = pattern.matcher(value);
+                Matcher matcher = getPattern(jwtClaim.getValue()).matcher(value);
                 status = status && matcher.find();
             }
         }
@@ -257,8 +210,7 @@ public class ThrottleConditionEvaluator {
                 status = false;
                 break;
             } else {
-                Pattern pattern = Pattern.compile(queryParam.getValue());
-                Matcher matcher = pattern.matcher(queryParamMap.get(queryParam.getKey()));
+                Matcher matcher = getPattern(queryParam.getValue()).matcher(queryParamMap.get(queryParam.getKey()));
                 status = status && matcher.find();
             }
         }
@@ -269,42 +221,6 @@ public class ThrottleConditionEvaluator {
         }
     }
 
-    private boolean isQueryParamPresent(MessageContext messageContext, ConditionDTO condition) {
-
-        Map<String, String> queryParamMap = GatewayUtils.getQueryParams(messageContext);
-
-        if (queryParamMap != null) {
-            String value = queryParamMap.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
-        }
-        return false;
-    }
-
-    private boolean isMatchingIP(MessageContext messageContext, ConditionDTO condition) {
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        return currentIpString.equals(condition.getConditionValue());
-    }
-
-    private boolean isWithinIP(MessageContext messageContext, ConditionDTO condition) {
-        // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
-        BigInteger startIp = APIUtil.ipToBigInteger(condition.getConditionName());
-        BigInteger endIp = APIUtil.ipToBigInteger(condition.getConditionValue());
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        if (!currentIpString.isEmpty()) {
-            BigInteger currentIp = APIUtil.ipToBigInteger(currentIpString);
-
-            return startIp.compareTo(currentIp) <= 0 && endIp.compareTo(currentIp) >= 0;
-        }
-        return false;
-    }
-
     private boolean isWithinIP(MessageContext messageContext, ConditionDto.IPCondition ipCondition) {
 
         String currentIpString = GatewayUtils.getIp(messageContext);
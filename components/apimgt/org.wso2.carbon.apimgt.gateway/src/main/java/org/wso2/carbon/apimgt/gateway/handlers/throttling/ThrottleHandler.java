@@ -58,12 +58,19 @@ import org.wso2.carbon.apimgt.gateway.handlers.ext.listener.ExtensionListenerUti
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.LocalRateLimiter;
 import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.RequestCountLimit;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ThrottleLimit;
 import org.wso2.carbon.apimgt.tracing.TracingSpan;
 import org.wso2.carbon.apimgt.tracing.TracingTracer;
 import org.wso2.carbon.apimgt.tracing.Util;
@@ -189,6 +196,7 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
         boolean isApplicationLevelThrottled;
         boolean isSubscriptionLevelThrottled;
         boolean isSubscriptionLevelSpikeThrottled = false;
+        boolean isSubscriptionLevelLocallyThrottled = false;
         boolean isApiLevelThrottled = false;
         boolean isBlockedRequest = false;
         boolean apiLevelThrottledTriggered = false;
@@ -330,8 +338,11 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                         log.debug("Evaluating Conditional Groups for " + apiLevelThrottleKey);
                                     }
                                     //Then we will apply resource level throttling
+                                    String conditionPolicy = apiLevelThrottledTriggered ? apiLevelTier
+                                            : resourceLevelTier;
                                     List<ConditionGroupDTO> applicableConditions = getThrottleConditionEvaluator()
-                                            .getApplicableConditions(synCtx, authContext, conditionGroupDTOs);
+                                            .getApplicableConditions(synCtx, authContext,
+                                                    verbInfoDTO.getRequestKey(), conditionPolicy, conditionGroupDTOs);
                                     for (ConditionGroupDTO conditionGroup : applicableConditions) {
                                         String combinedResourceLevelThrottleKey = resourceLevelThrottleKey +
                                                 conditionGroup.getConditionGroupId();
@@ -385,13 +396,26 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                         if (!isSubscriptionLevelThrottled && authContext.getSpikeArrestLimit() > 0) {
                             isSubscriptionLevelSpikeThrottled = isSubscriptionLevelSpike(synCtx, subscriptionLevelThrottleKey);
                         }
+                        //Traffic Manager has not throttled the subscription yet, check this node's share of it
+                        if (!isSubscriptionLevelThrottled && !isSubscriptionLevelSpikeThrottled && stopOnQuotaReach) {
+                            isSubscriptionLevelThrottled = isSubscriptionLevelLocallyThrottled =
+                                    isLocalLimitExceeded(synCtx, subscriptionLevelThrottleKey,
+                                            getSubscriptionPolicyLimit(subscriptionLevelTier, apiTenantDomain));
+                        }
                         //if subscription level not throttled then move to application level
                         //Stop on quata reach
                         if (!isSubscriptionLevelThrottled && !isSubscriptionLevelSpikeThrottled) {
                             boolean isApplicationLevelSpikeThrottled = false;
+                            boolean isApplicationLevelLocallyThrottled = false;
                             //Application Level Throttling
                             isApplicationLevelThrottled = getThrottleDataHolder().
                                     isThrottled(applicationLevelThrottleKey);
+                            if (!isApplicationLevelThrottled) {
+                                isApplicationLevelThrottled = isApplicationLevelLocallyThrottled =
+                                        isLocalLimitExceeded(synCtx, applicationLevelThrottleKey,
+                                                getApplicationPolicyLimit(applicationLevelTier,
+                                                        subscriberTenantDomain));
+                            }
                             //if application level not throttled means it does not throttled at any level.
                             if (!isApplicationLevelThrottled) {
                                 if (authenticationContext.getApplicationSpikesArrestLimit() > 0) {
@@ -447,9 +471,12 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                 }
                                 synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON,
                                                    APIThrottleConstants.APPLICATION_LIMIT_EXCEEDED);
-                                long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(
-                                        applicationLevelThrottleKey);
-                                synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP, timestamp);
+                                if (!isApplicationLevelLocallyThrottled) {
+                                    long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(
+                                            applicationLevelThrottleKey);
+                                    synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
+                                            timestamp);
+                                }
                                 isThrottled = isApplicationLevelThrottled = true;
                             }
                         } else {
@@ -471,8 +498,12 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                               subscriptionLevelThrottleKey);
                                 }
                                 if (!isSubscriptionLevelSpikeThrottled) {
-                                    long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(subscriptionLevelThrottleKey);
-                                    synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP, timestamp);
+                                    if (!isSubscriptionLevelLocallyThrottled) {
+                                        long timestamp = getThrottleDataHolder()
+                                                .getThrottleNextAccessTimestamp(subscriptionLevelThrottleKey);
+                                        synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
+                                                timestamp);
+                                    }
                                     synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON, APIThrottleConstants.API_LIMIT_EXCEEDED);
                                     synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON,
                                                        APIThrottleConstants.SUBSCRIPTION_LIMIT_EXCEEDED);
@@ -602,6 +633,73 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
         return CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
     }
 
+    protected LocalRateLimiter getLocalRateLimiter() {
+        return ServiceReferenceHolder.getInstance().getLocalRateLimiter();
+    }
+
+    /**
+     * Counts the request against this node's share of the given limit when the gateway local rate limiter is
+     * enabled. The Traffic Manager decision stays authoritative, this only rejects requests a node would let through
+     * before a throttle decision for the key reaches it.
+     *
+     * @param synCtx      message context to set the next access timestamp on when throttled
+     * @param throttleKey throttle key the request is counted against
+     * @param limit       default limit of the policy, or null if it is not known in the gateway
+     * @return true if this node has used up its share of the limit in the current window
+     */
+    private boolean isLocalLimitExceeded(MessageContext synCtx, String throttleKey, ThrottleLimit limit) {
+        LocalRateLimiter localRateLimiter = getLocalRateLimiter();
+        if (localRateLimiter == null || limit == null || limit.getRequestCount() == null) {
+            return false;
+        }
+        RequestCountLimit requestCountLimit = limit.getRequestCount();
+        if (requestCountLimit.getRequestCount() == null || requestCountLimit.getUnitTime() == null) {
+            return false;
+        }
+        long windowMillis = LocalRateLimiter.getWindowMillis(requestCountLimit.getTimeUnit(),
+                requestCountLimit.getUnitTime());
+        if (windowMillis <= 0) {
+            return false;
+        }
+        long currentTime = System.currentTimeMillis();
+        if (localRateLimiter.tryAcquire(throttleKey, requestCountLimit.getRequestCount(), windowMillis,
+                currentTime)) {
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Request throttled by the gateway local rate limiter for throttle key " + throttleKey);
+        }
+        synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
+                LocalRateLimiter.getNextWindowStart(windowMillis, currentTime));
+        return true;
+    }
+
+    private ThrottleLimit getSubscriptionPolicyLimit(String policyName, String tenantDomain) {
+        if (getLocalRateLimiter() == null || StringUtils.isEmpty(policyName)) {
+            return null;
+        }
+        SubscriptionDataStore store = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+        if (store == null) {
+            return null;
+        }
+        SubscriptionPolicy policy = store.getSubscriptionPolicyByName(policyName,
+                APIUtil.getTenantIdFromTenantDomain(tenantDomain));
+        return policy != null ? policy.getDefaultLimit() : null;
+    }
+
+    private ThrottleLimit getApplicationPolicyLimit(String policyName, String tenantDomain) {
+        if (getLocalRateLimiter() == null || StringUtils.isEmpty(policyName)) {
+            return null;
+        }
+        SubscriptionDataStore store = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+        if (store == null) {
+            return null;
+        }
+        ApplicationPolicy policy = store.getApplicationPolicyByName(policyName,
+                APIUtil.getTenantIdFromTenantDomain(tenantDomain));
+        return policy != null ? policy.getDefaultLimit() : null;
+    }
+
 
     /**
      * Handle incoming requests and call throttling method to perform throttling.
@@ -34,15 +34,17 @@ import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class DataHolder {
     private static final Log log  = LogFactory.getLog(DataHolder.class);
     private static final DataHolder Instance = new DataHolder();
-    private Map<String, List<String>> apiToCertificatesMap = new HashMap();
+    // Written by the parallel API deployment threads at startup
+    private Map<String, List<String>> apiToCertificatesMap = new ConcurrentHashMap<>();
     private Map<String, String> googleAnalyticsConfigMap = new HashMap<>();
-    private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new HashMap<>();
-    private Map<String, List<String>> apiToKeyManagersMap = new HashMap<>();
+    private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new ConcurrentHashMap<>();
+    private Map<String, List<String>> apiToKeyManagersMap = new ConcurrentHashMap<>();
     private Map<String,Map<String, API>> tenantAPIMap  = new HashMap<>();
     private Map<String, Boolean> tenantDeployStatus = new HashMap<>();
     private Map<String, LLMProvider> llmProviderMap = new HashMap<>();
@@ -171,7 +173,11 @@ public class DataHolder {
 
     public void addKeyManagerToAPIMapping(String uuid, List<String> keyManagers) {
 
-        apiToKeyManagersMap.put(uuid, keyManagers);
+        if (keyManagers != null) {
+            apiToKeyManagersMap.put(uuid, keyManagers);
+        } else {
+            apiToKeyManagersMap.remove(uuid);
+        }
     }
     public void removeKeyManagerToAPIMapping(String uuid) {
 
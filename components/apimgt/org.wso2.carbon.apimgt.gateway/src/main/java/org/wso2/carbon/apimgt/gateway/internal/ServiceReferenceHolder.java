@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsCustomDataProvider;
 import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJWTGenerator;
 import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
+import org.wso2.carbon.apimgt.gateway.throttling.LocalRateLimiter;
 import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
 import org.wso2.carbon.apimgt.gateway.utils.redis.RedisCacheUtils;
@@ -84,6 +85,7 @@ public class ServiceReferenceHolder {
     private EndpointAdmin endpointAdmin;
     private MediationSecurityAdminService mediationSecurityAdminService;
     private ThrottleDataPublisher throttleDataPublisher;
+    private LocalRateLimiter localRateLimiter;
     private Map<String,AbstractAPIMgtGatewayJWTGenerator> apiMgtGatewayJWTGenerators  = new HashMap<>();
     private Map<String, LLMProviderService> llmProviderServiceMap = new HashMap();
     private TracingTracer tracer;
@@ -252,6 +254,16 @@ public class ServiceReferenceHolder {
         this.throttleDataPublisher = throttleDataPublisher;
     }
 
+    public LocalRateLimiter getLocalRateLimiter() {
+
+        return localRateLimiter;
+    }
+
+    public void setLocalRateLimiter(LocalRateLimiter localRateLimiter) {
+
+        this.localRateLimiter = localRateLimiter;
+    }
+
 
 
     public Map<String,AbstractAPIMgtGatewayJWTGenerator> getApiMgtGatewayJWTGenerator() {
@@ -19,8 +19,8 @@ package org.wso2.carbon.apimgt.gateway.jwt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.jwt.VerifiedJWTCache;
 
-import java.sql.Timestamp;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,7 +30,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RevokedJWTDataHolder {
 
     private static final Log log = LogFactory.getLog(RevokedJWTDataHolder.class);
-    private static Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final RevokedTokenStore revokedJWTStore =
+            new RevokedTokenStore(RevokedTokenStore.DEFAULT_BUCKET_MILLIS, true);
     private static final Map<String, Long> revokedConsumerKeyMap = new ConcurrentHashMap<>();
     private static final Map<String, Long> revokedSubjectEntityAppMap = new ConcurrentHashMap<>();
     // User UUID (jwt claim) -> revoked timestamp
@@ -38,14 +39,17 @@ public class RevokedJWTDataHolder {
     private static RevokedJWTDataHolder instance = new RevokedJWTDataHolder();
 
     /**
-     * Adds a given key,value pair to the revoke map.
+     * Adds a given key,value pair to the revoke map and drops the JWT from the verified JWT cache.
      * @param key key to be added.
-     * @param value value to be added.
+     * @param value expiry time of the revoked JWT, after which it is removed from the map.
      */
     public void addRevokedJWTToMap(String key, Long value) {
         if (key != null && value != null) {
-            log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
-            revokedJWTMap.put(key, value);
+            if (log.isDebugEnabled()) {
+                log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
+            }
+            revokedJWTStore.add(key, value);
+            VerifiedJWTCache.getInstance().invalidate(key);
         }
     }
 
@@ -55,7 +59,7 @@ public class RevokedJWTDataHolder {
      * @return true if it exists and false otherwise.
      */
     public static boolean isJWTTokenSignatureExistsInRevokedMap(String jwtSignature) {
-        return revokedJWTMap.containsKey(jwtSignature);
+        return jwtSignature != null && revokedJWTStore.contains(jwtSignature);
     }
 
     private RevokedJWTDataHolder() {
@@ -63,11 +67,12 @@ public class RevokedJWTDataHolder {
     }
 
     /**
-     * Fetches the revoke map.
-     * @return
+     * Removes the revoked JWTs which have expired at the given time.
+     * @param currentTime current time in milliseconds.
+     * @return number of removed JWTs.
      */
-    Map<String, Long> getRevokedJWTMap() {
-        return revokedJWTMap;
+    int removeExpiredRevokedJWTs(long currentTime) {
+        return revokedJWTStore.removeExpired(currentTime);
     }
 
     /**
@@ -89,14 +94,7 @@ public class RevokedJWTDataHolder {
 
     public boolean isRevokedConsumerKeyExists(String consumerKey, Long jwtGeneratedTimestamp) {
 
-        Long jwtRevokedTime = revokedConsumerKeyMap.get(consumerKey);
-
-        if (jwtRevokedTime != null) {
-            Timestamp jwtRevokedTimestamp = new Timestamp(jwtRevokedTime);
-            jwtRevokedTimestamp.toLocalDateTime();
-            return jwtRevokedTimestamp.after(new Timestamp(jwtGeneratedTimestamp));
-        }
-        return false;
+        return isRevokedAfter(revokedConsumerKeyMap.get(consumerKey), jwtGeneratedTimestamp);
     }
 
     public void addRevokedSubjectEntityConsumerAppToMap(String consumerKey, Long revocationTime) {
@@ -110,14 +108,7 @@ public class RevokedJWTDataHolder {
 
     public boolean isRevokedSubjectEntityConsumerAppExists(String consumerKey, Long jwtGeneratedTimestamp) {
 
-        Long jwtRevokedTime = revokedSubjectEntityAppMap.get(consumerKey);
-
-        if (jwtRevokedTime != null) {
-            Timestamp jwtRevokedTimestamp = new Timestamp(jwtRevokedTime);
-            return jwtRevokedTimestamp.after(new Timestamp(jwtGeneratedTimestamp));
-        }
-
-        return false;
+        return isRevokedAfter(revokedSubjectEntityAppMap.get(consumerKey), jwtGeneratedTimestamp);
     }
 
     public void addRevokedSubjectEntityUserToMap(String userUUID, Long revocationTime) {
@@ -131,11 +122,14 @@ public class RevokedJWTDataHolder {
 
     public boolean isRevokedSubjectEntityUserExists(String user, Long jwtGeneratedTimestamp) {
 
-        Long jwtRevokedTime = revokedSubjectEntityUserMap.get(user);
-        if (jwtRevokedTime != null) {
-            Timestamp jwtRevokedTimestamp = new Timestamp(jwtRevokedTime);
-            return jwtRevokedTimestamp.after(new Timestamp(jwtGeneratedTimestamp));
-        }
-        return false;
+        return isRevokedAfter(revokedSubjectEntityUserMap.get(user), jwtGeneratedTimestamp);
+    }
+
+    /**
+     * Compares the millisecond timestamps directly, which is what comparing them as {@link java.sql.Timestamp}s did.
+     */
+    private static boolean isRevokedAfter(Long jwtRevokedTime, Long jwtGeneratedTimestamp) {
+
+        return jwtRevokedTime != null && jwtRevokedTime > jwtGeneratedTimestamp;
     }
 }
\ No newline at end of file
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Store of revoked JWT signatures. A signature is kept as a 128-bit hash in primitive open addressing tables, one per
+ * expiry bucket, so that a lookup neither boxes nor allocates and the entries of a bucket are dropped at once when all
+ * of them have expired. An optional Bloom filter in front of the buckets answers the common not-revoked case with a
+ * few bit reads.
+ * <p>
+ * A hash collision can only make a valid token look revoked and never the opposite. Lookups are lock free, while
+ * writers, which are rare compared to lookups, are serialized on the store.
+ */
+final class RevokedTokenStore {
+
+    static final long DEFAULT_BUCKET_MILLIS = 60 * 60 * 1000L;
+    private static final Bucket[] NO_BUCKETS = new Bucket[0];
+    private static final int BLOOM_FILTER_MIN_BITS = 1 << 16;
+    private static final int BLOOM_FILTER_BITS_PER_ENTRY = 16;
+    private static final int BLOOM_FILTER_HASHES = 5;
+
+    private final long bucketMillis;
+    private final boolean bloomFilterEnabled;
+    // Both references are replaced, never modified, when buckets are added or dropped or the filter is resized.
+    private volatile Bucket[] buckets = NO_BUCKETS;
+    private volatile BloomFilter bloomFilter;
+    private int size;
+
+    RevokedTokenStore(long bucketMillis, boolean bloomFilterEnabled) {
+
+        this.bucketMillis = bucketMillis;
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.bloomFilter = bloomFilterEnabled ? new BloomFilter(BLOOM_FILTER_MIN_BITS) : null;
+    }
+
+    /**
+     * Adds a revoked signature, which is kept until the given expiry time has passed.
+     *
+     * @param signature  signature of the revoked token
+     * @param expiryTime expiry time of the token in milliseconds
+     */
+    synchronized void add(String signature, long expiryTime) {
+
+        long high = hashHigh(signature);
+        long low = hashLow(signature);
+        Bucket bucket = getOrCreateBucket(Math.floorDiv(expiryTime, bucketMillis));
+        if (!bucket.add(high, low)) {
+            return;
+        }
+        size++;
+        if (bloomFilterEnabled) {
+            BloomFilter filter = bloomFilter;
+            if ((long) size * BLOOM_FILTER_BITS_PER_ENTRY > filter.bitCount) {
+                rebuildBloomFilter();
+            } else {
+                filter.add(high, low);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given signature has been revoked.
+     *
+     * @param signature signature of the token
+     * @return true if the signature is in the store
+     */
+    boolean contains(String signature) {
+
+        long high = hashHigh(signature);
+        long low = hashLow(signature);
+        BloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(high, low)) {
+            return false;
+        }
+        for (Bucket bucket : buckets) {
+            if (bucket.contains(high, low)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the buckets whose signatures have all expired at the given time. A signature may therefore be kept up to
+     * one bucket width after its expiry time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return number of removed signatures
+     */
+    synchronized int removeExpired(long currentTime) {
+
+        long currentBucketId = Math.floorDiv(currentTime, bucketMillis);
+        Bucket[] currentBuckets = buckets;
+        int liveBucketCount = 0;
+        int removed = 0;
+        for (Bucket bucket : currentBuckets) {
+            if (bucket.id < currentBucketId) {
+                removed += bucket.count;
+            } else {
+                liveBucketCount++;
+            }
+        }
+        if (removed == 0 && liveBucketCount == currentBuckets.length) {
+            return 0;
+        }
+        Bucket[] liveBuckets = new Bucket[liveBucketCount];
+        int index = 0;
+        for (Bucket bucket : currentBuckets) {
+            if (bucket.id >= currentBucketId) {
+                liveBuckets[index++] = bucket;
+            }
+        }
+        buckets = liveBuckets;
+        size -= removed;
+        if (bloomFilterEnabled && removed > 0) {
+            rebuildBloomFilter();
+        }
+        return removed;
+    }
+
+    synchronized int size() {
+
+        return size;
+    }
+
+    int getBucketCount() {
+
+        return buckets.length;
+    }
+
+    private Bucket getOrCreateBucket(long bucketId) {
+
+        Bucket[] currentBuckets = buckets;
+        for (Bucket bucket : currentBuckets) {
+            if (bucket.id == bucketId) {
+                return bucket;
+            }
+        }
+        Bucket bucket = new Bucket(bucketId);
+        Bucket[] newBuckets = new Bucket[currentBuckets.length + 1];
+        System.arraycopy(currentBuckets, 0, newBuckets, 0, currentBuckets.length);
+        newBuckets[currentBuckets.length] = bucket;
+        buckets = newBuckets;
+        return bucket;
+    }
+
+    private void rebuildBloomFilter() {
+
+        long requiredBits = Math.max(BLOOM_FILTER_MIN_BITS, (long) size * BLOOM_FILTER_BITS_PER_ENTRY * 2);
+        int bitCount = (int) Math.min(1L << 30, Long.highestOneBit(requiredBits - 1) << 1);
+        BloomFilter filter = new BloomFilter(bitCount);
+        for (Bucket bucket : buckets) {
+            bucket.addTo(filter);
+        }
+        bloomFilter = filter;
+    }
+
+    static long hashHigh(String value) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        // The high half is never zero, as zero marks an empty slot.
+        return mix(hash ^ value.length()) | 1L;
+    }
+
+    static long hashLow(String value) {
+
+        long hash = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = Long.rotateLeft(hash ^ (value.charAt(i) * 0x87c37b91114253d5L), 31) * 0x4cf5ad432745937fL;
+        }
+        return mix(hash ^ value.length());
+    }
+
+    private static long mix(long hash) {
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Signatures of the tokens expiring within one bucket width. Slots hold the high and low halves of the hash in
+     * consecutive elements, and the low half is written before the high half so that a reader which sees the high
+     * half also sees the low half.
+     */
+    private static final class Bucket {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final long id;
+        private volatile AtomicLongArray table = new AtomicLongArray(INITIAL_CAPACITY * 2);
+        private int count;
+
+        private Bucket(long id) {
+
+            this.id = id;
+        }
+
+        boolean contains(long high, long low) {
+
+            AtomicLongArray slots = table;
+            int mask = slots.length() / 2 - 1;
+            int slot = (int) (low ^ (low >>> 32)) & mask;
+            while (true) {
+                long slotHigh = slots.get(slot * 2);
+                if (slotHigh == 0) {
+                    return false;
+                }
+                if (slotHigh == high && slots.get(slot * 2 + 1) == low) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        boolean add(long high, long low) {
+
+            if (contains(high, low)) {
+                return false;
+            }
+            if ((count + 1) * 2 > table.length() / 2) {
+                resize();
+            }
+            insert(table, high, low);
+            count++;
+            return true;
+        }
+
+        void addTo(BloomFilter filter) {
+
+            AtomicLongArray slots = table;
+            for (int i = 0; i < slots.length(); i += 2) {
+                long high = slots.get(i);
+                if (high != 0) {
+                    filter.add(high, slots.get(i + 1));
+                }
+            }
+        }
+
+        private void resize() {
+
+            AtomicLongArray slots = table;
+            AtomicLongArray resized = new AtomicLongArray(slots.length() * 2);
+            for (int i = 0; i < slots.length(); i += 2) {
+                long high = slots.get(i);
+                if (high != 0) {
+                    insert(resized, high, slots.get(i + 1));
+                }
+            }
+            table = resized;
+        }
+
+        private static void insert(AtomicLongArray slots, long high, long low) {
+
+            int mask = slots.length() / 2 - 1;
+            int slot = (int) (low ^ (low >>> 32)) & mask;
+            while (slots.get(slot * 2) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots.set(slot * 2 + 1, low);
+            slots.set(slot * 2, high);
+        }
+    }
+
+    /**
+     * Bloom filter over the 128-bit signature hashes, using double hashing to derive the bit positions.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int mask;
+
+        private BloomFilter(int bitCount) {
+
+            this.bits = new AtomicLongArray(bitCount / Long.SIZE);
+            this.bitCount = bitCount;
+            this.mask = bitCount - 1;
+        }
+
+        void add(long high, long low) {
+
+            for (int i = 0; i < BLOOM_FILTER_HASHES; i++) {
+                int bit = (int) (high + i * low) & mask;
+                int word = bit >>> 6;
+                long bitMask = 1L << bit;
+                if ((bits.get(word) & bitMask) == 0) {
+                    bits.getAndAccumulate(word, bitMask, (current, update) -> current | update);
+                }
+            }
+        }
+
+        boolean mightContain(long high, long low) {
+
+            for (int i = 0; i < BLOOM_FILTER_HASHES; i++) {
+                int bit = (int) (high + i * low) & mask;
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
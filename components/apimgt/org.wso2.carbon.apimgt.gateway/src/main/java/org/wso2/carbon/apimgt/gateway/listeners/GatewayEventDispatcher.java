@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Processes the events received by the gateway on a fixed number of worker threads. Each event is dispatched with
+ * the key of the entity it changes, such as the UUID of an API or the ID of an application, and all the events of a
+ * key are processed by the same worker in the order they were dispatched. Events of different keys are processed
+ * in parallel, so that a burst of events of one entity does not hold back the others.
+ * <p>
+ * An event which depends on two entities, such as a subscription of an application to an API, is dispatched with
+ * both keys, and an event which the events of every entity depend on, such as a policy change, is dispatched to all
+ * the workers. Such an event is processed once every worker it is dispatched to has processed the events dispatched
+ * before it, and those workers wait for it to be processed before continuing.
+ * <p>
+ * Each worker queues at most a fixed number of events. Dispatching to a full worker blocks until the worker has room,
+ * so that a slow worker slows down the event listener instead of exhausting the memory.
+ * <p>
+ * The number of pending events and the latency of each event type are registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=GatewayEventDispatcher,name=<name>}.
+ */
+public class GatewayEventDispatcher implements GatewayEventDispatcherMXBean {
+
+    private static final Log log = LogFactory.getLog(GatewayEventDispatcher.class);
+    private static final String OBJECT_NAME_PREFIX = "org.wso2.carbon.apimgt:type=GatewayEventDispatcher,name=";
+    static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    private final String name;
+    private final ThreadPoolExecutor[] partitions;
+    private final int queueCapacity;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder blockedDispatchCount = new LongAdder();
+    private final Map<String, EventTypeStats> eventTypeStats = new ConcurrentHashMap<>();
+
+    public GatewayEventDispatcher(String name, int partitionCount) {
+
+        this(name, partitionCount, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public GatewayEventDispatcher(String name, int partitionCount, int queueCapacity) {
+
+        this(name, partitionCount, queueCapacity, true);
+    }
+
+    GatewayEventDispatcher(String name, int partitionCount, int queueCapacity, boolean registerMBean) {
+
+        this.name = name;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.partitions = new ThreadPoolExecutor[Math.max(1, partitionCount)];
+        RejectedExecutionHandler blockingHandler = this::awaitRoom;
+        for (int i = 0; i < partitions.length; i++) {
+            String threadName = partitions.length == 1 ? name : name + "-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(this.queueCapacity), r -> new Thread(r, threadName), blockingHandler);
+        }
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME_PREFIX + name);
+        }
+    }
+
+    /**
+     * Queues an event to be processed after all the events previously dispatched with the same key.
+     *
+     * @param key       key of the entity the event changes, events without a key are processed by the first worker
+     * @param eventType type of the event, used to group the latencies
+     * @param task      processing of the event
+     */
+    public void dispatch(String key, String eventType, Runnable task) {
+
+        dispatch(new int[]{getPartition(key)}, key, eventType, task);
+    }
+
+    /**
+     * Queues an event to be processed after all the events previously dispatched with either of the keys.
+     *
+     * @param key          key of the entity the event changes
+     * @param dependentKey key of another entity the event depends on
+     * @param eventType    type of the event, used to group the latencies
+     * @param task         processing of the event
+     */
+    public void dispatch(String key, String dependentKey, String eventType, Runnable task) {
+
+        int partition = getPartition(key);
+        int dependentPartition = getPartition(dependentKey);
+        dispatch(partition == dependentPartition ? new int[]{partition} : new int[]{partition, dependentPartition},
+                key, eventType, task);
+    }
+
+    /**
+     * Queues an event to be processed after all the events previously dispatched, whatever their key.
+     *
+     * @param eventType type of the event, used to group the latencies
+     * @param task      processing of the event
+     */
+    public void dispatchToAll(String eventType, Runnable task) {
+
+        int[] allPartitions = new int[partitions.length];
+        for (int i = 0; i < allPartitions.length; i++) {
+            allPartitions[i] = i;
+        }
+        dispatch(allPartitions, null, eventType, task);
+    }
+
+    /*
+     * Events are queued under a lock, so that two events spanning the same workers are queued in the same order on
+     * each of them, and a worker waiting for another one never waits for an event queued after its own.
+     */
+    private synchronized void dispatch(int[] partitionIndexes, String key, String eventType, Runnable task) {
+
+        long dispatchedTime = System.nanoTime();
+        Runnable event = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Error while processing the " + eventType + " event of " + key, e);
+            } finally {
+                queueDepth.decrementAndGet();
+                eventTypeStats.computeIfAbsent(eventType, type -> new EventTypeStats())
+                        .record(System.nanoTime() - dispatchedTime);
+            }
+        };
+        queueDepth.incrementAndGet();
+        if (partitionIndexes.length == 1) {
+            try {
+                partitions[partitionIndexes[0]].execute(event);
+            } catch (RuntimeException e) {
+                queueDepth.decrementAndGet();
+                throw e;
+            }
+            return;
+        }
+        CountDownLatch reached = new CountDownLatch(partitionIndexes.length - 1);
+        CountDownLatch processed = new CountDownLatch(1);
+        try {
+            for (int i = 1; i < partitionIndexes.length; i++) {
+                partitions[partitionIndexes[i]].execute(() -> {
+                    reached.countDown();
+                    awaitUninterruptibly(processed);
+                });
+            }
+            partitions[partitionIndexes[0]].execute(() -> {
+                awaitUninterruptibly(reached);
+                try {
+                    event.run();
+                } finally {
+                    processed.countDown();
+                }
+            });
+        } catch (RuntimeException e) {
+            queueDepth.decrementAndGet();
+            processed.countDown();
+            throw e;
+        }
+    }
+
+    private void awaitRoom(Runnable task, ThreadPoolExecutor partition) {
+
+        if (partition.isShutdown()) {
+            throw new RejectedExecutionException("Event dispatcher " + name + " has been shut down");
+        }
+        blockedDispatchCount.increment();
+        try {
+            partition.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to dispatch an event", e);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int getPartition(String key) {
+
+        if (key == null) {
+            return 0;
+        }
+        return Math.floorMod(key.hashCode(), partitions.length);
+    }
+
+    /**
+     * Stops the workers once the events already dispatched are processed.
+     */
+    public void shutdown() {
+
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor partition : partitions) {
+            if (!partition.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int getPartitionCount() {
+
+        return partitions.length;
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        return queueDepth.get();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    @Override
+    public long getBlockedDispatchCount() {
+
+        return blockedDispatchCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+
+        Map<String, Long> eventCounts = new TreeMap<>();
+        eventTypeStats.forEach((eventType, stats) -> eventCounts.put(eventType, stats.count.sum()));
+        return eventCounts;
+    }
+
+    @Override
+    public Map<String, Long> getAverageLatencies() {
+
+        Map<String, Long> latencies = new TreeMap<>();
+        eventTypeStats.forEach((eventType, stats) -> {
+            long count = stats.count.sum();
+            latencies.put(eventType, count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(stats.totalTime.sum() / count));
+        });
+        return latencies;
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+
+        Map<String, Long> latencies = new TreeMap<>();
+        eventTypeStats.forEach((eventType, stats) ->
+                latencies.put(eventType, TimeUnit.NANOSECONDS.toMillis(stats.maxTime.get())));
+        return latencies;
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        eventTypeStats.clear();
+        blockedDispatchCount.reset();
+    }
+
+    private static class EventTypeStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+
+            count.increment();
+            totalTime.add(nanos);
+            maxTime.accumulate(nanos);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import java.util.Map;
+
+/**
+ * JMX view of the gateway event dispatching, see {@link GatewayEventDispatcher}.
+ */
+public interface GatewayEventDispatcherMXBean {
+
+    /**
+     * @return number of worker threads the events are partitioned across
+     */
+    int getPartitionCount();
+
+    /**
+     * @return number of events dispatched but not yet processed, over all the partitions
+     */
+    int getQueueDepth();
+
+    /**
+     * @return number of events each worker queues before dispatching blocks
+     */
+    int getQueueCapacity();
+
+    /**
+     * @return number of times dispatching an event blocked because the queue of its worker was full
+     */
+    long getBlockedDispatchCount();
+
+    /**
+     * @return number of events processed, by event type
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * @return average time from dispatching an event to the end of its processing, by event type, in milliseconds
+     */
+    Map<String, Long> getAverageLatencies();
+
+    /**
+     * @return longest time from dispatching an event to the end of its processing, by event type, in milliseconds
+     */
+    Map<String, Long> getMaxLatencies();
+
+    /**
+     * Resets the event counts, latencies and blocked dispatch count.
+     */
+    void resetStatistics();
+}
@@ -37,8 +37,10 @@ import org.wso2.carbon.apimgt.gateway.GatewayPolicyDeployer;
 import org.wso2.carbon.apimgt.gateway.GoogleAnalyticsConfigDeployer;
 import org.wso2.carbon.apimgt.gateway.InMemoryAPIDeployer;
 import org.wso2.carbon.apimgt.gateway.LLMProviderManager;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.ThrottleConditionEvaluator;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants.EventType;
 import org.wso2.carbon.apimgt.impl.APIConstants.PolicyType;
@@ -68,8 +70,6 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -79,6 +79,23 @@ import javax.jms.Topic;
 public class GatewayJMSMessageListener implements MessageListener, JMSConnectionEventListener {
 
     private static final Log log = LogFactory.getLog(GatewayJMSMessageListener.class);
+    private static final Gson gson = new Gson();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int DEFAULT_EVENT_WORKER_COUNT = 4;
+    private static final int EVENT_QUEUE_CAPACITY = GatewayUtils.getAPIManagerConfigurationProperty(
+            APIConstants.GATEWAY_EVENT_QUEUE_CAPACITY, GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY);
+    /*
+     * API deployments are kept on a single worker unless configured otherwise, as deploying APIs which share
+     * local entries or certificates in parallel is not verified. The other events are partitioned by the API or
+     * the application they change, so that they are neither held back by deployments nor by each other.
+     */
+    private static final GatewayEventDispatcher deploymentDispatcher = new GatewayEventDispatcher(
+            "DeploymentThread",
+            GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.GATEWAY_DEPLOYMENT_EVENT_WORKER_COUNT, 1),
+            EVENT_QUEUE_CAPACITY);
+    private static final GatewayEventDispatcher eventDispatcher = new GatewayEventDispatcher("GatewayEventThread",
+            GatewayUtils.getAPIManagerConfigurationProperty(APIConstants.GATEWAY_EVENT_WORKER_COUNT,
+                    DEFAULT_EVENT_WORKER_COUNT), EVENT_QUEUE_CAPACITY);
     private boolean debugEnabled = log.isDebugEnabled();
     private boolean refreshOnReconnect = false;
     private InMemoryAPIDeployer inMemoryApiDeployer = new InMemoryAPIDeployer();
@@ -86,7 +103,6 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             .getAPIManagerConfiguration().getEventHubConfigurationDto();
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
-    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
 
     public GatewayJMSMessageListener() {
     }
@@ -115,7 +131,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData =  new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
+                    JsonNode payloadData =  objectMapper.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
                             path(APIConstants.EVENT_PAYLOAD_DATA);
 
                     if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
@@ -163,116 +179,71 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
 
         if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
                 || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
-                @Override
-                public void run() {
-
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
-                    String tenantDomain = gatewayEvent.getTenantDomain();
-                    boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                    if (!tenantLoaded) {
-                        String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
-                        synchronized (syncKey.intern()) {
-                            tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                            if (!tenantLoaded) {
-                                APIUtil.loadTenantConfigBlockingMode(tenantDomain);
-                            }
-                        }
-                    }
-
-                    if (tenantLoaded) {
-                        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
-                        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-                        if (!systemConfiguredGatewayLabels.isEmpty()) {
-                            ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
-                            if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.deployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
-                                            "in the Gateway");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                            }
-                            if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.unDeployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in undeploying artifacts");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                                DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
-                                        gatewayEvent.getTenantDomain());
-                            }
-                        }
-
-                        if (debugEnabled) {
-                            log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
-                                    gatewayEvent.getUuid() + " is successfully deployed/undeployed");
-                        }
-                    }
-                }
-            });
+            DeployAPIInGatewayEvent gatewayEvent = gson.fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            deploymentDispatcher.dispatch(gatewayEvent.getUuid(), eventType,
+                    () -> handleDeploymentEvent(eventType, gatewayEvent));
         }
         if (EventType.APPLICATION_CREATE.toString().equals(eventType)
                 || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                            .addOrUpdateApplication(event));
         } else if (EventType.SUBSCRIPTIONS_CREATE.toString().equals(eventType)
                 || EventType.SUBSCRIPTIONS_UPDATE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), event.getApiUUID(), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                            .addOrUpdateSubscription(event));
         } else if (EventType.API_UPDATE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
-            DataHolder.getInstance().addAPIMetaData(event);
-        } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
-            if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
-                ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPI(event);
-                DataHolder.getInstance().removeAPIFromAllTenantMap(event.getApiContext(), event.getTenantDomain());
-            } else {
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
+            eventDispatcher.dispatch(event.getUuid(), eventType, () -> {
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
-            }
+                DataHolder.getInstance().addAPIMetaData(event);
+            });
+        } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
+            eventDispatcher.dispatch(event.getUuid(), eventType, () -> {
+                if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
+                    ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPI(event);
+                    DataHolder.getInstance().removeAPIFromAllTenantMap(event.getApiContext(),
+                            event.getTenantDomain());
+                } else {
+                    ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
+                }
+            });
         } else if (EventType.APPLICATION_REGISTRATION_CREATE.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                            .addOrUpdateApplicationKeyMapping(event));
         } else if (EventType.SUBSCRIPTIONS_DELETE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), event.getApiUUID(), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event));
         } else if (EventType.APPLICATION_DELETE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event));
         } else if (EventType.REMOVE_APPLICATION_KEYMAPPING.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplicationKeyMapping(event);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
+            eventDispatcher.dispatch(getApplicationKey(event.getApplicationId()), eventType,
+                    () -> ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                            .removeApplicationKeyMapping(event));
         } else if (EventType.SCOPES_UPDATE.toString().equals(eventType)) {
-            ScopesEvent event = new Gson().fromJson(eventJson, ScopesEvent.class);
+            ScopesEvent event = gson.fromJson(eventJson, ScopesEvent.class);
             for (ScopeEvent scopeEvent : event.getScopes()) {
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(scopeEvent);
             }
         } else if (EventType.SCOPE_CREATE.toString().equals(eventType) ||
                 EventType.SCOPE_UPDATE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(event);
             APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
                     APIConstants.AuditLogConstants.DEPLOYED,
                     APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
         } else if (EventType.SCOPE_DELETE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().deleteScope(event);
             APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
                     APIConstants.AuditLogConstants.DEPLOYED,
@@ -280,53 +251,11 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         } else if (EventType.POLICY_CREATE.toString().equals(eventType) ||
             EventType.POLICY_DELETE.toString().equals(eventType) ||
             EventType.POLICY_UPDATE.toString().equals(eventType)) {
-            String policyName = null;
-            PolicyEvent event = new Gson().fromJson(eventJson, PolicyEvent.class);
-            boolean updatePolicy = false;
-            boolean deletePolicy = false;
-            if (EventType.POLICY_CREATE.toString().equals(eventType)
-                    || EventType.POLICY_UPDATE.toString().equals(eventType)) {
-                updatePolicy = true;
-            } else if (EventType.POLICY_DELETE.toString().equals(eventType)) {
-                deletePolicy = true;
-            }
-            if (event.getPolicyType() == PolicyType.API) {
-                APIPolicyEvent policyEvent = new Gson().fromJson(eventJson, APIPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateAPIPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeAPIPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
-                SubscriptionPolicyEvent policyEvent = new Gson().fromJson(eventJson, SubscriptionPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateSubscriptionPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeSubscriptionPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.APPLICATION) {
-                ApplicationPolicyEvent policyEvent = new Gson().fromJson(eventJson, ApplicationPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateApplicationPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeApplicationPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            }
-            APIUtil.logAuditMessage(event.getPolicyType().toString(), policyName + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+            // Applications and subscriptions refer to policies, so policy changes are ordered with all their events
+            eventDispatcher.dispatchToAll(eventType, () -> handlePolicyEvent(eventType, eventJson));
         } else if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType) ||
                 EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-            CertificateEvent certificateEvent = new Gson().fromJson(eventJson, CertificateEvent.class);
+            CertificateEvent certificateEvent = gson.fromJson(eventJson, CertificateEvent.class);
             if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType)) {
                 try {
                     new EndpointCertificateDeployer(certificateEvent.getTenantDomain())
@@ -350,29 +279,29 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.GA_CONFIG_UPDATE.toString().equals(eventType)) {
             GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
-                    new Gson().fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
+                    gson.fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
             try {
                 new GoogleAnalyticsConfigDeployer(googleAnalyticsConfigEvent.getTenantDomain()).deploy();
             } catch (APIManagementException e) {
                 log.error(e);
             }
         } else if (EventType.UDATE_API_LOG_LEVEL.toString().equals(eventType)) {
-            APIEvent apiEvent = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent apiEvent = gson.fromJson(eventJson, APIEvent.class);
             APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
                     apiEvent.getResourceMethod(), apiEvent.getResourcePath());
         } else if (EventType.CUSTOM_POLICY_ADD.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             String key = keyTemplateEvent.getKeyTemplate();
             String keyTemplateValue = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(key, keyTemplateValue);
         } else if (EventType.CUSTOM_POLICY_DELETE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             String key = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .removeKeyTemplate(key);
         } else if (EventType.CUSTOM_POLICY_UPDATE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             String oldKey = keyTemplateEvent.getOldKeyTemplate();
             String newKey = keyTemplateEvent.getNewKeyTemplate();
             String newTemplateValue = newKey;
@@ -382,7 +311,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     .addKeyTemplate(newKey, newTemplateValue);
         } else if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)
                 || EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-            GatewayPolicyEvent gatewayPolicyEvent = new Gson().fromJson(eventJson, GatewayPolicyEvent.class);
+            GatewayPolicyEvent gatewayPolicyEvent = gson.fromJson(eventJson, GatewayPolicyEvent.class);
             Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayPolicyEvent.getGatewayLabels());
             systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
             if (!systemConfiguredGatewayLabels.isEmpty()) {
@@ -443,6 +372,127 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         }
     }
 
+    private void handleDeploymentEvent(String eventType, DeployAPIInGatewayEvent gatewayEvent) {
+
+        String tenantDomain = gatewayEvent.getTenantDomain();
+        boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+        if (!tenantLoaded) {
+            String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
+            synchronized (syncKey.intern()) {
+                tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+                if (!tenantLoaded) {
+                    APIUtil.loadTenantConfigBlockingMode(tenantDomain);
+                }
+            }
+        }
+
+        if (tenantLoaded) {
+            Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
+            systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+            if (!systemConfiguredGatewayLabels.isEmpty()) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
+                if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.deployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
+                                "in the Gateway");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
+                        }
+                    }
+                }
+                if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.unDeployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in undeploying artifacts");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
+                        }
+                    }
+                    DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
+                            gatewayEvent.getTenantDomain());
+                }
+            }
+
+            if (debugEnabled) {
+                log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
+                        gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+            }
+        }
+    }
+
+    /**
+     * Applies API, subscription and application policy create, update and delete events to the data stores, and
+     * invalidates the throttle condition evaluation plans on API policy changes.
+     */
+    private void handlePolicyEvent(String eventType, String eventJson) {
+
+        String policyName = null;
+        PolicyEvent event = gson.fromJson(eventJson, PolicyEvent.class);
+        boolean updatePolicy = false;
+        boolean deletePolicy = false;
+        if (EventType.POLICY_CREATE.toString().equals(eventType)
+                || EventType.POLICY_UPDATE.toString().equals(eventType)) {
+            updatePolicy = true;
+        } else if (EventType.POLICY_DELETE.toString().equals(eventType)) {
+            deletePolicy = true;
+        }
+        if (event.getPolicyType() == PolicyType.API) {
+            APIPolicyEvent policyEvent = gson.fromJson(eventJson, APIPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateAPIPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeAPIPolicy(policyEvent);
+            }
+            ThrottleConditionEvaluator.getInstance().invalidateEvaluationPlans();
+            policyName = policyEvent.getPolicyName();
+        } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
+            SubscriptionPolicyEvent policyEvent = gson.fromJson(eventJson, SubscriptionPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateSubscriptionPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeSubscriptionPolicy(policyEvent);
+            }
+            policyName = policyEvent.getPolicyName();
+        } else if (event.getPolicyType() == PolicyType.APPLICATION) {
+            ApplicationPolicyEvent policyEvent = gson.fromJson(eventJson, ApplicationPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateApplicationPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeApplicationPolicy(policyEvent);
+            }
+            policyName = policyEvent.getPolicyName();
+        }
+        APIUtil.logAuditMessage(event.getPolicyType().toString(), policyName + ": " + eventType,
+                APIConstants.AuditLogConstants.DEPLOYED,
+                APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+    }
+
+    /**
+     * Subscription and key mapping events are keyed by their application as well, so that they are processed after
+     * the application is created and before it is deleted.
+     */
+    private static String getApplicationKey(int applicationId) {
+
+        return "application:" + applicationId;
+    }
+
     /**
      * Updates the configuration for an existing LLM provider.
      *
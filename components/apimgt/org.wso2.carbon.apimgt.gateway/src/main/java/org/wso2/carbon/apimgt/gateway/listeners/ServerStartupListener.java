@@ -24,10 +24,12 @@ import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.service.APIThrottleDataServiceImpl;
 import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationServiceImpl;
 import org.wso2.carbon.apimgt.gateway.service.RevokedTokenDataImpl;
+import org.wso2.carbon.apimgt.gateway.throttling.LocalRateLimiter;
 import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
 import org.wso2.carbon.apimgt.gateway.webhooks.SubscriptionsDataServiceImpl;
 import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationService;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.webhooks.SubscriptionsDataService;
 import org.wso2.carbon.core.ServerStartupObserver;
 
@@ -44,6 +46,13 @@ public class ServerStartupListener implements ServerStartupObserver {
         // This prevents errors in an All in one setup caused by the ThrottleDataPublisher trying to connect to the
         // event receiver, before the event receiver has been started on completion of server startup.
         ServiceReferenceHolder.getInstance().setThrottleDataPublisher(new ThrottleDataPublisher());
+        ThrottleProperties throttleProperties = ServiceReferenceHolder.getInstance().getThrottleProperties();
+        if (throttleProperties != null && throttleProperties.getLocalRateLimiter().isEnabled()) {
+            ThrottleProperties.LocalRateLimiter localRateLimiterProperties = throttleProperties.getLocalRateLimiter();
+            ServiceReferenceHolder.getInstance().setLocalRateLimiter(new LocalRateLimiter(
+                    localRateLimiterProperties.getMaxKeys(), localRateLimiterProperties.getNodeShare()));
+            log.debug("Gateway local rate limiter enabled");
+        }
         APIThrottleDataServiceImpl throttleDataServiceImpl = new APIThrottleDataServiceImpl();
         CacheInvalidationService cacheInvalidationService = new CacheInvalidationServiceImpl();
         // Register APIThrottleDataService so that ThrottleData maps are available to other components.
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.gateway.throttling.util.IPAddressParser;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable lookup structure for the IP blocking conditions of a single tenant. Non inverted IP ranges are merged
+ * into sorted, disjoint intervals over the unsigned 128 bit address space (IPv4 addresses occupy the lower 32 bits,
+ * the same numbering used by {@link APIUtil#ipToBigInteger(String)}), so a lookup is a binary search. Inverted
+ * ranges only block an address lying outside at least one of them, hence they are reduced to their intersection.
+ * Instances are never modified after construction; {@link #withRange(IPRange)} and {@link #withoutRange(int)}
+ * return a new index so that readers on the request path never need to synchronize.
+ */
+public final class IpBlockingIndex {
+
+    static final IpBlockingIndex EMPTY = new IpBlockingIndex(Collections.<IPRange>emptySet());
+
+    private static final BigInteger MAX_ADDRESS = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private final Set<IPRange> ipRanges;
+    private final Set<String> blockedFixedIps;
+    private final boolean invertedFixedIpBlocksAll;
+    private final String invertedFixedIp;
+    private final long[] rangeStartHigh;
+    private final long[] rangeStartLow;
+    private final long[] rangeEndHigh;
+    private final long[] rangeEndLow;
+    private final boolean invertedRangePresent;
+    private final boolean invertedRangeEmpty;
+    private final long invertedStartHigh;
+    private final long invertedStartLow;
+    private final long invertedEndHigh;
+    private final long invertedEndLow;
+
+    private IpBlockingIndex(Set<IPRange> ipRanges) {
+
+        this.ipRanges = Collections.unmodifiableSet(ipRanges);
+        Set<String> fixedIps = new HashSet<>();
+        Set<String> invertedFixedIps = new HashSet<>();
+        List<BigInteger[]> intervals = new ArrayList<>();
+        BigInteger invertedStart = null;
+        BigInteger invertedEnd = null;
+        boolean hasInvertedRange = false;
+        boolean emptyInvertedRange = false;
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ipRange.isInvert()) {
+                    invertedFixedIps.add(ipRange.getFixedIp());
+                } else if (ipRange.getFixedIp() != null) {
+                    fixedIps.add(ipRange.getFixedIp());
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                // Range bounds are exclusive, hence they are narrowed down to an inclusive interval here.
+                BigInteger[] interval = toInclusiveInterval(ipRange);
+                if (ipRange.isInvert()) {
+                    hasInvertedRange = true;
+                    if (interval == null) {
+                        emptyInvertedRange = true;
+                    } else {
+                        invertedStart = invertedStart == null ? interval[0] : invertedStart.max(interval[0]);
+                        invertedEnd = invertedEnd == null ? interval[1] : invertedEnd.min(interval[1]);
+                    }
+                } else if (interval != null) {
+                    intervals.add(interval);
+                }
+            }
+        }
+        this.blockedFixedIps = fixedIps;
+        // An inverted fixed IP blocks every other address. Two distinct (or a missing) inverted fixed IPs therefore
+        // block every address, while a single one blocks everything but itself.
+        this.invertedFixedIpBlocksAll = invertedFixedIps.size() > 1 || invertedFixedIps.contains(null);
+        this.invertedFixedIp = invertedFixedIps.size() == 1 ? invertedFixedIps.iterator().next() : null;
+
+        List<BigInteger[]> merged = mergeIntervals(intervals);
+        int size = merged.size();
+        this.rangeStartHigh = new long[size];
+        this.rangeStartLow = new long[size];
+        this.rangeEndHigh = new long[size];
+        this.rangeEndLow = new long[size];
+        for (int i = 0; i < size; i++) {
+            BigInteger[] interval = merged.get(i);
+            rangeStartHigh[i] = interval[0].shiftRight(64).longValue();
+            rangeStartLow[i] = interval[0].longValue();
+            rangeEndHigh[i] = interval[1].shiftRight(64).longValue();
+            rangeEndLow[i] = interval[1].longValue();
+        }
+
+        this.invertedRangePresent = hasInvertedRange;
+        this.invertedRangeEmpty = emptyInvertedRange
+                || (invertedStart != null && invertedStart.compareTo(invertedEnd) > 0);
+        if (invertedStart != null && !invertedRangeEmpty) {
+            this.invertedStartHigh = invertedStart.shiftRight(64).longValue();
+            this.invertedStartLow = invertedStart.longValue();
+            this.invertedEndHigh = invertedEnd.shiftRight(64).longValue();
+            this.invertedEndLow = invertedEnd.longValue();
+        } else {
+            this.invertedStartHigh = 0;
+            this.invertedStartLow = 0;
+            this.invertedEndHigh = 0;
+            this.invertedEndLow = 0;
+        }
+    }
+
+    /**
+     * Builds an index for the given IP blocking conditions of a tenant.
+     *
+     * @param ipRanges IP blocking conditions of the tenant
+     * @return index over the given conditions
+     */
+    public static IpBlockingIndex build(Collection<IPRange> ipRanges) {
+
+        if (ipRanges == null || ipRanges.isEmpty()) {
+            return EMPTY;
+        }
+        return new IpBlockingIndex(new LinkedHashSet<>(ipRanges));
+    }
+
+    /**
+     * Returns a new index which contains the conditions of this index together with the given condition.
+     *
+     * @param ipRange condition to add
+     * @return new index containing the given condition
+     */
+    public IpBlockingIndex withRange(IPRange ipRange) {
+
+        Set<IPRange> updated = new LinkedHashSet<>(ipRanges);
+        updated.add(ipRange);
+        return new IpBlockingIndex(updated);
+    }
+
+    /**
+     * Returns a new index which contains the conditions of this index except the one with the given condition id.
+     *
+     * @param conditionId id of the condition to remove
+     * @return new index without the given condition, or this index if no such condition exists
+     */
+    public IpBlockingIndex withoutRange(int conditionId) {
+
+        Set<IPRange> updated = new LinkedHashSet<>(ipRanges);
+        Iterator<IPRange> iterator = updated.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getId() == conditionId) {
+                iterator.remove();
+                return updated.isEmpty() ? EMPTY : new IpBlockingIndex(updated);
+            }
+        }
+        return this;
+    }
+
+    public Set<IPRange> getIpRanges() {
+
+        return ipRanges;
+    }
+
+    public boolean isEmpty() {
+
+        return ipRanges.isEmpty();
+    }
+
+    /**
+     * Checks whether the given client IP is blocked by any of the indexed conditions.
+     *
+     * @param ip client IP address
+     * @return true if the IP is blocked
+     */
+    public boolean isBlocked(String ip) {
+
+        if (ipRanges.isEmpty()) {
+            return false;
+        }
+        if (blockedFixedIps.contains(ip) || invertedFixedIpBlocksAll
+                || (invertedFixedIp != null && !invertedFixedIp.equals(ip))) {
+            return true;
+        }
+        if (rangeStartHigh.length == 0 && !invertedRangePresent) {
+            return false;
+        }
+        if (invertedRangeEmpty) {
+            return true;
+        }
+        long[] address = IPAddressParser.getAddressHolder();
+        IPAddressParser.toUnsigned128(ip, address);
+        long high = address[0];
+        long low = address[1];
+        if (invertedRangePresent && (IPAddressParser.compare(high, low, invertedStartHigh, invertedStartLow) < 0
+                || IPAddressParser.compare(high, low, invertedEndHigh, invertedEndLow) > 0)) {
+            return true;
+        }
+        // Locate the last interval starting at or before the address.
+        int lowIndex = 0;
+        int highIndex = rangeStartHigh.length - 1;
+        int candidate = -1;
+        while (lowIndex <= highIndex) {
+            int mid = (lowIndex + highIndex) >>> 1;
+            if (IPAddressParser.compare(rangeStartHigh[mid], rangeStartLow[mid], high, low) <= 0) {
+                candidate = mid;
+                lowIndex = mid + 1;
+            } else {
+                highIndex = mid - 1;
+            }
+        }
+        return candidate >= 0
+                && IPAddressParser.compare(high, low, rangeEndHigh[candidate], rangeEndLow[candidate]) <= 0;
+    }
+
+    private static BigInteger[] toInclusiveInterval(IPRange ipRange) {
+
+        BigInteger start = ipRange.getStartingIpBigIntValue();
+        BigInteger end = ipRange.getEndingIpBigIntValue();
+        if (start == null || end == null) {
+            return null;
+        }
+        start = start.add(BigInteger.ONE);
+        end = end.subtract(BigInteger.ONE);
+        if (start.compareTo(end) > 0 || end.signum() < 0 || start.compareTo(MAX_ADDRESS) > 0) {
+            return null;
+        }
+        return new BigInteger[]{start, end.min(MAX_ADDRESS)};
+    }
+
+    private static List<BigInteger[]> mergeIntervals(List<BigInteger[]> intervals) {
+
+        intervals.sort((first, second) -> first[0].compareTo(second[0]));
+        List<BigInteger[]> merged = new ArrayList<>();
+        BigInteger[] current = null;
+        for (BigInteger[] interval : intervals) {
+            if (current != null && interval[0].compareTo(current[1].add(BigInteger.ONE)) <= 0) {
+                current[1] = current[1].max(interval[1]);
+            } else {
+                current = new BigInteger[]{interval[0], interval[1]};
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gateway local, approximate rate limiter used to shed load for a throttle key while the Traffic Manager has not
+ * yet published a throttle decision for it. Each key gets a sliding window estimate built from the request count of
+ * the current and the previous fixed window, and requests are rejected once that estimate reaches this node's share
+ * of the policy limit. The global decision stays authoritative, this only cuts off the burst a node would otherwise
+ * let through during the publish and decision round trip.
+ * <p>
+ * Per key state is a single packed long kept in a fixed size open addressed table, so the limiter never allocates
+ * on the request path. A slot is reused once its window has expired, and a key that cannot find a slot within the
+ * probe limit is simply allowed through.
+ * <p>
+ * The limiter is registered with the platform MBean server as {@code org.wso2.carbon.apimgt:type=LocalRateLimiter}.
+ */
+public final class LocalRateLimiter implements LocalRateLimiterMXBean {
+
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=LocalRateLimiter";
+    private static final int PROBE_LIMIT = 8;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    private static final int COUNT_BITS = 22;
+    private static final int WINDOW_BITS = 64 - 2 * COUNT_BITS;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = (1L << WINDOW_BITS) - 1;
+    /**
+     * Largest local limit that fits in the packed counters. Policies above this are left to the Traffic Manager.
+     */
+    static final long MAX_LOCAL_LIMIT = COUNT_MASK;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray states;
+    private final AtomicLongArray expiries;
+    private final int mask;
+    private final double nodeShare;
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder untrackedCount = new LongAdder();
+
+    /**
+     * @param maxKeys   number of throttle keys that can be tracked at once, rounded up to a power of two
+     * @param nodeShare fraction of a policy limit this gateway node is allowed to serve, in the range (0, 1]
+     */
+    public LocalRateLimiter(int maxKeys, double nodeShare) {
+
+        this(maxKeys, nodeShare, true);
+    }
+
+    LocalRateLimiter(int maxKeys, double nodeShare, boolean registerMBean) {
+
+        if (nodeShare <= 0 || nodeShare > 1) {
+            throw new IllegalArgumentException("Node share should be in the range (0, 1] but was " + nodeShare);
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < maxKeys && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        this.keys = new AtomicLongArray(capacity);
+        this.states = new AtomicLongArray(capacity);
+        this.expiries = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.nodeShare = nodeShare;
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    public boolean tryAcquire(String throttleKey, long limit, long windowMillis) {
+
+        return tryAcquire(throttleKey, limit, windowMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Records a request for the given throttle key if the sliding window estimate is still below this node's share
+     * of the limit.
+     *
+     * @param throttleKey  throttle key the request is counted against
+     * @param limit        request count allowed by the policy within a window
+     * @param windowMillis length of the policy window in milliseconds
+     * @param now          current time in milliseconds
+     * @return false if the request should be throttled locally, true otherwise
+     */
+    public boolean tryAcquire(String throttleKey, long limit, long windowMillis, long now) {
+
+        if (limit <= 0 || windowMillis <= 0) {
+            return true;
+        }
+        long localLimit = Math.max(1, (long) Math.ceil(limit * nodeShare));
+        if (localLimit > MAX_LOCAL_LIMIT) {
+            return true;
+        }
+        int slot = findSlot(hash(throttleKey), now);
+        if (slot < 0) {
+            untrackedCount.increment();
+            return true;
+        }
+        long window = now / windowMillis;
+        long currentWindow = window & WINDOW_MASK;
+        long previousWindow = (window - 1) & WINDOW_MASK;
+        double remaining = 1 - (double) (now - window * windowMillis) / windowMillis;
+        while (true) {
+            long state = states.get(slot);
+            long stateWindow = state >>> (2 * COUNT_BITS);
+            long previousCount;
+            long count;
+            if (stateWindow == currentWindow) {
+                previousCount = (state >>> COUNT_BITS) & COUNT_MASK;
+                count = state & COUNT_MASK;
+            } else if (stateWindow == previousWindow) {
+                previousCount = state & COUNT_MASK;
+                count = 0;
+            } else {
+                previousCount = 0;
+                count = 0;
+            }
+            if (previousCount * remaining + count >= localLimit) {
+                rejectedCount.increment();
+                return false;
+            }
+            long update = (currentWindow << (2 * COUNT_BITS)) | (previousCount << COUNT_BITS) | (count + 1);
+            if (states.compareAndSet(slot, state, update)) {
+                expiries.lazySet(slot, (window + 2) * windowMillis);
+                allowedCount.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of the given key hash, claiming an empty slot or one whose state has expired if the key is not
+     * present yet.
+     *
+     * @return slot index, or -1 if no slot is available within the probe limit
+     */
+    private int findSlot(long keyHash, long now) {
+
+        int start = (int) (keyHash ^ (keyHash >>> 32)) & mask;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (start + i) & mask;
+            long key = keys.get(slot);
+            if (key == keyHash) {
+                return slot;
+            }
+            if (key == 0) {
+                if (keys.compareAndSet(slot, 0, keyHash) || keys.get(slot) == keyHash) {
+                    return slot;
+                }
+            }
+        }
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (start + i) & mask;
+            long key = keys.get(slot);
+            if (key == keyHash) {
+                return slot;
+            }
+            if (expiries.get(slot) < now && keys.compareAndSet(slot, key, keyHash)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static long hash(String throttleKey) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < throttleKey.length(); i++) {
+            hash ^= throttleKey.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Returns the window length of a request count limit.
+     *
+     * @param timeUnit time unit of the limit as stored in the policy
+     * @param unitTime number of time units in the window
+     * @return window length in milliseconds, or -1 for units that are not limited locally
+     */
+    public static long getWindowMillis(String timeUnit, int unitTime) {
+
+        if (timeUnit == null || unitTime <= 0) {
+            return -1;
+        }
+        switch (timeUnit) {
+            case APIConstants.TIME_UNIT_SECOND:
+                return unitTime * 1000L;
+            case APIConstants.TIME_UNIT_MINUTE:
+                return unitTime * 60000L;
+            case APIConstants.TIME_UNIT_HOUR:
+            case "hour":
+                return unitTime * 3600000L;
+            case APIConstants.TIME_UNIT_DAY:
+            case "day":
+                return unitTime * 86400000L;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Returns the start of the window following the one {@code now} falls in, which is when a locally throttled key
+     * may be retried.
+     */
+    public static long getNextWindowStart(long windowMillis, long now) {
+
+        return (now / windowMillis + 1) * windowMillis;
+    }
+
+    @Override
+    public int getCapacity() {
+
+        return mask + 1;
+    }
+
+    @Override
+    public double getNodeShare() {
+
+        return nodeShare;
+    }
+
+    @Override
+    public long getAllowedCount() {
+
+        return allowedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getUntrackedCount() {
+
+        return untrackedCount.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        allowedCount.reset();
+        rejectedCount.reset();
+        untrackedCount.reset();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+/**
+ * JMX view of the counters of the {@link LocalRateLimiter}.
+ */
+public interface LocalRateLimiterMXBean {
+
+    /**
+     * @return number of throttle keys that can be tracked at once
+     */
+    int getCapacity();
+
+    /**
+     * @return fraction of a policy limit this gateway node is allowed to serve
+     */
+    double getNodeShare();
+
+    /**
+     * @return number of requests allowed by the local estimate
+     */
+    long getAllowedCount();
+
+    /**
+     * @return number of requests throttled locally
+     */
+    long getRejectedCount();
+
+    /**
+     * @return number of requests allowed without tracking because no slot was free for their throttle key
+     */
+    long getUntrackedCount();
+
+    /**
+     * Resets all the counters.
+     */
+    void resetStatistics();
+}
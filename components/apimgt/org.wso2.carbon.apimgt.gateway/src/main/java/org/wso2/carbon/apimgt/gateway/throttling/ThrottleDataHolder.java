@@ -30,9 +30,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,7 +48,7 @@ public class ThrottleDataHolder {
     private Map<String, String> blockedAPIConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedApplicationConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedUserConditionsMap = new ConcurrentHashMap<String, String>();
-    private Map<String, Set<IPRange>> blockedIpConditionsMap = new ConcurrentHashMap<>();
+    private Map<String, IpBlockingIndex> blockedIpConditionsMap = new ConcurrentHashMap<>();
     private Map<String, String> keyTemplateMap = new ConcurrentHashMap<String, String>();
     private boolean isBlockingConditionsPresent = true;
     private boolean isKeyTemplatesPresent = false;
@@ -165,13 +163,9 @@ public class ThrottleDataHolder {
 
     public void addIpBlockingCondition(String tenantDomain, int conditionId, String value, String type) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges == null){
-            ipRanges = new HashSet<>();
-        }
-
-        ipRanges.add(convertValueToIPRange(tenantDomain, conditionId, value, type));
-        blockedIpConditionsMap.put(tenantDomain, ipRanges);
+        IPRange ipRange = convertValueToIPRange(tenantDomain, conditionId, value, type);
+        blockedIpConditionsMap.compute(tenantDomain, (domain, ipBlockingIndex) -> ipBlockingIndex == null ?
+                IpBlockingIndex.build(Collections.singleton(ipRange)) : ipBlockingIndex.withRange(ipRange));
     }
 
     private IPRange convertValueToIPRange(String tenantDomain, int conditionId, String value, String type) {
@@ -229,7 +223,9 @@ public class ThrottleDataHolder {
 
     public void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
         if(data.size() > 0) {
-            blockedIpConditionsMap.putAll(data);
+            for (Map.Entry<String, Set<IPRange>> entry : data.entrySet()) {
+                blockedIpConditionsMap.put(entry.getKey(), IpBlockingIndex.build(entry.getValue()));
+            }
         }
     }
 
@@ -260,17 +256,8 @@ public class ThrottleDataHolder {
 
     public void removeIpBlockingCondition(String tenantDomain, int conditionId) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges != null) {
-            Iterator<IPRange> iterator = ipRanges.iterator();
-            while (iterator.hasNext()) {
-                IPRange ipRange = iterator.next();
-                if (ipRange.getId() == conditionId) {
-                    iterator.remove();
-                    break;
-                }
-            }
-        }
+        blockedIpConditionsMap.computeIfPresent(tenantDomain,
+                (domain, ipBlockingIndex) -> ipBlockingIndex.withoutRange(conditionId));
     }
 
     public void addKeyTemplate(String key, String value) {
@@ -309,38 +296,14 @@ public class ThrottleDataHolder {
 
     private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(apiTenantDomain);
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant " + apiTenantDomain + " contains block conditions");
-            for (IPRange ipRange : ipRanges) {
-                if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    }
-                } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    }
-                }
+        IpBlockingIndex ipBlockingIndex = blockedIpConditionsMap.get(apiTenantDomain);
+        if (ipBlockingIndex != null && !ipBlockingIndex.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant " + apiTenantDomain + " contains block conditions");
+            }
+            if (ipBlockingIndex.isBlocked(ip)) {
+                log.debug("Block IP selected for Blocked");
+                return true;
             }
         }
         return false;
@@ -8,8 +8,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
-import org.json.simple.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
@@ -20,6 +20,7 @@ import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.databridge.agent.DataPublisher;
+import org.wso2.carbon.databridge.commons.Event;
 
 import java.io.IOException;
 import java.net.Inet4Address;
@@ -41,6 +42,8 @@ import static org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants.*;
  * need to execute using thread pool executor. Primary task of this class it is accept message context as parameter
  * and perform time consuming data extraction and publish event to data publisher. Having data extraction and
  * transformation logic in this class will help to reduce overhead added to main message flow.
+ * The agent copies the values it needs out of the message context when the data reference is set and does not keep
+ * a reference to the context itself, so queued agents do not hold on to request payloads.
  */
 public class DataProcessAndPublishingAgent implements Runnable {
     private static final Log log = LogFactory.getLog(DataProcessAndPublishingAgent.class);
@@ -49,9 +52,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
     private static final Pattern IPV6_PATTERN = Pattern.compile(
             "([0-9a-fA-F]{1,4}:){7}([0-9a-fA-F]{1,4})");
     private static String streamID = "org.wso2.throttle.request.stream:1.0.0";
-    private MessageContext messageContext;
     private DataPublisher dataPublisher;
-
+    private final ThrottlePropertiesWriter propertiesWriter = new ThrottlePropertiesWriter();
 
 
     String applicationLevelThrottleKey;
@@ -75,9 +77,15 @@ public class DataProcessAndPublishingAgent implements Runnable {
     Long completionTokens;
     Map<String, String> headersMap;
     Map<String, Object> customPropertyMap;
-    private AuthenticationContext authenticationContext;
+    String messageID;
+    String queryString;
+    String callerToken;
+    String applicationName;
+    String subscriptionType;
+    boolean contentAware;
 
     private long messageSizeInBytes;
+    private long submittedTime;
 
     public DataProcessAndPublishingAgent() {
 
@@ -89,8 +97,13 @@ public class DataProcessAndPublishingAgent implements Runnable {
      * agent back to pool. Every time when we add new property we need to implement cleaning logic as well.
      */
     public void clearDataReference() {
-        this.authenticationContext = null;
-        this.messageContext = null;
+        this.messageID = null;
+        this.queryString = null;
+        this.callerToken = null;
+        this.applicationName = null;
+        this.subscriptionType = null;
+        this.contentAware = false;
+        this.submittedTime = 0;
         this.applicationLevelThrottleKey = null;
         this.applicationLevelTier = null;
         this.apiLevelThrottleKey = null;
@@ -129,8 +142,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
             resourceLevelTier = apiLevelTier;
             resourceLevelThrottleKey = apiLevelThrottleKey;
         }
-        this.authenticationContext = authenticationContext;
-        this.messageContext = messageContext;
+        this.messageID = messageContext.getMessageID();
         this.applicationLevelThrottleKey = applicationLevelThrottleKey;
         this.applicationLevelTier = applicationLevelTier;
         this.apiLevelThrottleKey = apiLevelThrottleKey;
@@ -186,7 +198,22 @@ public class DataProcessAndPublishingAgent implements Runnable {
             log.debug("Remote IP address : " + ipAddress);
         }
 
-        if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
+        if (getThrottleProperties().isEnableQueryParamConditions()) {
+            this.queryString = (String) axis2MessageContext.getProperty(NhttpConstants.REST_URL_POSTFIX);
+        }
+        if (getThrottleProperties().isEnableJwtConditions()) {
+            this.callerToken = authenticationContext.getCallerToken();
+        }
+
+        this.contentAware = authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware;
+        if (contentAware) {
+            this.applicationName = authenticationContext.getApplicationName();
+            if (!StringUtils.isEmpty(authenticationContext.getProductName()) && !StringUtils
+                    .isEmpty(authenticationContext.getProductProvider())) {
+                this.subscriptionType = APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE;
+            } else {
+                this.subscriptionType = APIConstants.API_SUBSCRIPTION_TYPE;
+            }
             Object contentLength = null;
             if (transportHeaderMap != null) {
                 contentLength = transportHeaderMap.get(APIThrottleConstants.CONTENT_LENGTH);
@@ -235,9 +262,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
     }
 
     public void run() {
-        JSONObject jsonObMap = new JSONObject();
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
-                .getAxis2MessageContext();
+        propertiesWriter.reset();
 
         if (ipAddress != null && ipAddress.length() > 0) {
             if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
@@ -245,96 +270,96 @@ public class DataProcessAndPublishingAgent implements Runnable {
                 ipAddress = ipAddress.split(":")[0];
             }
             if (IPV4_PATTERN.matcher(ipAddress).matches()) {
-                jsonObMap.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
+                propertiesWriter.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
+                propertiesWriter.put(APIThrottleConstants.IPv6, 0);
             } else if (IPV6_PATTERN.matcher(ipAddress).matches()) {
-                jsonObMap.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IP, 0);
+                propertiesWriter.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
+                propertiesWriter.put(APIThrottleConstants.IP, 0);
             } else {
                 log.error("Error while parsing host IP " + ipAddress);
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
-                jsonObMap.put(APIThrottleConstants.IP, 0);
+                propertiesWriter.put(APIThrottleConstants.IPv6, 0);
+                propertiesWriter.put(APIThrottleConstants.IP, 0);
             }
         }
 
         //HeaderMap will only be set if the Header Publishing has been enabled.
         if (getThrottleProperties().isEnableHeaderConditions()) {
             if (this.headersMap != null) {
-                jsonObMap.putAll(this.headersMap);
+                propertiesWriter.putAll(this.headersMap);
             }
         }
         //adding any custom property if available to stream's property map
         if (this.customPropertyMap != null) {
-            jsonObMap.putAll(this.customPropertyMap);
+            propertiesWriter.putAll(this.customPropertyMap);
         }
 
         //Setting query parameters
         if (getThrottleProperties().isEnableQueryParamConditions()) {
-            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
+            Map<String, String> queryParams = GatewayUtils.getQueryParams(queryString);
             if (queryParams != null) {
-                jsonObMap.putAll(queryParams);
+                propertiesWriter.putAll(queryParams);
             }
 
         }
 
         //Publish jwt claims
         if (getThrottleProperties().isEnableJwtConditions()) {
-            if (authenticationContext.getCallerToken() != null) {
-                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+            if (callerToken != null) {
+                Map<String, String> assertions = JWTUtil.getJWTClaims(callerToken);
                 if (assertions != null) {
-                    jsonObMap.putAll(assertions);
+                    propertiesWriter.putAll(assertions);
                 }
             }
         }
 
         //this parameter will be used to capture message size and pass it to calculation logic
-        
-        ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
-        boolean isVerbInfoContentAware = false;
-        if (list != null && !list.isEmpty()) {
-            VerbInfoDTO verbInfoDTO = list.get(0);
-            isVerbInfoContentAware = verbInfoDTO.isContentAware();
-        }
-
-        if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
+        if (contentAware) {
             if (log.isDebugEnabled()) {
                 log.debug("Message size: " + messageSizeInBytes + "B");
             }
-            jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
-            if (!StringUtils.isEmpty(authenticationContext.getApplicationName())) {
-                jsonObMap.put(APIThrottleConstants.APPLICATION_NAME, authenticationContext.getApplicationName());
-            }
-            if (!StringUtils.isEmpty(authenticationContext.getProductName()) && !StringUtils
-                    .isEmpty(authenticationContext.getProductProvider())) {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
-            } else {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
+            propertiesWriter.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
+            if (!StringUtils.isEmpty(applicationName)) {
+                propertiesWriter.put(APIThrottleConstants.APPLICATION_NAME, applicationName);
             }
-
+            propertiesWriter.put(APIThrottleConstants.SUBSCRIPTION_TYPE, subscriptionType);
         }
 
         if (totalTokens != null) {
-            jsonObMap.put(APIThrottleConstants.TOTAL_TOKENS, totalTokens);
+            propertiesWriter.put(APIThrottleConstants.TOTAL_TOKENS, totalTokens);
         }
         if (promptTokens != null) {
-            jsonObMap.put(APIThrottleConstants.PROMPT_TOKENS, promptTokens);
+            propertiesWriter.put(APIThrottleConstants.PROMPT_TOKENS, promptTokens);
         }
         if (completionTokens != null) {
-            jsonObMap.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
+            propertiesWriter.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
         }
 
-        Object[] objects = new Object[]{messageContext.getMessageID(),
+        Object[] objects = new Object[]{messageID,
                                         this.applicationLevelThrottleKey, this.applicationLevelTier,
                                         this.apiLevelThrottleKey, this.apiLevelTier,
                                         this.subscriptionLevelThrottleKey, this.subscriptionLevelTier,
                                         this.resourceLevelThrottleKey, this.resourceLevelTier,
                                         this.authorizedUser, this.apiContext, this.apiVersion,
-                                        this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
-        org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
-                                                                                                      System.currentTimeMillis(), null, null, objects);
+                                        this.appTenant, this.apiTenant, this.appId, this.apiName,
+                                        propertiesWriter.write()};
+        Event event = new Event(streamID, System.currentTimeMillis(), null, null, objects);
         dataPublisher.tryPublish(event);
     }
 
+    /**
+     * Records the time at which the agent was handed over to the publishing executor.
+     */
+    void markSubmitted() {
+        this.submittedTime = System.nanoTime();
+    }
+
+    /**
+     * @return time at which the agent was handed over to the publishing executor, from {@link System#nanoTime()}
+     */
+    long getSubmittedTime() {
+        return submittedTime;
+    }
+
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
             XMLStreamException {
         RelayUtils.buildMessage(axis2MessageContext);
@@ -35,8 +35,6 @@ import org.wso2.carbon.databridge.commons.exception.TransportException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -72,13 +70,16 @@ public class ThrottleDataPublisher {
                         .getInstance().getThrottleProperties().getDataPublisherThreadPool();
 
                 try {
-                    executor = new DataPublisherThreadPoolExecutor(dataPublisherThreadPoolConfiguration.getCorePoolSize(),
-                            dataPublisherThreadPoolConfiguration.getMaximumPoolSize(), dataPublisherThreadPoolConfiguration
-                            .getKeepAliveTime(),
-                            TimeUnit
-                                    .SECONDS,
-                            new LinkedBlockingDeque<Runnable>() {
-                            });
+                    ThrottleDataPublisherExecutor publisherExecutor = new ThrottleDataPublisherExecutor(
+                            dataPublisherThreadPoolConfiguration.getCorePoolSize(),
+                            dataPublisherThreadPoolConfiguration.getMaximumPoolSize(),
+                            dataPublisherThreadPoolConfiguration.getKeepAliveTime(), TimeUnit.SECONDS,
+                            dataPublisherThreadPoolConfiguration.getQueueCapacity(),
+                            ThrottleDataPublisherExecutor.OverflowPolicy.fromConfig(
+                                    dataPublisherThreadPoolConfiguration.getOverflowPolicy()),
+                            dataPublisherPool);
+                    publisherExecutor.registerMBean();
+                    executor = publisherExecutor;
                     dataPublisher = new DataPublisher(dataPublisherConfiguration.getType(), dataPublisherConfiguration
                             .getReceiverUrlGroup(), dataPublisherConfiguration.getAuthUrlGroup(), dataPublisherConfiguration
                             .getUsername(),
@@ -144,34 +145,4 @@ public class ThrottleDataPublisher {
             log.error("Error while publishing throttling events to global policy server", e);
         }
     }
-
-    /**
-     * This class will act as thread pool executor and after executing each thread it will return runnable
-     * object back to pool. This implementation specifically used to minimize number of objectes created during
-     * runtime. In this queuing strategy the submitted task will wait in the queue if the corePoolsize theads are
-     * busy and the task will be allocated if any of the threads become idle.Thus ThreadPool will always have number
-     * of threads running  as mentioned in the corePoolSize.
-     * LinkedBlockingQueue without the capacity can be used for this queuing strategy.If the corePoolsize of the
-     * threadpool is less and there are more number of time consuming task were submitted,there is more possibility
-     * that the task has to wait in the queue for more time before it is run by any of the ideal thread.
-     * So tuning core pool size is something we need to tune properly.
-     * Also no task will be rejected in Threadpool until the threadpool was shutdown.
-     */
-    private class DataPublisherThreadPoolExecutor extends ThreadPoolExecutor {
-        public DataPublisherThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
-                                               TimeUnit unit, LinkedBlockingDeque<Runnable> workQueue) {
-            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
-        }
-
-        protected void afterExecute(java.lang.Runnable r, java.lang.Throwable t) {
-            try {
-                DataProcessAndPublishingAgent agent = (DataProcessAndPublishingAgent) r;
-                //agent.setDataReference(null);
-                ThrottleDataPublisher.dataPublisherPool.release(agent);
-            } catch (Exception e) {
-                log.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage());
-            }
-        }
-    }
 }
-
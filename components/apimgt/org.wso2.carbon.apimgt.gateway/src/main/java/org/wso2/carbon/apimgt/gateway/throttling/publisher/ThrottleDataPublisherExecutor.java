@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread pool which runs {@link DataProcessAndPublishingAgent}s and returns them to the agent pool once they are
+ * done. This implementation specifically used to minimize number of objects created during runtime.
+ * <p>
+ * Agents wait in a bounded queue while the core threads are busy. Once the queue is full, additional threads are
+ * started up to the maximum pool size, and after that the configured {@link OverflowPolicy} decides what happens to
+ * the event. This keeps the memory used by pending events bounded when the traffic manager slows down, instead of
+ * queueing agents until the gateway runs out of memory.
+ * <p>
+ * Queue depth and latency gauges are registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=ThrottleDataPublisherExecutor}.
+ */
+final class ThrottleDataPublisherExecutor extends ThreadPoolExecutor implements ThrottleDataPublisherExecutorMXBean {
+
+    private static final Log log = LogFactory.getLog(ThrottleDataPublisherExecutor.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=ThrottleDataPublisherExecutor";
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    /**
+     * Action taken for an event which arrives while the queue is full and all the threads are busy.
+     */
+    enum OverflowPolicy {
+
+        /**
+         * Discards the event which waited the longest and queues the new one.
+         */
+        DROP_OLDEST("DropOldest"),
+
+        /**
+         * Discards the new event.
+         */
+        DROP_NEW("DropNew"),
+
+        /**
+         * Processes the new event on the request thread, which slows down the callers until the queue drains.
+         */
+        CALLER_RUNS("CallerRuns");
+
+        private final String configValue;
+
+        OverflowPolicy(String configValue) {
+
+            this.configValue = configValue;
+        }
+
+        /**
+         * Resolves the policy from its configuration value, falling back to {@link #DROP_OLDEST}.
+         *
+         * @param configValue value configured in api-manager.xml
+         * @return matching overflow policy
+         */
+        static OverflowPolicy fromConfig(String configValue) {
+
+            for (OverflowPolicy policy : values()) {
+                if (policy.configValue.equalsIgnoreCase(configValue)) {
+                    return policy;
+                }
+            }
+            if (configValue != null) {
+                log.warn("Unknown throttle data publisher overflow policy " + configValue + ". Using "
+                        + DROP_OLDEST.configValue);
+            }
+            return DROP_OLDEST;
+        }
+
+        @Override
+        public String toString() {
+
+            return configValue;
+        }
+    }
+
+    private final ThrottleDataPublisherPool agentPool;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+    private final LongAdder processedEventCount = new LongAdder();
+    private final LongAdder droppedEventCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private final LongAdder totalQueueTimeNanos = new LongAdder();
+    private final LongAdder totalProcessingTimeNanos = new LongAdder();
+    private final AtomicLong maxQueueTimeNanos = new AtomicLong();
+
+    /**
+     * @param corePoolSize   number of threads kept in the pool
+     * @param maxPoolSize    maximum number of threads, used once the queue is full
+     * @param keepAliveTime  time an idle thread above the core size is kept alive
+     * @param unit           unit of the keep alive time
+     * @param queueCapacity  maximum number of agents waiting in the queue. Non positive values leave it unbounded
+     * @param overflowPolicy action taken once the queue is full
+     * @param agentPool      pool the agents are returned to
+     */
+    ThrottleDataPublisherExecutor(int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                  int queueCapacity, OverflowPolicy overflowPolicy,
+                                  ThrottleDataPublisherPool agentPool) {
+
+        super(corePoolSize, maxPoolSize, keepAliveTime, unit,
+                new LinkedBlockingDeque<>(queueCapacity > 0 ? queueCapacity : Integer.MAX_VALUE),
+                new OverflowHandler());
+        this.agentPool = agentPool;
+        this.queueCapacity = queueCapacity > 0 ? queueCapacity : Integer.MAX_VALUE;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+
+        if (command instanceof DataProcessAndPublishingAgent) {
+            ((DataProcessAndPublishingAgent) command).markSubmitted();
+        }
+        super.execute(command);
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+
+        long now = System.nanoTime();
+        if (runnable instanceof DataProcessAndPublishingAgent) {
+            long queueTime = now - ((DataProcessAndPublishingAgent) runnable).getSubmittedTime();
+            totalQueueTimeNanos.add(queueTime);
+            maxQueueTimeNanos.accumulateAndGet(queueTime, Math::max);
+        }
+        startTime.set(now);
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+
+        Long start = startTime.get();
+        if (start != null) {
+            totalProcessingTimeNanos.add(System.nanoTime() - start);
+            startTime.remove();
+        }
+        processedEventCount.increment();
+        release(runnable);
+    }
+
+    /**
+     * Registers the gauges of this executor with JMX.
+     */
+    void registerMBean() {
+
+        MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+    }
+
+    private void onOverflow(Runnable runnable) {
+
+        if (isShutdown()) {
+            drop(runnable);
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                callerRunsCount.increment();
+                try {
+                    runnable.run();
+                } finally {
+                    release(runnable);
+                }
+                break;
+            case DROP_NEW:
+                drop(runnable);
+                break;
+            case DROP_OLDEST:
+            default:
+                Runnable oldest = getQueue().poll();
+                if (oldest != null) {
+                    drop(oldest);
+                }
+                execute(runnable);
+                break;
+        }
+    }
+
+    private void drop(Runnable runnable) {
+
+        droppedEventCount.increment();
+        if (droppedEventCount.sum() == 1 || log.isDebugEnabled()) {
+            log.warn("Throttle data publisher queue is full. Dropping throttle events until the traffic manager "
+                    + "catches up. Dropped events are counted in " + OBJECT_NAME);
+        }
+        release(runnable);
+    }
+
+    private void release(Runnable runnable) {
+
+        if (agentPool == null || !(runnable instanceof DataProcessAndPublishingAgent)) {
+            return;
+        }
+        try {
+            agentPool.release((DataProcessAndPublishingAgent) runnable);
+        } catch (Exception e) {
+            log.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+
+        return overflowPolicy.toString();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        return getQueue().size();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+
+        return getActiveCount();
+    }
+
+    @Override
+    public long getProcessedEventCount() {
+
+        return processedEventCount.sum();
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.sum();
+    }
+
+    @Override
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.sum();
+    }
+
+    @Override
+    public double getAverageQueueTimeMillis() {
+
+        long processed = processedEventCount.sum();
+        return processed == 0 ? 0 : totalQueueTimeNanos.sum() / NANOS_PER_MILLI / processed;
+    }
+
+    @Override
+    public double getMaxQueueTimeMillis() {
+
+        return maxQueueTimeNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getAverageProcessingTimeMillis() {
+
+        long processed = processedEventCount.sum();
+        return processed == 0 ? 0 : totalProcessingTimeNanos.sum() / NANOS_PER_MILLI / processed;
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        processedEventCount.reset();
+        droppedEventCount.reset();
+        callerRunsCount.reset();
+        totalQueueTimeNanos.reset();
+        totalProcessingTimeNanos.reset();
+        maxQueueTimeNanos.set(0);
+    }
+
+    /**
+     * Delegates rejected agents to the overflow policy of the executor which rejected them.
+     */
+    private static class OverflowHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+            ((ThrottleDataPublisherExecutor) executor).onOverflow(runnable);
+        }
+    }
+}
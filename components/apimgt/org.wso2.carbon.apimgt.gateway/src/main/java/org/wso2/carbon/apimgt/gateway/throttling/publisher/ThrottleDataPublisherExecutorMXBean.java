@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+/**
+ * JMX view of the queue and latency gauges of the throttle data publishing executor.
+ */
+public interface ThrottleDataPublisherExecutorMXBean {
+
+    /**
+     * @return overflow policy applied when the queue is full
+     */
+    String getOverflowPolicy();
+
+    /**
+     * @return maximum number of agents waiting in the queue
+     */
+    int getQueueCapacity();
+
+    /**
+     * @return number of agents currently waiting in the queue
+     */
+    int getQueueDepth();
+
+    /**
+     * @return number of threads currently publishing events
+     */
+    int getActiveThreadCount();
+
+    /**
+     * @return current number of threads in the pool
+     */
+    int getPoolSize();
+
+    /**
+     * @return number of events processed by the executor threads
+     */
+    long getProcessedEventCount();
+
+    /**
+     * @return number of events dropped because the queue was full
+     */
+    long getDroppedEventCount();
+
+    /**
+     * @return number of events processed on the request thread because the queue was full
+     */
+    long getCallerRunsCount();
+
+    /**
+     * @return average time an agent waited in the queue, in milliseconds
+     */
+    double getAverageQueueTimeMillis();
+
+    /**
+     * @return longest time an agent waited in the queue, in milliseconds
+     */
+    double getMaxQueueTimeMillis();
+
+    /**
+     * @return average time taken to process an event once it was taken from the queue, in milliseconds
+     */
+    double getAverageProcessingTimeMillis();
+
+    /**
+     * Resets all the collected statistics.
+     */
+    void resetStatistics();
+}
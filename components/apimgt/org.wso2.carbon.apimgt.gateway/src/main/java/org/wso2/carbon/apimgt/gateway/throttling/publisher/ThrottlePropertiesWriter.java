@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONValue;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the JSON properties string of a throttle request event. The traffic manager reads this field with its JSON
+ * functions, so the output is identical to what {@link org.json.simple.JSONObject#toJSONString()} produces for the
+ * same entries. Unlike a per event {@code JSONObject}, the property map and the character buffer are reused across
+ * events, which is possible because every {@link DataProcessAndPublishingAgent} owns one writer and is only run by a
+ * single thread at a time.
+ */
+final class ThrottlePropertiesWriter {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 8192;
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+
+    /**
+     * Adds a property, replacing any previous value of the same key.
+     *
+     * @param key   property name
+     * @param value property value
+     */
+    void put(String key, Object value) {
+
+        properties.put(key, value);
+    }
+
+    /**
+     * Adds all the given properties, replacing any previous values of the same keys.
+     *
+     * @param values properties to add
+     */
+    void putAll(Map<String, ?> values) {
+
+        properties.putAll(values);
+    }
+
+    /**
+     * Writes the collected properties as a JSON object and clears them for the next event.
+     *
+     * @return JSON representation of the collected properties
+     */
+    String write() {
+
+        StringBuilder json = buffer;
+        json.setLength(0);
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"');
+            escape(String.valueOf(entry.getKey()), json);
+            json.append("\":");
+            writeValue(entry.getValue(), json);
+        }
+        json.append('}');
+        String result = json.toString();
+        reset();
+        return result;
+    }
+
+    /**
+     * Discards the collected properties. Buffers which grew unusually large for a single event are released so that
+     * pooled agents do not retain them.
+     */
+    void reset() {
+
+        properties.clear();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        }
+    }
+
+    private static void writeValue(Object value, StringBuilder json) {
+
+        if (value instanceof String) {
+            json.append('"');
+            escape((String) value, json);
+            json.append('"');
+        } else if (value instanceof Long || value instanceof Integer || value instanceof BigInteger) {
+            json.append(value);
+        } else {
+            json.append(JSONValue.toJSONString(value));
+        }
+    }
+
+    /**
+     * Escapes a string using the same rules as {@link JSONValue#escape(String)}, without the intermediate buffer.
+     */
+    private static void escape(String value, StringBuilder json) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\b':
+                    json.append("\\b");
+                    break;
+                case '\f':
+                    json.append("\\f");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                case '/':
+                    json.append("\\/");
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F')
+                            || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        String hex = Integer.toHexString(ch);
+                        json.append("\\u");
+                        for (int k = hex.length(); k < 4; k++) {
+                            json.append('0');
+                        }
+                        json.append(hex.toUpperCase(Locale.ENGLISH));
+                    } else {
+                        json.append(ch);
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.util;
+
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+
+/**
+ * Converts textual IP addresses into their numeric value in the unsigned 128 bit address space used by
+ * {@link APIUtil#ipToBigInteger(String)}, represented as a pair of longs so that throttling and blocking decisions
+ * on the request path do not need to allocate BigIntegers.
+ */
+public final class IPAddressParser {
+
+    private static final int GROUP_BITS = 16;
+    private static final ThreadLocal<long[]> ADDRESS_HOLDER = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[2];
+        }
+    };
+
+    private IPAddressParser() {
+
+    }
+
+    /**
+     * Returns a per thread array of length two which can be passed to {@link #toUnsigned128(String, long[])}.
+     *
+     * @return reusable address holder of the calling thread
+     */
+    public static long[] getAddressHolder() {
+
+        return ADDRESS_HOLDER.get();
+    }
+
+    /**
+     * Converts the given value into the high and low words of an unsigned 128 bit value.
+     *
+     * @param value  value to convert
+     * @param holder array of length two to receive the high and low words
+     */
+    public static void toUnsigned128(BigInteger value, long[] holder) {
+
+        holder[0] = value.shiftRight(64).longValue();
+        holder[1] = value.longValue();
+    }
+
+    /**
+     * Compares two unsigned 128 bit values given as high and low words.
+     *
+     * @param firstHigh  high word of the first value
+     * @param firstLow   low word of the first value
+     * @param secondHigh high word of the second value
+     * @param secondLow  low word of the second value
+     * @return negative, zero or positive if the first value is less than, equal to or greater than the second
+     */
+    public static int compare(long firstHigh, long firstLow, long secondHigh, long secondLow) {
+
+        int result = Long.compareUnsigned(firstHigh, secondHigh);
+        return result != 0 ? result : Long.compareUnsigned(firstLow, secondLow);
+    }
+
+    /**
+     * Writes the numeric value of the given IP into the holder as two unsigned 64 bit words (high, low). Plain
+     * IPv4 and IPv6 literals are parsed without allocating; anything else is delegated to
+     * {@link APIUtil#ipToBigInteger(String)} so that the result is always identical to the BigInteger value.
+     *
+     * @param ip     IP address
+     * @param holder array of length two to receive the high and low words
+     */
+    public static void toUnsigned128(String ip, long[] holder) {
+
+        if (ip != null) {
+            long ipv4 = parseIPv4(ip, 0, ip.length());
+            if (ipv4 >= 0) {
+                holder[0] = 0;
+                holder[1] = ipv4;
+                return;
+            }
+            if (parseIPv6(ip, holder)) {
+                return;
+            }
+        }
+        toUnsigned128(APIUtil.ipToBigInteger(ip), holder);
+    }
+
+    private static long parseIPv4(String ip, int from, int to) {
+
+        long value = 0;
+        int octets = 0;
+        int index = from;
+        while (index < to) {
+            int octet = 0;
+            int digits = 0;
+            while (index < to && digits <= 3) {
+                char c = ip.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                digits++;
+                index++;
+            }
+            if (digits == 0 || digits > 3 || octet > 255) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            octets++;
+            if (index == to) {
+                break;
+            }
+            if (ip.charAt(index) != '.' || octets == 4) {
+                return -1;
+            }
+            index++;
+            if (index == to) {
+                return -1;
+            }
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    private static boolean parseIPv6(String ip, long[] holder) {
+
+        int length = ip.length();
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int headGroups = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+        int index = 0;
+        if (length >= 2 && ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            index = 2;
+        }
+        while (index < length) {
+            int start = index;
+            int group = 0;
+            while (index < length) {
+                int digit = hexDigit(ip.charAt(index));
+                if (digit < 0) {
+                    break;
+                }
+                if (index - start == 4) {
+                    return false;
+                }
+                group = (group << 4) | digit;
+                index++;
+            }
+            if (index < length && ip.charAt(index) == '.') {
+                // Embedded IPv4 address, which fills the last two groups.
+                long ipv4 = parseIPv4(ip, start, length);
+                if (ipv4 < 0 || headGroups + tailGroups > 6) {
+                    return false;
+                }
+                if (compressed) {
+                    tailHigh = (tailHigh << 32) | (tailLow >>> 32);
+                    tailLow = (tailLow << 32) | ipv4;
+                    tailGroups += 2;
+                } else {
+                    headHigh = (headHigh << 32) | (headLow >>> 32);
+                    headLow = (headLow << 32) | ipv4;
+                    headGroups += 2;
+                }
+                index = length;
+                break;
+            }
+            if (index == start || headGroups + tailGroups == 8) {
+                return false;
+            }
+            if (compressed) {
+                tailHigh = (tailHigh << GROUP_BITS) | (tailLow >>> (64 - GROUP_BITS));
+                tailLow = (tailLow << GROUP_BITS) | group;
+                tailGroups++;
+            } else {
+                headHigh = (headHigh << GROUP_BITS) | (headLow >>> (64 - GROUP_BITS));
+                headLow = (headLow << GROUP_BITS) | group;
+                headGroups++;
+            }
+            if (index == length) {
+                break;
+            }
+            if (ip.charAt(index) != ':') {
+                return false;
+            }
+            index++;
+            if (index < length && ip.charAt(index) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                index++;
+            } else if (index == length) {
+                return false;
+            }
+        }
+        int groups = headGroups + tailGroups;
+        if (compressed ? groups > 7 : groups != 8) {
+            return false;
+        }
+        // Move the groups before the "::" to the top of the address.
+        for (int i = headGroups; i < 8; i++) {
+            headHigh = (headHigh << GROUP_BITS) | (headLow >>> (64 - GROUP_BITS));
+            headLow = headLow << GROUP_BITS;
+        }
+        long high = headHigh | tailHigh;
+        long low = headLow | tailLow;
+        if (high == 0 && (low >>> 32) == 0xffffL) {
+            // IPv4 mapped addresses are resolved to plain IPv4 addresses by InetAddress.
+            low = low & 0xffffffffL;
+        }
+        holder[0] = high;
+        holder[1] = low;
+        return true;
+    }
+
+    private static int hexDigit(char c) {
+
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -69,8 +69,10 @@ import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.impl.jwt.VerifiedJWTCache;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
@@ -235,7 +237,17 @@ public class GatewayUtils {
      */
     public static Map<String, String> getQueryParams(MessageContext messageContext) {
 
-        String queryString = (String) messageContext.getProperty(NhttpConstants.REST_URL_POSTFIX);
+        return getQueryParams((String) messageContext.getProperty(NhttpConstants.REST_URL_POSTFIX));
+    }
+
+    /**
+     * Can be used to extract Query Params from the REST URL postfix of a request.
+     *
+     * @param queryString The REST URL postfix, with or without the leading path
+     * @return A Map with Name Value pairs, or null if there is no query string.
+     */
+    public static Map<String, String> getQueryParams(String queryString) {
+
         if (!StringUtils.isEmpty(queryString)) {
             if (queryString.indexOf("?") > -1) {
                 queryString = queryString.substring(queryString.indexOf("?") + 1);
@@ -974,14 +986,16 @@ public class GatewayUtils {
         JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
         if (algorithm != null && (JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) ||
                 JWSAlgorithm.RS384.equals(algorithm))) {
-            try {
-                JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
-                return jwt.verify(jwsVerifier);
-            } catch (JOSEException e) {
-                log.error("Error while verifying JWT signature");
-                throw new APISecurityException(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS,
-                        APISecurityConstants.API_AUTH_INVALID_CREDENTIALS_MESSAGE, e);
-            }
+            return VerifiedJWTCache.getInstance().verify(jwt, publicKey, () -> {
+                try {
+                    JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
+                    return jwt.verify(jwsVerifier);
+                } catch (JOSEException e) {
+                    log.error("Error while verifying JWT signature");
+                    throw new APISecurityException(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS,
+                            APISecurityConstants.API_AUTH_INVALID_CREDENTIALS_MESSAGE, e);
+                }
+            });
         } else {
             log.error("Public key is not a RSA");
             throw new APISecurityException(APISecurityConstants.API_AUTH_GENERAL_ERROR,
@@ -1623,6 +1637,45 @@ public class GatewayUtils {
         return gatewayArtifactSynchronizerProperties.isOnDemandLoading();
     }
 
+    /**
+     * Returns a property of api-manager.xml, or null if it is not configured or the configuration has not been
+     * loaded yet.
+     *
+     * @param key property key
+     * @return property value
+     */
+    public static String getAPIManagerConfigurationProperty(String key) {
+
+        APIManagerConfigurationService configurationService =
+                ServiceReferenceHolder.getInstance().getApiManagerConfigurationService();
+        if (configurationService == null || configurationService.getAPIManagerConfiguration() == null) {
+            return null;
+        }
+        return configurationService.getAPIManagerConfiguration().getFirstProperty(key);
+    }
+
+    /**
+     * Returns an integer property of api-manager.xml, or the given default value if it is not configured or is not
+     * a valid integer.
+     *
+     * @param key          property key
+     * @param defaultValue value to use if the property is not configured
+     * @return property value
+     */
+    public static int getAPIManagerConfigurationProperty(String key, int defaultValue) {
+
+        String value = getAPIManagerConfigurationProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " configured for " + key + ". Using " + defaultValue + " instead.");
+            return defaultValue;
+        }
+    }
+
     /**
      * This method return the carbon.xml config value for tenant eager loading
      *
@@ -62,6 +62,20 @@ public class RedisCacheUtils {
         }
     }
 
+    /**
+     * Save a string key-value pair in Redis, which expires after the given timeout.
+     *
+     * @param key     Key of the value to be saved
+     * @param value   Value to be saved
+     * @param seconds Timeout value in seconds
+     */
+    public void setValue(String key, String value, int seconds) {
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.setex(key, seconds, value);
+        }
+    }
+
     /**
      * Retrieve a string key-value pair in Redis.
      *
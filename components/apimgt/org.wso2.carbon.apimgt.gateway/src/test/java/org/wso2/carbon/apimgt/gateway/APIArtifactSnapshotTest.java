@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test cases related APIArtifactSnapshot.
+ */
+public class APIArtifactSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndLoad() throws IOException {
+
+        APIArtifactSnapshot snapshot = new APIArtifactSnapshot(temporaryFolder.getRoot().toPath());
+        Assert.assertNull(snapshot.load("carbon.super", "Default"));
+        try (APIArtifactSnapshot.Writer writer = snapshot.createWriter("carbon.super", "Default")) {
+            writer.append("{\"apiId\":\"1\"}");
+            writer.append("{\"name\":\"\u00e9\"}");
+            Assert.assertTrue(writer.commit());
+        }
+        List<String> artifacts = snapshot.load("carbon.super", "Default");
+        Assert.assertEquals(Arrays.asList("{\"apiId\":\"1\"}", "{\"name\":\"\u00e9\"}"), artifacts);
+        Assert.assertNull(snapshot.load("carbon.super", "Default|Production"));
+        Assert.assertNull(snapshot.load("wso2.com", "Default"));
+
+        snapshot.delete("carbon.super");
+        Assert.assertNull(snapshot.load("carbon.super", "Default"));
+    }
+
+    @Test
+    public void testUncommittedSnapshotKeepsPreviousOne() throws IOException {
+
+        APIArtifactSnapshot snapshot = new APIArtifactSnapshot(temporaryFolder.getRoot().toPath());
+        try (APIArtifactSnapshot.Writer writer = snapshot.createWriter("carbon.super", "Default")) {
+            writer.append("first");
+            writer.commit();
+        }
+        try (APIArtifactSnapshot.Writer writer = snapshot.createWriter("carbon.super", "Default")) {
+            writer.append("second");
+        }
+        Assert.assertEquals(Collections.singletonList("first"), snapshot.load("carbon.super", "Default"));
+        Assert.assertEquals(1, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testCorruptedSnapshotIsIgnored() throws IOException {
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        APIArtifactSnapshot snapshot = new APIArtifactSnapshot(directory);
+        try (APIArtifactSnapshot.Writer writer = snapshot.createWriter("carbon.super", "Default")) {
+            writer.append("artifact");
+            writer.commit();
+        }
+        Path snapshotFile = directory.resolve("carbon.super.snapshot");
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile.toFile(), "rw")) {
+            // Flip a byte of the artifact
+            long position = file.length() - 20;
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+        Assert.assertNull(snapshot.load("carbon.super", "Default"));
+
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile.toFile(), "rw")) {
+            file.setLength(file.length() - 4);
+        }
+        Assert.assertNull(snapshot.load("carbon.super", "Default"));
+    }
+
+    @Test
+    public void testArtifactsWithSecretsAreNotWritten() throws IOException {
+
+        Path directory = temporaryFolder.getRoot().toPath().resolve("snapshots");
+        APIArtifactSnapshot snapshot = new APIArtifactSnapshot(directory);
+        try (APIArtifactSnapshot.Writer writer = snapshot.createWriter("carbon.super", "Default")) {
+            writer.append("{\"apiId\":\"1\",\"credentialsToBeAdd\":[{\"alias\":\"a\",\"password\":\"p\"}]}");
+            writer.append("{\"apiId\":\"2\",\"clientCertificatesToBeAdd\":[{\"name\":\"c\"}]}");
+            writer.append("{\"apiId\":\"3\",\"credentialsToBeAdd\":[],\"clientCertificatesToBeAdd\":[ ]}");
+            Assert.assertTrue(writer.commit());
+        }
+        Assert.assertEquals(Collections.singletonList(
+                "{\"apiId\":\"3\",\"credentialsToBeAdd\":[],\"clientCertificatesToBeAdd\":[ ]}"),
+                snapshot.load("carbon.super", "Default"));
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Assert.assertEquals(PosixFilePermissions.fromString("rwx------"),
+                    Files.getPosixFilePermissions(directory));
+            Assert.assertEquals(PosixFilePermissions.fromString("rw-------"),
+                    Files.getPosixFilePermissions(directory.resolve("carbon.super.snapshot")));
+        }
+    }
+}
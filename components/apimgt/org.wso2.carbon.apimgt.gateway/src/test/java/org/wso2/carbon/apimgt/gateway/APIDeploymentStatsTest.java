@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test cases related APIDeploymentStats.
+ */
+public class APIDeploymentStatsTest {
+
+    @Test
+    public void testDeploymentProgress() {
+
+        APIDeploymentStats deploymentStats = new APIDeploymentStats(false);
+        Assert.assertEquals(0, deploymentStats.getElapsedTime());
+        deploymentStats.deploymentStarted();
+        for (int i = 0; i < 3; i++) {
+            deploymentStats.artifactRetrieved();
+        }
+        deploymentStats.apiDeployed();
+        deploymentStats.apiDeployed();
+        deploymentStats.apiFailed();
+        deploymentStats.deploymentCompleted();
+        Assert.assertEquals(3, deploymentStats.getRetrievedArtifactCount());
+        Assert.assertEquals(2, deploymentStats.getDeployedAPICount());
+        Assert.assertEquals(1, deploymentStats.getFailedAPICount());
+    }
+
+    @Test
+    public void testPhaseTimes() {
+
+        APIDeploymentStats deploymentStats = new APIDeploymentStats(false);
+        deploymentStats.addFetchTime(TimeUnit.MILLISECONDS.toNanos(10));
+        deploymentStats.addParseTime(TimeUnit.MILLISECONDS.toNanos(20));
+        deploymentStats.addParseTime(TimeUnit.MILLISECONDS.toNanos(20));
+        deploymentStats.addSynapseDeployTime(TimeUnit.MILLISECONDS.toNanos(30));
+        deploymentStats.addCertificateAssociationTime(TimeUnit.MILLISECONDS.toNanos(5));
+        Assert.assertEquals(10, deploymentStats.getFetchTime());
+        Assert.assertEquals(40, deploymentStats.getParseTime());
+        Assert.assertEquals(30, deploymentStats.getSynapseDeployTime());
+        Assert.assertEquals(5, deploymentStats.getCertificateAssociationTime());
+
+        deploymentStats.addSnapshotLoad(4, TimeUnit.MILLISECONDS.toNanos(15));
+        deploymentStats.addReconciliation(1, TimeUnit.MILLISECONDS.toNanos(25));
+        Assert.assertEquals(4, deploymentStats.getSnapshotArtifactCount());
+        Assert.assertEquals(15, deploymentStats.getSnapshotLoadTime());
+        Assert.assertEquals(1, deploymentStats.getReconciledAPICount());
+        Assert.assertEquals(25, deploymentStats.getReconciliationTime());
+        deploymentStats.reconciliationRetried();
+        deploymentStats.reconciliationRetried();
+        deploymentStats.reconciliationFailed();
+        Assert.assertEquals(2, deploymentStats.getReconciliationRetryCount());
+        Assert.assertEquals(1, deploymentStats.getFailedReconciliationCount());
+
+        deploymentStats.resetStatistics();
+        Assert.assertEquals(0, deploymentStats.getFetchTime());
+        Assert.assertEquals(0, deploymentStats.getParseTime());
+        Assert.assertEquals(0, deploymentStats.getElapsedTime());
+        Assert.assertEquals(0, deploymentStats.getSnapshotLoadTime());
+        Assert.assertEquals(0, deploymentStats.getReconciliationRetryCount());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AnalyticsEventQueueTest {
+
+    @Test
+    public void testEventsAreCollectedByTheWorkers() throws Exception {
+
+        List<AnalyticsDataProvider> collected = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        AnalyticsEventQueue queue = new AnalyticsEventQueue(1000, 2, AnalyticsEventQueue.DropPolicy.DROP_NEWEST,
+                provider -> {
+                    collected.add(provider);
+                    threads.add(Thread.currentThread().getName());
+                }, false);
+        List<AnalyticsDataProvider> providers = createProviders(500);
+        for (AnalyticsDataProvider provider : providers) {
+            queue.add(provider);
+        }
+        queue.shutdown();
+        Assert.assertTrue(queue.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(500, collected.size());
+        Assert.assertTrue(collected.containsAll(providers));
+        Assert.assertFalse(threads.contains(Thread.currentThread().getName()));
+        Assert.assertEquals(500, queue.getQueuedCount());
+        Assert.assertEquals(500, queue.getCollectedCount());
+        Assert.assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void testNewestEventIsDroppedWhenFull() throws Exception {
+
+        List<AnalyticsDataProvider> providers = createProviders(4);
+        BlockedQueue blockedQueue = new BlockedQueue(AnalyticsEventQueue.DropPolicy.DROP_NEWEST, providers);
+        blockedQueue.queue.add(providers.get(3));
+        blockedQueue.release();
+
+        Assert.assertEquals(providers.subList(0, 3), blockedQueue.collected);
+        Assert.assertEquals(1, blockedQueue.queue.getDroppedCount());
+        Assert.assertEquals(3, blockedQueue.queue.getQueuedCount());
+    }
+
+    @Test
+    public void testOldestEventIsDroppedWhenFull() throws Exception {
+
+        List<AnalyticsDataProvider> providers = createProviders(4);
+        BlockedQueue blockedQueue = new BlockedQueue(AnalyticsEventQueue.DropPolicy.DROP_OLDEST, providers);
+        blockedQueue.queue.add(providers.get(3));
+        blockedQueue.release();
+
+        Assert.assertEquals(Arrays.asList(providers.get(0), providers.get(2), providers.get(3)),
+                blockedQueue.collected);
+        Assert.assertEquals(1, blockedQueue.queue.getDroppedCount());
+        Assert.assertEquals(4, blockedQueue.queue.getQueuedCount());
+    }
+
+    @Test
+    public void testEventIsCollectedByTheCallerWhenFull() throws Exception {
+
+        List<AnalyticsDataProvider> providers = createProviders(4);
+        BlockedQueue blockedQueue = new BlockedQueue(AnalyticsEventQueue.DropPolicy.CALLER_RUNS, providers);
+        blockedQueue.queue.add(providers.get(3));
+        Assert.assertEquals(Arrays.asList(providers.get(0), providers.get(3)), blockedQueue.collected);
+        blockedQueue.release();
+
+        Assert.assertEquals(Arrays.asList(providers.get(0), providers.get(3), providers.get(1), providers.get(2)),
+                blockedQueue.collected);
+        Assert.assertEquals(0, blockedQueue.queue.getDroppedCount());
+        Assert.assertEquals(1, blockedQueue.queue.getCallerRunsCount());
+        Assert.assertEquals(4, blockedQueue.queue.getCollectedCount());
+    }
+
+    private static List<AnalyticsDataProvider> createProviders(int count) {
+
+        List<AnalyticsDataProvider> providers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            providers.add(Mockito.mock(AnalyticsDataProvider.class));
+        }
+        return providers;
+    }
+
+    /**
+     * Queue of capacity two with its only worker blocked on the first of the given events and the next two events
+     * waiting in the queue.
+     */
+    private static class BlockedQueue {
+
+        private final List<AnalyticsDataProvider> collected = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch workerBlocked = new CountDownLatch(1);
+        private final CountDownLatch workerReleased = new CountDownLatch(1);
+        private final AnalyticsEventQueue queue;
+
+        private BlockedQueue(AnalyticsEventQueue.DropPolicy dropPolicy, List<AnalyticsDataProvider> providers)
+                throws InterruptedException {
+
+            AnalyticsDataProvider first = providers.get(0);
+            queue = new AnalyticsEventQueue(2, 1, dropPolicy, provider -> {
+                collected.add(provider);
+                if (provider == first) {
+                    workerBlocked.countDown();
+                    try {
+                        workerReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, false);
+            queue.add(first);
+            Assert.assertTrue(workerBlocked.await(10, TimeUnit.SECONDS));
+            queue.add(providers.get(1));
+            queue.add(providers.get(2));
+        }
+
+        private void release() throws InterruptedException {
+
+            workerReleased.countDown();
+            queue.shutdown();
+            Assert.assertTrue(queue.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
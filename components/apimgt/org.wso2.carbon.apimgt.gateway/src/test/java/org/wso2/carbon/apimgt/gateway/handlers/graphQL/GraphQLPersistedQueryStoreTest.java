@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test cases related GraphQLPersistedQueryStore.
+ */
+public class GraphQLPersistedQueryStoreTest {
+
+    private static final String API_UUID = "12345";
+    private static final String QUERY = "{allLifts{name}}";
+
+    @Test
+    public void testGetHash() {
+
+        Assert.assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                GraphQLPersistedQueryStore.getHash(""));
+        Assert.assertTrue(GraphQLPersistedQueryStore.isValidHash(GraphQLPersistedQueryStore.getHash(QUERY)));
+    }
+
+    @Test
+    public void testRegisteredQueryIsResolved() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(10, null);
+        String hash = GraphQLPersistedQueryStore.getHash(QUERY);
+        Assert.assertNull(store.getQuery(API_UUID, hash));
+        store.putQuery(API_UUID, hash, QUERY);
+        Assert.assertEquals(QUERY, store.getQuery(API_UUID, hash));
+        Assert.assertNull(store.getQuery("67890", hash));
+    }
+
+    @Test
+    public void testStoreIsBounded() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(2, null);
+        String[] queries = {"{a}", "{b}", "{c}"};
+        for (String query : queries) {
+            store.putQuery(API_UUID, GraphQLPersistedQueryStore.getHash(query), query);
+        }
+        Assert.assertNull(store.getQuery(API_UUID, GraphQLPersistedQueryStore.getHash(queries[0])));
+        Assert.assertEquals(queries[2], store.getQuery(API_UUID, GraphQLPersistedQueryStore.getHash(queries[2])));
+    }
+
+    @Test
+    public void testStoreIsBoundedPerAPI() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(1, null);
+        String hash = GraphQLPersistedQueryStore.getHash(QUERY);
+        store.putQuery(API_UUID, hash, QUERY);
+        store.putQuery("67890", GraphQLPersistedQueryStore.getHash("{a}"), "{a}");
+        Assert.assertEquals(QUERY, store.getQuery(API_UUID, hash));
+        store.evict(API_UUID);
+        Assert.assertNull(store.getQuery(API_UUID, hash));
+        Assert.assertEquals("{a}", store.getQuery("67890", GraphQLPersistedQueryStore.getHash("{a}")));
+    }
+
+    @Test
+    public void testLongQueryIsNotRegistered() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(10, null);
+        StringBuilder query = new StringBuilder("{");
+        while (query.length() <= GraphQLQueryCache.MAX_QUERY_LENGTH) {
+            query.append("a ");
+        }
+        String longQuery = query.append('}').toString();
+        store.putQuery(API_UUID, GraphQLPersistedQueryStore.getHash(longQuery), longQuery);
+        Assert.assertNull(store.getQuery(API_UUID, GraphQLPersistedQueryStore.getHash(longQuery)));
+    }
+
+    @Test
+    public void testInvalidHashIsIgnored() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(10, null);
+        store.putQuery(API_UUID, "abc", QUERY);
+        Assert.assertNull(store.getQuery(API_UUID, "abc"));
+        Assert.assertFalse(GraphQLPersistedQueryStore.isValidHash(null));
+        Assert.assertFalse(GraphQLPersistedQueryStore.isValidHash(
+                GraphQLPersistedQueryStore.getHash(QUERY).toUpperCase()));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Unit test cases related GraphQLQueryCache.
+ */
+public class GraphQLQueryCacheTest {
+
+    private static final String API_UUID = "12345";
+    private static final String QUERY = "{allLifts{name}}";
+    private GraphQLSchemaDTO schemaDTO;
+
+    @Before
+    public void setup() throws IOException {
+
+        String relativePath = "graphQL" + File.separator + "schema_with_additional_props.graphql";
+        String schemaString = IOUtils.toString(getClass().getClassLoader().getResourceAsStream(relativePath));
+        TypeDefinitionRegistry registry = new SchemaParser().parse(schemaString);
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+        schemaDTO = new GraphQLSchemaDTO(schema, registry);
+    }
+
+    @Test
+    public void testCachedQueryIsReused() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(10);
+        Assert.assertNull(cache.get(API_UUID, schemaDTO, QUERY));
+        GraphQLQueryCache.Entry entry = newEntry(QUERY);
+        cache.put(API_UUID, schemaDTO, QUERY, entry);
+        Assert.assertSame(entry, cache.get(API_UUID, schemaDTO, QUERY));
+        Assert.assertNull(cache.get("67890", schemaDTO, QUERY));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testEntriesAreNotSharedAcrossSchemas() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(10);
+        cache.put(API_UUID, schemaDTO, QUERY, newEntry(QUERY));
+        GraphQLSchemaDTO redeployedSchemaDTO = new GraphQLSchemaDTO(schemaDTO.getGraphQLSchema(),
+                schemaDTO.getTypeDefinitionRegistry());
+        Assert.assertNull(cache.get(API_UUID, redeployedSchemaDTO, QUERY));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(2);
+        cache.put(API_UUID, schemaDTO, "{allLifts{name}}", newEntry("{allLifts{name}}"));
+        cache.put(API_UUID, schemaDTO, "{allLifts{id}}", newEntry("{allLifts{id}}"));
+        cache.put(API_UUID, schemaDTO, "{allTrails{name}}", newEntry("{allTrails{name}}"));
+        Assert.assertNull(cache.get(API_UUID, schemaDTO, "{allLifts{name}}"));
+        Assert.assertNotNull(cache.get(API_UUID, schemaDTO, "{allTrails{name}}"));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(0);
+        cache.put(API_UUID, schemaDTO, QUERY, newEntry(QUERY));
+        Assert.assertNull(cache.get(API_UUID, schemaDTO, QUERY));
+    }
+
+    @Test
+    public void testLongQueriesAreNotCached() {
+
+        StringBuilder query = new StringBuilder("{allLifts{name}}");
+        while (query.length() <= GraphQLQueryCache.MAX_QUERY_LENGTH) {
+            query.append(' ');
+        }
+        GraphQLQueryCache cache = new GraphQLQueryCache(10);
+        cache.put(API_UUID, schemaDTO, query.toString(), newEntry(query.toString()));
+        Assert.assertNull(cache.get(API_UUID, schemaDTO, query.toString()));
+    }
+
+    @Test
+    public void testEntryOperation() {
+
+        GraphQLQueryCache.Entry entry = newEntry(QUERY);
+        Assert.assertEquals(OperationDefinition.Operation.QUERY, entry.getOperation().getOperation());
+        Assert.assertEquals("allLifts", entry.getOperationList());
+        Assert.assertFalse(entry.isOperationDefinitionMissing());
+
+        String fragmentFirst = "fragment liftName on Lift {name} query {allLifts{...liftName}}";
+        entry = newEntry(fragmentFirst);
+        Assert.assertNull(entry.getOperation());
+        Assert.assertTrue(entry.isOperationDefinitionMissing());
+
+        Document document = new Parser().parseDocument(QUERY);
+        entry = new GraphQLQueryCache.Entry(document, "Validation error", schemaDTO);
+        Assert.assertNull(entry.getOperation());
+        Assert.assertFalse(entry.isOperationDefinitionMissing());
+    }
+
+    @Test
+    public void testEntryAnalysisResults() {
+
+        GraphQLQueryCache.Entry entry = newEntry(QUERY);
+        QueryAnalyzerResponseDTO depthResult = new QueryAnalyzerResponseDTO();
+        entry.addDepthResult(5, depthResult);
+        Assert.assertSame(depthResult, entry.getDepthResult(5));
+        Assert.assertNull(entry.getDepthResult(10));
+        Assert.assertNull(entry.getComplexityResult(5));
+    }
+
+    private GraphQLQueryCache.Entry newEntry(String query) {
+
+        return new GraphQLQueryCache.Entry(new Parser().parseDocument(query), null, schemaDTO);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the OpenAPI validators obtained per second from {@link OpenAPIValidatorRegistry}, reusing the validator
+ * of a deployed API and building a new one for every message as {@link SchemaValidator} did before the registry.
+ * Run with the test classpath of this module, for example {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.apimgt.gateway.handlers.security.OpenAPIValidatorRegistryBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenAPIValidatorRegistryBenchmark {
+
+    private static final String API_UUID = "2fd2a0c4-7d3e-4f3c-9a41-2a5f0c8e1b7d";
+
+    private final OpenAPIValidatorRegistry registry = new OpenAPIValidatorRegistry(false);
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setup() throws IOException {
+
+        openAPI = OpenAPIValidatorRegistryTest.readOpenAPI();
+        registry.getValidator(API_UUID, openAPI);
+    }
+
+    @Benchmark
+    public OpenApiInteractionValidator getRegisteredValidator() {
+
+        return registry.getValidator(API_UUID, openAPI);
+    }
+
+    @Benchmark
+    public OpenApiInteractionValidator buildValidator() {
+
+        return registry.getValidator(null, openAPI);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(OpenAPIValidatorRegistryBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
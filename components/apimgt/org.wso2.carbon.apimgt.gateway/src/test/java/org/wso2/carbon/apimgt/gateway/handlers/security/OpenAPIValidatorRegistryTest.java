@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+public class OpenAPIValidatorRegistryTest {
+
+    private static final String API_UUID = "2fd2a0c4-7d3e-4f3c-9a41-2a5f0c8e1b7d";
+    private OpenAPIValidatorRegistry registry;
+
+    @Before
+    public void before() {
+
+        registry = new OpenAPIValidatorRegistry(false);
+    }
+
+    @Test
+    public void testValidatorIsBuiltOncePerOpenAPI() throws IOException {
+
+        OpenAPI openAPI = readOpenAPI();
+        OpenApiInteractionValidator validator = registry.getValidator(API_UUID, openAPI);
+        Assert.assertSame(validator, registry.getValidator(API_UUID, openAPI));
+        Assert.assertEquals(1, registry.getMissCount());
+        Assert.assertEquals(1, registry.getHitCount());
+        Assert.assertEquals(1, registry.getValidatorCount());
+    }
+
+    @Test
+    public void testValidatorIsRebuiltForNewRevision() throws IOException {
+
+        OpenApiInteractionValidator validator = registry.getValidator(API_UUID, readOpenAPI());
+        OpenAPI revision = readOpenAPI();
+        OpenApiInteractionValidator revisionValidator = registry.getValidator(API_UUID, revision);
+        Assert.assertNotSame(validator, revisionValidator);
+        Assert.assertSame(revisionValidator, registry.getValidator(API_UUID, revision));
+        Assert.assertEquals(2, registry.getMissCount());
+        Assert.assertEquals(1, registry.getValidatorCount());
+    }
+
+    @Test
+    public void testEvict() throws IOException {
+
+        OpenAPI openAPI = readOpenAPI();
+        OpenApiInteractionValidator validator = registry.getValidator(API_UUID, openAPI);
+        registry.evict(API_UUID);
+        registry.evict(API_UUID);
+        Assert.assertEquals(1, registry.getEvictionCount());
+        Assert.assertEquals(0, registry.getValidatorCount());
+        Assert.assertNotSame(validator, registry.getValidator(API_UUID, openAPI));
+    }
+
+    @Test
+    public void testValidatorWithoutApiUUIDIsNotKept() throws IOException {
+
+        OpenAPI openAPI = readOpenAPI();
+        Assert.assertNotNull(registry.getValidator(null, openAPI));
+        Assert.assertNotNull(registry.getValidator(null, openAPI));
+        Assert.assertEquals(2, registry.getMissCount());
+        Assert.assertEquals(0, registry.getValidatorCount());
+        registry.resetStatistics();
+        Assert.assertEquals(0, registry.getMissCount());
+    }
+
+    static OpenAPI readOpenAPI() throws IOException {
+
+        File swaggerJsonFile = new File(Thread.currentThread().getContextClassLoader().
+                getResource("swaggerEntry/swagger.json").getFile());
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolveFully(true);
+        return new OpenAPIParser().readContents(FileUtils.readFileToString(swaggerJsonFile), null, parseOptions)
+                .getOpenAPI();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+/**
+ * Test cases for {@link ResourceVerbIndex}
+ */
+public class ResourceVerbIndexTest {
+
+    private static VerbInfoDTO verb(String httpMethod) {
+
+        VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+        verbInfoDTO.setHttpVerb(httpMethod);
+        return verbInfoDTO;
+    }
+
+    private static ResourceInfoDTO resource(String urlPattern, VerbInfoDTO... verbs) {
+
+        ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+        resourceInfoDTO.setUrlPattern(urlPattern);
+        resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>(Arrays.asList(verbs)));
+        return resourceInfoDTO;
+    }
+
+    private static APIInfoDTO api(ResourceInfoDTO... resources) {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>(Arrays.asList(resources)));
+        return apiInfoDTO;
+    }
+
+    @Test
+    public void testVerbsAreMatchedByMethodAndResource() {
+
+        VerbInfoDTO getMenu = verb("GET");
+        VerbInfoDTO postMenu = verb("POST");
+        VerbInfoDTO getOrder = verb("GET");
+        ResourceVerbIndex index = ResourceVerbIndex.build(api(resource("/menu", getMenu, postMenu),
+                resource("/order/{orderId}", getOrder)));
+
+        Assert.assertEquals(Collections.singletonList(getMenu), index.getVerbs("GET", "/menu"));
+        Assert.assertEquals(Collections.singletonList(postMenu), index.getVerbs("POST", "/menu"));
+        Assert.assertEquals(Collections.singletonList(getOrder), index.getVerbs("GET", " /ORDER/{orderId} "));
+        Assert.assertTrue(index.getVerbs("DELETE", "/menu").isEmpty());
+        Assert.assertTrue(index.getVerbs("GET", "/menus").isEmpty());
+        Assert.assertTrue(index.getVerbs(null, "/menu").isEmpty());
+    }
+
+    @Test
+    public void testTrailingSlashOfPatternIsIgnored() {
+
+        VerbInfoDTO getMenu = verb("GET");
+        VerbInfoDTO getOrder = verb("GET");
+        ResourceVerbIndex index = ResourceVerbIndex.build(api(resource("/menu/", getMenu),
+                resource("/order", getOrder)));
+
+        Assert.assertEquals(Collections.singletonList(getMenu), index.getVerbs("GET", "/menu"));
+        Assert.assertEquals(Collections.singletonList(getMenu), index.getVerbs("GET", "/menu/"));
+        // Only a trailing '/' of the pattern is ignored, not one of the resource.
+        Assert.assertTrue(index.getVerbs("GET", "/order/").isEmpty());
+    }
+
+    @Test
+    public void testVerbsKeepResourceOrder() {
+
+        VerbInfoDTO first = verb("GET");
+        VerbInfoDTO second = verb("GET");
+        APIInfoDTO apiInfoDTO = api(resource("/items/", first), resource("/items", second));
+        ResourceVerbIndex index = ResourceVerbIndex.build(apiInfoDTO);
+
+        Assert.assertEquals(Arrays.asList(first, second), index.getVerbs("GET", "/items"));
+        Assert.assertTrue(index.isBuiltFrom(apiInfoDTO));
+        Assert.assertFalse(index.isBuiltFrom(api()));
+    }
+}
@@ -28,12 +28,16 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTInfoDto;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJWTGenerator;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
@@ -57,10 +61,13 @@ import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import java.security.cert.X509Certificate;
 
@@ -70,6 +77,7 @@ import java.security.cert.X509Certificate;
 public class JWTValidatorTest {
 
     private static String PASSWORD = "wso2carbon";
+    private static final String BACKEND_JWT_SIGNATURE = "backendJWTSignature";
     PrivilegedCarbonContext privilegedCarbonContext;
     ServiceReferenceHolder serviceReferenceHolder;
 
@@ -1331,6 +1339,168 @@ public class JWTValidatorTest {
                 .getJWTID());
     }
 
+    @Test
+    public void testBackendJWTServedFromCacheEntry() throws Exception {
+
+        AbstractAPIMgtGatewayJWTGenerator jwtGenerator = Mockito.mock(AbstractAPIMgtGatewayJWTGenerator.class);
+        Cache gatewayJWTTokenCache = Mockito.mock(Cache.class);
+        JWTInfoDto jwtInfoDto = getBackendJWTInfoDto();
+        String cacheKey = getBackendJWTCacheKey(jwtInfoDto);
+        String cachedToken = getBackendJWT(System.currentTimeMillis() + 3600000L);
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(new BackendJWTCacheEntry(cachedToken,
+                System.currentTimeMillis() + 3600000L));
+        JWTValidatorWrapper jwtValidator = getBackendJWTValidator(jwtGenerator, 0, gatewayJWTTokenCache);
+
+        String backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(cachedToken, backendJWT);
+        Mockito.verify(jwtGenerator, Mockito.never()).generateToken(Mockito.any(JWTInfoDto.class));
+        Mockito.verify(gatewayJWTTokenCache, Mockito.never()).put(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testBackendJWTRegeneratedOnCacheEntryExpiry() throws Exception {
+
+        AbstractAPIMgtGatewayJWTGenerator jwtGenerator = Mockito.mock(AbstractAPIMgtGatewayJWTGenerator.class);
+        Cache gatewayJWTTokenCache = Mockito.mock(Cache.class);
+        JWTInfoDto jwtInfoDto = getBackendJWTInfoDto();
+        String cacheKey = getBackendJWTCacheKey(jwtInfoDto);
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(new BackendJWTCacheEntry(
+                getBackendJWT(System.currentTimeMillis() - 1000L), System.currentTimeMillis() - 1000L));
+        long expiryTime = (System.currentTimeMillis() + 3600000L) / 1000L * 1000L;
+        String generatedToken = getBackendJWT(expiryTime);
+        Mockito.when(jwtGenerator.generateToken(Mockito.any(JWTInfoDto.class))).thenReturn(generatedToken);
+        JWTValidatorWrapper jwtValidator = getBackendJWTValidator(jwtGenerator, 0, gatewayJWTTokenCache);
+
+        String backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(generatedToken, backendJWT);
+        Mockito.verify(jwtGenerator, Mockito.times(1)).generateToken(Mockito.any(JWTInfoDto.class));
+        ArgumentCaptor<BackendJWTCacheEntry> cacheEntry = ArgumentCaptor.forClass(BackendJWTCacheEntry.class);
+        Mockito.verify(gatewayJWTTokenCache).put(Mockito.eq(cacheKey), cacheEntry.capture());
+        Assert.assertEquals(generatedToken, cacheEntry.getValue().getToken());
+        Assert.assertEquals(expiryTime, cacheEntry.getValue().getExpiryTime());
+    }
+
+    @Test
+    public void testBackendJWTServedFromLegacyCacheEntry() throws Exception {
+
+        AbstractAPIMgtGatewayJWTGenerator jwtGenerator = Mockito.mock(AbstractAPIMgtGatewayJWTGenerator.class);
+        Cache gatewayJWTTokenCache = Mockito.mock(Cache.class);
+        JWTInfoDto jwtInfoDto = getBackendJWTInfoDto();
+        String cacheKey = getBackendJWTCacheKey(jwtInfoDto);
+        String cachedToken = getBackendJWT(System.currentTimeMillis() + 3600000L);
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(cachedToken);
+        JWTValidatorWrapper jwtValidator = getBackendJWTValidator(jwtGenerator, 0, gatewayJWTTokenCache);
+
+        String backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(cachedToken, backendJWT);
+        Mockito.verify(jwtGenerator, Mockito.never()).generateToken(Mockito.any(JWTInfoDto.class));
+
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(getBackendJWT(System.currentTimeMillis() - 1000L));
+        String generatedToken = getBackendJWT(System.currentTimeMillis() + 3600000L);
+        Mockito.when(jwtGenerator.generateToken(Mockito.any(JWTInfoDto.class))).thenReturn(generatedToken);
+        backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(generatedToken, backendJWT);
+        Mockito.verify(gatewayJWTTokenCache).put(Mockito.eq(cacheKey), Mockito.any(BackendJWTCacheEntry.class));
+    }
+
+    @Test
+    public void testBackendJWTRefreshedOnceBeforeExpiry() throws Exception {
+
+        Mockito.when(privilegedCarbonContext.getTenantDomain()).thenReturn("carbon.super");
+        AbstractAPIMgtGatewayJWTGenerator jwtGenerator = Mockito.mock(AbstractAPIMgtGatewayJWTGenerator.class);
+        Cache gatewayJWTTokenCache = Mockito.mock(Cache.class);
+        JWTInfoDto jwtInfoDto = getBackendJWTInfoDto();
+        String cacheKey = getBackendJWTCacheKey(jwtInfoDto);
+        String cachedToken = getBackendJWT(System.currentTimeMillis() + 30000L);
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(new BackendJWTCacheEntry(cachedToken,
+                System.currentTimeMillis() + 30000L));
+        String refreshedToken = getBackendJWT(System.currentTimeMillis() + 3600000L);
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        Mockito.when(jwtGenerator.generateToken(Mockito.any(JWTInfoDto.class))).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            releaseRefresh.await(10, TimeUnit.SECONDS);
+            return refreshedToken;
+        });
+        // Refresh the backend JWT when it is valid for less than a minute.
+        JWTValidatorWrapper jwtValidator = getBackendJWTValidator(jwtGenerator, 60, gatewayJWTTokenCache);
+
+        String backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(cachedToken, backendJWT);
+        Assert.assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+        // A request arriving while the refresh is in progress is served from the cache without another refresh.
+        backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(cachedToken, backendJWT);
+        releaseRefresh.countDown();
+
+        ArgumentCaptor<BackendJWTCacheEntry> cacheEntry = ArgumentCaptor.forClass(BackendJWTCacheEntry.class);
+        Mockito.verify(gatewayJWTTokenCache, Mockito.timeout(10000)).put(Mockito.eq(cacheKey), cacheEntry.capture());
+        Assert.assertEquals(refreshedToken, cacheEntry.getValue().getToken());
+        Mockito.verify(jwtGenerator, Mockito.times(1)).generateToken(Mockito.any(JWTInfoDto.class));
+    }
+
+    @Test
+    public void testBackendJWTNotRefreshedOutsideRefreshAheadTime() throws Exception {
+
+        AbstractAPIMgtGatewayJWTGenerator jwtGenerator = Mockito.mock(AbstractAPIMgtGatewayJWTGenerator.class);
+        Cache gatewayJWTTokenCache = Mockito.mock(Cache.class);
+        JWTInfoDto jwtInfoDto = getBackendJWTInfoDto();
+        String cacheKey = getBackendJWTCacheKey(jwtInfoDto);
+        String cachedToken = getBackendJWT(System.currentTimeMillis() + 3600000L);
+        Mockito.when(gatewayJWTTokenCache.get(cacheKey)).thenReturn(new BackendJWTCacheEntry(cachedToken,
+                System.currentTimeMillis() + 3600000L));
+        JWTValidatorWrapper jwtValidator = getBackendJWTValidator(jwtGenerator, 60, gatewayJWTTokenCache);
+
+        String backendJWT = Whitebox.invokeMethod(jwtValidator, "generateAndRetrieveJWTToken", BACKEND_JWT_SIGNATURE,
+                jwtInfoDto);
+        Assert.assertEquals(cachedToken, backendJWT);
+        Mockito.verify(jwtGenerator, Mockito.never()).generateToken(Mockito.any(JWTInfoDto.class));
+        Mockito.verify(gatewayJWTTokenCache, Mockito.never()).put(Mockito.any(), Mockito.any());
+    }
+
+    private JWTValidatorWrapper getBackendJWTValidator(AbstractAPIMgtGatewayJWTGenerator jwtGenerator,
+                                                       long refreshAheadTime, Cache gatewayJWTTokenCache) {
+
+        ExtendedJWTConfigurationDto jwtConfigurationDto = new ExtendedJWTConfigurationDto();
+        jwtConfigurationDto.setBackendJWTRefreshAheadTime(refreshAheadTime);
+        return new JWTValidatorWrapper("Unlimited", true, Mockito.mock(APIKeyValidator.class), true, jwtGenerator,
+                jwtConfigurationDto, Mockito.mock(JWTValidationService.class), Mockito.mock(Cache.class),
+                Mockito.mock(Cache.class), Mockito.mock(Cache.class), gatewayJWTTokenCache);
+    }
+
+    private JWTInfoDto getBackendJWTInfoDto() {
+
+        // A distinct API per test keeps the backend JWT cache keys of the tests apart.
+        JWTInfoDto jwtInfoDto = new JWTInfoDto();
+        jwtInfoDto.setApiContext("/" + UUID.randomUUID().toString());
+        jwtInfoDto.setVersion("1.0.0");
+        jwtInfoDto.setEndUser("user1");
+        JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
+        jwtValidationInfo.setUser("user1");
+        jwtValidationInfo.setKeyManager("Default");
+        jwtInfoDto.setJwtValidationInfo(jwtValidationInfo);
+        return jwtInfoDto;
+    }
+
+    private String getBackendJWTCacheKey(JWTInfoDto jwtInfoDto) {
+
+        return jwtInfoDto.getApiContext() + ":" + jwtInfoDto.getVersion() + ":" + BACKEND_JWT_SIGNATURE;
+    }
+
+    private String getBackendJWT(long expiryTime) {
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        return encoder.encodeToString("{\"typ\":\"JWT\",\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"sub\":\"user1\",\"exp\":" + expiryTime / 1000L + "}")
+                .getBytes(StandardCharsets.UTF_8)) + "." + UUID.randomUUID().toString();
+    }
+
     /**
      * Load X509Certificate from .pem file.
      *
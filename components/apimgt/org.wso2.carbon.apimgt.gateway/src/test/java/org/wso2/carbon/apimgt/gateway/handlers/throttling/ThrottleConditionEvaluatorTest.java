@@ -917,4 +917,102 @@ public class ThrottleConditionEvaluatorTest {
         return conditionDto;
     }
 
+    @Test
+    public void testEvaluationPlanIsRebuiltAfterInvalidation() {
+
+        String resourceKey = apiContext + "/" + apiVersion + "/resource:GET";
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("IPSpecificConditionGroup");
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType("IPSpecific");
+        condition.setConditionValue("127.0.0.1");
+        ConditionDTO[] conditionDTOS = {condition};
+        conditionGroupDTO.setConditions(conditionDTOS);
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO, defaultConditionGroupDTO};
+
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "IPSpecificConditionGroup");
+
+        // The compiled plan is reused for the same condition groups of the resource until it is invalidated by a
+        // policy update.
+        condition.setConditionValue("10.0.0.1");
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "IPSpecificConditionGroup");
+
+        throttleConditionEvaluator.invalidateEvaluationPlans();
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), THROTTLE_POLICY_DEFAULT);
+    }
+
+    @Test
+    public void testEvaluationPlanIsRebuiltForAnotherPolicy() {
+
+        String resourceKey = apiContext + "/" + apiVersion + "/resource:POST";
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("IPSpecificConditionGroup");
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType("IPSpecific");
+        condition.setConditionValue("127.0.0.1");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{condition});
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO, defaultConditionGroupDTO};
+
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "IPSpecificConditionGroup");
+
+        ConditionGroupDTO[] otherConditionGroupDTOS = {defaultConditionGroupDTO};
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Silver",
+                otherConditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), THROTTLE_POLICY_DEFAULT);
+    }
+
+    @Test
+    public void testEvaluationPlanIsRebuiltForNewConditionGroupsOfSamePolicy() {
+
+        String resourceKey = apiContext + "/" + apiVersion + "/resource:PUT";
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("IPSpecificConditionGroup");
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType("IPSpecific");
+        condition.setConditionValue("127.0.0.1");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{condition});
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO, defaultConditionGroupDTO};
+
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "IPSpecificConditionGroup");
+
+        // The resource is reloaded with the updated condition groups of the policy, without the plans being
+        // invalidated, for example by a request racing the invalidation.
+        ConditionGroupDTO updatedConditionGroupDTO = new ConditionGroupDTO();
+        updatedConditionGroupDTO.setConditionGroupId("IPSpecificConditionGroup");
+        ConditionDTO updatedCondition = new ConditionDTO();
+        updatedCondition.setConditionType("IPSpecific");
+        updatedCondition.setConditionValue("10.0.0.1");
+        updatedConditionGroupDTO.setConditions(new ConditionDTO[]{updatedCondition});
+        ConditionGroupDTO[] updatedConditionGroupDTOS = {updatedConditionGroupDTO, defaultConditionGroupDTO};
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                updatedConditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), THROTTLE_POLICY_DEFAULT);
+
+        // A request still carrying the previous condition groups does not keep the updated plan from being used.
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), "IPSpecificConditionGroup");
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), new AuthenticationContext(), resourceKey, "Gold",
+                updatedConditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), THROTTLE_POLICY_DEFAULT);
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link RevokedTokenStore}
+ */
+public class RevokedTokenStoreTest {
+
+    private static final long BUCKET_MILLIS = 1000L;
+
+    @Test
+    public void testContainsRevokedSignatures() {
+
+        for (boolean bloomFilterEnabled : new boolean[]{true, false}) {
+            RevokedTokenStore store = new RevokedTokenStore(BUCKET_MILLIS, bloomFilterEnabled);
+            for (int i = 0; i < 5000; i++) {
+                store.add("signature-" + i, 10_000L + i);
+            }
+            for (int i = 0; i < 5000; i++) {
+                Assert.assertTrue(store.contains("signature-" + i));
+                Assert.assertFalse(store.contains("other-signature-" + i));
+            }
+            Assert.assertEquals(5000, store.size());
+            Assert.assertEquals(5, store.getBucketCount());
+        }
+    }
+
+    @Test
+    public void testDuplicateSignatureIsCountedOnce() {
+
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_MILLIS, true);
+        store.add("signature", 1500L);
+        store.add("signature", 1700L);
+        Assert.assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testExpiredBucketsAreRemoved() {
+
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_MILLIS, true);
+        store.add("expires-first", 1500L);
+        store.add("expires-later", 2500L);
+
+        // The first bucket still has a token which has not expired.
+        Assert.assertEquals(0, store.removeExpired(1999L));
+        Assert.assertTrue(store.contains("expires-first"));
+
+        Assert.assertEquals(1, store.removeExpired(2000L));
+        Assert.assertFalse(store.contains("expires-first"));
+        Assert.assertTrue(store.contains("expires-later"));
+        Assert.assertEquals(1, store.size());
+        Assert.assertEquals(1, store.getBucketCount());
+    }
+
+    @Test
+    public void testHashHalvesAreIndependent() {
+
+        Assert.assertNotEquals(RevokedTokenStore.hashHigh("signature"), RevokedTokenStore.hashLow("signature"));
+        Assert.assertNotEquals(0, RevokedTokenStore.hashHigh(""));
+        Assert.assertNotEquals(RevokedTokenStore.hashHigh("ab"), RevokedTokenStore.hashHigh("ba"));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class GatewayEventDispatcherTest {
+
+    @Test
+    public void testEventsOfAKeyAreProcessedInOrder() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 4,
+                GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY, false);
+        List<List<Integer>> processed = new ArrayList<>();
+        for (int key = 0; key < 8; key++) {
+            processed.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        for (int i = 0; i < 100; i++) {
+            for (int key = 0; key < 8; key++) {
+                List<Integer> events = processed.get(key);
+                int sequence = i;
+                dispatcher.dispatch("api-" + key, "API_UPDATE", () -> events.add(sequence));
+            }
+        }
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        for (List<Integer> events : processed) {
+            Assert.assertEquals(100, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                Assert.assertEquals(Integer.valueOf(i), events.get(i));
+            }
+        }
+        Assert.assertEquals(Long.valueOf(800), dispatcher.getEventCounts().get("API_UPDATE"));
+        Assert.assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void testBlockedKeyDoesNotHoldBackOtherPartitions() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 2,
+                GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY, false);
+        String blockedKey = "application:1";
+        String otherKey = "application:2";
+        while (dispatcher.getPartition(otherKey) == dispatcher.getPartition(blockedKey)) {
+            otherKey = otherKey + "0";
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(1);
+        dispatcher.dispatch(blockedKey, "DEPLOY_API_IN_GATEWAY", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch(blockedKey, "SUBSCRIPTIONS_CREATE", () -> {
+        });
+        dispatcher.dispatch(otherKey, "SUBSCRIPTIONS_CREATE", processed::countDown);
+
+        Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, dispatcher.getQueueDepth());
+        release.countDown();
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, dispatcher.getQueueDepth());
+        Assert.assertEquals(Long.valueOf(2), dispatcher.getEventCounts().get("SUBSCRIPTIONS_CREATE"));
+        Assert.assertTrue(dispatcher.getAverageLatencies().containsKey("DEPLOY_API_IN_GATEWAY"));
+        Assert.assertTrue(dispatcher.getMaxLatencies().get("DEPLOY_API_IN_GATEWAY")
+                >= dispatcher.getAverageLatencies().get("DEPLOY_API_IN_GATEWAY"));
+
+        dispatcher.resetStatistics();
+        Assert.assertTrue(dispatcher.getEventCounts().isEmpty());
+    }
+
+    @Test
+    public void testFailedEventDoesNotStopThePartition() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 1,
+                GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY, false);
+        CountDownLatch processed = new CountDownLatch(1);
+        dispatcher.dispatch("api", "API_UPDATE", () -> {
+            throw new IllegalStateException("failed");
+        });
+        dispatcher.dispatch("api", "API_UPDATE", processed::countDown);
+        Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(Long.valueOf(2), dispatcher.getEventCounts().get("API_UPDATE"));
+    }
+
+    @Test
+    public void testEventOfTwoKeysWaitsForBoth() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 2,
+                GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY, false);
+        String applicationKey = "application:1";
+        String apiKey = "api-1";
+        while (dispatcher.getPartition(apiKey) == dispatcher.getPartition(applicationKey)) {
+            apiKey = apiKey + "0";
+        }
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch(apiKey, "API_UPDATE", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processed.add("API_UPDATE");
+        });
+        dispatcher.dispatch(applicationKey, apiKey, "SUBSCRIPTIONS_CREATE",
+                () -> processed.add("SUBSCRIPTIONS_CREATE"));
+        dispatcher.dispatch(apiKey, "API_LIFECYCLE_CHANGE", () -> processed.add("API_LIFECYCLE_CHANGE"));
+        Thread.sleep(100);
+        Assert.assertTrue(processed.isEmpty());
+        release.countDown();
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList("API_UPDATE", "SUBSCRIPTIONS_CREATE", "API_LIFECYCLE_CHANGE"), processed);
+        Assert.assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void testEventDispatchedToAllIsOrderedWithEveryKey() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 4,
+                GatewayEventDispatcher.DEFAULT_QUEUE_CAPACITY, false);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        for (int key = 0; key < 8; key++) {
+            String application = "application:" + key;
+            dispatcher.dispatch(application, "APPLICATION_UPDATE", () -> processed.add(application));
+        }
+        dispatcher.dispatchToAll("POLICY_UPDATE", () -> processed.add("POLICY_UPDATE"));
+        for (int key = 0; key < 8; key++) {
+            String application = "application:" + key;
+            dispatcher.dispatch(application, "APPLICATION_UPDATE", () -> processed.add(application));
+        }
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(17, processed.size());
+        Assert.assertEquals("POLICY_UPDATE", processed.get(8));
+        Assert.assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void testDispatchBlocksWhenQueueIsFull() throws Exception {
+
+        GatewayEventDispatcher dispatcher = new GatewayEventDispatcher("test", 1, 1, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch("api", "API_UPDATE", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        dispatcher.dispatch("api", "API_UPDATE", () -> {
+        });
+        Thread producer = new Thread(() -> dispatcher.dispatch("api", "API_UPDATE", () -> {
+        }));
+        producer.start();
+        producer.join(100);
+        Assert.assertTrue(producer.isAlive());
+        Assert.assertEquals(1, dispatcher.getQueueCapacity());
+        release.countDown();
+        producer.join(10000);
+        Assert.assertFalse(producer.isAlive());
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, dispatcher.getBlockedDispatchCount());
+        Assert.assertEquals(Long.valueOf(3), dispatcher.getEventCounts().get("API_UPDATE"));
+    }
+}
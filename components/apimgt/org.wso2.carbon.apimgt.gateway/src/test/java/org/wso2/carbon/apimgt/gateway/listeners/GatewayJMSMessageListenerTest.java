@@ -70,7 +70,7 @@ public class GatewayJMSMessageListenerTest {
     }
 
     @Test
-    public void testSubscriptionPolicyUpdate() throws JMSException {
+    public void testSubscriptionPolicyUpdate() throws JMSException, InterruptedException {
         String messageBody = "{\"event\":{\"payloadData\":{\"eventType\"" +
                 ":\"POLICY_UPDATE\",\"timestamp\":1670477868131," +
                 "\"event\":\"eyJwb2xpY3lJZCI6NSwicG9saWN5TmFtZSI6IlVubGltaXRlZCIsInF1b3RhVHlwZSI6InJlcXVlc3RDb3" +
@@ -87,6 +87,11 @@ public class GatewayJMSMessageListenerTest {
         KeyManagerDataServiceImplWrapper keyManagerDataService = new KeyManagerDataServiceImplWrapper();
         PowerMockito.when(serviceReferenceHolder.getKeyManagerDataService()).thenReturn(keyManagerDataService);
         gatewayJMSMessageListener.onMessage(textMessage);
+        // Policy events are processed by the event workers
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!keyManagerDataService.isSubscriptionPolicyUpdated() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
         assertTrue(keyManagerDataService.isSubscriptionPolicyUpdated());
     }
 
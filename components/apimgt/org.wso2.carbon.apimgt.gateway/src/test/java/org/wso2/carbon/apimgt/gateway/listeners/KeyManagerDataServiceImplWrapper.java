@@ -25,7 +25,7 @@ import org.wso2.carbon.apimgt.keymgt.service.KeyManagerDataServiceImpl;
  * call was executed.
  */
 public class KeyManagerDataServiceImplWrapper extends KeyManagerDataServiceImpl {
-    static boolean subscriptionPolicyUpdate = false;
+    static volatile boolean subscriptionPolicyUpdate = false;
 
     @Override
     public void addOrUpdateSubscriptionPolicy(SubscriptionPolicyEvent event){
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the IP blocking checks done per second by {@link IpBlockingIndex} and by a linear scan over the tenant's
+ * IP range conditions, as {@link ThrottleDataHolder} did before the index. Run with the test classpath of this
+ * module, for example {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.apimgt.gateway.throttling.IpBlockingIndexBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpBlockingIndexBenchmark {
+
+    private static final int CLIENT_IP_COUNT = 1024;
+    private static final long IPV4_ADDRESS_COUNT = 1L << 32;
+
+    @Param({"10", "1000", "100000"})
+    private int rangeCount;
+
+    private final List<IPRange> ipRanges = new ArrayList<>();
+    private final String[] clientIps = new String[CLIENT_IP_COUNT];
+    private IpBlockingIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // Ranges and client IPs are spread over the whole IPv4 space, so that most client IPs are not blocked and
+        // the linear scan visits every range, as it does for the bulk of the traffic of a gateway.
+        Random random = new Random(7);
+        ipRanges.clear();
+        for (int i = 0; i < rangeCount; i++) {
+            long start = (random.nextLong() & Long.MAX_VALUE) % (IPV4_ADDRESS_COUNT - 256);
+            long end = start + random.nextInt(256);
+            ipRanges.add(IpBlockingIndexTest.ipRange(i, IpBlockingIndexTest.toIPv4(start),
+                    IpBlockingIndexTest.toIPv4(end), false));
+        }
+        index = IpBlockingIndex.build(ipRanges);
+        for (int i = 0; i < CLIENT_IP_COUNT; i++) {
+            clientIps[i] = IpBlockingIndexTest.toIPv4((random.nextLong() & Long.MAX_VALUE) % IPV4_ADDRESS_COUNT);
+        }
+    }
+
+    @Benchmark
+    public boolean isBlocked() {
+
+        return index.isBlocked(nextClientIp());
+    }
+
+    @Benchmark
+    public boolean isBlockedByLinearScan() {
+
+        return IpBlockingIndexTest.isBlockedByLinearScan(ipRanges, nextClientIp());
+    }
+
+    private String nextClientIp() {
+
+        next = (next + 1) & (CLIENT_IP_COUNT - 1);
+        return clientIps[next];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(IpBlockingIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class IpBlockingIndexTest {
+
+    @Test
+    public void testFixedIpConditions() {
+
+        IpBlockingIndex index = IpBlockingIndex.build(Collections.singletonList(fixedIp(1, "10.0.0.1", false)));
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertFalse(index.isBlocked("10.0.0.2"));
+
+        index = IpBlockingIndex.build(Collections.singletonList(fixedIp(2, "10.0.0.1", true)));
+        Assert.assertFalse(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.0.2"));
+
+        index = index.withRange(fixedIp(3, "10.0.0.2", true));
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.0.2"));
+        index = index.withoutRange(2);
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertFalse(index.isBlocked("10.0.0.2"));
+        Assert.assertTrue(index.withoutRange(3).isEmpty());
+    }
+
+    @Test
+    public void testRangeBoundsAreExclusive() {
+
+        IpBlockingIndex index = IpBlockingIndex.build(Arrays.asList(ipRange(1, "192.168.1.10", "192.168.1.20", false),
+                ipRange(2, "192.168.1.21", "192.168.1.30", false)));
+        Assert.assertFalse(index.isBlocked("192.168.1.10"));
+        Assert.assertTrue(index.isBlocked("192.168.1.11"));
+        Assert.assertTrue(index.isBlocked("192.168.1.19"));
+        Assert.assertFalse(index.isBlocked("192.168.1.20"));
+        Assert.assertFalse(index.isBlocked("192.168.1.21"));
+        Assert.assertTrue(index.isBlocked("192.168.1.22"));
+        Assert.assertFalse(index.isBlocked("192.168.1.30"));
+        Assert.assertFalse(index.withoutRange(2).isBlocked("192.168.1.22"));
+    }
+
+    @Test
+    public void testInvertedRangeConditions() {
+
+        IpBlockingIndex index = IpBlockingIndex.build(Arrays.asList(ipRange(1, "10.0.0.0", "10.0.0.100", true),
+                ipRange(2, "10.0.0.50", "10.0.0.200", true)));
+        Assert.assertTrue(index.isBlocked("10.0.0.20"));
+        Assert.assertFalse(index.isBlocked("10.0.0.60"));
+        Assert.assertTrue(index.isBlocked("10.0.0.150"));
+
+        index = index.withRange(ipRange(3, "10.0.1.0", "10.0.1.100", true));
+        Assert.assertTrue(index.isBlocked("10.0.0.60"));
+    }
+
+    @Test
+    public void testIPv6Addresses() {
+
+        IpBlockingIndex index = IpBlockingIndex.build(Collections.singletonList(
+                ipRange(1, "2001:db8::", "2001:db8::ffff", false)));
+        Assert.assertTrue(index.isBlocked("2001:db8::1"));
+        Assert.assertTrue(index.isBlocked("2001:0db8:0000:0000:0000:0000:0000:fffe"));
+        Assert.assertFalse(index.isBlocked("2001:db8::1:0"));
+        Assert.assertFalse(index.isBlocked("10.0.0.1"));
+    }
+
+    @Test
+    public void testIndexMatchesLinearScan() {
+
+        Random random = new Random(7);
+        List<IPRange> ipRanges = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long start = random.nextInt(1 << 16);
+            long end = start + random.nextInt(512);
+            ipRanges.add(ipRange(i, toIPv4(start), toIPv4(end), false));
+        }
+        ipRanges.add(fixedIp(1000, toIPv4(70000), false));
+        IpBlockingIndex index = IpBlockingIndex.build(ipRanges);
+        for (int i = 0; i < 5000; i++) {
+            String ip = toIPv4(random.nextInt(1 << 17));
+            Assert.assertEquals(ip, isBlockedByLinearScan(ipRanges, ip), index.isBlocked(ip));
+        }
+        Assert.assertTrue(index.isBlocked(toIPv4(70000)));
+    }
+
+    static boolean isBlockedByLinearScan(List<IPRange> ipRanges, String ip) {
+
+        BigInteger value = APIUtil.ipToBigInteger(ip);
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ip.equals(ipRange.getFixedIp()) != ipRange.isInvert()) {
+                    return true;
+                }
+            } else if ((value.compareTo(ipRange.getStartingIpBigIntValue()) > 0
+                    && value.compareTo(ipRange.getEndingIpBigIntValue()) < 0) != ipRange.isInvert()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String toIPv4(long value) {
+
+        return ((value >> 24) & 0xff) + "." + ((value >> 16) & 0xff) + "." + ((value >> 8) & 0xff) + "."
+                + (value & 0xff);
+    }
+
+    private static IPRange fixedIp(int id, String ip, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setTenantDomain("carbon.super");
+        ipRange.setType(APIConstants.BLOCKING_CONDITIONS_IP);
+        ipRange.setFixedIp(ip);
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+
+    static IPRange ipRange(int id, String startingIp, String endingIp, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setTenantDomain("carbon.super");
+        ipRange.setType(APIConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setStartingIpBigIntValue(APIUtil.ipToBigInteger(startingIp));
+        ipRange.setEndingIp(endingIp);
+        ipRange.setEndingIpBigIntValue(APIUtil.ipToBigInteger(endingIp));
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LocalRateLimiterTest {
+
+    private static final long WINDOW = 60000L;
+
+    @Test
+    public void testRejectsOnceLimitIsReached() {
+
+        LocalRateLimiter limiter = new LocalRateLimiter(1024, 1.0, false);
+        long now = 100 * WINDOW;
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(limiter.tryAcquire("app:user", 10, WINDOW, now + i));
+        }
+        Assert.assertFalse(limiter.tryAcquire("app:user", 10, WINDOW, now + 10));
+        Assert.assertTrue(limiter.tryAcquire("other:user", 10, WINDOW, now + 10));
+        Assert.assertEquals(11, limiter.getAllowedCount());
+        Assert.assertEquals(1, limiter.getRejectedCount());
+        limiter.resetStatistics();
+        Assert.assertEquals(0, limiter.getAllowedCount());
+        Assert.assertEquals(0, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void testNodeShareOfLimit() {
+
+        LocalRateLimiter limiter = new LocalRateLimiter(1024, 0.25, false);
+        long now = 100 * WINDOW;
+        for (int i = 0; i < 25; i++) {
+            Assert.assertTrue(limiter.tryAcquire("key", 100, WINDOW, now));
+        }
+        Assert.assertFalse(limiter.tryAcquire("key", 100, WINDOW, now));
+        // At least one request per window is always allowed on a node
+        Assert.assertTrue(limiter.tryAcquire("small", 1, WINDOW, now));
+        Assert.assertFalse(limiter.tryAcquire("small", 1, WINDOW, now));
+    }
+
+    @Test
+    public void testSlidingWindowEstimate() {
+
+        LocalRateLimiter limiter = new LocalRateLimiter(1024, 1.0, false);
+        long now = 100 * WINDOW;
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(limiter.tryAcquire("key", 10, WINDOW, now));
+        }
+        // Half way into the next window half of the previous window still counts
+        long halfWay = now + WINDOW + WINDOW / 2;
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(limiter.tryAcquire("key", 10, WINDOW, halfWay));
+        }
+        Assert.assertFalse(limiter.tryAcquire("key", 10, WINDOW, halfWay));
+        // Two windows later nothing from the earlier windows counts
+        long later = now + 3 * WINDOW;
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(limiter.tryAcquire("key", 10, WINDOW, later));
+        }
+        Assert.assertFalse(limiter.tryAcquire("key", 10, WINDOW, later));
+    }
+
+    @Test
+    public void testExpiredSlotsAreReused() {
+
+        LocalRateLimiter limiter = new LocalRateLimiter(16, 1.0, false);
+        long now = 100 * WINDOW;
+        for (int i = 0; i < 64; i++) {
+            limiter.tryAcquire("key" + i, 1, WINDOW, now);
+        }
+        Assert.assertTrue(limiter.getUntrackedCount() > 0);
+        long untracked = limiter.getUntrackedCount();
+        long later = now + 3 * WINDOW;
+        for (int i = 100; i < 116; i++) {
+            Assert.assertTrue(limiter.tryAcquire("key" + i, 1, WINDOW, later));
+        }
+        Assert.assertTrue(limiter.getUntrackedCount() - untracked < 16);
+    }
+
+    @Test
+    public void testLimitsOutsideLocalRangeAreIgnored() {
+
+        LocalRateLimiter limiter = new LocalRateLimiter(16, 1.0, false);
+        long now = 100 * WINDOW;
+        Assert.assertTrue(limiter.tryAcquire("key", 0, WINDOW, now));
+        Assert.assertTrue(limiter.tryAcquire("key", LocalRateLimiter.MAX_LOCAL_LIMIT + 1, WINDOW, now));
+        Assert.assertEquals(0, limiter.getAllowedCount());
+    }
+
+    @Test
+    public void testWindowMillis() {
+
+        Assert.assertEquals(1000L, LocalRateLimiter.getWindowMillis("sec", 1));
+        Assert.assertEquals(5 * 60000L, LocalRateLimiter.getWindowMillis("min", 5));
+        Assert.assertEquals(3600000L, LocalRateLimiter.getWindowMillis("hours", 1));
+        Assert.assertEquals(86400000L, LocalRateLimiter.getWindowMillis("day", 1));
+        Assert.assertEquals(-1L, LocalRateLimiter.getWindowMillis("months", 1));
+        Assert.assertEquals(-1L, LocalRateLimiter.getWindowMillis("min", 0));
+        Assert.assertEquals(2 * WINDOW, LocalRateLimiter.getNextWindowStart(WINDOW, WINDOW + 1));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ThrottleDataPublisherExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThrottleDataPublisherExecutor executor;
+
+    @After
+    public void tearDown() throws InterruptedException {
+
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testDropNewWhenQueueIsFull() throws Exception {
+
+        executor = newExecutor(ThrottleDataPublisherExecutor.OverflowPolicy.DROP_NEW);
+        CountDownLatch queued = new CountDownLatch(1);
+        CountDownLatch rejected = new CountDownLatch(1);
+        occupyWorkerAndQueue(queued::countDown);
+        executor.execute(rejected::countDown);
+        release.countDown();
+        Assert.assertTrue(queued.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(rejected.await(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, executor.getDroppedEventCount());
+    }
+
+    @Test
+    public void testDropOldestWhenQueueIsFull() throws Exception {
+
+        executor = newExecutor(ThrottleDataPublisherExecutor.OverflowPolicy.DROP_OLDEST);
+        CountDownLatch oldest = new CountDownLatch(1);
+        CountDownLatch newest = new CountDownLatch(1);
+        occupyWorkerAndQueue(oldest::countDown);
+        executor.execute(newest::countDown);
+        Assert.assertEquals(1, executor.getQueueDepth());
+        release.countDown();
+        Assert.assertTrue(newest.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(oldest.await(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, executor.getDroppedEventCount());
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+
+        executor = newExecutor(ThrottleDataPublisherExecutor.OverflowPolicy.CALLER_RUNS);
+        occupyWorkerAndQueue(() -> {
+        });
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+        Assert.assertSame(Thread.currentThread(), runner.get());
+        Assert.assertEquals(1, executor.getCallerRunsCount());
+        Assert.assertEquals(0, executor.getDroppedEventCount());
+    }
+
+    @Test
+    public void testOverflowPolicyFromConfig() {
+
+        Assert.assertEquals(ThrottleDataPublisherExecutor.OverflowPolicy.CALLER_RUNS,
+                ThrottleDataPublisherExecutor.OverflowPolicy.fromConfig("callerRuns"));
+        Assert.assertEquals(ThrottleDataPublisherExecutor.OverflowPolicy.DROP_NEW,
+                ThrottleDataPublisherExecutor.OverflowPolicy.fromConfig("DropNew"));
+        Assert.assertEquals(ThrottleDataPublisherExecutor.OverflowPolicy.DROP_OLDEST,
+                ThrottleDataPublisherExecutor.OverflowPolicy.fromConfig("unknown"));
+        Assert.assertEquals(ThrottleDataPublisherExecutor.OverflowPolicy.DROP_OLDEST,
+                ThrottleDataPublisherExecutor.OverflowPolicy.fromConfig(null));
+    }
+
+    private ThrottleDataPublisherExecutor newExecutor(ThrottleDataPublisherExecutor.OverflowPolicy overflowPolicy) {
+
+        return new ThrottleDataPublisherExecutor(1, 1, 1, TimeUnit.SECONDS, 1, overflowPolicy, null);
+    }
+
+    /**
+     * Blocks the only worker thread and fills the single queue slot with the given task.
+     */
+    private void occupyWorkerAndQueue(Runnable queuedTask) throws InterruptedException {
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(queuedTask);
+        Assert.assertEquals(1, executor.getQueueDepth());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throttle event properties built per second by {@link ThrottlePropertiesWriter} and by a per event
+ * {@link JSONObject}, for a request carrying the IP, a few headers, query parameters and JWT claims. Run with the
+ * test classpath of this module, for example {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottlePropertiesBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrottlePropertiesBenchmark {
+
+    private final ThrottlePropertiesWriter writer = new ThrottlePropertiesWriter();
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final Map<String, String> queryParams = new LinkedHashMap<>();
+    private final Map<String, String> claims = new LinkedHashMap<>();
+
+    public ThrottlePropertiesBenchmark() {
+
+        headers.put("Host", "gateway.example.com:8243");
+        headers.put("User-Agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko)");
+        headers.put("Accept", "application/json");
+        headers.put("Content-Type", "application/json; charset=UTF-8");
+        queryParams.put("city", "colombo");
+        queryParams.put("units", "metric");
+        claims.put("sub", "admin@carbon.super");
+        claims.put("http://wso2.org/claims/applicationtier", "Unlimited");
+        claims.put("http://wso2.org/claims/tier", "Gold");
+    }
+
+    @Benchmark
+    public String writeProperties() {
+
+        writer.put("ip", 3232235777L);
+        writer.putAll(headers);
+        writer.putAll(queryParams);
+        writer.putAll(claims);
+        return writer.write();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String buildJSONObject() {
+
+        JSONObject properties = new JSONObject();
+        properties.put("ip", 3232235777L);
+        properties.putAll(headers);
+        properties.putAll(queryParams);
+        properties.putAll(claims);
+        return properties.toJSONString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(ThrottlePropertiesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
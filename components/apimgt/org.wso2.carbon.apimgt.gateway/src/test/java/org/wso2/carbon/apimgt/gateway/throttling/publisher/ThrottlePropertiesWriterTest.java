@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+
+public class ThrottlePropertiesWriterTest {
+
+    @Test
+    public void testWriteNumbers() {
+
+        ThrottlePropertiesWriter writer = new ThrottlePropertiesWriter();
+        writer.put("ip", 3232235777L);
+        Assert.assertEquals("{\"ip\":3232235777}", writer.write());
+        writer.put("ipv6", new BigInteger("42540766411282592856903984951653826561"));
+        Assert.assertEquals("{\"ipv6\":42540766411282592856903984951653826561}", writer.write());
+        writer.put("enabled", Boolean.TRUE);
+        Assert.assertEquals("{\"enabled\":true}", writer.write());
+    }
+
+    @Test
+    public void testEscapeStrings() {
+
+        ThrottlePropertiesWriter writer = new ThrottlePropertiesWriter();
+        writer.put("user-agent", "a\"b\\c/d\n\t\u0001\u2010\u00e9");
+        Assert.assertEquals("{\"user-agent\":\"a\\\"b\\\\c\\/d\\n\\t\\u0001\\u2010\u00e9\"}", writer.write());
+    }
+
+    @Test
+    public void testLaterValuesReplaceEarlierOnes() {
+
+        ThrottlePropertiesWriter writer = new ThrottlePropertiesWriter();
+        writer.put("x-tier", "Gold");
+        writer.putAll(Collections.singletonMap("x-tier", "Silver"));
+        Assert.assertEquals("{\"x-tier\":\"Silver\"}", writer.write());
+    }
+
+    @Test
+    public void testWriteClearsProperties() {
+
+        ThrottlePropertiesWriter writer = new ThrottlePropertiesWriter();
+        writer.put("messageSize", 10L);
+        writer.write();
+        Assert.assertEquals("{}", writer.write());
+        writer.put("messageSize", 10L);
+        writer.reset();
+        Assert.assertEquals("{}", writer.write());
+    }
+}
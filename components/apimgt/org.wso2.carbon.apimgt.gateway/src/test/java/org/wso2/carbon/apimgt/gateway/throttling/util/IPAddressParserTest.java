@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+
+public class IPAddressParserTest {
+
+    @Test
+    public void testAddressParsingMatchesBigIntegerValue() {
+
+        String[] addresses = {"0.0.0.0", "127.0.0.1", "255.255.255.255", "::", "::1", "1::", "fe80::1:2",
+                "2001:db8:85a3::8a2e:370:7334", "1:2:3:4:5:6:7:8", "::ffff:10.1.2.3", "::10.1.2.3",
+                "64:ff9b::192.0.2.33", "FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF"};
+        long[] holder = new long[2];
+        for (String address : addresses) {
+            IPAddressParser.toUnsigned128(address, holder);
+            Assert.assertEquals(address, APIUtil.ipToBigInteger(address), toBigInteger(holder));
+        }
+    }
+
+    @Test
+    public void testCompare() {
+
+        Assert.assertTrue(IPAddressParser.compare(0, -1, 1, 0) < 0);
+        Assert.assertTrue(IPAddressParser.compare(-1, 0, 1, -1) > 0);
+        Assert.assertEquals(0, IPAddressParser.compare(5, 7, 5, 7));
+    }
+
+    private static BigInteger toBigInteger(long[] holder) {
+
+        BigInteger high = new BigInteger(Long.toUnsignedString(holder[0]));
+        BigInteger low = new BigInteger(Long.toUnsignedString(holder[1]));
+        return high.shiftLeft(64).or(low);
+    }
+}
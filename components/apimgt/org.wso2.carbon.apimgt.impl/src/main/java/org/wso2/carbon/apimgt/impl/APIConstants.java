@@ -478,6 +478,7 @@ public final class APIConstants {
     public static final String GATEWAY_JWT_CONFIGURATION = "Configuration";
     public static final String GATEWAY_JWT_GENERATOR_CLAIMS = "ExcludedClaims";
     public static final String ENABLE_BASE64_PADDING = "EnableBase64Padding";
+    public static final String GATEWAY_JWT_REFRESH_AHEAD_TIME = "RefreshAheadTime";
     public static final String GATEWAY_JWT_GENERATOR_CLAIM = "Claim";
     public static final String CONVERT_CLAIMS_TO_CONSUMER_DIALECT = JWT_CONFIGS + ".ConvertClaimsToConsumerDialect";
 
@@ -818,6 +819,9 @@ public final class APIConstants {
             "EnableKeyManagerConfigurationRetriever";
     public static final String DEFAULT_KEY_MANAGER_TYPE = API_KEY_VALIDATOR + "DefaultKeyManagerType";
     public static final String KEY_VALIDATION_HANDLER_CLASSNAME = API_KEY_VALIDATOR + "KeyValidationHandlerClassName";
+    public static final String KEY_VALIDATION_CACHE_CLASSNAME = API_KEY_VALIDATOR + "KeyValidationCacheClassName";
+    public static final String KEY_VALIDATION_CACHE_SIZE = API_KEY_VALIDATOR + "KeyValidationCacheSizeInMB";
+    public static final String KEY_VALIDATION_CACHE_SHARD_COUNT = API_KEY_VALIDATOR + "KeyValidationCacheShardCount";
     // Constants needed for KeyManager section
     public static final String API_KEY_MANAGER = "APIKeyManager.";
     public static final String KEY_MANAGER_CLIENT = API_KEY_MANAGER + "KeyManagerClientImpl";
@@ -1054,6 +1058,11 @@ public final class APIConstants {
     public static final String API_ANALYTICS_PROPERTIES = API_ANALYTICS + "Properties";
     public static final String API_ANALYTICS_RESPONSE_SCHEMA_NAME = API_ANALYTICS + "ResponseSchemaName";
     public static final String API_ANALYTICS_FAULT_SCHEMA_NAME = API_ANALYTICS + "FaultSchemaName";
+    public static final String API_ANALYTICS_ASYNC_COLLECTION = API_ANALYTICS + "AsyncCollection.";
+    public static final String API_ANALYTICS_ASYNC_COLLECTION_ENABLED = API_ANALYTICS_ASYNC_COLLECTION + "Enabled";
+    public static final String API_ANALYTICS_QUEUE_SIZE = API_ANALYTICS_ASYNC_COLLECTION + "QueueSize";
+    public static final String API_ANALYTICS_WORKER_COUNT = API_ANALYTICS_ASYNC_COLLECTION + "WorkerCount";
+    public static final String API_ANALYTICS_QUEUE_DROP_POLICY = API_ANALYTICS_ASYNC_COLLECTION + "DropPolicy";
     public static final String API_USAGE_BAM_SERVER_URL_GROUPS = API_ANALYTICS + "StreamProcessorServerURL";
     public static final String API_USAGE_BAM_SERVER_AUTH_URL_GROUPS = API_ANALYTICS + "StreamProcessorAuthServerURL";
     public static final String API_USAGE_BUILD_MSG = API_ANALYTICS + "PublishResponseMessageSize";
@@ -1363,6 +1372,9 @@ public final class APIConstants {
     public static final String API_TYPE = "ApiType";
     public static final String HTTP_VERB = "HTTP_VERB";
     public static final String GRAPHQL_API = "GRAPHQL";
+    public static final String GRAPHQL_CONFIGS = "GraphQLConfigurations.";
+    public static final String GRAPHQL_QUERY_CACHE_SIZE = GRAPHQL_CONFIGS + "QueryCacheSize";
+    public static final String GRAPHQL_PERSISTED_QUERY_CACHE_SIZE = GRAPHQL_CONFIGS + "PersistedQueryCacheSize";
     public static final String GRAPHQL_SUBSCRIPTION_REQUEST = "isGraphqlSubscriptionRequest";
     public static final String GRAPHQL_API_OPERATION_RESOURCE = "OPERATION_RESOURCE";
     public static final String GRAPHQL_API_OPERATION_TYPE = "OPERATION_TYPE";
@@ -2108,12 +2120,17 @@ public final class APIConstants {
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE = "CorePoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE = "MaxmimumPoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
+        public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_QUEUE_CAPACITY = "QueueCapacity";
+        public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_OVERFLOW_POLICY = "OverflowPolicy";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
         public static final String ENABLE_HEADER_CONDITIONS = "EnableHeaderConditions";
         public static final String ENABLE_JWT_CLAIM_CONDITIONS = "EnableJWTClaimConditions";
         public static final String ENABLE_QUERY_PARAM_CONDITIONS = "EnableQueryParamConditions";
+        public static final String LOCAL_RATE_LIMITER = "LocalRateLimiter";
+        public static final String LOCAL_RATE_LIMITER_NODE_SHARE = "NodeShare";
+        public static final String LOCAL_RATE_LIMITER_MAX_KEYS = "MaxKeys";
         public static final String SKIP_REDEPLOYING_POLICIES = "SkipRedeployingPolicies";
         public static final String ENABLED = "Enabled";
         public static final String IS_THROTTLED = "isThrottled";
@@ -2792,6 +2809,11 @@ public final class APIConstants {
         }
     }
 
+    public static final String GATEWAY_EVENT_DISPATCHER = KeyManager.EVENT_HUB_CONFIGURATIONS + ".EventDispatcher.";
+    public static final String GATEWAY_EVENT_WORKER_COUNT = GATEWAY_EVENT_DISPATCHER + "WorkerCount";
+    public static final String GATEWAY_DEPLOYMENT_EVENT_WORKER_COUNT = GATEWAY_EVENT_DISPATCHER + "DeploymentWorkerCount";
+    public static final String GATEWAY_EVENT_QUEUE_CAPACITY = GATEWAY_EVENT_DISPATCHER + "QueueCapacity";
+
     public static class GlobalCacheInvalidation {
 
         public static final String ENABLED = "Enabled";
@@ -2805,6 +2827,8 @@ public final class APIConstants {
         public static final String PASSWORD = "Password";
         public static final String TOPIC_NAME = "Topic";
         public static final String EXCLUDED_CACHES = "ExcludedCaches";
+        public static final String BATCH_WINDOW = "BatchWindow";
+        public static final String MAX_BATCH_SIZE = "MaxBatchSize";
         public static final String ReceiverConnectionDetails = "ReceiverConnectionDetails";
     }
 
@@ -2890,6 +2914,8 @@ public final class APIConstants {
         public static final String GATEWAY_INSTRUCTION_ANY = "ANY";
         public static final String SYNAPSE_ATTRIBUTES = "/synapse-attributes";
         public static final String GATEAY_SYNAPSE_ARTIFACTS = "/runtime-artifacts";
+        public static final String RUNTIME_ARTIFACTS_NEXT_CURSOR_HEADER = "X-WSO2-Next-Cursor";
+        public static final int RUNTIME_ARTIFACTS_PAGE_SIZE = 100;
         public static final String GATEWAY_POLICY_SYNAPSE_ARTIFACTS = "/gateway-policy-artifacts";
         public static final String DATA_SOURCE_NAME = "DataSourceName";
         public static final String DATA_RETRIEVAL_MODE = "DataRetrievalMode";
@@ -2899,6 +2925,8 @@ public final class APIConstants {
         public static final String LABEL = "label";
         public static final String LABELS = "labels";
         public static final String EnableOnDemandLoadingAPIS = "EnableOnDemandLoadingAPIS";
+        public static final String DEPLOYMENT_THREAD_COUNT = "DeploymentThreadCount";
+        public static final String ENABLE_SNAPSHOT = "EnableSnapshot";
 
     }
 
@@ -957,6 +957,16 @@ public class APIManagerConfiguration {
                 cacheInvalidationConfiguration.addExcludedCaches(((OMElement) excludedCaches.next()).getText());
             }
         }
+        OMElement batchWindowElement =
+                element.getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.BATCH_WINDOW));
+        if (batchWindowElement != null) {
+            cacheInvalidationConfiguration.setBatchWindow(Long.parseLong(batchWindowElement.getText()));
+        }
+        OMElement maxBatchSizeElement =
+                element.getFirstChildWithName(new QName(APIConstants.GlobalCacheInvalidation.MAX_BATCH_SIZE));
+        if (maxBatchSizeElement != null) {
+            cacheInvalidationConfiguration.setMaxBatchSize(Integer.parseInt(maxBatchSizeElement.getText()));
+        }
         this.cacheInvalidationConfiguration = cacheInvalidationConfiguration;
     }
 
@@ -1223,6 +1233,30 @@ public class APIManagerConfiguration {
                 throttleProperties.setEnableQueryParamConditions(JavaUtils.isTrueExplicitly(enableQueryParamElement
                         .getText()));
             }
+            // Gateway local rate limiter configuration
+            OMElement localRateLimiterElement = throttleConfigurationElement
+                    .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.LOCAL_RATE_LIMITER));
+            ThrottleProperties.LocalRateLimiter localRateLimiter = new ThrottleProperties.LocalRateLimiter();
+            if (localRateLimiterElement != null) {
+                OMElement localRateLimiterEnabledElement = localRateLimiterElement
+                        .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.ENABLED));
+                if (localRateLimiterEnabledElement != null) {
+                    localRateLimiter.setEnabled(JavaUtils.isTrueExplicitly(localRateLimiterEnabledElement.getText()));
+                }
+                OMElement nodeShareElement = localRateLimiterElement
+                        .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                .LOCAL_RATE_LIMITER_NODE_SHARE));
+                if (nodeShareElement != null) {
+                    localRateLimiter.setNodeShare(Double.parseDouble(nodeShareElement.getText()));
+                }
+                OMElement maxKeysElement = localRateLimiterElement
+                        .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                .LOCAL_RATE_LIMITER_MAX_KEYS));
+                if (maxKeysElement != null) {
+                    localRateLimiter.setMaxKeys(Integer.parseInt(maxKeysElement.getText()));
+                }
+            }
+            throttleProperties.setLocalRateLimiter(localRateLimiter);
             // Check skip redeploy throttle policies
             OMElement skipRedeployingPoliciesElement = throttleConfigurationElement
                     .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
@@ -1363,6 +1397,18 @@ public class APIManagerConfiguration {
                         if (keepAliveTimeElement != null) {
                             dataPublisherThreadPool.setKeepAliveTime(Long.parseLong(keepAliveTimeElement.getText()));
                         }
+                        OMElement queueCapacityElement = dataPublisherThreadPoolConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_QUEUE_CAPACITY));
+                        if (queueCapacityElement != null) {
+                            dataPublisherThreadPool.setQueueCapacity(Integer.parseInt(queueCapacityElement.getText()));
+                        }
+                        OMElement overflowPolicyElement = dataPublisherThreadPoolConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_OVERFLOW_POLICY));
+                        if (overflowPolicyElement != null) {
+                            dataPublisherThreadPool.setOverflowPolicy(overflowPolicyElement.getText().trim());
+                        }
                     }
                     throttleProperties.setDataPublisherThreadPool(dataPublisherThreadPool);
                 }
@@ -1770,6 +1816,12 @@ public class APIManagerConfiguration {
                     jwtConfigurationDto.setEnableBase64Padding(
                             JavaUtils.isTrueExplicitly(enableBase64PaddingElement.getText()));
                 }
+                OMElement refreshAheadTimeElement = gatewayJWTConfigurationElement.getFirstChildWithName(
+                        new QName(APIConstants.GATEWAY_JWT_REFRESH_AHEAD_TIME));
+                if (refreshAheadTimeElement != null && StringUtils.isNotBlank(refreshAheadTimeElement.getText())) {
+                    jwtConfigurationDto.setBackendJWTRefreshAheadTime(
+                            Long.parseLong(refreshAheadTimeElement.getText().trim()));
+                }
             }
         }
     }
@@ -2342,6 +2394,20 @@ public class APIManagerConfiguration {
         if (enableEagerLoading != null){
             gatewayArtifactSynchronizerProperties.setOnDemandLoading(Boolean.parseBoolean(enableEagerLoading.getText()));
         }
+        OMElement deploymentThreadCountElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_THREAD_COUNT));
+        if (deploymentThreadCountElement != null) {
+            int deploymentThreadCount = Integer.parseInt(deploymentThreadCountElement.getText());
+            gatewayArtifactSynchronizerProperties.setDeploymentThreadCount(deploymentThreadCount);
+        } else {
+            log.debug("Deployment thread count is not set. APIs are deployed one at a time");
+        }
+        OMElement enableSnapshotElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.ENABLE_SNAPSHOT));
+        if (enableSnapshotElement != null) {
+            gatewayArtifactSynchronizerProperties.setSnapshotEnabled(
+                    Boolean.parseBoolean(enableSnapshotElement.getText()));
+        }
     }
 
     public GatewayArtifactSynchronizerProperties getGatewayArtifactSynchronizerProperties() {
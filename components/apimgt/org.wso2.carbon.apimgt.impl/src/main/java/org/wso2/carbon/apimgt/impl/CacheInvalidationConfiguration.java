@@ -36,6 +36,8 @@ public class CacheInvalidationConfiguration {
     private String cacheInValidationTopic = "globalCacheInvalidation";
     private List<String> excludedCaches = new ArrayList<>();
     private Properties jmsConnectionParameters = new Properties();
+    private long batchWindow = 0;
+    private int maxBatchSize = 500;
 
     public boolean isEnabled() {
 
@@ -135,4 +137,28 @@ public class CacheInvalidationConfiguration {
 
         this.stream = stream;
     }
+
+    /**
+     * @return time in milliseconds the invalidated keys of a cache are collected for before they are published as
+     * one event, or 0 to publish each key as soon as it is invalidated
+     */
+    public long getBatchWindow() {
+
+        return batchWindow;
+    }
+
+    public void setBatchWindow(long batchWindow) {
+
+        this.batchWindow = batchWindow;
+    }
+
+    public int getMaxBatchSize() {
+
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+
+        this.maxBatchSize = maxBatchSize;
+    }
 }
@@ -736,6 +736,100 @@ public class GatewayArtifactsMgtDAO {
         return apiRuntimeArtifactDtoList;
     }
 
+    /**
+     * Retrieves the deployed revisions of the APIs of the given labels, ordered by the API ID, without loading the
+     * artifacts. Rows of at most {@code limit + 1} APIs are returned, so that the caller can find out whether there
+     * are APIs after the requested page. The number of APIs is limited in the query, with the row limiting clause of
+     * the database in use.
+     *
+     * @param labels       gateway labels
+     * @param tenantDomain tenant domain of the APIs
+     * @param after        API ID after which the APIs are retrieved, or null to start from the first API
+     * @param limit        maximum number of APIs in the page
+     * @return runtime artifact DTOs without the artifacts
+     * @throws APIManagementException if the revisions could not be retrieved
+     */
+    public List<APIRuntimeArtifactDto> retrieveGatewayArtifactRevisionsByLabel(String[] labels, String tenantDomain,
+                                                                               String after, int limit)
+            throws APIManagementException {
+
+        List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList = new ArrayList<>();
+        try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection()) {
+            String driverName = connection.getMetaData().getDriverName();
+            boolean isMSSQL = driverName.contains("MS SQL") || driverName.contains("Microsoft");
+            boolean isMySQL = driverName.contains("MySQL") || driverName.contains("MariaDB")
+                    || driverName.contains("H2");
+            String query;
+            if (StringUtils.isEmpty(after)) {
+                query = isMSSQL ? SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_MSSQL
+                        : isMySQL ? SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_MYSQL
+                        : SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL;
+            } else {
+                query = isMSSQL ? SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID_MSSQL
+                        : isMySQL ? SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID_MYSQL
+                        : SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID;
+            }
+            query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                    String.join(",", Collections.nCopies(labels.length, "?")));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                int index = setLabelsAndTenantDomain(preparedStatement, 1, labels, tenantDomain);
+                if (isMSSQL) {
+                    preparedStatement.setInt(index++, limit + 1);
+                }
+                index = setLabelsAndTenantDomain(preparedStatement, index, labels, tenantDomain);
+                if (StringUtils.isNotEmpty(after)) {
+                    preparedStatement.setString(index++, after);
+                }
+                if (!isMSSQL) {
+                    preparedStatement.setInt(index, limit + 1);
+                }
+                readArtifactRevisions(preparedStatement, tenantDomain, limit, apiRuntimeArtifactDtoList);
+            }
+        } catch (SQLException e) {
+            handleException("Failed to retrieve Gateway Artifact revisions for labels : "
+                    + StringUtils.join(",", labels), e);
+        }
+        return apiRuntimeArtifactDtoList;
+    }
+
+    private static int setLabelsAndTenantDomain(PreparedStatement preparedStatement, int index, String[] labels,
+                                                String tenantDomain) throws SQLException {
+
+        for (String label : labels) {
+            preparedStatement.setString(index++, label);
+        }
+        preparedStatement.setString(index++, tenantDomain);
+        return index;
+    }
+
+    private static void readArtifactRevisions(PreparedStatement preparedStatement, String tenantDomain, int limit,
+                                              List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList)
+            throws SQLException {
+
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            int apiCount = 0;
+            String previousApiId = null;
+            while (resultSet.next()) {
+                String apiId = resultSet.getString("API_ID");
+                if (!apiId.equals(previousApiId)) {
+                    if (apiCount == limit + 1) {
+                        break;
+                    }
+                    apiCount++;
+                    previousApiId = apiId;
+                }
+                String label = resultSet.getString("LABEL");
+                APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+                apiRuntimeArtifactDto.setApiId(apiId);
+                apiRuntimeArtifactDto.setLabel(label);
+                apiRuntimeArtifactDto.setVhost(resultSet.getString("VHOST"));
+                apiRuntimeArtifactDto.setRevision(resultSet.getString("REVISION_ID"));
+                apiRuntimeArtifactDto.setTenantDomain(tenantDomain);
+                apiRuntimeArtifactDtoList.add(apiRuntimeArtifactDto);
+            }
+        }
+    }
+
     public List<APIRuntimeArtifactDto> retrieveAllGatewayArtifactsByLabel(String[] labels)
             throws APIManagementException {
 
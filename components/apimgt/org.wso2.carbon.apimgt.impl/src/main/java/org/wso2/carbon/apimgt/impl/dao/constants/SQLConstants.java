@@ -3068,6 +3068,53 @@ public class SQLConstants {
                     "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
                     "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
 
+    private static final String ARTIFACT_REVISIONS_BY_LABEL_CONDITION =
+            "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_) AND AM_GW_PUBLISHED_API_DETAILS.TENANT_DOMAIN = ? " +
+                    "AND AM_GW_PUBLISHED_API_DETAILS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID ";
+
+    private static final String ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST FROM " +
+                    "AM_GW_PUBLISHED_API_DETAILS,AM_GW_API_ARTIFACTS,AM_GW_API_DEPLOYMENTS,AM_API WHERE " +
+                    ARTIFACT_REVISIONS_BY_LABEL_CONDITION +
+                    "AND AM_GW_API_DEPLOYMENTS.API_ID IN (SELECT API_ID FROM (SELECT DISTINCT _TOP_" +
+                    "AM_GW_API_DEPLOYMENTS.API_ID AS API_ID FROM " +
+                    "AM_GW_PUBLISHED_API_DETAILS,AM_GW_API_ARTIFACTS,AM_GW_API_DEPLOYMENTS,AM_API WHERE " +
+                    ARTIFACT_REVISIONS_BY_LABEL_CONDITION + "_AFTER_" +
+                    "ORDER BY AM_GW_API_DEPLOYMENTS.API_ID _LIMIT_) API_PAGE) " +
+                    "ORDER BY AM_GW_API_DEPLOYMENTS.API_ID, AM_GW_API_DEPLOYMENTS.LABEL";
+
+    private static final String ARTIFACT_REVISIONS_AFTER_API_ID_CONDITION = "AND AM_GW_API_DEPLOYMENTS.API_ID > ? ";
+
+    /*
+     * The deployed revisions of a page of APIs, used when retrieving artifacts page by page. The page is limited by
+     * the number of APIs rather than the number of rows, as an API has a row for each label it is deployed in.
+     */
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL = ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY
+            .replace("_TOP_", "").replace("_AFTER_", "").replace("_LIMIT_", "FETCH NEXT ? ROWS ONLY");
+
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_MYSQL = ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY
+            .replace("_TOP_", "").replace("_AFTER_", "").replace("_LIMIT_", "LIMIT ?");
+
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_MSSQL = ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY
+            .replace("_TOP_", "TOP (?) ").replace("_AFTER_", "").replace("_LIMIT_", "");
+
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID =
+            ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY.replace("_TOP_", "")
+                    .replace("_AFTER_", ARTIFACT_REVISIONS_AFTER_API_ID_CONDITION)
+                    .replace("_LIMIT_", "FETCH NEXT ? ROWS ONLY");
+
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID_MYSQL =
+            ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY.replace("_TOP_", "")
+                    .replace("_AFTER_", ARTIFACT_REVISIONS_AFTER_API_ID_CONDITION).replace("_LIMIT_", "LIMIT ?");
+
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL_AFTER_API_ID_MSSQL =
+            ARTIFACT_REVISIONS_BY_LABEL_PAGE_QUERY.replace("_TOP_", "TOP (?) ")
+                    .replace("_AFTER_", ARTIFACT_REVISIONS_AFTER_API_ID_CONDITION).replace("_LIMIT_", "");
+
     public static final String RETRIEVE_ALL_ARTIFACTS_BY_LABEL =
             "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
                     "AM_GW_PUBLISHED_API_DETAILS" +
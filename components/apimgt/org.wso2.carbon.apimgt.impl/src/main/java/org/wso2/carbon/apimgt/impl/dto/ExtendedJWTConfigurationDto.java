@@ -8,6 +8,7 @@ public class ExtendedJWTConfigurationDto extends JWTConfigurationDto {
     private boolean tenantBasedSigningEnabled;
     private boolean enableUserClaimRetrievalFromUserStore;
     private boolean isBindFederatedUserClaims;
+    private long backendJWTRefreshAheadTime;
 
     public String getClaimRetrieverImplClass() {
 
@@ -58,4 +59,14 @@ public class ExtendedJWTConfigurationDto extends JWTConfigurationDto {
 
         this.isBindFederatedUserClaims = isBindFederatedUserClaims;
     }
+
+    public long getBackendJWTRefreshAheadTime() {
+
+        return backendJWTRefreshAheadTime;
+    }
+
+    public void setBackendJWTRefreshAheadTime(long backendJWTRefreshAheadTime) {
+
+        this.backendJWTRefreshAheadTime = backendJWTRefreshAheadTime;
+    }
 }
@@ -19,6 +19,8 @@ public class GatewayArtifactSynchronizerProperties {
     private String gatewayStartup = "sync";
     private long eventWaitingTime = 1;
     private boolean onDemandLoading;
+    private int deploymentThreadCount = 1;
+    private boolean snapshotEnabled = false;
 
 
     public String getSaverName() {
@@ -148,4 +150,24 @@ public class GatewayArtifactSynchronizerProperties {
     public boolean isOnDemandLoading() {
         return onDemandLoading;
     }
+
+    public int getDeploymentThreadCount() {
+
+        return deploymentThreadCount;
+    }
+
+    public void setDeploymentThreadCount(int deploymentThreadCount) {
+
+        this.deploymentThreadCount = deploymentThreadCount;
+    }
+
+    public boolean isSnapshotEnabled() {
+
+        return snapshotEnabled;
+    }
+
+    public void setSnapshotEnabled(boolean snapshotEnabled) {
+
+        this.snapshotEnabled = snapshotEnabled;
+    }
 }
@@ -4,6 +4,9 @@ public class RuntimeArtifactDto {
 
     private Object artifact;
     private boolean file;
+    private String eTag;
+    private String nextCursor;
+    private boolean notModified;
 
     public Object getArtifact() {
 
@@ -24,4 +27,34 @@ public class RuntimeArtifactDto {
 
         this.file = file;
     }
+
+    public String getETag() {
+
+        return eTag;
+    }
+
+    public void setETag(String eTag) {
+
+        this.eTag = eTag;
+    }
+
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isNotModified() {
+
+        return notModified;
+    }
+
+    public void setNotModified(boolean notModified) {
+
+        this.notModified = notModified;
+    }
 }
@@ -26,6 +26,7 @@ public class ThrottleProperties {
     private GlobalEngineWSConnection globalEngineWSConnection;
     private DataPublisherPool dataPublisherPool;
     private DataPublisherThreadPool dataPublisherThreadPool;
+    private LocalRateLimiter localRateLimiter = new LocalRateLimiter();
     private JMSConnectionProperties jmsConnectionProperties;
     private boolean enableUnlimitedTier;
     private String throttleDataSourceName;
@@ -66,6 +67,14 @@ public class ThrottleProperties {
         this.dataPublisherThreadPool = dataPublisherThreadPool;
     }
 
+    public LocalRateLimiter getLocalRateLimiter() {
+        return localRateLimiter;
+    }
+
+    public void setLocalRateLimiter(LocalRateLimiter localRateLimiter) {
+        this.localRateLimiter = localRateLimiter;
+    }
+
     public BlockCondition getBlockCondition() {
         return blockCondition;
     }
@@ -589,6 +598,8 @@ public class ThrottleProperties {
         private int corePoolSize = 200;
         private int maximumPoolSize = 500;
         private long keepAliveTime = 100;
+        private int queueCapacity = 100000;
+        private String overflowPolicy = "DropOldest";
 
         public int getCorePoolSize() {
 
@@ -614,6 +625,52 @@ public class ThrottleProperties {
         public void setKeepAliveTime(long keepAliveTime) {
             this.keepAliveTime = keepAliveTime;
         }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public String getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(String overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
+
+    public static class LocalRateLimiter {
+        private boolean enabled = false;
+        private double nodeShare = 1.0;
+        private int maxKeys = 65536;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getNodeShare() {
+            return nodeShare;
+        }
+
+        public void setNodeShare(double nodeShare) {
+            this.nodeShare = nodeShare;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
     }
 
     public String[] getSkipRedeployingPolicies() {
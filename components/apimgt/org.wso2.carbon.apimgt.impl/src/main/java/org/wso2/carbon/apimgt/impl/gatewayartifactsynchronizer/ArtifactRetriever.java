@@ -22,6 +22,7 @@ import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.Artifac
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is a Artifact Retriever type. this interface let users to retriever API artifacts from a storage.
@@ -67,6 +68,41 @@ public interface ArtifactRetriever {
      */
      List<String> retrieveAllArtifacts(String gatewayLabel, String tenantDomain) throws ArtifactSynchronizerException;
 
+    /**
+     * This method is used to retrieve data from the storage, handing each artifact over to the consumer as soon as
+     * it has been read, so that artifacts can be processed while the rest of them are still being retrieved.
+     *
+     * @param gatewayLabel     - Label subscribed by the gateway
+     * @param tenantDomain     Tenant Domain
+     * @param artifactConsumer consumer of the information about each API and its corresponding gateway artifacts
+     * @return number of artifacts retrieved
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveAllArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        List<String> artifacts = retrieveAllArtifacts(gatewayLabel, tenantDomain);
+        artifacts.forEach(artifactConsumer);
+        return artifacts.size();
+    }
+
+    /**
+     * This method is used to retrieve data from the storage, like
+     * {@link #retrieveAllArtifacts(String, String, Consumer)}, but the artifacts of APIs of which the deployed
+     * revisions have not changed since they were last retrieved may be skipped.
+     *
+     * @param gatewayLabel     - Label subscribed by the gateway
+     * @param tenantDomain     Tenant Domain
+     * @param artifactConsumer consumer of the information about each API and its corresponding gateway artifacts
+     * @return number of artifacts retrieved
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveChangedArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        return retrieveAllArtifacts(gatewayLabel, tenantDomain, artifactConsumer);
+    }
+
     /**
      * Will be called after all publishing is done or if init fails
      */
@@ -20,9 +20,14 @@ package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -40,6 +45,7 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -48,6 +54,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class DBRetriever implements ArtifactRetriever {
 
@@ -58,6 +66,8 @@ public class DBRetriever implements ArtifactRetriever {
             ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration()
                     .getGatewayArtifactSynchronizerProperties();
     private String baseURL = eventHubConfigurationDto.getServiceUrl() + APIConstants.INTERNAL_WEB_APP_EP;
+    // ETags of the runtime artifact pages retrieved earlier, by the labels, tenant and cursor of the page
+    private final Map<String, String> pageETags = new ConcurrentHashMap<>();
 
     @Override
     public void init() throws ArtifactSynchronizerException {
@@ -149,6 +159,122 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    @Override
+    public int retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        return retrieveArtifactPages(label, tenantDomain, artifactConsumer, false);
+    }
+
+    @Override
+    public int retrieveChangedArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        return retrieveArtifactPages(label, tenantDomain, artifactConsumer, true);
+    }
+
+    /**
+     * Retrieves the artifacts page by page, following the cursor returned with each page. When only changed artifacts
+     * are requested, the ETag of each page retrieved earlier is sent, so that pages of which the deployed revisions
+     * have not changed are not downloaded again.
+     *
+     * @param label            gateway labels
+     * @param tenantDomain     tenant domain of the APIs
+     * @param artifactConsumer consumer of each artifact
+     * @param skipUnchanged    whether unchanged pages can be skipped
+     * @return number of artifacts retrieved
+     * @throws ArtifactSynchronizerException if the artifacts could not be retrieved
+     */
+    private int retrieveArtifactPages(String label, String tenantDomain, Consumer<String> artifactConsumer,
+                                      boolean skipUnchanged) throws ArtifactSynchronizerException {
+
+        try {
+            String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
+            int count = 0;
+            String after = null;
+            do {
+                String path = APIConstants.GatewayArtifactSynchronizer.GATEAY_SYNAPSE_ARTIFACTS
+                        + "?gatewayLabel=" + endcodedgatewayLabel + "&type=Synapse&limit="
+                        + APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_PAGE_SIZE;
+                if (after != null) {
+                    path = path + "&after=" + URLEncoder.encode(after, APIConstants.DigestAuthConstants.CHARSET);
+                }
+                String endpoint = baseURL + path;
+                String pageKey = label + "|" + tenantDomain + "|" + after;
+                String eTag = skipUnchanged ? pageETags.get(pageKey) : null;
+                try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain, eTag)) {
+                    int statusCode = httpResponse.getStatusLine().getStatusCode();
+                    if (statusCode == HttpStatus.SC_NOT_MODIFIED) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Artifacts of the page after " + after + " have not changed");
+                        }
+                    } else if (statusCode != HttpStatus.SC_OK || httpResponse.getEntity() == null) {
+                        // Let the non streaming path report missing artifacts and errors
+                        JSONArray jsonArray = retrieveArtifact(httpResponse);
+                        for (int i = 0; i < jsonArray.length(); i++) {
+                            artifactConsumer.accept(jsonArray.getString(i));
+                        }
+                        return count + jsonArray.length();
+                    } else {
+                        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                                httpResponse.getEntity().getContent(), APIConstants.DigestAuthConstants.CHARSET))) {
+                            count += readArtifactList(reader, artifactConsumer);
+                        }
+                        Header eTagHeader = httpResponse.getFirstHeader(HttpHeaders.ETAG);
+                        if (eTagHeader != null) {
+                            pageETags.put(pageKey, eTagHeader.getValue());
+                        }
+                    }
+                    // Control planes without paging support return all the artifacts without a cursor
+                    Header cursorHeader = httpResponse.getFirstHeader(
+                            APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_NEXT_CURSOR_HEADER);
+                    after = cursorHeader != null ? cursorHeader.getValue() : null;
+                }
+            } while (after != null);
+            return count;
+        } catch (IOException e) {
+            String msg = "Error while executing the http client";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        } catch (ArtifactSynchronizerException e) {
+            String msg = "Error while retrieving artifacts";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        }
+    }
+
+    /**
+     * Reads the artifacts of a runtime artifact list one at a time, without holding the whole response in memory.
+     *
+     * @param reader           reader of the runtime artifact list
+     * @param artifactConsumer consumer of each artifact
+     * @return number of artifacts read
+     * @throws IOException if the response cannot be read
+     */
+    private int readArtifactList(JsonReader reader, Consumer<String> artifactConsumer) throws IOException {
+
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"list".equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                } else {
+                    artifactConsumer.accept(reader.nextString());
+                    count++;
+                }
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return count;
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
@@ -203,6 +329,12 @@ public class DBRetriever implements ArtifactRetriever {
     private CloseableHttpResponse invokeService(String endpoint,String tenantDomain) throws IOException,
             ArtifactSynchronizerException {
 
+        return invokeService(endpoint, tenantDomain, null);
+    }
+
+    private CloseableHttpResponse invokeService(String endpoint, String tenantDomain, String eTag)
+            throws IOException, ArtifactSynchronizerException {
+
         HttpGet method = new HttpGet(endpoint);
         URL url = new URL(endpoint);
         String username = eventHubConfigurationDto.getUsername();
@@ -216,6 +348,9 @@ public class DBRetriever implements ArtifactRetriever {
         if (tenantDomain != null) {
             method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
         }
+        if (eTag != null) {
+            method.setHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
 
         HttpClient httpClient = APIUtil.getHttpClient(port, protocol);
         try {
@@ -18,6 +18,7 @@
 package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,11 +39,14 @@ import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class RuntimeArtifactGeneratorUtil {
 
@@ -68,6 +72,94 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * Generates the runtime artifacts of a page of the APIs deployed in the given labels. The page is identified by an
+     * ETag derived from the revisions deployed in it, and the artifacts are not generated if it matches the ETag
+     * already known by the caller.
+     *
+     * @param gatewayLabel base64 encoded gateway labels
+     * @param type         type of the gateway
+     * @param tenantDomain tenant domain of the APIs
+     * @param after        API ID after which the page starts, or null for the first page
+     * @param limit        maximum number of APIs in the page
+     * @param ifNoneMatch  ETag of the page known by the caller, if any
+     * @return runtime artifacts of the page along with its ETag and the cursor of the next page
+     * @throws APIManagementException if the artifacts could not be generated
+     */
+    public static RuntimeArtifactDto generateRuntimeArtifactPage(String gatewayLabel, String type,
+                                                                 String tenantDomain, String after, int limit,
+                                                                 String ifNoneMatch)
+            throws APIManagementException {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        if (gatewayArtifactGenerator == null) {
+            Set<String> gatewayArtifactGeneratorTypes =
+                    ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
+            throw new APIManagementException("Couldn't find gateway Type",
+                    ExceptionCodes.from(ExceptionCodes.GATEWAY_TYPE_NOT_FOUND, String.join(",",
+                            gatewayArtifactGeneratorTypes)));
+        }
+        byte[] decodedValue = Base64.decodeBase64(gatewayLabel.getBytes());
+        String[] gatewayLabels = new String(decodedValue).split("\\|");
+        List<APIRuntimeArtifactDto> revisions =
+                gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(gatewayLabels, tenantDomain, after,
+                        limit);
+        Set<String> apiIds = new LinkedHashSet<>();
+        for (APIRuntimeArtifactDto revision : revisions) {
+            apiIds.add(revision.getApiId());
+        }
+        String nextCursor = null;
+        if (apiIds.size() > limit) {
+            List<String> pageApiIds = apiIds.stream().limit(limit).collect(Collectors.toList());
+            nextCursor = pageApiIds.get(pageApiIds.size() - 1);
+            apiIds = new LinkedHashSet<>(pageApiIds);
+            Set<String> pageApiIdSet = apiIds;
+            revisions = revisions.stream().filter(revision -> pageApiIdSet.contains(revision.getApiId()))
+                    .collect(Collectors.toList());
+        }
+
+        String eTag = getRevisionVectorETag(revisions);
+        if (eTag.equals(ifNoneMatch)) {
+            RuntimeArtifactDto runtimeArtifactDto = new RuntimeArtifactDto();
+            runtimeArtifactDto.setNotModified(true);
+            runtimeArtifactDto.setETag(eTag);
+            runtimeArtifactDto.setNextCursor(nextCursor);
+            return runtimeArtifactDto;
+        }
+        List<APIRuntimeArtifactDto> gatewayArtifacts = new ArrayList<>();
+        if (!apiIds.isEmpty()) {
+            gatewayArtifacts = gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(new ArrayList<>(apiIds),
+                    gatewayLabels, tenantDomain);
+            for (APIRuntimeArtifactDto apiRuntimeArtifactDto : gatewayArtifacts) {
+                ArtifactSynchronizerUtil.setArtifactProperties(apiRuntimeArtifactDto);
+            }
+        }
+        RuntimeArtifactDto runtimeArtifactDto = gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+        if (runtimeArtifactDto != null) {
+            runtimeArtifactDto.setETag(eTag);
+            runtimeArtifactDto.setNextCursor(nextCursor);
+        }
+        return runtimeArtifactDto;
+    }
+
+    /**
+     * Derives an ETag from the revisions deployed in each label, so that it changes whenever an API of the page is
+     * deployed, undeployed or redeployed.
+     *
+     * @param revisions deployed revisions ordered by API ID and label
+     * @return quoted ETag
+     */
+    static String getRevisionVectorETag(List<APIRuntimeArtifactDto> revisions) {
+
+        StringBuilder revisionVector = new StringBuilder();
+        for (APIRuntimeArtifactDto revision : revisions) {
+            revisionVector.append(revision.getApiId()).append(':').append(revision.getLabel()).append(':')
+                    .append(revision.getRevision()).append(':').append(revision.getVhost()).append('\n');
+        }
+        return "\"" + DigestUtils.sha256Hex(revisionVector.toString()) + "\"";
+    }
+
     public static RuntimeArtifactDto generateAllRuntimeArtifact(String apiId,
                                                                 String gatewayLabel, String type)
             throws APIManagementException {
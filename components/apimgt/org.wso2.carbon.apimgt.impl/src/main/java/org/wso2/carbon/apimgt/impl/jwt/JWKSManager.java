@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the public keys published by the JWKS endpoints of token issuers so that JWT signatures are verified
+ * without fetching and parsing the whole key set on the request thread. The keys of an endpoint are shared by all
+ * the validators of the issuers using it and are indexed by key ID.
+ * <p>
+ * The key set of an endpoint is fetched on first use and refreshed in the background every 15 minutes, give or take
+ * a random 10% so that gateways do not refresh in step. A failed refresh keeps serving the previous keys. A token
+ * signed with an unknown key ID, as happens when the issuer rotates its keys, fetches the key set at once, but only
+ * one thread fetches while the others wait for its result, and the key set is fetched at most every 10 seconds for
+ * unknown key IDs. Key IDs still unknown after a fetch are remembered for a minute and rejected without fetching.
+ * Endpoints not used for an hour are dropped.
+ * <p>
+ * The counters are registered with the platform MBean server as {@code org.wso2.carbon.apimgt:type=JWKSManager}.
+ */
+public final class JWKSManager implements JWKSManagerMXBean {
+
+    private static final Log log = LogFactory.getLog(JWKSManager.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=JWKSManager";
+    static final long REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+    static final long MIN_FETCH_INTERVAL = TimeUnit.SECONDS.toMillis(10);
+    static final long UNKNOWN_KEY_ID_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+    static final long IDLE_TIMEOUT = TimeUnit.HOURS.toMillis(1);
+    private static final double REFRESH_JITTER = 0.1;
+    private static final int MAX_UNKNOWN_KEY_IDS = 1000;
+    private static final JWKSManager instance =
+            new JWKSManager(JWTUtil::retrieveJWKSConfiguration, System::currentTimeMillis, true);
+
+    private final Map<String, KeySet> keySets = new ConcurrentHashMap<>();
+    private final KeySetFetcher fetcher;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private final LongAdder lookupMissCount = new LongAdder();
+    private final LongAdder negativeCacheHitCount = new LongAdder();
+
+    JWKSManager(KeySetFetcher fetcher, LongSupplier clock, boolean registerMBean) {
+
+        this.fetcher = fetcher;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JWKSRefresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    public static JWKSManager getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the public key with the given key ID published by a JWKS endpoint.
+     *
+     * @param jwksEndpoint URL of the JWKS endpoint
+     * @param keyID        key ID of the JWT header
+     * @return RSA or EC public key of the key ID, or null if the endpoint does not publish the key ID
+     * @throws IOException            if the key set could not be fetched
+     * @throws ParseException         if the key set could not be parsed
+     * @throws APIManagementException if the endpoint did not return the key set
+     */
+    public PublicKey getKey(String jwksEndpoint, String keyID)
+            throws IOException, ParseException, APIManagementException {
+
+        KeySet keySet = keySets.computeIfAbsent(jwksEndpoint, KeySet::new);
+        long now = clock.getAsLong();
+        keySet.lastAccessTime = now;
+        Map<String, PublicKey> keys = keySet.keys;
+        if (keys == null) {
+            keys = loadKeys(keySet);
+        }
+        PublicKey key = keys.get(keyID);
+        if (key != null) {
+            return key;
+        }
+        lookupMissCount.increment();
+        Long unknownSince = keySet.unknownKeyIDs.get(keyID);
+        if (unknownSince != null && now - unknownSince < UNKNOWN_KEY_ID_TIMEOUT) {
+            negativeCacheHitCount.increment();
+            return null;
+        }
+        key = fetchUnknownKey(keySet, keys).get(keyID);
+        if (key == null) {
+            if (keySet.unknownKeyIDs.size() >= MAX_UNKNOWN_KEY_IDS) {
+                keySet.unknownKeyIDs.clear();
+            }
+            keySet.unknownKeyIDs.put(keyID, clock.getAsLong());
+            if (log.isDebugEnabled()) {
+                log.debug("Key ID " + keyID + " is not published by JWKS endpoint " + jwksEndpoint);
+            }
+        }
+        return key;
+    }
+
+    private Map<String, PublicKey> loadKeys(KeySet keySet)
+            throws IOException, ParseException, APIManagementException {
+
+        synchronized (keySet) {
+            if (keySet.keys != null) {
+                return keySet.keys;
+            }
+            if (clock.getAsLong() - keySet.lastFetchTime < MIN_FETCH_INTERVAL) {
+                throw new APIManagementException("JWKS endpoint " + keySet.jwksEndpoint + " is unavailable.");
+            }
+            return fetchKeys(keySet);
+        }
+    }
+
+    private Map<String, PublicKey> fetchUnknownKey(KeySet keySet, Map<String, PublicKey> staleKeys) {
+
+        synchronized (keySet) {
+            // another thread fetched the key set while this one was waiting
+            if (keySet.keys != staleKeys || clock.getAsLong() - keySet.lastFetchTime < MIN_FETCH_INTERVAL) {
+                return keySet.keys;
+            }
+            try {
+                return fetchKeys(keySet);
+            } catch (IOException | ParseException | APIManagementException e) {
+                log.warn("Unable to fetch the keys of JWKS endpoint " + keySet.jwksEndpoint
+                        + ", using the current keys", e);
+                return keySet.keys;
+            }
+        }
+    }
+
+    private Map<String, PublicKey> fetchKeys(KeySet keySet)
+            throws IOException, ParseException, APIManagementException {
+
+        keySet.lastFetchTime = clock.getAsLong();
+        Map<String, PublicKey> keys;
+        try {
+            String jwks = fetcher.fetch(keySet.jwksEndpoint);
+            if (jwks == null) {
+                throw new APIManagementException("Invalid JWKS endpoint.");
+            }
+            keys = toPublicKeys(keySet.jwksEndpoint, JWKSet.parse(jwks));
+        } catch (IOException | ParseException | APIManagementException e) {
+            refreshFailureCount.increment();
+            throw e;
+        }
+        refreshCount.increment();
+        boolean firstLoad = keySet.keys == null;
+        keySet.keys = keys;
+        keySet.unknownKeyIDs.clear();
+        if (firstLoad) {
+            scheduleRefresh(keySet);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched " + keys.size() + " keys from JWKS endpoint " + keySet.jwksEndpoint);
+        }
+        return keys;
+    }
+
+    private static Map<String, PublicKey> toPublicKeys(String jwksEndpoint, JWKSet jwkSet) {
+
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            String keyID = jwk.getKeyID();
+            if (keyID == null) {
+                continue;
+            }
+            try {
+                if (jwk instanceof RSAKey) {
+                    keys.put(keyID, ((RSAKey) jwk).toRSAPublicKey());
+                } else if (jwk instanceof ECKey) {
+                    keys.put(keyID, ((ECKey) jwk).toECPublicKey());
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Key Algorithm of key " + keyID + " of JWKS endpoint " + jwksEndpoint
+                            + " not supported");
+                }
+            } catch (JOSEException e) {
+                log.warn("Ignoring invalid key " + keyID + " of JWKS endpoint " + jwksEndpoint, e);
+            }
+        }
+        return Collections.unmodifiableMap(keys);
+    }
+
+    private void scheduleRefresh(KeySet keySet) {
+
+        double jitter = REFRESH_JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        long delay = (long) (REFRESH_INTERVAL * (1 + jitter));
+        try {
+            scheduler.schedule(() -> refresh(keySet), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Unable to schedule the refresh of JWKS endpoint " + keySet.jwksEndpoint, e);
+        }
+    }
+
+    /**
+     * Refreshes the keys of a JWKS endpoint the same way as the background refresh.
+     *
+     * @param jwksEndpoint URL of the JWKS endpoint
+     */
+    void refresh(String jwksEndpoint) {
+
+        KeySet keySet = keySets.get(jwksEndpoint);
+        if (keySet != null) {
+            refresh(keySet);
+        }
+    }
+
+    private void refresh(KeySet keySet) {
+
+        if (clock.getAsLong() - keySet.lastAccessTime > IDLE_TIMEOUT) {
+            keySets.remove(keySet.jwksEndpoint, keySet);
+            if (log.isDebugEnabled()) {
+                log.debug("Dropped the keys of idle JWKS endpoint " + keySet.jwksEndpoint);
+            }
+            return;
+        }
+        synchronized (keySet) {
+            try {
+                fetchKeys(keySet);
+            } catch (IOException | ParseException | APIManagementException | RuntimeException e) {
+                log.warn("Unable to refresh the keys of JWKS endpoint " + keySet.jwksEndpoint
+                        + ", using the current keys", e);
+            }
+        }
+        scheduleRefresh(keySet);
+    }
+
+    @Override
+    public int getEndpointCount() {
+
+        return keySets.size();
+    }
+
+    @Override
+    public long getRefreshCount() {
+
+        return refreshCount.sum();
+    }
+
+    @Override
+    public long getRefreshFailureCount() {
+
+        return refreshFailureCount.sum();
+    }
+
+    @Override
+    public long getLookupMissCount() {
+
+        return lookupMissCount.sum();
+    }
+
+    @Override
+    public long getNegativeCacheHitCount() {
+
+        return negativeCacheHitCount.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        refreshCount.reset();
+        refreshFailureCount.reset();
+        lookupMissCount.reset();
+        negativeCacheHitCount.reset();
+    }
+
+    /**
+     * Fetches the JSON key set published by a JWKS endpoint.
+     */
+    interface KeySetFetcher {
+
+        /**
+         * @param jwksEndpoint URL of the JWKS endpoint
+         * @return JSON key set, or null if the endpoint did not return it
+         * @throws IOException if the endpoint could not be reached
+         */
+        String fetch(String jwksEndpoint) throws IOException;
+    }
+
+    private static final class KeySet {
+
+        private final String jwksEndpoint;
+        private final Map<String, Long> unknownKeyIDs = new ConcurrentHashMap<>();
+        private volatile Map<String, PublicKey> keys;
+        private volatile long lastFetchTime = Long.MIN_VALUE / 2;
+        private volatile long lastAccessTime;
+
+        private KeySet(String jwksEndpoint) {
+
+            this.jwksEndpoint = jwksEndpoint;
+        }
+    }
+}
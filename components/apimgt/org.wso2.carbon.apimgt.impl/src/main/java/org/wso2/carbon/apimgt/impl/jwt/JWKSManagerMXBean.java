@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+/**
+ * JMX view of the JWKS keys cached by the {@link JWKSManager}.
+ */
+public interface JWKSManagerMXBean {
+
+    /**
+     * @return number of JWKS endpoints the keys are cached for
+     */
+    int getEndpointCount();
+
+    /**
+     * @return number of key sets fetched, in the background or for an unknown key ID
+     */
+    long getRefreshCount();
+
+    /**
+     * @return number of key sets that failed to be fetched
+     */
+    long getRefreshFailureCount();
+
+    /**
+     * @return number of lookups of a key ID not in the cached key set
+     */
+    long getLookupMissCount();
+
+    /**
+     * @return number of lookups of a key ID answered from the unknown key IDs without fetching the key set
+     */
+    long getNegativeCacheHitCount();
+
+    /**
+     * Resets the counts.
+     */
+    void resetStatistics();
+}
@@ -18,9 +18,6 @@
 
 package org.wso2.carbon.apimgt.impl.jwt;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
@@ -39,6 +36,7 @@ import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
 
 import java.io.IOException;
+import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Date;
@@ -50,7 +48,6 @@ public class JWTValidatorImpl implements JWTValidator {
     TokenIssuerDto tokenIssuer;
     private Log log = LogFactory.getLog(JWTValidatorImpl.class);
     JWTTransformer jwtTransformer;
-    private JWKSet jwkSet;
 
     @Override
     public JWTValidationInfo validateToken(SignedJWTInfo signedJWTInfo) throws APIManagementException {
@@ -139,19 +136,10 @@ public class JWTValidatorImpl implements JWTValidator {
             if (StringUtils.isNotEmpty(keyID)) {
                 if (tokenIssuer.getJwksConfigurationDTO().isEnabled() &&
                         StringUtils.isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
-                        RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
-                        if (rsaPublicKey != null) {
-                            return JWTUtil.verifyTokenSignature(signedJWT, rsaPublicKey);
-                        }
+                    PublicKey publicKey = JWKSManager.getInstance()
+                            .getKey(tokenIssuer.getJwksConfigurationDTO().getUrl(), keyID);
+                    if (publicKey instanceof RSAPublicKey) {
+                        return JWTUtil.verifyTokenSignature(signedJWT, (RSAPublicKey) publicKey);
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Key Algorithm not supported");
@@ -170,9 +158,6 @@ public class JWTValidatorImpl implements JWTValidator {
         } catch (ParseException e) {
             log.error("Error while parsing JWKS information", e);
             throw new APIManagementException("Error while parsing JWT", e);
-        } catch (JOSEException e) {
-            log.error("Error while verifying token signature", e);
-            throw new APIManagementException("Error while parsing JWT", e);
         } catch (IOException e) {
             log.error("Error while connecting to JWKS endpoint", e);
             throw new APIManagementException("Error while parsing JWT", e);
@@ -228,16 +213,4 @@ public class JWTValidatorImpl implements JWTValidator {
         jwtValidationInfo.setUser(jwtClaimsSet.getSubject());
         jwtValidationInfo.setJti(jwtClaimsSet.getJWTID());
     }
-
-    private JWKSet retrieveJWKSet() throws IOException, ParseException, APIManagementException {
-
-        String jwksInfo = JWTUtil
-                .retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        if (jwksInfo != null) {
-            jwkSet = JWKSet.parse(jwksInfo);
-        } else {
-            throw new APIManagementException("Invalid JWKS endpoint.");
-        }
-        return jwkSet;
-    }
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the JWTs whose signature has been verified so that a token presented again, to another API or to
+ * another authenticator, is not verified again. A JWT is keyed by the SHA-256 digest of its header, payload and
+ * signature and is only found verified with the same public key it was verified with.
+ * <p>
+ * A verified JWT is kept until it expires, but not longer than 15 minutes, and is dropped as soon as its JWT ID, or
+ * its signature if it has no JWT ID, is revoked. The cache holds at most 10000 JWTs, the JWT verified first is
+ * dropped to make room for a new one once it is full.
+ * <p>
+ * The counters are registered with the platform MBean server as {@code org.wso2.carbon.apimgt:type=VerifiedJWTCache}.
+ */
+public final class VerifiedJWTCache implements VerifiedJWTCacheMXBean {
+
+    private static final Log log = LogFactory.getLog(VerifiedJWTCache.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=VerifiedJWTCache";
+    static final int MAX_ENTRIES = 10000;
+    static final long MAX_TTL = TimeUnit.MINUTES.toMillis(15);
+    private static final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    });
+    private static final VerifiedJWTCache instance =
+            new VerifiedJWTCache(MAX_ENTRIES, System::currentTimeMillis, true);
+
+    private final LRUCache<String, VerifiedJWT> verifiedJWTs;
+    // Digests of the cached JWTs by their JWT ID or signature, guarded by the exclusive lock of the cache
+    private final Map<String, Set<String>> digestsByTokenIdentifier = new HashMap<>();
+    private final LongSupplier clock;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder totalVerificationTime = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    VerifiedJWTCache(int maxEntries, LongSupplier clock, boolean registerMBean) {
+
+        this.clock = clock;
+        this.verifiedJWTs = new LRUCache<String, VerifiedJWT>(maxEntries) {
+            @Override
+            protected void handleRemovableEntry(Map.Entry<String, VerifiedJWT> entry) {
+
+                evictionCount.increment();
+                unindex(entry.getKey(), entry.getValue());
+            }
+        };
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    public static VerifiedJWTCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Verifies the signature of a JWT unless it was already verified with the given public key.
+     *
+     * @param jwt       signed JWT
+     * @param publicKey public key the signature is verified with
+     * @param verifier  verifies the signature if the JWT is not in the cache
+     * @param <E>       exception thrown by the verifier
+     * @return whether the signature is verified or not
+     * @throws E if the verifier failed to verify the signature
+     */
+    public <E extends Exception> boolean verify(SignedJWT jwt, PublicKey publicKey, SignatureVerifier<E> verifier)
+            throws E {
+
+        String digest = digest(jwt);
+        if (digest != null) {
+            VerifiedJWT verifiedJWT = verifiedJWTs.get(digest);
+            if (verifiedJWT != null) {
+                if (verifiedJWT.expiryTime <= clock.getAsLong()) {
+                    remove(digest, verifiedJWT);
+                } else if (verifiedJWT.publicKey.equals(publicKey)) {
+                    hitCount.increment();
+                    return true;
+                }
+            }
+        }
+        missCount.increment();
+        long startTime = System.nanoTime();
+        boolean verified = verifier.verify();
+        totalVerificationTime.add(System.nanoTime() - startTime);
+        if (verified && digest != null) {
+            put(digest, jwt, publicKey);
+        }
+        return verified;
+    }
+
+    /**
+     * Drops the verified JWTs with the given JWT ID, or with the given signature if they do not have a JWT ID.
+     *
+     * @param tokenIdentifier JWT ID or signature of the revoked JWT
+     */
+    public void invalidate(String tokenIdentifier) {
+
+        if (tokenIdentifier == null) {
+            return;
+        }
+        verifiedJWTs.exclusiveLock();
+        try {
+            Set<String> digests = digestsByTokenIdentifier.remove(tokenIdentifier);
+            if (digests == null) {
+                return;
+            }
+            for (String digest : digests) {
+                if (verifiedJWTs.remove(digest) != null) {
+                    invalidationCount.increment();
+                }
+            }
+        } finally {
+            verifiedJWTs.release();
+        }
+    }
+
+    private void put(String digest, SignedJWT jwt, PublicKey publicKey) {
+
+        JWTClaimsSet jwtClaimsSet;
+        try {
+            jwtClaimsSet = jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            log.debug("Unable to parse the claims of the verified JWT", e);
+            return;
+        }
+        long now = clock.getAsLong();
+        long expiryTime = now + MAX_TTL;
+        Date expirationTime = jwtClaimsSet.getExpirationTime();
+        if (expirationTime != null) {
+            expiryTime = Math.min(expiryTime, expirationTime.getTime());
+        }
+        if (expiryTime <= now) {
+            return;
+        }
+        String tokenIdentifier = jwtClaimsSet.getJWTID();
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            tokenIdentifier = jwt.getSignature().toString();
+        }
+        VerifiedJWT verifiedJWT = new VerifiedJWT(tokenIdentifier, publicKey, expiryTime);
+        verifiedJWTs.exclusiveLock();
+        try {
+            VerifiedJWT previous = verifiedJWTs.put(digest, verifiedJWT);
+            if (previous != null) {
+                unindex(digest, previous);
+            }
+            digestsByTokenIdentifier.computeIfAbsent(tokenIdentifier, identifier -> new HashSet<>()).add(digest);
+        } finally {
+            verifiedJWTs.release();
+        }
+    }
+
+    private void remove(String digest, VerifiedJWT verifiedJWT) {
+
+        verifiedJWTs.exclusiveLock();
+        try {
+            if (verifiedJWTs.remove(digest, verifiedJWT)) {
+                unindex(digest, verifiedJWT);
+            }
+        } finally {
+            verifiedJWTs.release();
+        }
+    }
+
+    /**
+     * Drops a JWT which is no longer cached from the token identifier index. Called with the exclusive lock of the
+     * cache held.
+     */
+    private void unindex(String digest, VerifiedJWT verifiedJWT) {
+
+        Set<String> digests = digestsByTokenIdentifier.get(verifiedJWT.tokenIdentifier);
+        if (digests != null && digests.remove(digest) && digests.isEmpty()) {
+            digestsByTokenIdentifier.remove(verifiedJWT.tokenIdentifier);
+        }
+    }
+
+    private static String digest(SignedJWT jwt) {
+
+        // JWTs which were not parsed from a token have no serialized form to key them by
+        String token = jwt.getParsedString();
+        if (token == null) {
+            return null;
+        }
+        byte[] digest = digests.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    @Override
+    public int getEntryCount() {
+
+        return verifiedJWTs.size();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public long getSavedVerificationTime() {
+
+        long misses = missCount.sum();
+        if (misses == 0) {
+            return 0;
+        }
+        long averageVerificationTime = totalVerificationTime.sum() / misses;
+        return TimeUnit.NANOSECONDS.toMillis(averageVerificationTime * hitCount.sum());
+    }
+
+    @Override
+    public long getInvalidationCount() {
+
+        return invalidationCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        hitCount.reset();
+        missCount.reset();
+        totalVerificationTime.reset();
+        invalidationCount.reset();
+        evictionCount.reset();
+    }
+
+    /**
+     * Verifies the signature of a JWT which is not in the cache.
+     *
+     * @param <E> exception thrown when the signature could not be verified
+     */
+    public interface SignatureVerifier<E extends Exception> {
+
+        boolean verify() throws E;
+    }
+
+    private static final class VerifiedJWT {
+
+        private final String tokenIdentifier;
+        private final PublicKey publicKey;
+        private final long expiryTime;
+
+        private VerifiedJWT(String tokenIdentifier, PublicKey publicKey, long expiryTime) {
+
+            this.tokenIdentifier = tokenIdentifier;
+            this.publicKey = publicKey;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
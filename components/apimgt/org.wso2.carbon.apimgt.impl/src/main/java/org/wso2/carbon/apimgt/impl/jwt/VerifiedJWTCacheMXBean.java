@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+/**
+ * JMX view of the counters of the {@link VerifiedJWTCache}.
+ */
+public interface VerifiedJWTCacheMXBean {
+
+    /**
+     * @return number of verified JWTs currently in the cache
+     */
+    int getEntryCount();
+
+    /**
+     * @return number of signatures found verified in the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return number of signatures that had to be verified
+     */
+    long getMissCount();
+
+    /**
+     * @return ratio of the signatures found verified in the cache to all the signatures checked
+     */
+    double getHitRatio();
+
+    /**
+     * @return estimated time saved by the signatures found verified in the cache, in milliseconds
+     */
+    long getSavedVerificationTime();
+
+    /**
+     * @return number of verified JWTs dropped because they were revoked
+     */
+    long getInvalidationCount();
+
+    /**
+     * @return number of verified JWTs dropped to make room for newly verified ones
+     */
+    long getEvictionCount();
+
+    /**
+     * Resets all the counters.
+     */
+    void resetStatistics();
+}
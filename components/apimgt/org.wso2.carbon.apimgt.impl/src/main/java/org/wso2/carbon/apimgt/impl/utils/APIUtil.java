@@ -509,7 +509,9 @@ public final class APIUtil {
         do {
             try {
                 httpResponse = (CloseableHttpResponse) httpClient.execute(method);
-                if (HttpStatus.SC_OK != httpResponse.getStatusLine().getStatusCode()) {
+                // Not Modified is only received for conditional requests, and is not a failure
+                if (HttpStatus.SC_OK != httpResponse.getStatusLine().getStatusCode()
+                        && HttpStatus.SC_NOT_MODIFIED != httpResponse.getStatusLine().getStatusCode()) {
                     throw new DataLoadingException("Error while retrieving "
                             + path + ". Received response with status code "
                             + httpResponse.getStatusLine().getStatusCode());
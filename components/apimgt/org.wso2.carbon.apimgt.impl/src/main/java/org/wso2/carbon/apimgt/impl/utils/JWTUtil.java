@@ -33,6 +33,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.json.JSONObject;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.jwt.VerifiedJWTCache;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -83,13 +84,15 @@ public class JWTUtil {
         JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
         if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) ||
                 JWSAlgorithm.RS384.equals(algorithm)) || JWSAlgorithm.PS256.equals(algorithm)) {
-            try {
-                JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
-                return jwt.verify(jwsVerifier);
-            } catch (JOSEException e) {
-                log.error("Error while verifying JWT signature", e);
-                return false;
-            }
+            return VerifiedJWTCache.getInstance().verify(jwt, publicKey, () -> {
+                try {
+                    JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
+                    return jwt.verify(jwsVerifier);
+                } catch (JOSEException e) {
+                    log.error("Error while verifying JWT signature", e);
+                    return false;
+                }
+            });
         } else {
             log.error("Public key is not a RSA");
             return false;
@@ -132,6 +135,30 @@ public class JWTUtil {
 
     public static boolean isJWTValid(String token, String jwtDecoding, long timestampSkew) {
 
+        return isJWTValid(getJWTExpiryTime(token, jwtDecoding), timestampSkew);
+    }
+
+    /**
+     * Checks whether a JWT is valid for longer than the timestamp skew, given its expiry time.
+     *
+     * @param expiryTime    expiry time of the JWT in milliseconds, as returned by {@link #getJWTExpiryTime}
+     * @param timestampSkew timestamp skew in milliseconds
+     * @return true if the JWT expires after the timestamp skew
+     */
+    public static boolean isJWTValid(long expiryTime, long timestampSkew) {
+
+        return expiryTime - System.currentTimeMillis() > timestampSkew;
+    }
+
+    /**
+     * Reads the expiry time of a JWT from its exp claim.
+     *
+     * @param token       JWT
+     * @param jwtDecoding decoding of the JWT payload, base64 or base64url
+     * @return expiry time of the JWT in milliseconds
+     */
+    public static long getJWTExpiryTime(String token, String jwtDecoding) {
+
         String[] splitToken = token.split("\\.");
         JSONObject payload;
         if (APIConstants.JwtTokenConstants.DECODING_ALGORITHM_BASE64URL.equals(jwtDecoding)) {
@@ -139,7 +166,6 @@ public class JWTUtil {
         } else {
             payload = new JSONObject(new String(Base64.getDecoder().decode(splitToken[1])));
         }
-        long exp = payload.getLong("exp") * 1000L;
-        return (exp - System.currentTimeMillis() > timestampSkew);
+        return payload.getLong("exp") * 1000L;
     }
 }
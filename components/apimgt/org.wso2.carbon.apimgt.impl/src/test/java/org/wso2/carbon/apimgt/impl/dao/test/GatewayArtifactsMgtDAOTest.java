@@ -58,6 +58,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -206,4 +207,52 @@ public class GatewayArtifactsMgtDAOTest {
         Assert.assertNotNull(artifact);
         Assert.assertEquals(context, artifacts.get(0).getContext());
     }
+
+    @Test
+    public void testRetrieveGatewayArtifactRevisionsByLabel() throws APIManagementException {
+        URL resource = getClass().getClassLoader().getResource("admin-PizzaShackAPI-1.0.0.zip");
+        File file = new File(resource.getPath());
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String uuid = UUID.randomUUID().toString();
+            String name = "pagedapiname" + i;
+            String revision = UUID.randomUUID().toString();
+            gatewayArtifactsMgtDAO.addGatewayAPIArtifactAndMetaData(uuid, name, "1.0.0", revision, "carbon.super",
+                    APIConstants.HTTP_PROTOCOL, file);
+            API api = new API(new APIIdentifier("test-provider", name, "1.0.0"));
+            api.setContext("/pagedcontext" + i);
+            api.setContextTemplate("/pagedcontext" + i + "/{version}");
+            api.setUUID(uuid);
+            apiMgtDAO.addAPI(api, -1234, "testOrg");
+            Map<String, String> gatewayVhosts = new HashMap<>();
+            gatewayVhosts.put("pagelabel1", "dev.wso2.com");
+            gatewayVhosts.put("pagelabel2", "prod.wso2.com");
+            gatewayArtifactsMgtDAO.addAndRemovePublishedGatewayLabels(uuid, revision,
+                    Collections.asSet("pagelabel1", "pagelabel2"), gatewayVhosts);
+            uuids.add(uuid);
+        }
+        java.util.Collections.sort(uuids);
+        String[] labels = new String[]{"pagelabel1", "pagelabel2"};
+
+        // A page of one API holds the rows of the API after it, which tells that there is a next page
+        List<APIRuntimeArtifactDto> revisions = gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(labels,
+                "carbon.super", null, 1);
+        Assert.assertEquals(4, revisions.size());
+        Assert.assertEquals(uuids.get(0), revisions.get(0).getApiId());
+        Assert.assertEquals("pagelabel1", revisions.get(0).getLabel());
+        Assert.assertEquals("pagelabel2", revisions.get(1).getLabel());
+        Assert.assertEquals(uuids.get(1), revisions.get(3).getApiId());
+
+        revisions = gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(labels, "carbon.super",
+                uuids.get(1), 1);
+        Assert.assertEquals(2, revisions.size());
+        Assert.assertEquals(uuids.get(2), revisions.get(0).getApiId());
+        Assert.assertEquals(uuids.get(2), revisions.get(1).getApiId());
+
+        revisions = gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(labels, "carbon.super",
+                uuids.get(2), 1);
+        Assert.assertTrue(revisions.isEmpty());
+        revisions = gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(labels, "wso2.com", null, 1);
+        Assert.assertTrue(revisions.isEmpty());
+    }
 }
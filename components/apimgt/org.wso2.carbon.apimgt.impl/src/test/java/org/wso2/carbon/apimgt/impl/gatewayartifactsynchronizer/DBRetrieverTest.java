@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({APIUtil.class, ServiceReferenceHolder.class})
+public class DBRetrieverTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String LABEL = "Default";
+    private static final String FIRST_PAGE_ETAG = "\"page1\"";
+    private static final String SECOND_PAGE_ETAG = "\"page2\"";
+
+    private final List<HttpRequestBase> requests = new ArrayList<>();
+
+    @Before
+    public void init() throws Exception {
+
+        ServiceReferenceHolder serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        APIManagerConfigurationService apiManagerConfigurationService =
+                Mockito.mock(APIManagerConfigurationService.class);
+        Mockito.when(serviceReferenceHolder.getAPIManagerConfigurationService())
+                .thenReturn(apiManagerConfigurationService);
+        APIManagerConfiguration apiManagerConfiguration = Mockito.mock(APIManagerConfiguration.class);
+        Mockito.when(apiManagerConfigurationService.getAPIManagerConfiguration()).thenReturn(apiManagerConfiguration);
+        EventHubConfigurationDto eventHubConfigurationDto = new EventHubConfigurationDto();
+        eventHubConfigurationDto.setServiceUrl("https://localhost:9443");
+        eventHubConfigurationDto.setUsername("admin");
+        eventHubConfigurationDto.setPassword("admin".toCharArray());
+        Mockito.when(apiManagerConfiguration.getEventHubConfigurationDto()).thenReturn(eventHubConfigurationDto);
+        Mockito.when(apiManagerConfiguration.getGatewayArtifactSynchronizerProperties())
+                .thenReturn(new GatewayArtifactSynchronizerProperties());
+
+        PowerMockito.mockStatic(APIUtil.class);
+        PowerMockito.when(APIUtil.executeHTTPRequestWithRetries(ArgumentMatchers.any(HttpRequestBase.class),
+                ArgumentMatchers.any())).thenAnswer(invocation -> respond(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void testRetrieveAllArtifactsFollowsCursor() throws Exception {
+
+        List<String> artifacts = new ArrayList<>();
+        int count = new DBRetriever().retrieveAllArtifacts(LABEL, TENANT_DOMAIN, artifacts::add);
+
+        Assert.assertEquals(3, count);
+        Assert.assertEquals(3, artifacts.size());
+        Assert.assertEquals(2, requests.size());
+        Assert.assertFalse(requests.get(0).getURI().toString().contains("after="));
+        Assert.assertTrue(requests.get(0).getURI().toString()
+                .contains("limit=" + APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_PAGE_SIZE));
+        Assert.assertTrue(requests.get(1).getURI().toString().endsWith("&after=api2"));
+        Assert.assertNull(requests.get(0).getFirstHeader(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    public void testRetrieveChangedArtifactsSkipsUnchangedPages() throws Exception {
+
+        DBRetriever dbRetriever = new DBRetriever();
+        dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN, artifact -> {
+        });
+        requests.clear();
+
+        List<String> artifacts = new ArrayList<>();
+        int count = dbRetriever.retrieveChangedArtifacts(LABEL, TENANT_DOMAIN, artifacts::add);
+
+        // The first page is answered with 304, but its cursor is still followed to the second page
+        Assert.assertEquals(2, requests.size());
+        Assert.assertEquals(FIRST_PAGE_ETAG, requests.get(0).getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue());
+        Assert.assertEquals(SECOND_PAGE_ETAG, requests.get(1).getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue());
+        Assert.assertEquals(1, count);
+        Assert.assertEquals(1, artifacts.size());
+        Assert.assertEquals("artifact3-updated", artifacts.get(0));
+    }
+
+    @Test
+    public void testRetrieveAllArtifactsDoesNotSendETag() throws Exception {
+
+        DBRetriever dbRetriever = new DBRetriever();
+        dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN, artifact -> {
+        });
+        requests.clear();
+
+        int count = dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN, artifact -> {
+        });
+
+        Assert.assertEquals(3, count);
+        for (HttpRequestBase request : requests) {
+            Assert.assertNull(request.getFirstHeader(HttpHeaders.IF_NONE_MATCH));
+        }
+    }
+
+    /**
+     * Serves two pages of artifacts. The first page has not changed since it was first served, while the second page
+     * has been redeployed, so that it is served again even when its earlier ETag is sent.
+     */
+    private CloseableHttpResponse respond(HttpRequestBase request) throws Exception {
+
+        requests.add(request);
+        boolean secondPage = request.getURI().toString().contains("after=api2");
+        String ifNoneMatch = request.getFirstHeader(HttpHeaders.IF_NONE_MATCH) != null ?
+                request.getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue() : null;
+        CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        if (!secondPage) {
+            Mockito.when(httpResponse.getFirstHeader(
+                    APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_NEXT_CURSOR_HEADER))
+                    .thenReturn(new BasicHeader(
+                            APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_NEXT_CURSOR_HEADER, "api2"));
+        }
+        if (!secondPage && FIRST_PAGE_ETAG.equals(ifNoneMatch)) {
+            Mockito.when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_NOT_MODIFIED);
+            return httpResponse;
+        }
+        Mockito.when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        String body;
+        if (secondPage) {
+            body = SECOND_PAGE_ETAG.equals(ifNoneMatch) ? "{\"count\":1,\"list\":[\"artifact3-updated\"]}" :
+                    "{\"count\":1,\"list\":[\"artifact3\"]}";
+        } else {
+            body = "{\"count\":2,\"list\":[\"artifact1\",\"artifact2\"]}";
+        }
+        Mockito.when(httpResponse.getEntity()).thenReturn(new StringEntity(body));
+        Mockito.when(httpResponse.getFirstHeader(HttpHeaders.ETAG))
+                .thenReturn(new BasicHeader(HttpHeaders.ETAG, secondPage ? SECOND_PAGE_ETAG : FIRST_PAGE_ETAG));
+        return httpResponse;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({GatewayArtifactsMgtDAO.class, ServiceReferenceHolder.class, ArtifactSynchronizerUtil.class})
+public class RuntimeArtifactGeneratorUtilTest {
+
+    private static final String TYPE = "Synapse";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String GATEWAY_LABEL = Base64.encodeBase64String("Default".getBytes());
+    // RuntimeArtifactGeneratorUtil keeps the DAO it gets when it is loaded, so the same mock is used by all the tests
+    private static final GatewayArtifactsMgtDAO gatewayArtifactsMgtDAO = Mockito.mock(GatewayArtifactsMgtDAO.class);
+
+    private GatewayArtifactGenerator gatewayArtifactGenerator;
+
+    @Before
+    public void init() throws Exception {
+
+        Mockito.reset(gatewayArtifactsMgtDAO);
+        PowerMockito.mockStatic(GatewayArtifactsMgtDAO.class);
+        PowerMockito.when(GatewayArtifactsMgtDAO.getInstance()).thenReturn(gatewayArtifactsMgtDAO);
+        PowerMockito.mockStatic(ArtifactSynchronizerUtil.class);
+
+        ServiceReferenceHolder serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        gatewayArtifactGenerator = Mockito.mock(GatewayArtifactGenerator.class);
+        Mockito.when(serviceReferenceHolder.getGatewayArtifactGenerator(TYPE)).thenReturn(gatewayArtifactGenerator);
+        Mockito.when(gatewayArtifactGenerator.generateGatewayArtifact(ArgumentMatchers.anyList()))
+                .thenAnswer(invocation -> new RuntimeArtifactDto());
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(ArgumentMatchers.anyList(),
+                ArgumentMatchers.any(String[].class), ArgumentMatchers.anyString())).thenReturn(new ArrayList<>());
+    }
+
+    @Test
+    public void testGenerateRuntimeArtifactPageWithNextCursor() throws Exception {
+
+        // The DAO returns the revisions of one API more than the limit when there is a next page
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(ArgumentMatchers.any(),
+                ArgumentMatchers.eq(TENANT_DOMAIN), ArgumentMatchers.isNull(), ArgumentMatchers.eq(2)))
+                .thenReturn(Arrays.asList(revision("api1", "1"), revision("api2", "1"), revision("api3", "1")));
+
+        RuntimeArtifactDto page = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactPage(GATEWAY_LABEL, TYPE,
+                TENANT_DOMAIN, null, 2, null);
+
+        Assert.assertEquals("api2", page.getNextCursor());
+        Assert.assertNotNull(page.getETag());
+        Assert.assertFalse(page.isNotModified());
+        Mockito.verify(gatewayArtifactsMgtDAO).retrieveGatewayArtifactsByAPIIDs(
+                ArgumentMatchers.eq(Arrays.asList("api1", "api2")), ArgumentMatchers.any(String[].class),
+                ArgumentMatchers.eq(TENANT_DOMAIN));
+        Assert.assertEquals(RuntimeArtifactGeneratorUtil.getRevisionVectorETag(
+                Arrays.asList(revision("api1", "1"), revision("api2", "1"))), page.getETag());
+    }
+
+    @Test
+    public void testGenerateRuntimeArtifactLastPageAfterCursor() throws Exception {
+
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(ArgumentMatchers.any(),
+                ArgumentMatchers.eq(TENANT_DOMAIN), ArgumentMatchers.eq("api2"), ArgumentMatchers.eq(2)))
+                .thenReturn(Arrays.asList(revision("api3", "1")));
+
+        RuntimeArtifactDto page = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactPage(GATEWAY_LABEL, TYPE,
+                TENANT_DOMAIN, "api2", 2, null);
+
+        Assert.assertNull(page.getNextCursor());
+        Mockito.verify(gatewayArtifactsMgtDAO).retrieveGatewayArtifactsByAPIIDs(
+                ArgumentMatchers.eq(Arrays.asList("api3")), ArgumentMatchers.any(String[].class),
+                ArgumentMatchers.eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testRevisionVectorETag() {
+
+        List<APIRuntimeArtifactDto> revisions = Arrays.asList(revision("api1", "1"), revision("api2", "1"));
+        String eTag = RuntimeArtifactGeneratorUtil.getRevisionVectorETag(revisions);
+
+        Assert.assertEquals(eTag, RuntimeArtifactGeneratorUtil.getRevisionVectorETag(
+                Arrays.asList(revision("api1", "1"), revision("api2", "1"))));
+        Assert.assertNotEquals(eTag, RuntimeArtifactGeneratorUtil.getRevisionVectorETag(
+                Arrays.asList(revision("api1", "1"), revision("api2", "2"))));
+        Assert.assertNotEquals(eTag, RuntimeArtifactGeneratorUtil.getRevisionVectorETag(
+                Arrays.asList(revision("api1", "1"))));
+        Assert.assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+    }
+
+    @Test
+    public void testGenerateRuntimeArtifactPageNotModified() throws Exception {
+
+        List<APIRuntimeArtifactDto> revisions = Arrays.asList(revision("api1", "1"), revision("api2", "1"));
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(ArgumentMatchers.any(),
+                ArgumentMatchers.eq(TENANT_DOMAIN), ArgumentMatchers.isNull(), ArgumentMatchers.eq(2)))
+                .thenReturn(revisions);
+        String eTag = RuntimeArtifactGeneratorUtil.getRevisionVectorETag(revisions);
+
+        RuntimeArtifactDto page = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactPage(GATEWAY_LABEL, TYPE,
+                TENANT_DOMAIN, null, 2, eTag);
+
+        Assert.assertTrue(page.isNotModified());
+        Assert.assertEquals(eTag, page.getETag());
+        Assert.assertNull(page.getNextCursor());
+        Mockito.verify(gatewayArtifactsMgtDAO, Mockito.never()).retrieveGatewayArtifactsByAPIIDs(
+                ArgumentMatchers.anyList(), ArgumentMatchers.any(String[].class), ArgumentMatchers.anyString());
+        Mockito.verify(gatewayArtifactGenerator, Mockito.never()).generateGatewayArtifact(ArgumentMatchers.anyList());
+    }
+
+    private static APIRuntimeArtifactDto revision(String apiId, String revision) {
+
+        APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+        apiRuntimeArtifactDto.setApiId(apiId);
+        apiRuntimeArtifactDto.setLabel("Default");
+        apiRuntimeArtifactDto.setRevision(revision);
+        apiRuntimeArtifactDto.setVhost("localhost");
+        return apiRuntimeArtifactDto;
+    }
+}
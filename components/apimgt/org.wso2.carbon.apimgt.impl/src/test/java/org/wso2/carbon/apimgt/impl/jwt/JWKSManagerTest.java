@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class JWKSManagerTest {
+
+    private static final String JWKS_ENDPOINT = "https://localhost:9443/oauth2/jwks";
+
+    private final AtomicLong clock = new AtomicLong(1000000);
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private volatile String jwks;
+    private volatile boolean unavailable;
+    private JWKSManager jwksManager;
+
+    @Before
+    public void init() {
+
+        jwksManager = new JWKSManager(jwksEndpoint -> {
+            fetchCount.incrementAndGet();
+            if (unavailable) {
+                throw new IOException("Connection refused");
+            }
+            return jwks;
+        }, clock::get, false);
+    }
+
+    @Test
+    public void testKeySetIsFetchedOnce() throws Exception {
+
+        RSAPublicKey publicKey = generatePublicKey();
+        jwks = toJWKS("key1", publicKey);
+        Assert.assertEquals(publicKey, jwksManager.getKey(JWKS_ENDPOINT, "key1"));
+        Assert.assertEquals(publicKey, jwksManager.getKey(JWKS_ENDPOINT, "key1"));
+        Assert.assertEquals(1, fetchCount.get());
+        Assert.assertEquals(1, jwksManager.getEndpointCount());
+        Assert.assertEquals(0, jwksManager.getLookupMissCount());
+    }
+
+    @Test
+    public void testUnknownKeyIDFetchesRotatedKeySet() throws Exception {
+
+        jwks = toJWKS("key1", generatePublicKey());
+        jwksManager.getKey(JWKS_ENDPOINT, "key1");
+        RSAPublicKey rotatedKey = generatePublicKey();
+        jwks = toJWKS("key2", rotatedKey);
+        clock.addAndGet(JWKSManager.MIN_FETCH_INTERVAL);
+        Assert.assertEquals(rotatedKey, jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertEquals(rotatedKey, jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertEquals(2, fetchCount.get());
+        Assert.assertEquals(1, jwksManager.getLookupMissCount());
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key1"));
+    }
+
+    @Test
+    public void testUnknownKeyIDFetchesAtMostOncePerInterval() throws Exception {
+
+        jwks = toJWKS("key1", generatePublicKey());
+        jwksManager.getKey(JWKS_ENDPOINT, "key1");
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key3"));
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void testUnknownKeyIDIsRemembered() throws Exception {
+
+        jwks = toJWKS("key1", generatePublicKey());
+        jwksManager.getKey(JWKS_ENDPOINT, "key1");
+        clock.addAndGet(JWKSManager.MIN_FETCH_INTERVAL);
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertEquals(2, fetchCount.get());
+        clock.addAndGet(JWKSManager.MIN_FETCH_INTERVAL);
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertEquals(2, fetchCount.get());
+        Assert.assertEquals(1, jwksManager.getNegativeCacheHitCount());
+        clock.addAndGet(JWKSManager.UNKNOWN_KEY_ID_TIMEOUT);
+        Assert.assertNull(jwksManager.getKey(JWKS_ENDPOINT, "key2"));
+        Assert.assertEquals(3, fetchCount.get());
+    }
+
+    @Test
+    public void testFailedRefreshKeepsKeys() throws Exception {
+
+        RSAPublicKey publicKey = generatePublicKey();
+        jwks = toJWKS("key1", publicKey);
+        jwksManager.getKey(JWKS_ENDPOINT, "key1");
+        unavailable = true;
+        jwksManager.refresh(JWKS_ENDPOINT);
+        Assert.assertEquals(publicKey, jwksManager.getKey(JWKS_ENDPOINT, "key1"));
+        Assert.assertEquals(1, jwksManager.getRefreshCount());
+        Assert.assertEquals(1, jwksManager.getRefreshFailureCount());
+    }
+
+    @Test
+    public void testIdleEndpointIsDropped() throws Exception {
+
+        jwks = toJWKS("key1", generatePublicKey());
+        jwksManager.getKey(JWKS_ENDPOINT, "key1");
+        clock.addAndGet(JWKSManager.IDLE_TIMEOUT + 1);
+        jwksManager.refresh(JWKS_ENDPOINT);
+        Assert.assertEquals(0, jwksManager.getEndpointCount());
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    private static RSAPublicKey generatePublicKey() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        return (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+    }
+
+    private static String toJWKS(String keyID, RSAPublicKey publicKey) {
+
+        return new JWKSet(new RSAKey.Builder(publicKey).keyID(keyID).build()).toString();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VerifiedJWTCacheTest {
+
+    private static PublicKey publicKey;
+    private static PublicKey otherPublicKey;
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toMillis(1600000000));
+    private final AtomicInteger verificationCount = new AtomicInteger();
+    private final VerifiedJWTCache verifiedJWTCache = new VerifiedJWTCache(2, clock::get, false);
+
+    @BeforeClass
+    public static void generateKeys() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        publicKey = keyPairGenerator.generateKeyPair().getPublic();
+        otherPublicKey = keyPairGenerator.generateKeyPair().getPublic();
+    }
+
+    @Test
+    public void testVerifiedJWTIsNotVerifiedAgain() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 3600);
+        Assert.assertTrue(verify(jwt, publicKey, true));
+        Assert.assertTrue(verify(SignedJWT.parse(jwt.getParsedString()), publicKey, true));
+        Assert.assertEquals(1, verificationCount.get());
+        Assert.assertEquals(1, verifiedJWTCache.getHitCount());
+        Assert.assertEquals(1, verifiedJWTCache.getMissCount());
+        Assert.assertEquals(0.5, verifiedJWTCache.getHitRatio(), 0);
+    }
+
+    @Test
+    public void testJWTIsVerifiedAgainWithAnotherKey() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 3600);
+        Assert.assertTrue(verify(jwt, publicKey, true));
+        Assert.assertFalse(verify(jwt, otherPublicKey, false));
+        Assert.assertEquals(2, verificationCount.get());
+    }
+
+    @Test
+    public void testFailedVerificationIsNotCached() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 3600);
+        Assert.assertFalse(verify(jwt, publicKey, false));
+        Assert.assertFalse(verify(jwt, publicKey, false));
+        Assert.assertEquals(2, verificationCount.get());
+        Assert.assertEquals(0, verifiedJWTCache.getEntryCount());
+    }
+
+    @Test
+    public void testExpiredJWTIsVerifiedAgain() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 60);
+        verify(jwt, publicKey, true);
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(60));
+        verify(jwt, publicKey, true);
+        Assert.assertEquals(2, verificationCount.get());
+    }
+
+    @Test
+    public void testJWTIsNotCachedLongerThanMaxTTL() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", TimeUnit.DAYS.toSeconds(1));
+        verify(jwt, publicKey, true);
+        clock.addAndGet(VerifiedJWTCache.MAX_TTL);
+        verify(jwt, publicKey, true);
+        Assert.assertEquals(2, verificationCount.get());
+    }
+
+    @Test
+    public void testRevokedJWTIsVerifiedAgain() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 3600);
+        SignedJWT otherJWT = createJWT("jti2", 3600);
+        verify(jwt, publicKey, true);
+        verify(otherJWT, publicKey, true);
+        verifiedJWTCache.invalidate("jti1");
+        Assert.assertEquals(1, verifiedJWTCache.getInvalidationCount());
+        verify(jwt, publicKey, true);
+        verify(otherJWT, publicKey, true);
+        Assert.assertEquals(3, verificationCount.get());
+    }
+
+    @Test
+    public void testJWTWithoutJTIIsRevokedBySignature() throws Exception {
+
+        SignedJWT jwt = createJWT(null, 3600);
+        verify(jwt, publicKey, true);
+        verifiedJWTCache.invalidate(jwt.getSignature().toString());
+        Assert.assertEquals(0, verifiedJWTCache.getEntryCount());
+    }
+
+    @Test
+    public void testFullCacheEvictsFirstVerifiedJWT() throws Exception {
+
+        SignedJWT jwt = createJWT("jti1", 3600);
+        verify(jwt, publicKey, true);
+        verify(createJWT("jti2", 3600), publicKey, true);
+        SignedJWT otherJWT = createJWT("jti3", 3600);
+        verify(otherJWT, publicKey, true);
+        verify(otherJWT, publicKey, true);
+        Assert.assertEquals(3, verificationCount.get());
+        Assert.assertEquals(2, verifiedJWTCache.getEntryCount());
+        Assert.assertEquals(1, verifiedJWTCache.getEvictionCount());
+        verify(jwt, publicKey, true);
+        Assert.assertEquals(4, verificationCount.get());
+        // Evicted JWTs are no longer indexed by their JWT ID
+        verifiedJWTCache.invalidate("jti2");
+        Assert.assertEquals(0, verifiedJWTCache.getInvalidationCount());
+        Assert.assertEquals(2, verifiedJWTCache.getEntryCount());
+    }
+
+    private boolean verify(SignedJWT jwt, PublicKey key, boolean verified) {
+
+        return verifiedJWTCache.verify(jwt, key, () -> {
+            verificationCount.incrementAndGet();
+            return verified;
+        });
+    }
+
+    private SignedJWT createJWT(String jti, long validityPeriod) throws Exception {
+
+        long expiryTime = TimeUnit.MILLISECONDS.toSeconds(clock.get()) + validityPeriod;
+        String payload = "{\"sub\":\"admin\",\"exp\":" + expiryTime
+                + (jti == null ? "" : ",\"jti\":\"" + jti + "\"") + "}";
+        return SignedJWT.parse(encode("{\"alg\":\"RS256\"}") + "." + encode(payload) + "." + encode(payload + jti));
+    }
+
+    private static String encode(String value) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
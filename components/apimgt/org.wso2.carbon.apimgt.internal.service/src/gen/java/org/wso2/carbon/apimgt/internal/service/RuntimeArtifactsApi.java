@@ -42,8 +42,9 @@ RuntimeArtifactsApiService delegate = new RuntimeArtifactsApiServiceImpl();
     @ApiOperation(value = "Get all the runtime artifacts for a given API UUID and gateway label", notes = "This will provide access to runtime artifacts in database. ", response = Void.class, tags={ "Retrieving Runtime artifacts" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "List of runtime Artifacts", response = Void.class),
+        @ApiResponse(code = 304, message = "Not Modified. The revisions deployed in the page have not changed. ", response = Void.class),
         @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
-    public Response runtimeArtifactsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.   Api ID ")  @QueryParam("apiId") String apiId,  @ApiParam(value = "**Search condition**.  label associated with the APIs ")  @QueryParam("gatewayLabel") String gatewayLabel,  @ApiParam(value = "**Search condition**.  type of gateway ")  @QueryParam("type") String type,  @ApiParam(value = "**Search condition**.  name of API ")  @QueryParam("name") String name,  @ApiParam(value = "**Search condition**.  version of API ")  @QueryParam("version") String version) throws APIManagementException{
-        return delegate.runtimeArtifactsGet(xWSO2Tenant, apiId, gatewayLabel, type, name, version, securityContext);
+    public Response runtimeArtifactsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.   Api ID ")  @QueryParam("apiId") String apiId,  @ApiParam(value = "**Search condition**.  label associated with the APIs ")  @QueryParam("gatewayLabel") String gatewayLabel,  @ApiParam(value = "**Search condition**.  type of gateway ")  @QueryParam("type") String type,  @ApiParam(value = "**Search condition**.  name of API ")  @QueryParam("name") String name,  @ApiParam(value = "**Search condition**.  version of API ")  @QueryParam("version") String version,  @ApiParam(value = "Maximum number of APIs of which the artifacts are returned. The artifacts of all the APIs are returned if not specified. ")  @QueryParam("limit") Integer limit,  @ApiParam(value = "Cursor returned in the X-WSO2-Next-Cursor header of the previous page. ")  @QueryParam("after") String after, @ApiParam(value = "ETag of the page known by the client. The artifacts are not returned if the revisions deployed in the page have not changed. " )@HeaderParam("If-None-Match") String ifNoneMatch) throws APIManagementException{
+        return delegate.runtimeArtifactsGet(xWSO2Tenant, apiId, gatewayLabel, type, name, version, limit, after, ifNoneMatch, securityContext);
     }
 }
@@ -45,7 +45,8 @@ import java.util.List;
 public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiService {
 
     public Response runtimeArtifactsGet(String xWSO2Tenant, String apiId, String gatewayLabel, String type,
-                                        String name, String version, MessageContext messageContext)
+                                        String name, String version, Integer limit, String after,
+                                        String ifNoneMatch, MessageContext messageContext)
             throws APIManagementException {
         RuntimeArtifactDto runtimeArtifactDto;
         xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
@@ -57,6 +58,12 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                 xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifact(apiId,
                     gatewayLabel, type);
+        } else if (limit != null && limit > 0 && StringUtils.isEmpty(apiId) && StringUtils.isNotEmpty(gatewayLabel)) {
+            runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactPage(gatewayLabel, type,
+                    xWSO2Tenant, after, limit, ifNoneMatch);
+            if (runtimeArtifactDto != null && runtimeArtifactDto.isNotModified()) {
+                return withPageHeaders(Response.status(Response.Status.NOT_MODIFIED), runtimeArtifactDto).build();
+            }
         } else {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateRuntimeArtifact(apiId,
                     gatewayLabel, type, xWSO2Tenant);
@@ -80,7 +87,7 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                     synapseArtifactListDTO.setList((List<String>) runtimeArtifactDto.getArtifact());
                     synapseArtifactListDTO.setCount(((List<String>) runtimeArtifactDto.getArtifact()).size());
                 }
-                return Response.ok().entity(synapseArtifactListDTO)
+                return withPageHeaders(Response.ok().entity(synapseArtifactListDTO), runtimeArtifactDto)
                         .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
             }
         } else {
@@ -90,4 +97,17 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    private static Response.ResponseBuilder withPageHeaders(Response.ResponseBuilder responseBuilder,
+                                                            RuntimeArtifactDto runtimeArtifactDto) {
+
+        if (runtimeArtifactDto.getETag() != null) {
+            responseBuilder.header(RestApiConstants.ETAG, runtimeArtifactDto.getETag());
+        }
+        if (runtimeArtifactDto.getNextCursor() != null) {
+            responseBuilder.header(APIConstants.GatewayArtifactSynchronizer.RUNTIME_ARTIFACTS_NEXT_CURSOR_HEADER,
+                    runtimeArtifactDto.getNextCursor());
+        }
+        return responseBuilder;
+    }
+}
@@ -19,22 +19,29 @@ package org.wso2.carbon.apimgt.keymgt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreImpl;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * This class holds tenant wise subscription data stores
  * */
-public class SubscriptionDataHolder {
+public class SubscriptionDataHolder implements SubscriptionDataHolderMXBean {
 
     protected Map<String, SubscriptionDataStore> subscriptionStore =
             new ConcurrentHashMap<>();
     private static final Log log = LogFactory.getLog(SubscriptionDataHolder.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=SubscriptionDataHolder";
     private static SubscriptionDataHolder instance = new SubscriptionDataHolder();
 
+    static {
+        MBeanRegistrar.registerMBean(instance, OBJECT_NAME);
+    }
+
     public static SubscriptionDataHolder getInstance() {
 
         return instance;
@@ -83,6 +90,14 @@ public class SubscriptionDataHolder {
         return null;
     }
 
+    @Override
+    public Map<String, Map<String, Long>> getMemoryFootprintReport() {
+
+        Map<String, Map<String, Long>> report = new TreeMap<>();
+        subscriptionStore.forEach((tenant, store) -> report.put(tenant, store.getMemoryFootprint()));
+        return report;
+    }
+
     public void refreshSubscriptionStore() {
         subscriptionStore.keySet().forEach(tenant -> {
             // Cleaning the existing SubscriptionDataStore instance before re-population
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt;
+
+import java.util.Map;
+
+/**
+ * JMX view of the subscription data held by the key manager and the gateway.
+ */
+public interface SubscriptionDataHolderMXBean {
+
+    /**
+     * @return number of entries of each map and index of the subscription data store of each tenant, keyed by the
+     * tenant domain
+     */
+    Map<String, Map<String, Long>> getMemoryFootprintReport();
+}
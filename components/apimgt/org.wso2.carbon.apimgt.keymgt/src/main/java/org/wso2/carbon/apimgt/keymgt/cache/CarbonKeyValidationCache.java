@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.cache;
+
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+import javax.cache.CacheConfiguration;
+import javax.cache.Caching;
+
+/**
+ * Key validation cache kept in the Carbon {@code keyCache}, which expires the validation results after the
+ * configured token cache expiry.
+ */
+public class CarbonKeyValidationCache implements KeyValidationCache {
+
+    private boolean isKeyCacheInitialized = false;
+
+    @Override
+    public APIKeyValidationInfoDTO get(String cacheKey) {
+
+        return (APIKeyValidationInfoDTO) getKeyManagerCache().get(cacheKey);
+    }
+
+    @Override
+    public void put(String cacheKey, APIKeyValidationInfoDTO validationInfoDTO) {
+
+        getKeyManagerCache().put(cacheKey, validationInfoDTO);
+    }
+
+    private Cache getKeyManagerCache() {
+
+        String apimKeyCacheExpiry = ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().
+                getAPIManagerConfiguration().getFirstProperty(APIConstants.TOKEN_CACHE_EXPIRY);
+        if (!isKeyCacheInitialized && apimKeyCacheExpiry != null) {
+            isKeyCacheInitialized = true;
+            return Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).
+                    createCacheBuilder(APIConstants.KEY_CACHE_NAME)
+                    .setExpiry(CacheConfiguration.ExpiryType.MODIFIED, new CacheConfiguration.Duration(TimeUnit.SECONDS,
+                            Long.parseLong(apimKeyCacheExpiry)))
+                    .setExpiry(CacheConfiguration.ExpiryType.ACCESSED, new CacheConfiguration.Duration(TimeUnit.SECONDS,
+                            Long.parseLong(apimKeyCacheExpiry))).setStoreByValue(false).build();
+        } else {
+            return Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).
+                    getCache(APIConstants.KEY_CACHE_NAME);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.cache;
+
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+
+/**
+ * Caches the key validation results of the {@link org.wso2.carbon.apimgt.keymgt.service.APIKeyValidationService}.
+ * The implementation is configured with {@code APIKeyValidator.KeyValidationCacheClassName} and must have a public
+ * no-argument constructor. {@link CarbonKeyValidationCache} is used when no implementation is configured.
+ */
+public interface KeyValidationCache {
+
+    /**
+     * Returns the cached validation result of a cache key.
+     *
+     * @param cacheKey key built from the access token and the resource it was validated for
+     * @return validation result, or null if the cache key is not in the cache
+     */
+    APIKeyValidationInfoDTO get(String cacheKey);
+
+    /**
+     * Caches the validation result of a cache key.
+     *
+     * @param cacheKey          key built from the access token and the resource it was validated for
+     * @param validationInfoDTO validation result
+     */
+    void put(String cacheKey, APIKeyValidationInfoDTO validationInfoDTO);
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.util.MBeanRegistrar;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Key validation cache which keeps the validation results outside the Java heap, so that millions of cached tokens
+ * do not lengthen the garbage collection pauses of the key manager.
+ * <p>
+ * The cache is split into shards by the hash of the cache key, each with its own lock and a direct buffer of an
+ * equal share of the configured size. A validation result is encoded with {@link KeyValidationInfoCodec} and
+ * appended to the buffer of its shard, which is indexed by an open addressing table of key hashes and buffer
+ * offsets, so a cached result costs no Java objects. A result expires with its access token, but no later than the
+ * token cache expiry. When a shard is full it drops the expired and replaced results and moves the rest to the
+ * start of its buffer. If that does not free a quarter of the buffer, the results closest to expiry are dropped.
+ * <p>
+ * The size is configured with {@code APIKeyValidator.KeyValidationCacheSizeInMB}, 256 by default, and the number of
+ * shards with {@code APIKeyValidator.KeyValidationCacheShardCount}, 16 by default. The JVM must allow that much
+ * direct memory. The counters are registered with the platform MBean server as
+ * {@code org.wso2.carbon.apimgt:type=OffHeapKeyValidationCache}.
+ */
+public class OffHeapKeyValidationCache implements KeyValidationCache, OffHeapKeyValidationCacheMXBean {
+
+    private static final Log log = LogFactory.getLog(OffHeapKeyValidationCache.class);
+    private static final String OBJECT_NAME = "org.wso2.carbon.apimgt:type=OffHeapKeyValidationCache";
+    private static final int DEFAULT_SHARD_COUNT = 16;
+    private static final long DEFAULT_SIZE_IN_MB = 256;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Shard[] shards;
+    private final long cacheExpiry;
+    private final LongSupplier clock;
+
+    public OffHeapKeyValidationCache() {
+
+        this((int) getProperty(APIConstants.KEY_VALIDATION_CACHE_SHARD_COUNT, DEFAULT_SHARD_COUNT),
+                getProperty(APIConstants.KEY_VALIDATION_CACHE_SIZE, DEFAULT_SIZE_IN_MB) * 1024 * 1024,
+                TimeUnit.SECONDS.toMillis(getProperty(APIConstants.TOKEN_CACHE_EXPIRY, APIConstants.DEFAULT_TIMEOUT)),
+                System::currentTimeMillis, true);
+    }
+
+    OffHeapKeyValidationCache(int shardCount, long capacity, long cacheExpiry, LongSupplier clock,
+                              boolean registerMBean) {
+
+        long shardCapacity = shardCount > 0 ? capacity / shardCount : 0;
+        if (shardCapacity < Shard.MIN_CAPACITY || shardCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid key validation cache size " + capacity + " for " + shardCount
+                    + " shards");
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard((int) shardCapacity);
+        }
+        this.cacheExpiry = cacheExpiry;
+        this.clock = clock;
+        if (registerMBean) {
+            MBeanRegistrar.registerMBean(this, OBJECT_NAME);
+        }
+    }
+
+    @Override
+    public APIKeyValidationInfoDTO get(String cacheKey) {
+
+        byte[] key = cacheKey.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(key);
+        byte[] value = getShard(hash).get(key, hash, clock.getAsLong());
+        return value != null ? KeyValidationInfoCodec.decode(value) : null;
+    }
+
+    @Override
+    public void put(String cacheKey, APIKeyValidationInfoDTO validationInfoDTO) {
+
+        long now = clock.getAsLong();
+        long expiryTime = getExpiryTime(validationInfoDTO, now);
+        if (expiryTime <= now) {
+            return;
+        }
+        byte[] key = cacheKey.getBytes(StandardCharsets.UTF_8);
+        byte[] value = KeyValidationInfoCodec.encode(validationInfoDTO);
+        long hash = hash(key);
+        if (!getShard(hash).put(key, hash, value, expiryTime, now) && log.isDebugEnabled()) {
+            log.debug("Key validation info of " + value.length + " bytes is too large to cache");
+        }
+    }
+
+    private long getExpiryTime(APIKeyValidationInfoDTO validationInfoDTO, long now) {
+
+        long expiryTime = now + cacheExpiry;
+        long issuedTime = validationInfoDTO.getIssuedTime();
+        long validityPeriod = validationInfoDTO.getValidityPeriod();
+        // tokens which never expire have a validity period close to Long.MAX_VALUE
+        if (issuedTime > 0 && validityPeriod > 0 && validityPeriod < Long.MAX_VALUE - issuedTime) {
+            expiryTime = Math.min(expiryTime, issuedTime + validityPeriod);
+        }
+        return expiryTime;
+    }
+
+    private Shard getShard(long hash) {
+
+        return shards[(int) ((hash >>> 33) % shards.length)];
+    }
+
+    private static long hash(byte[] key) {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // a hash of 0 marks an empty slot of the index
+        return hash != 0 ? hash : 1;
+    }
+
+    private static long getProperty(String name, long defaultValue) {
+
+        APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance()
+                .getAPIManagerConfigurationService().getAPIManagerConfiguration();
+        String value = configuration.getFirstProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " for " + name + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public int getShardCount() {
+
+        return shards.length;
+    }
+
+    @Override
+    public long getCapacity() {
+
+        return (long) shards[0].capacity * shards.length;
+    }
+
+    @Override
+    public long getUsedBytes() {
+
+        long usedBytes = 0;
+        for (Shard shard : shards) {
+            usedBytes += shard.writeOffset;
+        }
+        return usedBytes;
+    }
+
+    @Override
+    public int getEntryCount() {
+
+        int entryCount = 0;
+        for (Shard shard : shards) {
+            entryCount += shard.entryCount;
+        }
+        return entryCount;
+    }
+
+    @Override
+    public long getHitCount() {
+
+        long hitCount = 0;
+        for (Shard shard : shards) {
+            hitCount += shard.hitCount.sum();
+        }
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+
+        long missCount = 0;
+        for (Shard shard : shards) {
+            missCount += shard.missCount.sum();
+        }
+        return missCount;
+    }
+
+    @Override
+    public double getHitRatio() {
+
+        return hitRatio(getHitCount(), getMissCount());
+    }
+
+    @Override
+    public long getExpirationCount() {
+
+        long expirationCount = 0;
+        for (Shard shard : shards) {
+            expirationCount += shard.expirationCount.sum();
+        }
+        return expirationCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        long evictionCount = 0;
+        for (Shard shard : shards) {
+            evictionCount += shard.evictionCount.sum();
+        }
+        return evictionCount;
+    }
+
+    @Override
+    public long[] getShardUsedBytes() {
+
+        long[] usedBytes = new long[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            usedBytes[i] = shards[i].writeOffset;
+        }
+        return usedBytes;
+    }
+
+    @Override
+    public int[] getShardEntryCounts() {
+
+        int[] entryCounts = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            entryCounts[i] = shards[i].entryCount;
+        }
+        return entryCounts;
+    }
+
+    @Override
+    public double[] getShardHitRatios() {
+
+        double[] hitRatios = new double[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            hitRatios[i] = hitRatio(shards[i].hitCount.sum(), shards[i].missCount.sum());
+        }
+        return hitRatios;
+    }
+
+    @Override
+    public void resetStatistics() {
+
+        for (Shard shard : shards) {
+            shard.hitCount.reset();
+            shard.missCount.reset();
+            shard.expirationCount.reset();
+            shard.evictionCount.reset();
+        }
+    }
+
+    private static double hitRatio(long hits, long misses) {
+
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Buffer of encoded validation results and its index. A result is stored as its length, expiry time, key length,
+     * key and value. The index maps a key hash to the offset of the latest result of the key, keys with the same hash
+     * are told apart by the key stored with the result.
+     */
+    private static final class Shard {
+
+        private static final int MIN_CAPACITY = 64 * 1024;
+        private static final int HEADER_SIZE = 16;
+        private static final int EXPIRY_TIME_OFFSET = 4;
+        private static final int KEY_LENGTH_OFFSET = 12;
+        private static final int MIN_INDEX_SIZE = 1024;
+
+        private final int capacity;
+        private final ByteBuffer buffer;
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder expirationCount = new LongAdder();
+        private final LongAdder evictionCount = new LongAdder();
+        private long[] keyHashes = new long[MIN_INDEX_SIZE];
+        private int[] offsets = new int[MIN_INDEX_SIZE];
+        private volatile int entryCount;
+        private volatile int writeOffset;
+
+        private Shard(int capacity) {
+
+            this.capacity = capacity;
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+        }
+
+        synchronized byte[] get(byte[] key, long hash, long now) {
+
+            int slot = find(key, hash);
+            if (slot < 0 || buffer.getLong(offsets[slot] + EXPIRY_TIME_OFFSET) <= now) {
+                missCount.increment();
+                return null;
+            }
+            int offset = offsets[slot];
+            byte[] value = new byte[buffer.getInt(offset) - HEADER_SIZE - key.length];
+            buffer.position(offset + HEADER_SIZE + key.length);
+            buffer.get(value);
+            hitCount.increment();
+            return value;
+        }
+
+        synchronized boolean put(byte[] key, long hash, byte[] value, long expiryTime, long now) {
+
+            int recordLength = HEADER_SIZE + key.length + value.length;
+            if (recordLength > capacity / 4) {
+                return false;
+            }
+            if (writeOffset + recordLength > capacity) {
+                compact(now);
+            }
+            int offset = writeOffset;
+            buffer.putInt(offset, recordLength);
+            buffer.putLong(offset + EXPIRY_TIME_OFFSET, expiryTime);
+            buffer.putInt(offset + KEY_LENGTH_OFFSET, key.length);
+            buffer.position(offset + HEADER_SIZE);
+            buffer.put(key);
+            buffer.put(value);
+            writeOffset = offset + recordLength;
+            int slot = find(key, hash);
+            if (slot >= 0) {
+                offsets[slot] = offset;
+            } else {
+                index(hash, offset);
+            }
+            return true;
+        }
+
+        private int find(byte[] key, long hash) {
+
+            int mask = keyHashes.length - 1;
+            for (int slot = (int) hash & mask; keyHashes[slot] != 0; slot = (slot + 1) & mask) {
+                if (keyHashes[slot] == hash && isKey(offsets[slot], key)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private boolean isKey(int offset, byte[] key) {
+
+            if (buffer.getInt(offset + KEY_LENGTH_OFFSET) != key.length) {
+                return false;
+            }
+            int keyOffset = offset + HEADER_SIZE;
+            for (int i = 0; i < key.length; i++) {
+                if (buffer.get(keyOffset + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void index(long hash, int offset) {
+
+            if ((entryCount + 1) * 2 > keyHashes.length) {
+                long[] oldKeyHashes = keyHashes;
+                int[] oldOffsets = offsets;
+                keyHashes = new long[oldKeyHashes.length * 2];
+                offsets = new int[oldKeyHashes.length * 2];
+                for (int slot = 0; slot < oldKeyHashes.length; slot++) {
+                    if (oldKeyHashes[slot] != 0) {
+                        insert(oldKeyHashes[slot], oldOffsets[slot]);
+                    }
+                }
+            }
+            insert(hash, offset);
+            entryCount++;
+        }
+
+        private void insert(long hash, int offset) {
+
+            int mask = keyHashes.length - 1;
+            int slot = (int) hash & mask;
+            while (keyHashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keyHashes[slot] = hash;
+            offsets[slot] = offset;
+        }
+
+        private void compact(long now) {
+
+            List<Record> records = new ArrayList<>(entryCount);
+            long liveBytes = 0;
+            for (int slot = 0; slot < keyHashes.length; slot++) {
+                if (keyHashes[slot] != 0) {
+                    int offset = offsets[slot];
+                    Record record = new Record(keyHashes[slot], offset, buffer.getInt(offset),
+                            buffer.getLong(offset + EXPIRY_TIME_OFFSET));
+                    if (record.expiryTime > now) {
+                        records.add(record);
+                        liveBytes += record.length;
+                    }
+                }
+            }
+            expirationCount.add(entryCount - records.size());
+            int maxLiveBytes = capacity - capacity / 4;
+            if (liveBytes > maxLiveBytes) {
+                records.sort(Comparator.comparingLong(record -> record.expiryTime));
+                int evicted = 0;
+                while (liveBytes > maxLiveBytes) {
+                    liveBytes -= records.get(evicted++).length;
+                }
+                records = records.subList(evicted, records.size());
+                evictionCount.add(evicted);
+            }
+            // records only move towards the start of the buffer, so moving them in offset order overwrites nothing
+            records.sort(Comparator.comparingInt(record -> record.offset));
+            keyHashes = new long[Math.max(MIN_INDEX_SIZE, Integer.highestOneBit(records.size() * 4 - 1))];
+            offsets = new int[keyHashes.length];
+            byte[] copy = new byte[capacity / 4];
+            int newOffset = 0;
+            for (Record record : records) {
+                if (record.offset != newOffset) {
+                    buffer.position(record.offset);
+                    buffer.get(copy, 0, record.length);
+                    buffer.position(newOffset);
+                    buffer.put(copy, 0, record.length);
+                }
+                insert(record.keyHash, newOffset);
+                newOffset += record.length;
+            }
+            entryCount = records.size();
+            writeOffset = newOffset;
+            if (log.isDebugEnabled()) {
+                log.debug("Compacted key validation cache shard to " + entryCount + " entries of " + newOffset
+                        + " bytes");
+            }
+        }
+    }
+
+    private static final class Record {
+
+        private final long keyHash;
+        private final int offset;
+        private final int length;
+        private final long expiryTime;
+
+        private Record(long keyHash, int offset, int length, long expiryTime) {
+
+            this.keyHash = keyHash;
+            this.offset = offset;
+            this.length = length;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
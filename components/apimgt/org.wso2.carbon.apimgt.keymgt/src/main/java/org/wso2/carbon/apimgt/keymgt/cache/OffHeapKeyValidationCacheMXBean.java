@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.cache;
+
+/**
+ * JMX view of the occupancy and counters of the {@link OffHeapKeyValidationCache}.
+ */
+public interface OffHeapKeyValidationCacheMXBean {
+
+    /**
+     * @return number of shards the cache is split into
+     */
+    int getShardCount();
+
+    /**
+     * @return off-heap memory allocated for the cache, in bytes
+     */
+    long getCapacity();
+
+    /**
+     * @return off-heap memory written by the cached validation results, in bytes
+     */
+    long getUsedBytes();
+
+    /**
+     * @return number of validation results in the cache, including the expired ones not yet dropped
+     */
+    int getEntryCount();
+
+    /**
+     * @return number of validation results found in the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return number of validation results not found in the cache
+     */
+    long getMissCount();
+
+    /**
+     * @return ratio of the validation results found in the cache to all the lookups
+     */
+    double getHitRatio();
+
+    /**
+     * @return number of expired validation results dropped from the cache
+     */
+    long getExpirationCount();
+
+    /**
+     * @return number of validation results dropped before they expired to make room for new ones
+     */
+    long getEvictionCount();
+
+    /**
+     * @return off-heap memory written by the cached validation results of each shard, in bytes
+     */
+    long[] getShardUsedBytes();
+
+    /**
+     * @return number of validation results in each shard
+     */
+    int[] getShardEntryCounts();
+
+    /**
+     * @return hit ratio of each shard
+     */
+    double[] getShardHitRatios();
+
+    /**
+     * Resets all the counters.
+     */
+    void resetStatistics();
+}
@@ -217,6 +217,14 @@ public interface SubscriptionDataStore {
 
     List<ApplicationKeyMapping> getKeyMappingByApplicationId(int applicationId);
 
+    /**
+     * Returns the number of entries held by each map and secondary index of the store, along with the estimated
+     * memory used by the secondary indexes.
+     *
+     * @return entry counts keyed by the name of the map or index
+     */
+    Map<String, Long> getMemoryFootprint();
+
     void destroy();
 }
 
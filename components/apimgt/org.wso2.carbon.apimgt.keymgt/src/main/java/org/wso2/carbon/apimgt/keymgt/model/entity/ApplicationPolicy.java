@@ -28,6 +28,7 @@ public class ApplicationPolicy extends Policy {
     BurstLimit burstLimit = new BurstLimit();
     private Integer rateLimitCount = null;
     private String rateLimitTimeUnit = null;
+    private ThrottleLimit defaultLimit = null;
 
     public BurstLimit getBurstLimit() {
         return burstLimit;
@@ -55,6 +56,14 @@ public class ApplicationPolicy extends Policy {
         this.rateLimitTimeUnit = rateLimitTimeUnit;
     }
 
+    public ThrottleLimit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(ThrottleLimit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
     @Override
     public String getCacheKey() {
 
@@ -30,6 +30,7 @@ public class SubscriptionPolicy extends Policy {
     private Boolean stopOnQuotaReach = null;
     private Integer graphQLMaxComplexity = null;
     private Integer graphQLMaxDepth = null;
+    private ThrottleLimit defaultLimit = null;
 
     public int getRateLimitCount() {
 
@@ -76,6 +77,15 @@ public class SubscriptionPolicy extends Policy {
     public void setGraphQLMaxDepth(int graphQLMaxDepth) {
         this.graphQLMaxDepth = graphQLMaxDepth;
     }
+
+    public ThrottleLimit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(ThrottleLimit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
     @Override
     public String getCacheKey() {
 
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Maps an attribute of the entities held in one of the {@link SubscriptionDataStoreImpl} maps to the keys of those
+ * entities, so that lookups by that attribute do not scan the whole map. The index only stores primary keys and every
+ * lookup resolves them against the primary map and re-checks the attribute, hence a stale index entry can never
+ * produce a wrong result. Writers add an entity to the index before putting it into the primary map and remove it
+ * after removing it from the primary map, so an entity visible in the primary map is always reachable through the
+ * index.
+ *
+ * @param <S> type of the indexed attribute
+ * @param <K> type of the primary key
+ * @param <V> type of the entity
+ */
+class SecondaryIndex<S, K, V> {
+
+    // Approximate retained sizes of a ConcurrentHashMap node with its key set, and of a key set entry.
+    static final long INDEX_KEY_OVERHEAD_BYTES = 128;
+    static final long INDEX_ENTRY_OVERHEAD_BYTES = 40;
+
+    private final String name;
+    private final Function<V, S> attributeExtractor;
+    private final Map<S, Set<K>> index = new ConcurrentHashMap<>();
+
+    SecondaryIndex(String name, Function<V, S> attributeExtractor) {
+
+        this.name = name;
+        this.attributeExtractor = attributeExtractor;
+    }
+
+    String getName() {
+
+        return name;
+    }
+
+    void add(K key, V entity) {
+
+        S attribute = attributeExtractor.apply(entity);
+        if (attribute == null) {
+            return;
+        }
+        index.compute(attribute, (k, keys) -> {
+            if (keys == null) {
+                keys = ConcurrentHashMap.newKeySet();
+            }
+            keys.add(key);
+            return keys;
+        });
+    }
+
+    void addAll(Map<K, V> entities) {
+
+        for (Map.Entry<K, V> entry : entities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void remove(K key, V entity) {
+
+        S attribute = attributeExtractor.apply(entity);
+        if (attribute == null) {
+            return;
+        }
+        index.computeIfPresent(attribute, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Removes the index entry of the previous version of an entity, unless the new version has the same attribute.
+     */
+    void replace(K key, V previous, V current) {
+
+        if (!Objects.equals(attributeExtractor.apply(previous), attributeExtractor.apply(current))) {
+            remove(key, previous);
+        }
+    }
+
+    /**
+     * Returns the keys currently indexed under the given attribute. The result may contain keys whose entities have
+     * been removed or changed since, hence callers must check them against the primary map.
+     */
+    Set<K> getKeys(S attribute) {
+
+        if (attribute == null) {
+            return Collections.emptySet();
+        }
+        Set<K> keys = index.get(attribute);
+        return keys != null ? keys : Collections.emptySet();
+    }
+
+    List<V> lookup(S attribute, Map<K, V> entities) {
+
+        List<V> matches = new ArrayList<>();
+        for (K key : getKeys(attribute)) {
+            V entity = entities.get(key);
+            if (entity != null && attribute.equals(attributeExtractor.apply(entity))) {
+                matches.add(entity);
+            }
+        }
+        return matches;
+    }
+
+    V lookupFirst(S attribute, Map<K, V> entities) {
+
+        for (K key : getKeys(attribute)) {
+            V entity = entities.get(key);
+            if (entity != null && attribute.equals(attributeExtractor.apply(entity))) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the keys of index entries that no longer match the primary map.
+     */
+    List<Map.Entry<S, K>> findStaleEntries(Map<K, V> entities) {
+
+        List<Map.Entry<S, K>> staleEntries = new ArrayList<>();
+        for (Map.Entry<S, Set<K>> entry : index.entrySet()) {
+            for (K key : entry.getValue()) {
+                if (isStale(entry.getKey(), key, entities)) {
+                    staleEntries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), key));
+                }
+            }
+        }
+        return staleEntries;
+    }
+
+    /**
+     * Removes the given index entry if it still does not match the primary map. Callers must hold the lock of the
+     * primary key so that a concurrent writer cannot be between its index update and its primary map update.
+     */
+    void removeIfStale(S attribute, K key, Map<K, V> entities) {
+
+        index.computeIfPresent(attribute, (k, keys) -> {
+            if (isStale(attribute, key, entities)) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    int getAttributeCount() {
+
+        return index.size();
+    }
+
+    long getEntryCount() {
+
+        long entryCount = 0;
+        for (Set<K> keys : index.values()) {
+            entryCount += keys.size();
+        }
+        return entryCount;
+    }
+
+    long getEstimatedSizeInBytes() {
+
+        return getAttributeCount() * INDEX_KEY_OVERHEAD_BYTES + getEntryCount() * INDEX_ENTRY_OVERHEAD_BYTES;
+    }
+
+    private boolean isStale(S attribute, K key, Map<K, V> entities) {
+
+        V entity = entities.get(key);
+        return entity == null || !attribute.equals(attributeExtractor.apply(entity));
+    }
+}
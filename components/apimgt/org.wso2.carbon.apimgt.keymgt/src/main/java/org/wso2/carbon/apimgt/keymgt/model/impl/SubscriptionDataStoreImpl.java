@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.subscription.CacheableEntity;
+import org.wso2.carbon.apimgt.common.gateway.util.StripedLock;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationServiceImpl;
@@ -42,19 +43,23 @@ import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.util.SubscriptionDataStoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public static final String DELEM_PERIOD = ":";
     public static final int LOADING_POOL_SIZE = 7;
     private static final Log log = LogFactory.getLog(SubscriptionDataStoreImpl.class);
+    private static final StripedLock subscriptionDataLocks = StripedLock.getInstance("SubscriptionDataStore",
+            StripedLock.DEFAULT_STRIPE_COUNT);
     private final EventHubConfigurationDto eventHubConfiguration;
     private boolean scopesInitialized;
     // Maps for keeping Subscription related details.
@@ -63,11 +68,33 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private Map<String, API> apiMap;
     private Map<String, API> apiNameVersionMap;
     private Map<String, API> apiByUUIDMap;
+    // Default version APIs keyed by their context without the version. Replaced as a whole when the APIs are reloaded.
+    private volatile Map<String, API> defaultApiByContextMap;
     private Map<String, ApiPolicy> apiPolicyMap;
     private Map<String, SubscriptionPolicy> subscriptionPolicyMap;
     private Map<String, ApplicationPolicy> appPolicyMap;
     private Map<String, Subscription> subscriptionMap;
     private Map<String, Scope> scopesMap;
+    // Secondary indexes over the application, subscription and key mapping maps.
+    private final SecondaryIndex<String, Integer, Application> applicationsByUUID =
+            new SecondaryIndex<>("applicationsByUUID", Application::getUUID);
+    private final SecondaryIndex<String, Integer, Application> applicationsByName =
+            new SecondaryIndex<>("applicationsByName", Application::getName);
+    private final SecondaryIndex<String, String, Subscription> subscriptionsByUUID =
+            new SecondaryIndex<>("subscriptionsByUUID", Subscription::getSubscriptionUUId);
+    private final SecondaryIndex<Integer, String, Subscription> subscriptionsByApiId =
+            new SecondaryIndex<>("subscriptionsByApiId", Subscription::getApiId);
+    private final SecondaryIndex<String, String, Subscription> subscriptionsByApplicationUUID =
+            new SecondaryIndex<>("subscriptionsByApplicationUUID", Subscription::getApplicationUUID);
+    private final SecondaryIndex<Integer, ApplicationKeyMappingCacheKey, ApplicationKeyMapping>
+            keyMappingsByApplicationId =
+            new SecondaryIndex<>("keyMappingsByApplicationId", ApplicationKeyMapping::getApplicationId);
+    private final List<SecondaryIndex<?, Integer, Application>> applicationIndexes =
+            Arrays.asList(applicationsByUUID, applicationsByName);
+    private final List<SecondaryIndex<?, String, Subscription>> subscriptionIndexes =
+            Arrays.asList(subscriptionsByUUID, subscriptionsByApiId, subscriptionsByApplicationUUID);
+    private final List<SecondaryIndex<?, ApplicationKeyMappingCacheKey, ApplicationKeyMapping>> keyMappingIndexes =
+            Collections.singletonList(keyMappingsByApplicationId);
     private boolean apisInitialized;
     private boolean apiPoliciesInitialized;
     private String tenantDomain;
@@ -89,6 +116,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.applicationMap = new ConcurrentHashMap<>();
         this.apiMap = new ConcurrentHashMap<>();
         this.apiByUUIDMap = new ConcurrentHashMap<>();
+        this.defaultApiByContextMap = new ConcurrentHashMap<>();
         this.subscriptionPolicyMap = new ConcurrentHashMap<>();
         this.appPolicyMap = new ConcurrentHashMap<>();
         this.apiPolicyMap = new ConcurrentHashMap<>();
@@ -119,14 +147,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationById(int appId) {
 
-        String synchronizeKey = "SubscriptionDataStoreImpl-Application-" + appId;
         Application application = applicationMap.get(appId);
         if (application == null) {
-            synchronized (synchronizeKey.intern()) {
+            Lock lock = subscriptionDataLocks.acquire(appId);
+            try {
                 application = applicationMap.get(appId);
                 if (application != null) {
                     return application;
                 }
+            } finally {
+                lock.unlock();
             }
             try {
                 application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
@@ -174,11 +204,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
 
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
         if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
+            Lock lock = subscriptionDataLocks.acquire(applicationKeyMappingCacheKey);
+            try {
                 applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
                 if (applicationKeyMapping != null) {
                     return applicationKeyMapping;
@@ -194,6 +224,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     log.debug("Loading Keymapping to the in-memory datastore.");
                     addOrUpdateApplicationKeyMapping(applicationKeyMapping);
                 }
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -218,10 +250,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             return null;
         }
         String key = context + DELEM_PERIOD + version;
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
         API api = apiMap.get(key);
         if (api == null) {
-            synchronized (synchronizeKey.intern()) {
+            Lock lock = subscriptionDataLocks.acquire(key);
+            try {
                 api = apiMap.get(key);
                 if (api != null) {
                     return api;
@@ -236,6 +268,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     log.debug("Loading API to the in-memory datastore.");
                     addOrUpdateAPI(api);
                 }
+            } finally {
+                lock.unlock();
             }
         }
         if (log.isDebugEnabled()) {
@@ -298,10 +332,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public Subscription getSubscriptionById(int appId, int apiId) {
 
         String subscriptionCacheKey = SubscriptionDataStoreUtil.getSubscriptionCacheKey(appId, apiId);
-        String synchronizeKey = "SubscriptionDataStoreImpl-Subscription-" + subscriptionCacheKey;
         Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
         if (subscription == null) {
-            synchronized (synchronizeKey.intern()) {
+            Lock lock = subscriptionDataLocks.acquire(subscriptionCacheKey);
+            try {
                 subscription = subscriptionMap.get(subscriptionCacheKey);
                 if (subscription != null) {
                     return subscription;
@@ -315,8 +349,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                 if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
                     // load to the memory
                     log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
+                    putEntity(subscriptionMap, subscriptionIndexes, subscription.getCacheKey(), subscription);
                 }
+            } finally {
+                lock.unlock();
             }
         }
         if (log.isDebugEnabled()) {
@@ -348,11 +384,17 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                         log.debug("Calling loadAllApis. ");
                         List<API> apiList = new SubscriptionDataLoaderImpl().loadAllApis(tenantDomain);
                         apiByUUIDMap.clear();
+                        Map<String, API> defaultApis = new ConcurrentHashMap<>();
                         for (API api : apiList) {
                             apiByUUIDMap.put(api.getUuid(), api);
+                            String defaultContext = getDefaultContext(api);
+                            if (defaultContext != null) {
+                                defaultApis.put(defaultContext, api);
+                            }
                             String key = api.getApiName().concat(":").concat(api.getApiVersion());
                             apiNameVersionMap.put(key, api);
                         }
+                        defaultApiByContextMap = defaultApis;
                         apisInitialized = true;
                         return apiList;
                     } catch (APIManagementException e) {
@@ -363,7 +405,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         executorService.schedule(apiTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
-        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
+        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap, subscriptionIndexes,
                 () -> {
                     try {
                         log.debug("Calling loadAllSubscriptions.");
@@ -376,7 +418,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
-        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
+        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap, applicationIndexes,
                 () -> {
                     try {
                         log.debug("Calling loadAllApplications.");
@@ -390,7 +432,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
         Runnable keyMappingsTask =
-                new PopulateTask<>(applicationKeyMappingMap,
+                new PopulateTask<>(applicationKeyMappingMap, keyMappingIndexes,
                         () -> {
                             try {
                                 log.debug("Calling loadAllKeyMappings.");
@@ -477,12 +519,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public void addOrUpdateSubscription(Subscription subscription) {
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + subscription.getCacheKey();
-
-        synchronized (synchronizeKey.intern()) {
+        Lock lock = subscriptionDataLocks.acquire(subscription.getCacheKey());
+        try {
             Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
             if (retrievedSubscription == null) {
-                subscriptionMap.put(subscription.getCacheKey(), subscription);
+                putEntity(subscriptionMap, subscriptionIndexes, subscription.getCacheKey(), subscription);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
@@ -493,7 +534,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     }
                 } else {
                     if (!APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
-                        subscriptionMap.put(subscription.getCacheKey(), subscription);
+                        putEntity(subscriptionMap, subscriptionIndexes, subscription.getCacheKey(), subscription);
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Drop the Event " + subscription.toString() + " since the event was marked as " +
@@ -507,6 +548,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                 log.debug("Updated Subscription From map :" + updatedSubscription.toString());
             }
 
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -528,7 +571,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void removeSubscription(Subscription subscription) {
 
-        subscriptionMap.remove(subscription.getCacheKey());
+        removeEntity(subscriptionMap, subscriptionIndexes, subscription.getCacheKey());
     }
 
     @Override
@@ -537,7 +580,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         String key = api.getApiName().concat(":").concat(api.getApiVersion());
         apiByUUIDMap.put(api.getUuid(), api);
         apiNameVersionMap.put(key, api);
-        apiMap.put(api.getCacheKey(), api);
+        API previousAPI = apiMap.put(api.getCacheKey(), api);
+        updateDefaultVersionIndex(previousAPI, api);
     }
 
     @Override
@@ -546,7 +590,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         try {
             API newAPI = new SubscriptionDataLoaderImpl().getApi(api.getContext(), api.getApiVersion());
             if (newAPI != null) {
-                apiMap.put(api.getCacheKey(), newAPI);
+                API previousAPI = apiMap.put(api.getCacheKey(), newAPI);
+                updateDefaultVersionIndex(previousAPI, newAPI);
                 String key = newAPI.getApiName().concat(":").concat(newAPI.getApiVersion());
                 apiNameVersionMap.put(key, newAPI);
                 apiByUUIDMap.put(newAPI.getUuid(), newAPI);
@@ -563,20 +608,56 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         String key = api.getApiName().concat(":").concat(api.getApiVersion());
         apiByUUIDMap.remove(api.getUuid());
         apiNameVersionMap.remove(key);
-        apiMap.remove(api.getCacheKey());
+        API removedAPI = apiMap.remove(api.getCacheKey());
+        updateDefaultVersionIndex(removedAPI != null ? removedAPI : api, null);
+    }
+
+    /**
+     * Returns the context used to invoke the default version of the given API, i.e. its context with the version
+     * removed, or null if the API is not the default version or cannot be resolved through such a context.
+     */
+    private static String getDefaultContext(API api) {
+
+        if (!api.isDefaultVersion() || api.getContext() == null || api.getApiVersion() == null) {
+            return null;
+        }
+        String defaultContext = api.getContext().replace("/" + api.getApiVersion(), "");
+        return api.getCacheKey().startsWith(defaultContext) ? defaultContext : null;
+    }
+
+    /**
+     * Updates the default version index after an API was added, replaced or removed. The new version is indexed
+     * before the entry of the previous version is dropped, so that lookups of an unchanged default context never
+     * miss.
+     *
+     * @param previousAPI API which was replaced or removed, or null
+     * @param currentAPI  API which was added, or null
+     */
+    private void updateDefaultVersionIndex(API previousAPI, API currentAPI) {
+
+        String currentDefaultContext = currentAPI != null ? getDefaultContext(currentAPI) : null;
+        if (currentDefaultContext != null) {
+            defaultApiByContextMap.put(currentDefaultContext, currentAPI);
+        }
+        String previousDefaultContext = previousAPI != null ? getDefaultContext(previousAPI) : null;
+        if (previousDefaultContext != null && !previousDefaultContext.equals(currentDefaultContext)) {
+            // Another version may have become the default version of this context in the meantime.
+            defaultApiByContextMap.computeIfPresent(previousDefaultContext, (context, defaultAPI) ->
+                    defaultAPI.getCacheKey().equals(previousAPI.getCacheKey()) ? null : defaultAPI);
+        }
     }
 
     @Override
     public void addOrUpdateApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
 
-        applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
-        applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(), applicationKeyMapping);
+        putEntity(applicationKeyMappingMap, keyMappingIndexes, applicationKeyMapping.getCacheKey(),
+                applicationKeyMapping);
     }
 
     @Override
     public void removeApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
 
-        applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
+        removeEntity(applicationKeyMappingMap, keyMappingIndexes, applicationKeyMapping.getCacheKey());
     }
 
     @Override
@@ -608,16 +689,17 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void addOrUpdateApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        applicationMap.put(application.getId(), application);
+        putEntity(applicationMap, applicationIndexes, application.getId(), application);
     }
 
     @Override
     public void removeApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        subscriptionMap.values().removeIf(subscription ->
-                subscription != null && application.getUUID().equals(subscription.getApplicationUUID()));
+        removeEntity(applicationMap, applicationIndexes, application.getId());
+        for (Subscription subscription : subscriptionsByApplicationUUID.lookup(application.getUUID(),
+                subscriptionMap)) {
+            removeEntity(subscriptionMap, subscriptionIndexes, subscription.getCacheKey());
+        }
     }
 
     @Override
@@ -642,17 +724,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public API getDefaultApiByContext(String context) {
 
-        Set<String> set = apiMap.keySet()
-                .stream()
-                .filter(s -> s.startsWith(context))
-                .collect(Collectors.toSet());
-        for (String key : set) {
-            API api = apiMap.get(key);
-            if (api.isDefaultVersion() && (api.getContext().replace("/" + api.getApiVersion(), "")).equals(context)) {
-                return api;
-            }
+        if (context == null) {
+            return null;
         }
-        return null;
+        return defaultApiByContextMap.get(context);
     }
 
     public boolean isScopesInitialized() {
@@ -662,53 +737,25 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Subscription getSubscriptionBySubscriptionUUID(String subscriptionUUID) {
 
-        for (Subscription subscription : subscriptionMap.values()) {
-            if (subscriptionUUID.equals(subscription.getSubscriptionUUId())) {
-                return subscription;
-            }
-        }
-        return null;
+        return subscriptionsByUUID.lookupFirst(subscriptionUUID, subscriptionMap);
     }
 
     @Override
     public List<Application> getApplicationsByName(String name) {
 
-        List<Application> applicationList = new ArrayList<>();
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getName().equals(name)) {
-                    applicationList.add(application);
-                }
-            }
-        }
-        return applicationList;
+        return applicationsByName.lookup(name, applicationMap);
     }
 
     @Override
     public Application getApplicationByUUID(String uuid) {
 
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getUUID().equals(uuid)) {
-                    return application;
-                }
-            }
-        }
-        return null;
+        return applicationsByUUID.lookupFirst(uuid, applicationMap);
     }
 
     @Override
     public List<Subscription> getSubscriptionsByAPIId(int apiId) {
 
-        List<Subscription> subscriptionList = new ArrayList<>();
-        if (subscriptionMap != null) {
-            for (Subscription subscription : subscriptionMap.values()) {
-                if (subscription.getApiId() == apiId) {
-                    subscriptionList.add(subscription);
-                }
-            }
-        }
-        return subscriptionList;
+        return subscriptionsByApiId.lookup(apiId, subscriptionMap);
     }
 
     @Override
@@ -720,11 +767,12 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Subscription getSubscriptionByUUID(String apiUUID, String appUUID) {
 
-        if (subscriptionMap != null) {
-            for (Subscription subscription : subscriptionMap.values()) {
-                if (subscription.getApiUUID().equals(apiUUID) && subscription.getApplicationUUID().equals(appUUID)) {
-                    return subscription;
-                }
+        if (apiUUID == null) {
+            return null;
+        }
+        for (Subscription subscription : subscriptionsByApplicationUUID.lookup(appUUID, subscriptionMap)) {
+            if (apiUUID.equals(subscription.getApiUUID())) {
+                return subscription;
             }
         }
         return null;
@@ -733,15 +781,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<ApplicationKeyMapping> getKeyMappingByApplicationId(int applicationId) {
 
-        List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-        if (applicationKeyMappingMap != null) {
-            for (ApplicationKeyMapping applicationKeyMapping : applicationKeyMappingMap.values()) {
-                if (applicationKeyMapping.getApplicationId() == applicationId) {
-                    applicationKeyMappings.add(applicationKeyMapping);
-                }
-            }
-        }
-        return applicationKeyMappings;
+        return keyMappingsByApplicationId.lookup(applicationId, applicationKeyMappingMap);
     }
 
     @Override
@@ -828,6 +868,83 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return true;
     }
 
+    @Override
+    public Map<String, Long> getMemoryFootprint() {
+
+        Map<String, Long> footprint = new LinkedHashMap<>();
+        footprint.put("apis", (long) apiMap.size());
+        footprint.put("defaultVersionApis", (long) defaultApiByContextMap.size());
+        footprint.put("applications", (long) applicationMap.size());
+        footprint.put("applicationKeyMappings", (long) applicationKeyMappingMap.size());
+        footprint.put("subscriptions", (long) subscriptionMap.size());
+        footprint.put("apiPolicies", (long) apiPolicyMap.size());
+        footprint.put("applicationPolicies", (long) appPolicyMap.size());
+        footprint.put("subscriptionPolicies", (long) subscriptionPolicyMap.size());
+        footprint.put("scopes", (long) scopesMap.size());
+        long estimatedIndexSize = 0;
+        List<SecondaryIndex<?, ?, ?>> indexes = new ArrayList<>();
+        indexes.addAll(applicationIndexes);
+        indexes.addAll(subscriptionIndexes);
+        indexes.addAll(keyMappingIndexes);
+        for (SecondaryIndex<?, ?, ?> index : indexes) {
+            footprint.put(index.getName() + ".keys", (long) index.getAttributeCount());
+            footprint.put(index.getName() + ".entries", index.getEntryCount());
+            estimatedIndexSize += index.getEstimatedSizeInBytes();
+        }
+        footprint.put("estimatedIndexSizeInBytes", estimatedIndexSize);
+        return footprint;
+    }
+
+    /**
+     * Puts an entity into one of the indexed maps. The entity is indexed before it becomes visible in the map, and
+     * the index entries of the entity it replaces are dropped afterwards.
+     */
+    private static <K, V> void putEntity(Map<K, V> entityMap, List<SecondaryIndex<?, K, V>> indexes, K key,
+                                         V entity) {
+
+        Lock lock = subscriptionDataLocks.acquire(key);
+        try {
+            for (SecondaryIndex<?, K, V> index : indexes) {
+                index.add(key, entity);
+            }
+            V previous = entityMap.put(key, entity);
+            if (previous != null && previous != entity) {
+                for (SecondaryIndex<?, K, V> index : indexes) {
+                    index.replace(key, previous, entity);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <K, V> void removeEntity(Map<K, V> entityMap, List<SecondaryIndex<?, K, V>> indexes, K key) {
+
+        Lock lock = subscriptionDataLocks.acquire(key);
+        try {
+            V previous = entityMap.remove(key);
+            if (previous != null) {
+                for (SecondaryIndex<?, K, V> index : indexes) {
+                    index.remove(key, previous);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <S, K, V> void removeStaleIndexEntries(SecondaryIndex<S, K, V> index, Map<K, V> entityMap) {
+
+        for (Map.Entry<S, K> staleEntry : index.findStaleEntries(entityMap)) {
+            Lock lock = subscriptionDataLocks.acquire(staleEntry.getValue());
+            try {
+                index.removeIfStale(staleEntry.getKey(), staleEntry.getValue(), entityMap);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     public enum POLICY_TYPE {
         SUBSCRIPTION,
         APPLICATION,
@@ -837,11 +954,18 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private static class PopulateTask<K, V extends CacheableEntity<K>> implements Runnable {
 
         private Map<K, V> entityMap;
+        private List<SecondaryIndex<?, K, V>> indexes;
         private Supplier<List<V>> supplier;
 
         PopulateTask(Map<K, V> entityMap, Supplier<List<V>> supplier) {
 
+            this(entityMap, Collections.emptyList(), supplier);
+        }
+
+        PopulateTask(Map<K, V> entityMap, List<SecondaryIndex<?, K, V>> indexes, Supplier<List<V>> supplier) {
+
             this.entityMap = entityMap;
+            this.indexes = indexes;
             this.supplier = supplier;
         }
 
@@ -856,10 +980,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     if (log.isDebugEnabled()) {
                         log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
                     }
+                }
 
-                    if (!tempMap.isEmpty()) {
-                        entityMap.clear();
-                        entityMap.putAll(tempMap);
+                if (!tempMap.isEmpty()) {
+                    for (SecondaryIndex<?, K, V> index : indexes) {
+                        index.addAll(tempMap);
+                    }
+                    entityMap.clear();
+                    entityMap.putAll(tempMap);
+                    for (SecondaryIndex<?, K, V> index : indexes) {
+                        removeStaleIndexEntries(index, entityMap);
                     }
                 }
 
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.keymgt.util;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -26,6 +27,8 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
 import org.wso2.carbon.apimgt.impl.dto.ExtendedJWTConfigurationDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.keymgt.cache.CarbonKeyValidationCache;
+import org.wso2.carbon.apimgt.keymgt.cache.KeyValidationCache;
 import org.wso2.carbon.apimgt.keymgt.token.JWTGenerator;
 import org.wso2.carbon.apimgt.keymgt.token.TokenGenerator;
 import org.wso2.carbon.registry.core.service.RegistryService;
@@ -36,6 +39,7 @@ public class APIKeyMgtDataHolder {
     private static APIManagerConfigurationService amConfigService;
     private static Boolean isKeyCacheEnabledKeyMgt = true;
     private static TokenGenerator tokenGenerator;
+    private static KeyValidationCache keyValidationCache = new CarbonKeyValidationCache();
     private static final Log log = LogFactory.getLog(APIKeyMgtDataHolder.class);
 
     public static Boolean getKeyCacheEnabledKeyMgt() {
@@ -66,6 +70,7 @@ public class APIKeyMgtDataHolder {
     public static void initData() {
         try {
             APIKeyMgtDataHolder.isKeyCacheEnabledKeyMgt = getInitValues(APIConstants.KEY_MANAGER_TOKEN_CACHE);
+            initKeyValidationCache();
 
             APIManagerConfiguration configuration = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
                     .getAPIManagerConfigurationService().getAPIManagerConfiguration();
@@ -103,6 +108,25 @@ public class APIKeyMgtDataHolder {
         }
     }
 
+    private static void initKeyValidationCache() {
+
+        String keyValidationCacheClass = getAmConfigService().getAPIManagerConfiguration()
+                .getFirstProperty(APIConstants.KEY_VALIDATION_CACHE_CLASSNAME);
+        if (StringUtils.isEmpty(keyValidationCacheClass)) {
+            return;
+        }
+        try {
+            keyValidationCache = (KeyValidationCache) APIUtil.getClassInstance(keyValidationCacheClass);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | RuntimeException e) {
+            log.error("Error while instantiating key validation cache " + keyValidationCacheClass
+                    + ". Default key validation cache will be used.", e);
+        }
+    }
+
+    public static KeyValidationCache getKeyValidationCache() {
+        return keyValidationCache;
+    }
+
     private static boolean getInitValues(String constVal) {
         String val = getAmConfigService().getAPIManagerConfiguration().getFirstProperty(constVal);
         if (val != null) {
@@ -20,25 +20,17 @@ package org.wso2.carbon.apimgt.keymgt.util;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
 import org.wso2.carbon.apimgt.keymgt.APIKeyMgtException;
-import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import javax.cache.Cache;
-import javax.cache.CacheConfiguration;
-import javax.cache.Caching;
 
 public class APIKeyMgtUtil {
 
     private static final Log log = LogFactory.getLog(APIKeyMgtUtil.class);
 
-    private  static boolean isKeyCacheInistialized = false;
-
     public static Map<String,String> constructParameterMap(OAuth2TokenValidationRequestDTO.TokenValidationContextParam[] params){
         Map<String,String> paramMap = null;
         if(params != null){
@@ -64,11 +56,9 @@ public class APIKeyMgtUtil {
 
         boolean cacheEnabledKeyMgt = APIKeyMgtDataHolder.getKeyCacheEnabledKeyMgt();
 
-        Cache cache = getKeyManagerCache();
-
         //We only fetch from cache if KeyMgtValidationInfoCache is enabled.
         if (cacheEnabledKeyMgt) {
-            info = (APIKeyValidationInfoDTO) cache.get(cacheKey);
+            info = APIKeyMgtDataHolder.getKeyValidationCache().get(cacheKey);
             //If key validation information is not null then only we proceed with cached object
             if (info != null) {
                 if (log.isDebugEnabled()) {
@@ -98,29 +88,8 @@ public class APIKeyMgtUtil {
                         log.debug("Storing KeyValidationDTO for key: " + cacheKey + ".");
                     }
                 }
-                Cache cache = getKeyManagerCache();
-                cache.put(cacheKey, validationInfoDTO);
+                APIKeyMgtDataHolder.getKeyValidationCache().put(cacheKey, validationInfoDTO);
             }
         }
     }
-
-    private static Cache getKeyManagerCache(){
-        String apimKeyCacheExpiry = ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().
-                getAPIManagerConfiguration().getFirstProperty(APIConstants.TOKEN_CACHE_EXPIRY);
-        if(!isKeyCacheInistialized && apimKeyCacheExpiry != null ) {
-            isKeyCacheInistialized = true;
-            return Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).
-                    createCacheBuilder(APIConstants.KEY_CACHE_NAME)
-                    .setExpiry(CacheConfiguration.ExpiryType.MODIFIED, new CacheConfiguration.Duration(TimeUnit.SECONDS,
-                            Long.parseLong(apimKeyCacheExpiry)))
-                    .setExpiry(CacheConfiguration.ExpiryType.ACCESSED, new CacheConfiguration.Duration(TimeUnit.SECONDS,
-                            Long.parseLong(apimKeyCacheExpiry))).setStoreByValue(false).build();
-        } else{
-          return  Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).
-                    getCache(APIConstants.KEY_CACHE_NAME);
-        }
-
-    }
-
-
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for {@link OffHeapKeyValidationCache}
+ */
+public class OffHeapKeyValidationCacheTest {
+
+    private static final long CACHE_EXPIRY = TimeUnit.MINUTES.toMillis(15);
+    private static final int SHARD_CAPACITY = 64 * 1024;
+
+    private final AtomicLong clock = new AtomicLong(1600000000000L);
+
+    @Test
+    public void testAllFieldsAreCached() throws Exception {
+
+        OffHeapKeyValidationCache cache = createCache(4);
+        APIKeyValidationInfoDTO info = new APIKeyValidationInfoDTO();
+        int value = 1;
+        for (Field field : getFields()) {
+            Class<?> type = field.getType();
+            if (type == boolean.class) {
+                field.setBoolean(info, true);
+            } else if (type == int.class) {
+                field.setInt(info, value++);
+            } else if (type == long.class) {
+                field.setLong(info, value++);
+            } else if (type == String.class) {
+                field.set(info, field.getName());
+            } else if (type == List.class) {
+                field.set(info, Arrays.asList(field.getName(), "value" + value++));
+            } else if (type == Set.class) {
+                field.set(info, new HashSet<>(Arrays.asList(field.getName(), "value" + value++)));
+            } else if (type == Map.class) {
+                field.set(info, Collections.singletonMap(field.getName(), "value" + value++));
+            } else {
+                Assert.fail("Field " + field.getName() + " of type " + type + " is not supported by the codec");
+            }
+        }
+        info.setIssuedTime(clock.get());
+        info.setValidityPeriod(CACHE_EXPIRY);
+        cache.put("token1", info);
+        APIKeyValidationInfoDTO cachedInfo = cache.get("token1");
+        for (Field field : getFields()) {
+            Assert.assertEquals(field.getName(), field.get(info), field.get(cachedInfo));
+        }
+    }
+
+    @Test
+    public void testNullFieldsAreCached() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        APIKeyValidationInfoDTO info = createInfo(CACHE_EXPIRY);
+        info.setApplicationGroupIds(null);
+        cache.put("token1", info);
+        APIKeyValidationInfoDTO cachedInfo = cache.get("token1");
+        Assert.assertNull(cachedInfo.getApplicationGroupIds());
+        Assert.assertNull(cachedInfo.getScopes());
+        Assert.assertNull(cachedInfo.getSubscriber());
+    }
+
+    @Test
+    public void testHitRatio() {
+
+        OffHeapKeyValidationCache cache = createCache(4);
+        cache.put("token1", createInfo(CACHE_EXPIRY));
+        Assert.assertNotNull(cache.get("token1"));
+        Assert.assertNull(cache.get("token2"));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0.5, cache.getHitRatio(), 0);
+        Assert.assertEquals(4, cache.getShardHitRatios().length);
+        Assert.assertEquals(1, Arrays.stream(cache.getShardEntryCounts()).sum());
+        Assert.assertEquals(cache.getUsedBytes(), Arrays.stream(cache.getShardUsedBytes()).sum());
+    }
+
+    @Test
+    public void testLatestResultIsReturned() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        APIKeyValidationInfoDTO info = createInfo(CACHE_EXPIRY);
+        cache.put("token1", info);
+        info.setAuthorized(false);
+        cache.put("token1", info);
+        Assert.assertFalse(cache.get("token1").isAuthorized());
+        Assert.assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void testResultExpiresWithToken() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        cache.put("token1", createInfo(TimeUnit.MINUTES.toMillis(1)));
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        Assert.assertNull(cache.get("token1"));
+    }
+
+    @Test
+    public void testResultExpiresWithCache() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        cache.put("token1", createInfo(Long.MAX_VALUE));
+        clock.addAndGet(CACHE_EXPIRY - 1);
+        Assert.assertNotNull(cache.get("token1"));
+        clock.addAndGet(1);
+        Assert.assertNull(cache.get("token1"));
+    }
+
+    @Test
+    public void testFullShardDropsExpiredResults() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        int count = 0;
+        while (cache.getUsedBytes() < SHARD_CAPACITY * 3 / 4) {
+            cache.put("expiring" + count++, createInfo(TimeUnit.MINUTES.toMillis(1)));
+        }
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        for (int i = 0; i < count; i++) {
+            cache.put("token" + i, createInfo(CACHE_EXPIRY));
+        }
+        Assert.assertEquals(count, cache.getExpirationCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        for (int i = 0; i < count; i++) {
+            Assert.assertNotNull(cache.get("token" + i));
+        }
+    }
+
+    @Test
+    public void testFullShardEvictsResultsClosestToExpiry() {
+
+        OffHeapKeyValidationCache cache = createCache(1);
+        int count = 0;
+        while (cache.getEvictionCount() == 0) {
+            cache.put("token" + count, createInfo(TimeUnit.SECONDS.toMillis(60 + count)));
+            count++;
+        }
+        Assert.assertNull(cache.get("token0"));
+        Assert.assertNotNull(cache.get("token" + (count - 1)));
+        Assert.assertEquals(count - cache.getEvictionCount(), cache.getEntryCount());
+        Assert.assertTrue(cache.getUsedBytes() <= SHARD_CAPACITY);
+    }
+
+    private OffHeapKeyValidationCache createCache(int shardCount) {
+
+        return new OffHeapKeyValidationCache(shardCount, (long) SHARD_CAPACITY * shardCount, CACHE_EXPIRY, clock::get,
+                false);
+    }
+
+    private APIKeyValidationInfoDTO createInfo(long validityPeriod) {
+
+        APIKeyValidationInfoDTO info = new APIKeyValidationInfoDTO();
+        info.setAuthorized(true);
+        info.setApiName("PizzaShackAPI");
+        info.setApiVersion("1.0.0");
+        info.setConsumerKey("QmVhZkZvb1R5cGUxMjM0NTY3ODk");
+        info.setEndUserName("admin@carbon.super");
+        info.setApplicationName("DefaultApplication");
+        info.setThrottlingDataList(Arrays.asList("/pizzashack/1.0.0:v1.0.0", "Unlimited"));
+        info.setIssuedTime(clock.get());
+        info.setValidityPeriod(validityPeriod);
+        return info;
+    }
+
+    private static Iterable<Field> getFields() {
+
+        List<Field> fields = new ArrayList<>();
+        for (Field field : APIKeyValidationInfoDTO.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
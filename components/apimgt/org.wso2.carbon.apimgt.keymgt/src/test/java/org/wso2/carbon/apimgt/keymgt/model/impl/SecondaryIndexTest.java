@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link SecondaryIndex}
+ */
+public class SecondaryIndexTest {
+
+    private final Map<Integer, String> entities = new HashMap<>();
+    private final SecondaryIndex<Character, Integer, String> index =
+            new SecondaryIndex<>("firstLetter", entity -> entity.charAt(0));
+
+    private void put(Integer key, String entity) {
+
+        index.add(key, entity);
+        String previous = entities.put(key, entity);
+        if (previous != null) {
+            index.replace(key, previous, entity);
+        }
+    }
+
+    private void remove(Integer key) {
+
+        String previous = entities.remove(key);
+        if (previous != null) {
+            index.remove(key, previous);
+        }
+    }
+
+    @Test
+    public void testLookupReturnsAllMatchingEntities() {
+
+        put(1, "alpha");
+        put(2, "beta");
+        put(3, "apex");
+        List<String> matches = index.lookup('a', entities);
+        Collections.sort(matches);
+        Assert.assertEquals(Arrays.asList("alpha", "apex"), matches);
+        Assert.assertEquals("beta", index.lookupFirst('b', entities));
+        Assert.assertNull(index.lookupFirst('c', entities));
+    }
+
+    @Test
+    public void testUpdateMovesEntityToNewAttribute() {
+
+        put(1, "alpha");
+        put(1, "beta");
+        Assert.assertTrue(index.lookup('a', entities).isEmpty());
+        Assert.assertEquals(Collections.singletonList("beta"), index.lookup('b', entities));
+        Assert.assertEquals(1, index.getAttributeCount());
+        Assert.assertEquals(1, index.getEntryCount());
+    }
+
+    @Test
+    public void testRemoveDropsEmptyAttributes() {
+
+        put(1, "alpha");
+        remove(1);
+        Assert.assertTrue(index.lookup('a', entities).isEmpty());
+        Assert.assertEquals(0, index.getAttributeCount());
+        Assert.assertEquals(0, index.getEstimatedSizeInBytes());
+    }
+
+    @Test
+    public void testStaleEntriesAreIgnoredAndPruned() {
+
+        put(1, "alpha");
+        put(2, "apex");
+        // Simulate a bulk reload which replaced the primary map without going through the index.
+        entities.clear();
+        entities.put(2, "beta");
+        index.add(2, "beta");
+        Assert.assertTrue(index.lookup('a', entities).isEmpty());
+        List<Map.Entry<Character, Integer>> staleEntries = index.findStaleEntries(entities);
+        Assert.assertEquals(2, staleEntries.size());
+        for (Map.Entry<Character, Integer> staleEntry : staleEntries) {
+            index.removeIfStale(staleEntry.getKey(), staleEntry.getValue(), entities);
+        }
+        Assert.assertEquals(1, index.getAttributeCount());
+        Assert.assertEquals("beta", index.lookupFirst('b', entities));
+    }
+}